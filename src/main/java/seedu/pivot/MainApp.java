@@ -8,6 +8,7 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.pivot.commons.core.Config;
+import seedu.pivot.commons.core.DataFileFormat;
 import seedu.pivot.commons.core.LogsCenter;
 import seedu.pivot.commons.core.Version;
 import seedu.pivot.commons.exceptions.DataConversionException;
@@ -18,14 +19,19 @@ import seedu.pivot.logic.LogicManager;
 import seedu.pivot.model.Model;
 import seedu.pivot.model.ModelManager;
 import seedu.pivot.model.Pivot;
+import seedu.pivot.model.PivotHistoryJournal;
 import seedu.pivot.model.ReadOnlyPivot;
 import seedu.pivot.model.ReadOnlyUserPrefs;
 import seedu.pivot.model.UserPrefs;
 import seedu.pivot.model.util.SampleDataUtil;
-import seedu.pivot.storage.JsonPivotStorage;
+import seedu.pivot.storage.BackgroundPivotStorage;
+import seedu.pivot.storage.JournaledPivotStorage;
+import seedu.pivot.storage.JsonPivotHistoryJournal;
 import seedu.pivot.storage.JsonUserPrefsStorage;
+import seedu.pivot.storage.PagedPivotStorage;
 import seedu.pivot.storage.PivotStorage;
 import seedu.pivot.storage.ReferenceStorage;
+import seedu.pivot.storage.ShardedPivotStorage;
 import seedu.pivot.storage.Storage;
 import seedu.pivot.storage.StorageManager;
 import seedu.pivot.storage.UserPrefsStorage;
@@ -40,6 +46,7 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(0, 6, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final String HISTORY_DIRECTORY = "history";
 
     protected Ui ui;
     protected Logic logic;
@@ -58,7 +65,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        PivotStorage pivotStorage = new JsonPivotStorage(userPrefs.getPivotFilePath());
+        PivotStorage pivotStorage = new BackgroundPivotStorage(createPivotStorage(userPrefs));
         ReferenceStorage referenceStorage = new ReferenceStorage();
         storage = new StorageManager(pivotStorage, userPrefsStorage, referenceStorage);
 
@@ -73,8 +80,10 @@ public class MainApp extends Application {
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s PIVOT and {@code userPrefs}. <br>
-     * The data from the sample PIVOT will be used instead if {@code storage}'s PIVOT is not found,
-     * or an empty PIVOT will be used instead if errors occur when reading {@code storage}'s PIVOT.
+     * The data from the sample PIVOT will be used instead if {@code storage}'s PIVOT is not found.
+     * If the data file is damaged, {@code storage} recovers the data from the newest previous generation of it
+     * which is intact, or an empty PIVOT will be used instead if there is none. The damaged data file is then kept
+     * as a previous generation when the data is next saved, rather than overwritten.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyPivot> pivotOptional;
@@ -87,18 +96,33 @@ public class MainApp extends Application {
             }
             initialData = pivotOptional.orElseGet(SampleDataUtil::getSamplePivot);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty PIVOT");
+            logger.warning("Data file not in the correct format, and no previous generation of it could be read. "
+                    + "Will be starting with an empty PIVOT");
             initialData = new Pivot();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty PIVOT");
             initialData = new Pivot();
         }
 
-        ModelManager modelManager = new ModelManager(initialData, userPrefs);
-        modelManager.updateFilteredCaseList(Model.PREDICATE_SHOW_DEFAULT_CASES);
+        ModelManager modelManager = new ModelManager(initialData, userPrefs, initHistoryJournal(userPrefs));
+        modelManager.updateFilteredCaseList(Model.FILTER_SHOW_DEFAULT_CASES);
         return modelManager;
     }
 
+    /**
+     * Returns a {@code PivotHistoryJournal} kept next to the data file in {@code userPrefs}, or null if
+     * the journal cannot be created, in which case undo history beyond the limits in {@code userPrefs} is dropped.
+     */
+    private PivotHistoryJournal initHistoryJournal(ReadOnlyUserPrefs userPrefs) {
+        Path historyDirectoryPath = userPrefs.getPivotFilePath().resolveSibling(HISTORY_DIRECTORY);
+        try {
+            return new JsonPivotHistoryJournal(historyDirectoryPath);
+        } catch (IOException e) {
+            logger.warning("Problem while preparing the undo history journal. Old undo history will be dropped");
+            return null;
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -140,6 +164,24 @@ public class MainApp extends Application {
         return initializedConfig;
     }
 
+    /**
+     * Returns a storage of the data file set in {@code userPrefs}, in the format set in {@code userPrefs}.
+     * Paged data files are updated in place, sharded data is saved a case at a time, and data files in the other
+     * formats are rewritten from a journal.
+     */
+    private PivotStorage createPivotStorage(ReadOnlyUserPrefs userPrefs) {
+        if (userPrefs.getPivotFileFormat() == DataFileFormat.PAGED) {
+            return new PagedPivotStorage(userPrefs.getPivotFilePath(), userPrefs.getPivotFileSyncPolicy(),
+                    userPrefs.getPivotFileSyncIntervalMillis());
+        }
+        if (userPrefs.getPivotFileFormat() == DataFileFormat.SHARDED) {
+            return new ShardedPivotStorage(userPrefs.getPivotFilePath(), userPrefs.isPivotFilePrettyPrinted());
+        }
+        return new JournaledPivotStorage(userPrefs.getPivotFilePath(), userPrefs.getPivotFileFormat(),
+                userPrefs.isPivotFilePrettyPrinted(), userPrefs.getPivotFileCompression(),
+                userPrefs.getPivotFileCompressionLevel());
+    }
+
     /**
      * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
      * or a new {@code UserPrefs} with default configuration if errors occur when
@@ -181,6 +223,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping PIVOT ] =============================");
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,15 @@
+package seedu.pivot.commons.core;
+
+/**
+ * Represents how the text of a json data file is compressed as it is saved, trading the time taken to compress and
+ * decompress the data for the time taken to write and read fewer bytes.
+ * Compressed data files are recognised when they are read, whichever compression is selected.
+ */
+public enum DataFileCompression {
+    /** Plain text. */
+    NONE,
+    /** The gzip format, which most archive tools can open. */
+    GZIP,
+    /** The zlib format, which has a smaller header and trailer than gzip. */
+    DEFLATE
+}
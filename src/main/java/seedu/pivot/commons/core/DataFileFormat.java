@@ -0,0 +1,15 @@
+package seedu.pivot.commons.core;
+
+/**
+ * Represents the format in which PIVOT data is saved to the data file.
+ */
+public enum DataFileFormat {
+    /** Readable json text, with the name of each field repeated for every case. */
+    JSON,
+    /** Compact binary records, with each distinct value written only once. */
+    BINARY,
+    /** Binary records in fixed-size pages, mapped into memory and updated in place as cases change. */
+    PAGED,
+    /** A json file for each case in a directory beside the data file, which lists the cases in order. */
+    SHARDED
+}
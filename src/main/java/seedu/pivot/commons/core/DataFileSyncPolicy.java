@@ -0,0 +1,14 @@
+package seedu.pivot.commons.core;
+
+/**
+ * Represents when changes written to a data file updated in place are forced onto the disk, trading the changes
+ * which may be lost if the computer crashes for the time taken by each save.
+ */
+public enum DataFileSyncPolicy {
+    /** After the changes of every command are written. */
+    EVERY_COMMAND,
+    /** At most a fixed interval after changes are written. */
+    INTERVAL,
+    /** Only when PIVOT exits, leaving the operating system to write changes to the disk in the meantime. */
+    ON_EXIT
+}
@@ -31,6 +31,9 @@ public class UserMessages {
     public static final String MESSAGE_DESKTOP_API_NOT_AVAILABLE = "Desktop API is not available, "
             + "we are unable to open your file.";
 
+    // Data file messages
+    public static final String MESSAGE_CASE_DETAILS_UNAVAILABLE = "The details of a case could not be loaded. %1$s";
+
     //Duplicate Messages
     public static final String MESSAGE_DUPLICATE_TITLE = "A case with this title already exists.";
     public static final String MESSAGE_DUPLICATE_DOCUMENT = "This document already exists in the case.";
@@ -2,8 +2,10 @@ package seedu.pivot.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -32,4 +34,40 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns an unmodifiable list of the elements of {@code list} followed by {@code element}.
+     */
+    public static <T> List<T> listWith(List<T> list, T element) {
+        requireAllNonNull(list, element);
+        List<T> updated = new ArrayList<>(list.size() + 1);
+        updated.addAll(list);
+        updated.add(element);
+        return List.copyOf(updated);
+    }
+
+    /**
+     * Returns an unmodifiable list of the elements of {@code list}, with the element at {@code index} replaced by
+     * {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not an index of {@code list}.
+     */
+    public static <T> List<T> listWithReplaced(List<T> list, int index, T element) {
+        requireAllNonNull(list, element);
+        List<T> updated = new ArrayList<>(list);
+        updated.set(index, element);
+        return List.copyOf(updated);
+    }
+
+    /**
+     * Returns an unmodifiable list of the elements of {@code list} without the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not an index of {@code list}.
+     */
+    public static <T> List<T> listWithout(List<T> list, int index) {
+        requireNonNull(list);
+        List<T> updated = new ArrayList<>(list);
+        updated.remove(index);
+        return List.copyOf(updated);
+    }
 }
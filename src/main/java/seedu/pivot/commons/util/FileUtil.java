@@ -5,10 +5,14 @@ import static seedu.pivot.commons.core.DeveloperMessages.ASSERT_FILE_EXIST;
 import java.awt.Desktop;
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 import seedu.pivot.commons.core.UserMessages;
 import seedu.pivot.logic.commands.exceptions.CommandException;
@@ -19,6 +23,7 @@ import seedu.pivot.logic.commands.exceptions.CommandException;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_SUFFIX = ".writing";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -91,9 +96,51 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced by a complete new file, so that it is left unchanged if writing is interrupted.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        Path temporaryFile = getTemporaryFile(file);
+        Files.write(temporaryFile, content.getBytes(CHARSET));
+        moveDurably(temporaryFile, file);
+    }
+
+    /**
+     * Returns the path beside {@code file} at which its new contents are written before they replace it.
+     */
+    public static Path getTemporaryFile(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+    }
+
+    /**
+     * Forces the contents of {@code source} onto the disk and then moves it over {@code target}, atomically if the
+     * file system supports it, so that {@code target} holds either its old or its new contents after a crash.
+     * @throws IOException if the file cannot be forced onto the disk or moved.
+     */
+    public static void moveDurably(Path source, Path target) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the entries of {@code directory} onto the disk, so that a file moved into it stays moved after a crash.
+     * Platforms which cannot open directories sync them on their own schedule instead.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The move is still made, and reaches the disk when the file system next syncs the directory.
+        }
     }
 
     /**
@@ -3,6 +3,8 @@ package seedu.pivot.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,14 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -30,7 +36,7 @@ public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
-    private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+    private static final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
@@ -39,6 +45,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /** Writes values to generators without flushing each of them, leaving the generator to buffer its output. */
+    private static final ObjectWriter bufferedValueWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -110,6 +120,57 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Returns a parser of the JSON data in {@code inputStream}, from which values can be converted one at a time
+     * with {@link #readValue(JsonParser, Class)}.
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        return objectMapper.getFactory().createParser(inputStream);
+    }
+
+    /**
+     * Converts the JSON value at the current token of {@code parser} to an instance of a class.
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the specified values in the JSON value
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Returns a generator which writes JSON data to {@code outputStream} in UTF-8, to which values can be written
+     * one at a time with {@link #writeValue(JsonGenerator, Object)}.
+     * @param isPrettyPrinted whether the data is indented across lines, like {@link #toJsonString(Object)}.
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream, boolean isPrettyPrinted)
+            throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+        if (isPrettyPrinted) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    /**
+     * Writes a given instance of a class as the next JSON value of {@code generator}.
+     * The value is not flushed to the output of {@code generator}.
+     * @param <T> The generic type of the instance
+     */
+    public static <T> void writeValue(JsonGenerator generator, T instance) throws IOException {
+        bufferedValueWriter.writeValue(generator, instance);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * for files which are appended to one value at a time.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,6 +1,7 @@
 package seedu.pivot.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.pivot.commons.core.GuiSettings;
@@ -47,4 +48,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler of messages about saves which failed after their command had returned.
+     * The handler may be called on a thread other than the caller of {@code execute}.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
 }
@@ -1,7 +1,12 @@
 package seedu.pivot.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.pivot.commons.core.UserMessages.MESSAGE_CASE_DETAILS_UNAVAILABLE;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,9 +17,11 @@ import seedu.pivot.logic.commands.CommandResult;
 import seedu.pivot.logic.commands.exceptions.CommandException;
 import seedu.pivot.logic.parser.PivotParser;
 import seedu.pivot.logic.parser.exceptions.ParseException;
+import seedu.pivot.model.CaseChange;
 import seedu.pivot.model.Model;
 import seedu.pivot.model.ReadOnlyPivot;
 import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.exceptions.CaseDetailsUnavailableException;
 import seedu.pivot.storage.Storage;
 
 /**
@@ -27,14 +34,19 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final PivotParser pivotParser;
+    private long savedVersion;
+    private int performedSaveCount = 0;
+    private int skippedSaveCount = 0;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The data in {@code model} is taken to be the same as the data in {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         pivotParser = new PivotParser();
+        savedVersion = model.getVersion();
     }
 
     @Override
@@ -43,15 +55,56 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = pivotParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } catch (CaseDetailsUnavailableException e) {
+            throw new CommandException(String.format(MESSAGE_CASE_DETAILS_UNAVAILABLE, e.getMessage()), e);
+        }
+        savePivotIfChanged();
+
+        return commandResult;
+    }
 
+    /**
+     * Saves the changes made to the data in the model since it was last saved, or nothing if the data has not changed.
+     */
+    private void savePivotIfChanged() throws CommandException {
+        long version = model.getVersion();
+        if (version == savedVersion) {
+            skippedSaveCount++;
+            logger.fine("Data unchanged, skipped save (" + getSaveCountSummary() + ")");
+            return;
+        }
+
+        List<CaseChange> changes = model.getUnsavedChanges();
+        int changeCount = changes.size();
         try {
-            storage.savePivot(model.getPivot());
+            storage.savePivotChanges(model.getPivot(), changes);
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+        model.clearUnsavedChanges();
+        savedVersion = version;
+        performedSaveCount++;
+        logger.fine("Saved " + changeCount + " changes (" + getSaveCountSummary() + ")");
+    }
 
-        return commandResult;
+    private String getSaveCountSummary() {
+        return performedSaveCount + " saves performed, " + skippedSaveCount + " skipped";
+    }
+
+    /**
+     * Returns the number of commands after which the data was saved.
+     */
+    public int getPerformedSaveCount() {
+        return performedSaveCount;
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped as the data had not changed.
+     */
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
     }
 
     @Override
@@ -78,4 +131,10 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        storage.setSaveFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
 }
@@ -1,12 +1,18 @@
 package seedu.pivot.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_ARCHIVED_CASES;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_DEFAULT_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_ARCHIVED_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_DEFAULT_CASES;
+
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import seedu.pivot.commons.core.UserMessages;
 import seedu.pivot.logic.state.StateManager;
 import seedu.pivot.model.Model;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.CaseFilter;
+import seedu.pivot.model.investigationcase.CaseQuery;
 import seedu.pivot.model.investigationcase.DetailsContainsKeywordsPredicate;
 
 /**
@@ -19,10 +25,16 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all cases whose details contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Keywords can be limited to a field with FIELD:KEYWORD, and excluded with -[FIELD:]KEYWORD. "
+            + "Cases must match all such keywords. Keywords with spaces can be quoted.\n"
+            + "Only the K most relevant cases are listed, from the most relevant, with top:K.\n"
+            + "Fields: title, desc, status, doc, suspect, victim, witness, tag\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " status:active suspect:\"john doe\" tag:fraud -witness:mary\n"
+            + "Example: " + COMMAND_WORD + " top:5 robbery bank";
 
-    private final DetailsContainsKeywordsPredicate predicate;
+    private final CaseQuery query;
 
     /**
      * Creates a FindCommand to find cases in the current section based on the given predicate.
@@ -30,8 +42,17 @@ public class FindCommand extends Command {
      * @param predicate The predicate used to filter cases.
      */
     public FindCommand(DetailsContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(CaseQuery.ofKeywords(predicate.getKeywords()));
+    }
 
+    /**
+     * Creates a FindCommand to find cases in the current section matching the given query.
+     *
+     * @param query The query used to filter cases.
+     */
+    public FindCommand(CaseQuery query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
@@ -39,21 +60,35 @@ public class FindCommand extends Command {
         requireNonNull(model);
 
         if (StateManager.atArchivedSection()) {
-            model.updateFilteredCaseList(predicate.and(PREDICATE_SHOW_ARCHIVED_CASES));
+            updateCaseList(model, FILTER_SHOW_ARCHIVED_CASES);
         }
 
         if (StateManager.atDefaultSection()) {
-            model.updateFilteredCaseList(predicate.and(PREDICATE_SHOW_DEFAULT_CASES));
+            updateCaseList(model, FILTER_SHOW_DEFAULT_CASES);
         }
 
         return new CommandResult(
                 String.format(UserMessages.MESSAGE_CASES_LISTED_OVERVIEW, model.getFilteredCaseList().size()));
     }
 
+    /**
+     * Lists the cases in the section shown by {@code sectionFilter} that match the query, keeping only the most
+     * relevant cases if the query has a rank limit.
+     */
+    private void updateCaseList(Model model, CaseFilter sectionFilter) {
+        Predicate<Case> sectionPredicate = model.getIndexedPredicate(sectionFilter);
+        Optional<Integer> rankLimit = query.getRankLimit();
+        if (rankLimit.isPresent()) {
+            model.updateRankedCaseList(query, sectionPredicate, rankLimit.get());
+        } else {
+            model.updateFilteredCaseList(model.getIndexedPredicate(query).and(sectionPredicate));
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && query.equals(((FindCommand) other).query)); // state check
     }
 }
@@ -68,14 +68,12 @@ public class ArchiveCommand extends Command implements Undoable {
         Case caseToArchive = lastShownList.get(targetIndex.getZeroBased());
         assert(caseToArchive.getArchiveStatus().equals(ArchiveStatus.DEFAULT)) : ASSERT_DEFAULT_SECTION;
 
-        Case updatedCase = new Case(caseToArchive.getTitle(), caseToArchive.getDescription(), caseToArchive.getStatus(),
-                caseToArchive.getDocuments(), caseToArchive.getSuspects(), caseToArchive.getVictims(),
-                caseToArchive.getWitnesses(), caseToArchive.getTags(), ArchiveStatus.ARCHIVED);
+        Case updatedCase = caseToArchive.withArchiveStatus(ArchiveStatus.ARCHIVED);
 
         model.deleteCase(caseToArchive);
         model.addCase(updatedCase);
 
-        model.updateFilteredCaseList(Model.PREDICATE_SHOW_DEFAULT_CASES);
+        model.updateFilteredCaseList(Model.FILTER_SHOW_DEFAULT_CASES);
         model.commitPivot(String.format(MESSAGE_ARCHIVE_CASE_SUCCESS, updatedCase), this);
 
         return new CommandResult(String.format(MESSAGE_ARCHIVE_CASE_SUCCESS, updatedCase));
@@ -2,7 +2,7 @@ package seedu.pivot.logic.commands.archivecommands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.pivot.commons.core.DeveloperMessages.ASSERT_MAIN_PAGE;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_ARCHIVED_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_ARCHIVED_CASES;
 
 import java.util.logging.Logger;
 
@@ -28,7 +28,7 @@ public class ListArchiveCommand extends ListCommand {
         assert(StateManager.atMainPage()) : ASSERT_MAIN_PAGE;
 
         StateManager.setArchivedSection();
-        model.updateFilteredCaseList(PREDICATE_SHOW_ARCHIVED_CASES);
+        model.updateFilteredCaseList(FILTER_SHOW_ARCHIVED_CASES);
 
         return new CommandResult(MESSAGE_LIST_CASE_SUCCESS);
     }
@@ -64,15 +64,12 @@ public class UnarchiveCommand extends Command implements Undoable {
         Case caseToUnarchive = lastShownList.get(targetIndex.getZeroBased());
         assert(caseToUnarchive.getArchiveStatus().equals(ArchiveStatus.ARCHIVED)) : ASSERT_ARCHIVED_SECTION;
 
-        Case updatedCase = new Case(caseToUnarchive.getTitle(), caseToUnarchive.getDescription(),
-                caseToUnarchive.getStatus(), caseToUnarchive.getDocuments(), caseToUnarchive.getSuspects(),
-                caseToUnarchive.getVictims(), caseToUnarchive.getWitnesses(), caseToUnarchive.getTags(),
-                ArchiveStatus.DEFAULT);
+        Case updatedCase = caseToUnarchive.withArchiveStatus(ArchiveStatus.DEFAULT);
 
         model.deleteCase(caseToUnarchive);
         model.addCase(updatedCase);
 
-        model.updateFilteredCaseList(Model.PREDICATE_SHOW_ARCHIVED_CASES);
+        model.updateFilteredCaseList(Model.FILTER_SHOW_ARCHIVED_CASES);
         model.commitPivot(String.format(MESSAGE_UNARCHIVE_CASE_SUCCESS, updatedCase), this);
 
         return new CommandResult(String.format(MESSAGE_UNARCHIVE_CASE_SUCCESS, updatedCase));
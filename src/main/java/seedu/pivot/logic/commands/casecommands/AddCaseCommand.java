@@ -4,8 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.pivot.commons.core.DeveloperMessages.ASSERT_MAIN_PAGE;
 import static seedu.pivot.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.pivot.logic.parser.CliSyntax.PREFIX_TITLE;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_ARCHIVED_CASES;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_DEFAULT_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_ARCHIVED_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_DEFAULT_CASES;
 
 import java.util.logging.Logger;
 
@@ -68,10 +68,10 @@ public class AddCaseCommand extends AddCommand implements Undoable {
         model.commitPivot(String.format(MESSAGE_ADD_CASE_SUCCESS, investigationCase), this);
 
         if (StateManager.atDefaultSection()) {
-            model.updateFilteredCaseList(PREDICATE_SHOW_DEFAULT_CASES);
+            model.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
         }
         if (StateManager.atArchivedSection()) {
-            model.updateFilteredCaseList(PREDICATE_SHOW_ARCHIVED_CASES);
+            model.updateFilteredCaseList(FILTER_SHOW_ARCHIVED_CASES);
         }
 
         return new CommandResult(String.format(MESSAGE_ADD_CASE_SUCCESS, investigationCase));
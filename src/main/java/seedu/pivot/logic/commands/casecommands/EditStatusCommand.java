@@ -66,9 +66,7 @@ public class EditStatusCommand extends EditCommand implements Undoable {
         Case stateCase = lastShownList.get(index.getZeroBased());
 
         // create new updated case
-        Case updatedCase = new Case(stateCase.getTitle(), stateCase.getDescription(), status,
-                stateCase.getDocuments(), stateCase.getSuspects(), stateCase.getVictims(), stateCase.getWitnesses(),
-                stateCase.getTags(), stateCase.getArchiveStatus());
+        Case updatedCase = stateCase.withStatus(status);
         model.setCase(stateCase, updatedCase);
         model.commitPivot(String.format(MESSAGE_EDIT_STATUS_SUCCESS, status), this);
 
@@ -67,9 +67,7 @@ public class EditTitleCommand extends EditCommand implements Undoable {
         Case stateCase = lastShownList.get(index.getZeroBased());
 
         // create new updated case
-        Case updatedCase = new Case(title, stateCase.getDescription(), stateCase.getStatus(),
-                stateCase.getDocuments(), stateCase.getSuspects(), stateCase.getVictims(), stateCase.getWitnesses(),
-                stateCase.getTags(), stateCase.getArchiveStatus());
+        Case updatedCase = stateCase.withTitle(title);
 
         if (model.hasCase(updatedCase)) {
             logger.warning("Failed to add case: Tried to edit a title that exists in PIVOT");
@@ -2,7 +2,7 @@ package seedu.pivot.logic.commands.casecommands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.pivot.commons.core.DeveloperMessages.ASSERT_MAIN_PAGE;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_DEFAULT_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_DEFAULT_CASES;
 
 import java.util.logging.Logger;
 
@@ -27,7 +27,7 @@ public class ListCaseCommand extends ListCommand {
 
         assert(StateManager.atMainPage()) : ASSERT_MAIN_PAGE;
 
-        model.updateFilteredCaseList(PREDICATE_SHOW_DEFAULT_CASES);
+        model.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
         StateManager.setDefaultSection();
 
         return new CommandResult(MESSAGE_LIST_CASE_SUCCESS);
@@ -72,9 +72,7 @@ public class DeleteDescriptionCommand extends DeleteCommand implements Undoable
         Description deletedDescription = new Description("");
 
         // create new updated case
-        Case updatedCase = new Case(stateCase.getTitle(), deletedDescription, stateCase.getStatus(),
-                stateCase.getDocuments(), stateCase.getSuspects(), stateCase.getVictims(), stateCase.getWitnesses(),
-                stateCase.getTags(), stateCase.getArchiveStatus());
+        Case updatedCase = stateCase.withDescription(deletedDescription);
         model.setCase(stateCase, updatedCase);
         model.commitPivot(String.format(MESSAGE_DELETE_DESCRIPTION_SUCCESS, stateCaseDescription), this);
 
@@ -83,9 +83,7 @@ public class EditDescriptionCommand extends EditCommand implements Undoable {
         }
 
         // create new updated case
-        Case updatedCase = new Case(stateCase.getTitle(), this.description, stateCase.getStatus(),
-                stateCase.getDocuments(), stateCase.getSuspects(), stateCase.getVictims(), stateCase.getWitnesses(),
-                stateCase.getTags(), stateCase.getArchiveStatus());
+        Case updatedCase = stateCase.withDescription(this.description);
         model.setCase(stateCase, updatedCase);
         model.commitPivot(String.format(MESSAGE_EDIT_DESCRIPTION_SUCCESS, this.description), this);
 
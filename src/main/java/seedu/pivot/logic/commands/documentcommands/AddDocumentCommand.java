@@ -69,21 +69,14 @@ public class AddDocumentCommand extends AddCommand implements Undoable {
 
         //get current case in state
         Case stateCase = lastShownList.get(index.getZeroBased());
-        List<Document> updatedDocuments = stateCase.getDocuments();
-
         //check for duplicate
-        if (updatedDocuments.contains(this.doc)) {
+        if (stateCase.getDocuments().contains(this.doc)) {
             logger.warning("Failed to add document: Tried to add a document that exists in PIVOT");
             throw new CommandException(MESSAGE_DUPLICATE_DOCUMENT);
         }
 
-        //add document to existing list
-        updatedDocuments.add(this.doc);
-
-        //create new updated case
-        Case updatedCase = new Case(stateCase.getTitle(), stateCase.getDescription(), stateCase.getStatus(),
-                updatedDocuments, stateCase.getSuspects(), stateCase.getVictims(), stateCase.getWitnesses(),
-                stateCase.getTags(), stateCase.getArchiveStatus());
+        //create new updated case with document added
+        Case updatedCase = stateCase.withDocumentAdded(this.doc);
 
         model.setCase(stateCase, updatedCase);
         model.commitPivot(String.format(MESSAGE_ADD_DOCUMENT_SUCCESS, this.doc), this);
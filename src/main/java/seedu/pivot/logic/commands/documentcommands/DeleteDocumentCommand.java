@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.pivot.commons.core.DeveloperMessages.ASSERT_CASE_PAGE;
 import static seedu.pivot.commons.core.DeveloperMessages.ASSERT_VALID_INDEX;
 import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_DEFAULT_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_DEFAULT_CASES;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -60,26 +60,22 @@ public class DeleteDocumentCommand extends DeleteCommand implements Undoable {
 
         //get case from state
         Case stateCase = lastShownList.get(caseIndex.getZeroBased());
-        List<Document> updatedDocuments = stateCase.getDocuments();
+        List<Document> documents = stateCase.getDocuments();
 
         //document index validation in model
-        if (documentIndex.getZeroBased() >= updatedDocuments.size()) {
+        if (documentIndex.getZeroBased() >= documents.size()) {
             logger.info("Invalid index: " + documentIndex.getOneBased());
             throw new CommandException(UserMessages.MESSAGE_INVALID_DOCUMENT_DISPLAYED_INDEX);
         }
 
         //remove document
-        Document documentToDelete = updatedDocuments.get(documentIndex.getZeroBased());
-        updatedDocuments.remove(documentToDelete);
-
-        Case updatedCase = new Case(stateCase.getTitle(), stateCase.getDescription(),
-                stateCase.getStatus(), updatedDocuments, stateCase.getSuspects(),
-                stateCase.getVictims(), stateCase.getWitnesses(), stateCase.getTags(), stateCase.getArchiveStatus());
+        Document documentToDelete = documents.get(documentIndex.getZeroBased());
+        Case updatedCase = stateCase.withDocumentRemoved(documentIndex.getZeroBased());
 
         //update model
         model.setCase(stateCase, updatedCase);
         model.commitPivot(String.format(MESSAGE_DELETE_DOCUMENT_SUCCESS, documentToDelete), this);
-        model.updateFilteredCaseList(PREDICATE_SHOW_DEFAULT_CASES);
+        model.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
 
         return new CommandResult(String.format(MESSAGE_DELETE_DOCUMENT_SUCCESS, documentToDelete));
     }
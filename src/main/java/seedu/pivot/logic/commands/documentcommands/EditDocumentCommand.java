@@ -105,11 +105,7 @@ public class EditDocumentCommand extends EditCommand implements Undoable {
             throw new CommandException(MESSAGE_DUPLICATE_DOCUMENT);
         }
 
-        documents.set(documentIndex.getZeroBased(), editedDocument);
-
-        Case updatedCase = new Case(stateCase.getTitle(), stateCase.getDescription(),
-                stateCase.getStatus(), documents, stateCase.getSuspects(),
-                stateCase.getVictims(), stateCase.getWitnesses(), stateCase.getTags(), stateCase.getArchiveStatus());
+        Case updatedCase = stateCase.withDocumentReplaced(documentIndex.getZeroBased(), editedDocument);
 
         //update model
         model.setCase(stateCase, updatedCase);
@@ -73,17 +73,12 @@ public class AddSuspectCommand extends AddCommand implements Undoable {
         assert(index.getZeroBased() < lastShownList.size()) : ASSERT_VALID_INDEX;
 
         Case openCase = lastShownList.get(index.getZeroBased());
-        List<Suspect> updatedSuspects = openCase.getSuspects();
-
-        if (updatedSuspects.stream().anyMatch(suspect::isSamePerson)) {
+        if (openCase.getSuspects().stream().anyMatch(suspect::isSamePerson)) {
             logger.warning("Failed to add suspect: Tried to add a suspect that exists in PIVOT");
             throw new CommandException(MESSAGE_DUPLICATE_SUSPECT);
         }
 
-        updatedSuspects.add(suspect);
-        Case updatedCase = new Case(openCase.getTitle(), openCase.getDescription(), openCase.getStatus(),
-                openCase.getDocuments(), updatedSuspects, openCase.getVictims(), openCase.getWitnesses(),
-                openCase.getTags(), openCase.getArchiveStatus());
+        Case updatedCase = openCase.withSuspectAdded(suspect);
 
         model.setCase(openCase, updatedCase);
         model.commitPivot(String.format(MESSAGE_ADD_SUSPECT_SUCCESS, suspect), this);
@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.pivot.commons.core.DeveloperMessages.ASSERT_CASE_PAGE;
 import static seedu.pivot.commons.core.DeveloperMessages.ASSERT_VALID_INDEX;
 import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_DEFAULT_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_DEFAULT_CASES;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -57,22 +57,19 @@ public class DeleteSuspectCommand extends DeleteCommand implements Undoable {
         assert(caseIndex.getZeroBased() < lastShownList.size()) : ASSERT_VALID_INDEX;
 
         Case openCase = lastShownList.get(caseIndex.getZeroBased());
-        List<Suspect> updatedSuspects = openCase.getSuspects();
+        List<Suspect> suspects = openCase.getSuspects();
 
-        if (suspectIndex.getZeroBased() >= updatedSuspects.size()) {
+        if (suspectIndex.getZeroBased() >= suspects.size()) {
             logger.info("Invalid index: " + suspectIndex.getOneBased());
             throw new CommandException(UserMessages.MESSAGE_INVALID_SUSPECT_DISPLAYED_INDEX);
         }
 
-        Suspect suspectToDelete = updatedSuspects.get(suspectIndex.getZeroBased());
-        updatedSuspects.remove(suspectIndex.getZeroBased());
-        Case updatedCase = new Case(openCase.getTitle(), openCase.getDescription(), openCase.getStatus(),
-                openCase.getDocuments(), updatedSuspects, openCase.getVictims(), openCase.getWitnesses(),
-                openCase.getTags(), openCase.getArchiveStatus());
+        Suspect suspectToDelete = suspects.get(suspectIndex.getZeroBased());
+        Case updatedCase = openCase.withSuspectRemoved(suspectIndex.getZeroBased());
 
         model.setCase(openCase, updatedCase);
         model.commitPivot(String.format(MESSAGE_DELETE_SUSPECT_SUCCESS, suspectToDelete), this);
-        model.updateFilteredCaseList(PREDICATE_SHOW_DEFAULT_CASES);
+        model.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
 
         return new CommandResult(String.format(MESSAGE_DELETE_SUSPECT_SUCCESS, suspectToDelete));
     }
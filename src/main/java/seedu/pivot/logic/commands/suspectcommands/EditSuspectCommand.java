@@ -69,22 +69,22 @@ public class EditSuspectCommand extends EditPersonCommand implements Undoable {
         assert(caseIndex.getZeroBased() < lastShownList.size()) : ASSERT_VALID_INDEX;
 
         Case caseToEdit = lastShownList.get(caseIndex.getZeroBased());
-        List<Suspect> editedSuspects = caseToEdit.getSuspects();
+        List<Suspect> suspects = caseToEdit.getSuspects();
 
-        if (personIndex.getZeroBased() >= editedSuspects.size()) {
+        if (personIndex.getZeroBased() >= suspects.size()) {
             throw new CommandException(UserMessages.MESSAGE_INVALID_SUSPECT_DISPLAYED_INDEX);
         }
 
-        Suspect suspectToEdit = editedSuspects.get(personIndex.getZeroBased());
+        Suspect suspectToEdit = suspects.get(personIndex.getZeroBased());
         Suspect editedSuspect = createEditedPerson(suspectToEdit, editPersonDescriptor);
 
-        if (editedSuspects.contains(editedSuspect)) {
+        if (suspects.contains(editedSuspect)) {
             logger.info("Failed to edit suspect: The edited suspect has the same name, sex, phone, "
                     + "email and address as an existing suspect in PIVOT.");
             throw new CommandException(MESSAGE_DUPLICATE_SUSPECT);
         }
 
-        List<Suspect> suspectsToNotEdit = new ArrayList<>(editedSuspects);
+        List<Suspect> suspectsToNotEdit = new ArrayList<>(suspects);
         suspectsToNotEdit.remove(suspectToEdit);
         if (suspectsToNotEdit.stream().anyMatch(editedSuspect:: isSamePerson)) {
             logger.info("Failed to edit suspect: The edited suspect has the same name, sex, phone as an "
@@ -92,10 +92,7 @@ public class EditSuspectCommand extends EditPersonCommand implements Undoable {
             throw new CommandException(MESSAGE_DUPLICATE_SUSPECT);
         }
 
-        editedSuspects.set(personIndex.getZeroBased(), editedSuspect);
-        Case editedCase = new Case(caseToEdit.getTitle(), caseToEdit.getDescription(), caseToEdit.getStatus(),
-                caseToEdit.getDocuments(), editedSuspects, caseToEdit.getVictims(), caseToEdit.getWitnesses(),
-                caseToEdit.getTags(), caseToEdit.getArchiveStatus());
+        Case editedCase = caseToEdit.withSuspectReplaced(personIndex.getZeroBased(), editedSuspect);
 
         model.setCase(caseToEdit, editedCase);
         model.commitPivot(String.format(MESSAGE_EDIT_SUSPECT_SUCCESS, editedSuspect), this);
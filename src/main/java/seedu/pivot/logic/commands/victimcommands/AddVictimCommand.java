@@ -76,18 +76,12 @@ public class AddVictimCommand extends AddCommand implements Undoable {
         assert(index.getZeroBased() < lastShownList.size()) : ASSERT_VALID_INDEX;
 
         Case stateCase = lastShownList.get(index.getZeroBased());
-        List<Victim> updatedVictims = stateCase.getVictims();
-
-        if (updatedVictims.stream().anyMatch(victim::isSamePerson)) {
+        if (stateCase.getVictims().stream().anyMatch(victim::isSamePerson)) {
             logger.warning("Failed to add victim: Tried to add a victim that exists in PIVOT");
             throw new CommandException(MESSAGE_DUPLICATE_VICTIM);
         }
 
-        updatedVictims.add(victim);
-
-        Case updatedCase = new Case(stateCase.getTitle(), stateCase.getDescription(),
-                stateCase.getStatus(), stateCase.getDocuments(), stateCase.getSuspects(),
-                updatedVictims, stateCase.getWitnesses(), stateCase.getTags(), stateCase.getArchiveStatus());
+        Case updatedCase = stateCase.withVictimAdded(victim);
 
         model.setCase(stateCase, updatedCase);
         model.commitPivot(String.format(MESSAGE_ADD_VICTIM_SUCCESS, victim), this);
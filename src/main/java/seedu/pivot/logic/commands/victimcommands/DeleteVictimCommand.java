@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.pivot.commons.core.DeveloperMessages.ASSERT_CASE_PAGE;
 import static seedu.pivot.commons.core.DeveloperMessages.ASSERT_VALID_INDEX;
 import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_DEFAULT_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_DEFAULT_CASES;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -56,24 +56,20 @@ public class DeleteVictimCommand extends DeleteCommand implements Undoable {
         assert(caseIndex.getZeroBased() < lastShownList.size()) : ASSERT_VALID_INDEX;
 
         Case stateCase = lastShownList.get(caseIndex.getZeroBased());
-        List<Victim> updatedVictims = stateCase.getVictims();
+        List<Victim> victims = stateCase.getVictims();
 
         // invalid victim index
-        if (victimIndex.getZeroBased() >= updatedVictims.size()) {
+        if (victimIndex.getZeroBased() >= victims.size()) {
             logger.info("Invalid index: " + victimIndex.getOneBased());
             throw new CommandException(UserMessages.MESSAGE_INVALID_VICTIM_DISPLAYED_INDEX);
         }
 
-        Victim victimToDelete = updatedVictims.get(victimIndex.getZeroBased());
-        updatedVictims.remove(victimToDelete);
-
-        Case updatedCase = new Case(stateCase.getTitle(), stateCase.getDescription(),
-                stateCase.getStatus(), stateCase.getDocuments(), stateCase.getSuspects(),
-                updatedVictims, stateCase.getWitnesses(), stateCase.getTags(), stateCase.getArchiveStatus());
+        Victim victimToDelete = victims.get(victimIndex.getZeroBased());
+        Case updatedCase = stateCase.withVictimRemoved(victimIndex.getZeroBased());
 
         model.setCase(stateCase, updatedCase);
         model.commitPivot(String.format(MESSAGE_DELETE_VICTIM_SUCCESS, victimToDelete), this);
-        model.updateFilteredCaseList(PREDICATE_SHOW_DEFAULT_CASES);
+        model.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
 
         return new CommandResult(String.format(MESSAGE_DELETE_VICTIM_SUCCESS, victimToDelete));
     }
@@ -70,22 +70,22 @@ public class EditVictimCommand extends EditPersonCommand implements Undoable {
         assert(caseIndex.getZeroBased() < lastShownList.size()) : ASSERT_VALID_INDEX;
 
         Case caseToEdit = lastShownList.get(caseIndex.getZeroBased());
-        List<Victim> editedVictims = caseToEdit.getVictims();
+        List<Victim> victims = caseToEdit.getVictims();
 
-        if (personIndex.getZeroBased() >= editedVictims.size()) {
+        if (personIndex.getZeroBased() >= victims.size()) {
             throw new CommandException(UserMessages.MESSAGE_INVALID_VICTIM_DISPLAYED_INDEX);
         }
 
-        Victim victimToEdit = editedVictims.get(personIndex.getZeroBased());
+        Victim victimToEdit = victims.get(personIndex.getZeroBased());
         Victim editedVictim = createEditedPerson(victimToEdit, editPersonDescriptor);
 
-        if (editedVictims.contains(editedVictim)) {
+        if (victims.contains(editedVictim)) {
             logger.info("Failed to edit victim: The edited victim has the same name, sex, phone, "
                     + "email and address as an existing victim in PIVOT.");
             throw new CommandException(MESSAGE_DUPLICATE_VICTIM);
         }
 
-        List<Victim> victimsToNotEdit = new ArrayList<>(editedVictims);
+        List<Victim> victimsToNotEdit = new ArrayList<>(victims);
         victimsToNotEdit.remove(victimToEdit);
         if (victimsToNotEdit.stream().anyMatch(editedVictim:: isSamePerson)) {
             logger.info("Failed to edit victim: The edited victim has the same name, sex, phone as an "
@@ -93,10 +93,7 @@ public class EditVictimCommand extends EditPersonCommand implements Undoable {
             throw new CommandException(MESSAGE_DUPLICATE_SUSPECT);
         }
 
-        editedVictims.set(personIndex.getZeroBased(), editedVictim);
-        Case editedCase = new Case(caseToEdit.getTitle(), caseToEdit.getDescription(), caseToEdit.getStatus(),
-                caseToEdit.getDocuments(), caseToEdit.getSuspects(), editedVictims, caseToEdit.getWitnesses(),
-                caseToEdit.getTags(), caseToEdit.getArchiveStatus());
+        Case editedCase = caseToEdit.withVictimReplaced(personIndex.getZeroBased(), editedVictim);
 
         model.setCase(caseToEdit, editedCase);
         model.commitPivot(String.format(MESSAGE_EDIT_VICTIM_SUCCESS, editedVictim), this);
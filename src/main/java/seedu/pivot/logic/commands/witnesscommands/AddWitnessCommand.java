@@ -74,18 +74,12 @@ public class AddWitnessCommand extends AddCommand implements Undoable {
         assert(index.getZeroBased() < lastShownList.size()) : ASSERT_VALID_INDEX;
 
         Case stateCase = lastShownList.get(index.getZeroBased());
-        List<Witness> updatedWitnesses = stateCase.getWitnesses();
-
-        if (updatedWitnesses.stream().anyMatch(witness::isSamePerson)) {
+        if (stateCase.getWitnesses().stream().anyMatch(witness::isSamePerson)) {
             logger.warning("Failed to add witness: Tried to add a witness that exists in PIVOT");
             throw new CommandException(MESSAGE_DUPLICATE_WITNESS);
         }
 
-        updatedWitnesses.add(witness);
-
-        Case updatedCase = new Case(stateCase.getTitle(), stateCase.getDescription(),
-                stateCase.getStatus(), stateCase.getDocuments(), stateCase.getSuspects(),
-                stateCase.getVictims(), updatedWitnesses, stateCase.getTags(), stateCase.getArchiveStatus());
+        Case updatedCase = stateCase.withWitnessAdded(witness);
 
         model.setCase(stateCase, updatedCase);
         model.commitPivot(String.format(MESSAGE_ADD_WITNESS_SUCCESS, witness), this);
@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.pivot.commons.core.DeveloperMessages.ASSERT_CASE_PAGE;
 import static seedu.pivot.commons.core.DeveloperMessages.ASSERT_VALID_INDEX;
 import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_DEFAULT_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_DEFAULT_CASES;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -57,24 +57,20 @@ public class DeleteWitnessCommand extends DeleteCommand implements Undoable {
         assert(caseIndex.getZeroBased() < lastShownList.size()) : ASSERT_VALID_INDEX;
 
         Case stateCase = lastShownList.get(caseIndex.getZeroBased());
-        List<Witness> updatedWitnesses = stateCase.getWitnesses();
+        List<Witness> witnesses = stateCase.getWitnesses();
 
         // invalid witness index
-        if (witnessIndex.getZeroBased() >= updatedWitnesses.size()) {
+        if (witnessIndex.getZeroBased() >= witnesses.size()) {
             logger.info("Invalid index: " + witnessIndex.getOneBased());
             throw new CommandException(UserMessages.MESSAGE_INVALID_WITNESS_DISPLAYED_INDEX);
         }
 
-        Witness witnessToDelete = updatedWitnesses.get(witnessIndex.getZeroBased());
-        updatedWitnesses.remove(witnessToDelete);
-
-        Case updatedCase = new Case(stateCase.getTitle(), stateCase.getDescription(),
-                stateCase.getStatus(), stateCase.getDocuments(), stateCase.getSuspects(),
-                stateCase.getVictims(), updatedWitnesses, stateCase.getTags(), stateCase.getArchiveStatus());
+        Witness witnessToDelete = witnesses.get(witnessIndex.getZeroBased());
+        Case updatedCase = stateCase.withWitnessRemoved(witnessIndex.getZeroBased());
 
         model.setCase(stateCase, updatedCase);
         model.commitPivot(String.format(MESSAGE_DELETE_WITNESS_SUCCESS, witnessToDelete), this);
-        model.updateFilteredCaseList(PREDICATE_SHOW_DEFAULT_CASES);
+        model.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
 
         return new CommandResult(String.format(MESSAGE_DELETE_WITNESS_SUCCESS, witnessToDelete));
     }
@@ -69,22 +69,22 @@ public class EditWitnessCommand extends EditPersonCommand implements Undoable {
         assert(caseIndex.getZeroBased() < lastShownList.size()) : ASSERT_VALID_INDEX;
 
         Case caseToEdit = lastShownList.get(caseIndex.getZeroBased());
-        List<Witness> editedWitnesses = caseToEdit.getWitnesses();
+        List<Witness> witnesses = caseToEdit.getWitnesses();
 
-        if (personIndex.getZeroBased() >= editedWitnesses.size()) {
+        if (personIndex.getZeroBased() >= witnesses.size()) {
             throw new CommandException(UserMessages.MESSAGE_INVALID_WITNESS_DISPLAYED_INDEX);
         }
 
-        Witness witnessToEdit = editedWitnesses.get(personIndex.getZeroBased());
+        Witness witnessToEdit = witnesses.get(personIndex.getZeroBased());
         Witness editedWitness = createEditedPerson(witnessToEdit, editPersonDescriptor);
 
-        if (editedWitnesses.contains(editedWitness)) {
+        if (witnesses.contains(editedWitness)) {
             logger.info("Failed to edit witness: The edited witness has the same name, sex, phone, "
                     + "email and address as an existing witness in PIVOT.");
             throw new CommandException(MESSAGE_DUPLICATE_WITNESS);
         }
 
-        List<Witness> witnessesToNotEdit = new ArrayList<>(editedWitnesses);
+        List<Witness> witnessesToNotEdit = new ArrayList<>(witnesses);
         witnessesToNotEdit.remove(witnessToEdit);
         if (witnessesToNotEdit.stream().anyMatch(editedWitness:: isSamePerson)) {
             logger.info("Failed to edit witness: The edited witness has the same name, sex, phone as an "
@@ -92,10 +92,7 @@ public class EditWitnessCommand extends EditPersonCommand implements Undoable {
             throw new CommandException(MESSAGE_DUPLICATE_WITNESS);
         }
 
-        editedWitnesses.set(personIndex.getZeroBased(), editedWitness);
-        Case editedCase = new Case(caseToEdit.getTitle(), caseToEdit.getDescription(), caseToEdit.getStatus(),
-                caseToEdit.getDocuments(), caseToEdit.getSuspects(), caseToEdit.getVictims(), editedWitnesses,
-                caseToEdit.getTags(), caseToEdit.getArchiveStatus());
+        Case editedCase = caseToEdit.withWitnessReplaced(personIndex.getZeroBased(), editedWitness);
 
         model.setCase(caseToEdit, editedCase);
         model.commitPivot(String.format(MESSAGE_EDIT_WITNESS_SUCCESS, editedWitness), this);
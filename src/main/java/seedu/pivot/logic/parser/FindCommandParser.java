@@ -3,12 +3,9 @@ package seedu.pivot.logic.parser;
 import static seedu.pivot.commons.core.UserMessages.MESSAGE_INCORRECT_MAIN_PAGE;
 import static seedu.pivot.commons.core.UserMessages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import java.util.Arrays;
-
 import seedu.pivot.logic.commands.FindCommand;
 import seedu.pivot.logic.parser.exceptions.ParseException;
 import seedu.pivot.logic.state.StateManager;
-import seedu.pivot.model.investigationcase.DetailsContainsKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -32,9 +29,7 @@ public class FindCommandParser implements Parser<FindCommand> {
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
             }
 
-            String[] nameKeywords = trimmedArgs.split("\\s+");
-
-            return new FindCommand(new DetailsContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+            return new FindCommand(new FindQueryParser().parse(trimmedArgs));
         }
 
         throw new ParseException(MESSAGE_INVALID_COMMAND_FORMAT);
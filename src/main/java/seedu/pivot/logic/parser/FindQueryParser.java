@@ -0,0 +1,97 @@
+package seedu.pivot.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.pivot.commons.util.StringUtil;
+import seedu.pivot.logic.parser.exceptions.ParseException;
+import seedu.pivot.model.investigationcase.CaseField;
+import seedu.pivot.model.investigationcase.CaseQuery;
+import seedu.pivot.model.investigationcase.QueryTerm;
+
+/**
+ * Parses the arguments of a find command into a {@code CaseQuery}.
+ * Each whitespace-separated term has the form {@code [-][FIELD:]VALUE}, where {@code VALUE} can be quoted to include
+ * whitespace. A plain {@code VALUE} is a keyword, of which the details of a matching case must contain any.
+ * A term with a {@code FIELD} or {@code -} is a condition which every matching case must satisfy.
+ * A {@code FIELD} that is not the name of a {@code CaseField} is treated as part of the value.
+ * The term {@code top:K} limits the query to its {@code K} most relevant matching cases.
+ */
+public class FindQueryParser {
+
+    public static final String MESSAGE_UNMATCHED_QUOTE = "Quotes in find terms must be closed: %1$s";
+    public static final String MESSAGE_INVALID_RANK_LIMIT = "The number of cases in top:K must be a positive integer";
+    public static final String RANK_LIMIT_NAME = "top";
+
+    private static final Pattern TERM_FORMAT = Pattern.compile(
+            "(?<negation>-?)(?:(?<field>\\p{Alpha}+):)?(?:\"(?<quotedValue>[^\"]*)\"|(?<value>\\S+))");
+
+    /**
+     * Parses {@code args} into a {@code CaseQuery}.
+     * @throws ParseException if a quote is not closed, a quoted value is blank, or the rank limit is invalid.
+     */
+    public CaseQuery parse(String args) throws ParseException {
+        requireNonNull(args);
+        List<String> keywords = new ArrayList<>();
+        List<QueryTerm> terms = new ArrayList<>();
+        Integer rankLimit = null;
+
+        Matcher matcher = TERM_FORMAT.matcher(args);
+        while (matcher.find()) {
+            if (RANK_LIMIT_NAME.equalsIgnoreCase(matcher.group("field")) && matcher.group("negation").isEmpty()) {
+                rankLimit = parseRankLimit(matcher.group("value"));
+                continue;
+            }
+
+            Optional<CaseField> field = Optional.ofNullable(matcher.group("field")).flatMap(CaseField::fromName);
+            boolean isNegated = !matcher.group("negation").isEmpty();
+            String value = getValue(matcher, field.isPresent());
+
+            if (!isNegated && field.isEmpty()) {
+                keywords.add(value);
+            } else {
+                terms.add(new QueryTerm(field.orElse(null), value, isNegated));
+            }
+        }
+
+        CaseQuery query = new CaseQuery(keywords, terms);
+        return rankLimit == null ? query : query.withRankLimit(rankLimit);
+    }
+
+    /**
+     * Parses the number of cases in a {@code top:K} term.
+     * @throws ParseException if {@code value} is not a positive integer.
+     */
+    private static int parseRankLimit(String value) throws ParseException {
+        if (value == null || !StringUtil.isNonZeroUnsignedInteger(value)) {
+            throw new ParseException(MESSAGE_INVALID_RANK_LIMIT);
+        }
+        return Integer.parseInt(value);
+    }
+
+    /**
+     * Returns the value of the term matched by {@code matcher}.
+     * The field name is kept as part of the value if it is not a valid field.
+     */
+    private static String getValue(Matcher matcher, boolean isValidField) throws ParseException {
+        String unknownField = matcher.group("field") != null && !isValidField ? matcher.group("field") + ":" : "";
+        String quotedValue = matcher.group("quotedValue");
+        if (quotedValue != null) {
+            if (quotedValue.isBlank()) {
+                throw new ParseException(QueryTerm.MESSAGE_CONSTRAINTS);
+            }
+            return unknownField + quotedValue.trim();
+        }
+
+        String value = matcher.group("value");
+        if (value.startsWith("\"")) {
+            throw new ParseException(String.format(MESSAGE_UNMATCHED_QUOTE, matcher.group()));
+        }
+        return unknownField + value;
+    }
+}
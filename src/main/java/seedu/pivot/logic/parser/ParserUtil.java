@@ -28,6 +28,7 @@ import seedu.pivot.model.investigationcase.caseperson.Email;
 import seedu.pivot.model.investigationcase.caseperson.Phone;
 import seedu.pivot.model.investigationcase.caseperson.Sex;
 import seedu.pivot.model.tag.Tag;
+import seedu.pivot.model.util.ValuePool;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -80,7 +81,7 @@ public class ParserUtil {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
         String formattedTitle = capitaliseFirstLetter(trimmedTitle);
-        return new Name(formattedTitle);
+        return ValuePool.getName(formattedTitle);
     }
 
     /**
@@ -140,7 +141,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return ValuePool.getTag(trimmedTag);
     }
 
     /**
@@ -198,7 +199,7 @@ public class ParserUtil {
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
         }
-        return new Phone(trimmedPhone);
+        return ValuePool.getPhone(trimmedPhone);
     }
 
     /**
@@ -209,7 +210,7 @@ public class ParserUtil {
     public static Address parseAddress(String address) {
         requireNonNull(address);
         String trimmedAddress = address.trim();
-        return new Address(trimmedAddress);
+        return ValuePool.getAddress(trimmedAddress);
     }
 
     /**
@@ -224,7 +225,7 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             throw new ParseException(Email.MESSAGE_CONSTRAINTS);
         }
-        return new Email(trimmedEmail);
+        return ValuePool.getEmail(trimmedEmail);
     }
 
     /**
@@ -0,0 +1,148 @@
+package seedu.pivot.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.pivot.model.investigationcase.Case;
+
+/**
+ * Represents a single change made to the case list of PIVOT.
+ * A change records the position of the affected case, together with the case before and after the change,
+ * so that it can be applied again (redo) or reverted (undo) without keeping a copy of the whole case list.
+ * Guarantees: immutable; at least one of {@code before} and {@code after} is present.
+ */
+public class CaseChange {
+
+    private final int index;
+    private final Case before;
+    private final Case after;
+
+    private CaseChange(int index, Case before, Case after) {
+        assert index >= 0 : "Index out of bounds";
+        assert before != null || after != null : "A change must affect a case";
+        this.index = index;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Creates a change which adds {@code added} at position {@code index} of the case list.
+     */
+    public static CaseChange ofAdd(int index, Case added) {
+        requireNonNull(added);
+        return new CaseChange(index, null, added);
+    }
+
+    /**
+     * Creates a change which replaces {@code target} at position {@code index} of the case list with {@code edited}.
+     */
+    public static CaseChange ofSet(int index, Case target, Case edited) {
+        requireNonNull(target);
+        requireNonNull(edited);
+        return new CaseChange(index, target, edited);
+    }
+
+    /**
+     * Creates a change which removes {@code removed} from position {@code index} of the case list.
+     */
+    public static CaseChange ofRemove(int index, Case removed) {
+        requireNonNull(removed);
+        return new CaseChange(index, removed, null);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Case getBefore() {
+        return before;
+    }
+
+    public Case getAfter() {
+        return after;
+    }
+
+    /**
+     * Returns true if {@code next} edits the case resulting from this change, so that both changes can be
+     * combined into a single change with {@link #mergeWith(CaseChange)}.
+     */
+    public boolean canMergeWith(CaseChange next) {
+        requireNonNull(next);
+        return after != null
+                && next.before == after
+                && next.after != null
+                && next.index == index;
+    }
+
+    /**
+     * Combines this change with {@code next}, which must edit the case resulting from this change.
+     */
+    public CaseChange mergeWith(CaseChange next) {
+        assert canMergeWith(next) : "Changes cannot be merged";
+        return new CaseChange(index, before, next.after);
+    }
+
+    /**
+     * Returns the change which reverts this change.
+     */
+    public CaseChange inverse() {
+        return new CaseChange(index, after, before);
+    }
+
+    /**
+     * Applies this change to {@code pivot}.
+     * {@code pivot} must be in the state this change was recorded from.
+     */
+    public void apply(Pivot pivot) {
+        requireNonNull(pivot);
+        if (before == null) {
+            pivot.addCase(index, after);
+        } else if (after == null) {
+            pivot.removeCase(before);
+        } else {
+            pivot.setCase(before, after);
+        }
+    }
+
+    /**
+     * Reverts this change on {@code pivot}.
+     * {@code pivot} must be in the state this change resulted in.
+     */
+    public void revert(Pivot pivot) {
+        requireNonNull(pivot);
+        if (before == null) {
+            pivot.removeCase(after);
+        } else if (after == null) {
+            pivot.addCase(index, before);
+        } else {
+            pivot.setCase(after, before);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CaseChange)) {
+            return false;
+        }
+
+        CaseChange otherChange = (CaseChange) other;
+        return otherChange.index == index
+                && Objects.equals(otherChange.before, before)
+                && Objects.equals(otherChange.after, after);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, before, after);
+    }
+
+    @Override
+    public String toString() {
+        return "Change at " + index + ": " + before + " -> " + after;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.pivot.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -8,17 +10,19 @@ import seedu.pivot.commons.core.GuiSettings;
 import seedu.pivot.logic.commands.Undoable;
 import seedu.pivot.model.investigationcase.ArchiveStatus;
 import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.CaseFilter;
+import seedu.pivot.model.investigationcase.CaseId;
+import seedu.pivot.model.investigationcase.CaseQuery;
 
 /**
  * The API of the Model component.
  */
 public interface Model {
-    /** {@code Predicate} that always evaluate to true */
-    Predicate<Case> PREDICATE_SHOW_DEFAULT_CASES = investigationCase ->
-            investigationCase.getArchiveStatus().equals(ArchiveStatus.DEFAULT);
+    /** {@code CaseFilter} for the cases that are not archived */
+    CaseFilter FILTER_SHOW_DEFAULT_CASES = CaseFilter.ofArchiveStatus(ArchiveStatus.DEFAULT);
 
-    Predicate<Case> PREDICATE_SHOW_ARCHIVED_CASES = investigationCase ->
-            investigationCase.getArchiveStatus().equals(ArchiveStatus.ARCHIVED);
+    /** {@code CaseFilter} for the archived cases */
+    CaseFilter FILTER_SHOW_ARCHIVED_CASES = CaseFilter.ofArchiveStatus(ArchiveStatus.ARCHIVED);
 
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
@@ -63,6 +67,12 @@ public interface Model {
      */
     boolean hasCase(Case investigationCase);
 
+    /**
+     * Returns the case with {@code id} in PIVOT, if any.
+     * The case is looked up by its ID, so finding it does not compare it with the other cases.
+     */
+    Optional<Case> getCase(CaseId id);
+
     /**
      * Deletes the given case.
      * The case must exist in PIVOT.
@@ -77,11 +87,29 @@ public interface Model {
 
     /**
      * Replaces the given case {@code target} with {@code editedCase}.
+     * {@code target} is found by its ID, so replacing it does not compare it with the other cases.
      * {@code target} must exist in the address book.
      * The case identity of {@code editedCase} must not be the same as another existing case in the address book.
      */
     void setCase(Case target, Case editedCase);
 
+    /**
+     * Returns the version of the case list, which changes whenever a case is added, edited or deleted, or the
+     * whole case list is replaced, including by undo and redo.
+     */
+    long getVersion();
+
+    /**
+     * Returns the changes made to the case list, including by undo and redo, since the changes were last cleared,
+     * in the order they were made.
+     */
+    List<CaseChange> getUnsavedChanges();
+
+    /**
+     * Clears the changes returned by {@code getUnsavedChanges}, after they have been saved.
+     */
+    void clearUnsavedChanges();
+
     /**
      * Returns an unmodifiable view of the filtered case list
      */
@@ -91,10 +119,33 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered case list to filter by the given {@code predicate}.
+     * A {@code CaseFilter} is answered by an index of PIVOT instead of testing every case.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredCaseList(Predicate<Case> predicate);
 
+    /**
+     * Returns a predicate equivalent to {@code query}, which looks up the cases matching it in an index of PIVOT
+     * instead of testing the details of every case.
+     */
+    Predicate<Case> getIndexedPredicate(CaseQuery query);
+
+    /**
+     * Returns a predicate equivalent to {@code filter}, which looks up the cases matching it in an index of PIVOT
+     * instead of testing every case.
+     */
+    Predicate<Case> getIndexedPredicate(CaseFilter filter);
+
+    /**
+     * Updates the filtered case list to show only the {@code limit} cases matching both {@code query} and
+     * {@code predicate} that are the most relevant to {@code query}, ordered from the most relevant.
+     * The list stays ranked until it is filtered again with {@code updateFilteredCaseList}. An edited case keeps its
+     * place in the list only if it still matches, at its new relevance, and a case left out by the ranking is only
+     * shown if it is edited to be among the most relevant cases.
+     * @throws NullPointerException if {@code query} or {@code predicate} is null.
+     */
+    void updateRankedCaseList(CaseQuery query, Predicate<Case> predicate, int limit);
+
     void commitPivot(String commandMessage, Undoable command);
 
     boolean canRedoPivot();
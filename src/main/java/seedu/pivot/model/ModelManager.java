@@ -5,17 +5,25 @@ import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.pivot.commons.core.GuiSettings;
 import seedu.pivot.commons.core.LogsCenter;
 import seedu.pivot.logic.commands.Undoable;
 import seedu.pivot.logic.state.StateManager;
 import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.CaseFilter;
+import seedu.pivot.model.investigationcase.CaseId;
+import seedu.pivot.model.investigationcase.CaseQuery;
+import seedu.pivot.model.investigationcase.CaseTextIndex.RankedMatches;
 
 /**
  * Represents the in-memory model of the PIVOT data.
@@ -27,20 +35,40 @@ public class ModelManager implements Model {
     private final VersionedPivot versionedPivot;
     private final UserPrefs userPrefs;
     private final FilteredList<Case> filteredCases;
+    private final SortedList<Case> sortedCases;
+    private final List<CaseChange> uncommittedChanges = new ArrayList<>();
+    private final List<CaseChange> unsavedChanges = new ArrayList<>();
+    private long version = 0;
+    /** Ranks the cases as the list was last ranked, or is null if the list is not ranked. */
+    private Supplier<RankedMatches> ranking;
+    /** The matches the list is filtered and ordered by, or null if the list is not ranked. */
+    private RankedMatches rankedMatches;
+    private int displacedCount;
 
     /**
      * Initializes a ModelManager with the given PIVOT and userPrefs.
+     * Undo history beyond the limits in userPrefs is dropped.
      */
     public ModelManager(ReadOnlyPivot pivot, ReadOnlyUserPrefs userPrefs) {
+        this(pivot, userPrefs, null);
+    }
+
+    /**
+     * Initializes a ModelManager with the given PIVOT and userPrefs.
+     * Undo history beyond the limits in userPrefs is spilled to {@code historyJournal}, or dropped if it is null.
+     */
+    public ModelManager(ReadOnlyPivot pivot, ReadOnlyUserPrefs userPrefs, PivotHistoryJournal historyJournal) {
         super();
         requireAllNonNull(pivot, userPrefs);
 
         logger.fine("Initializing with PIVOT: " + pivot + " and user prefs " + userPrefs);
 
         this.pivot = new Pivot(pivot);
-        this.versionedPivot = new VersionedPivot(pivot);
+        this.versionedPivot = new VersionedPivot(userPrefs.getUndoHistoryLimit(),
+                userPrefs.getUndoHistoryMemoryLimit(), historyJournal);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredCases = new FilteredList<>(this.pivot.getCaseList());
+        sortedCases = new SortedList<>(filteredCases);
     }
 
     public ModelManager() {
@@ -86,7 +114,21 @@ public class ModelManager implements Model {
 
     @Override
     public void setPivot(ReadOnlyPivot pivot) {
+        requireNonNull(pivot);
+        List<Case> oldCases = new ArrayList<>(this.pivot.getCaseList());
         this.pivot.resetData(pivot);
+
+        for (int i = oldCases.size() - 1; i >= 0; i--) {
+            recordChange(CaseChange.ofRemove(i, oldCases.get(i)));
+        }
+        List<Case> newCases = this.pivot.getCaseList();
+        for (int i = 0; i < newCases.size(); i++) {
+            recordChange(CaseChange.ofAdd(i, newCases.get(i)));
+        }
+        if (ranking != null) {
+            applyRanking(ranking.get());
+        }
+        handleCaseListChanged();
         StateManager.refresh();
     }
 
@@ -101,38 +143,88 @@ public class ModelManager implements Model {
         return pivot.hasCase(investigationCase);
     }
 
+    @Override
+    public Optional<Case> getCase(CaseId id) {
+        requireNonNull(id);
+        return pivot.getCase(id);
+    }
+
     @Override
     public void deleteCase(Case target) {
+        int index = pivot.indexOf(target);
         pivot.removeCase(target);
+        recordChange(CaseChange.ofRemove(index, target));
+        handleCaseListChanged();
     }
 
     @Override
     public void addCase(Case investigationCase) {
+        int index = pivot.getCaseList().size();
         pivot.addCase(investigationCase);
+        recordChange(CaseChange.ofAdd(index, investigationCase));
+        handleCaseListChanged();
     }
 
     @Override
     public void setCase(Case target, Case editedCase) {
         requireAllNonNull(target, editedCase);
+        int index = pivot.indexOf(target);
         pivot.setCase(target, editedCase);
+        recordChange(CaseChange.ofSet(index, target, editedCase));
+        handleCaseListChanged();
         StateManager.refresh();
     }
 
+    /**
+     * Records {@code change} to be committed with the next {@code commitPivot}.
+     * Consecutive edits of the same case are combined so that each commit stores one change per case.
+     */
+    private void recordChange(CaseChange change) {
+        unsavedChanges.add(change);
+        int last = uncommittedChanges.size() - 1;
+        if (last >= 0 && uncommittedChanges.get(last).canMergeWith(change)) {
+            uncommittedChanges.set(last, uncommittedChanges.get(last).mergeWith(change));
+        } else {
+            uncommittedChanges.add(change);
+        }
+    }
+
+    /**
+     * Marks the case list as changed. A ranked list is ranked by matches which are updated as each case is replaced,
+     * and only filtered again if a case pushed another case out of the matches, as the list only tests the cases
+     * which changed.
+     */
+    private void handleCaseListChanged() {
+        version++;
+        if (rankedMatches != null && rankedMatches.getDisplacedCount() != displacedCount) {
+            displacedCount = rankedMatches.getDisplacedCount();
+            // A new predicate is set, as setting the same predicate does not filter the list again.
+            filteredCases.setPredicate(rankedMatches::test);
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public List<CaseChange> getUnsavedChanges() {
+        return Collections.unmodifiableList(unsavedChanges);
+    }
+
+    @Override
+    public void clearUnsavedChanges() {
+        unsavedChanges.clear();
+    }
+
     //=========== Versioned Pivot ===========================================================================
     @Override
     public void commitPivot(String commandMessage, Undoable command) {
         requireAllNonNull(commandMessage, command);
         this.versionedPivot.purgeStates();
-
-        ObservableList<Case> cases = this.pivot.getCaseList();
-        List<Case> newCases = new ArrayList<>();
-        for (int i = 0; i < cases.size(); i++) {
-            newCases.add(new Case(cases.get(i)));
-        }
-        Pivot newPivot = new Pivot();
-        newPivot.setCases(newCases);
-
-        this.versionedPivot.commit(newPivot, commandMessage, command);
+        this.versionedPivot.commit(uncommittedChanges, commandMessage, command);
+        uncommittedChanges.clear();
     }
 
     @Override
@@ -142,8 +234,10 @@ public class ModelManager implements Model {
 
     @Override
     public void redoPivot() {
-        ReadOnlyPivot pivot = this.versionedPivot.redo();
-        this.setPivot(pivot);
+        assert uncommittedChanges.isEmpty() : "Changes should be committed before redo";
+        unsavedChanges.addAll(this.versionedPivot.redo(pivot));
+        handleCaseListChanged();
+        StateManager.refresh();
     }
 
     @Override
@@ -153,8 +247,10 @@ public class ModelManager implements Model {
 
     @Override
     public void undoPivot() {
-        ReadOnlyPivot pivot = this.versionedPivot.undo();
-        this.setPivot(pivot);
+        assert uncommittedChanges.isEmpty() : "Changes should be committed before undo";
+        unsavedChanges.addAll(this.versionedPivot.undo(pivot));
+        handleCaseListChanged();
+        StateManager.refresh();
     }
 
     @Override
@@ -171,17 +267,52 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Case} backed by the internal list of
-     * {@code versionedPivot}
+     * {@code versionedPivot}, in the order of the internal list unless the list was last ranked.
      */
     @Override
     public ObservableList<Case> getFilteredCaseList() {
-        return filteredCases;
+        return sortedCases;
     }
 
     @Override
     public void updateFilteredCaseList(Predicate<Case> predicate) {
         requireNonNull(predicate);
-        filteredCases.setPredicate(predicate);
+        ranking = null;
+        rankedMatches = null;
+        sortedCases.setComparator(null);
+        filteredCases.setPredicate(predicate instanceof CaseFilter
+                ? pivot.getFilterPredicate((CaseFilter) predicate)
+                : predicate);
+    }
+
+    @Override
+    public void updateRankedCaseList(CaseQuery query, Predicate<Case> predicate, int limit) {
+        requireAllNonNull(query, predicate);
+        RankedMatches rankedMatches = pivot.getRankedMatches(query, predicate, limit);
+        ranking = () -> pivot.getRankedMatches(query, predicate, limit);
+        applyRanking(rankedMatches);
+    }
+
+    /**
+     * Filters and orders the list by {@code rankedMatches}, which must have been ranked from the current cases.
+     */
+    private void applyRanking(RankedMatches rankedMatches) {
+        this.rankedMatches = rankedMatches;
+        displacedCount = rankedMatches.getDisplacedCount();
+        filteredCases.setPredicate(rankedMatches);
+        sortedCases.setComparator(rankedMatches.getComparator());
+    }
+
+    @Override
+    public Predicate<Case> getIndexedPredicate(CaseQuery query) {
+        requireNonNull(query);
+        return pivot.getQueryPredicate(query);
+    }
+
+    @Override
+    public Predicate<Case> getIndexedPredicate(CaseFilter filter) {
+        requireNonNull(filter);
+        return pivot.getFilterPredicate(filter);
     }
 
     @Override
@@ -201,7 +332,7 @@ public class ModelManager implements Model {
         return pivot.equals(other.pivot)
                 && versionedPivot.equals(other.versionedPivot)
                 && userPrefs.equals(other.userPrefs)
-                && filteredCases.equals(other.filteredCases);
+                && sortedCases.equals(other.sortedCases);
     }
 
 }
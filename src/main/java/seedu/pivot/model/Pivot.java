@@ -3,9 +3,15 @@ package seedu.pivot.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.CaseFilter;
+import seedu.pivot.model.investigationcase.CaseId;
+import seedu.pivot.model.investigationcase.CaseQuery;
+import seedu.pivot.model.investigationcase.CaseTextIndex.RankedMatches;
 import seedu.pivot.model.investigationcase.UniqueCaseList;
 
 /**
@@ -66,6 +72,20 @@ public class Pivot implements ReadOnlyPivot {
         return cases.contains(investigationCase);
     }
 
+    /**
+     * Returns the case with {@code id} in PIVOT, if any.
+     */
+    public Optional<Case> getCase(CaseId id) {
+        return cases.get(id);
+    }
+
+    /**
+     * Returns the position of {@code investigationCase} in the case list, or -1 if PIVOT does not contain it.
+     */
+    public int indexOf(Case investigationCase) {
+        return cases.indexOf(investigationCase);
+    }
+
     /**
      * Adds a case to PIVOT.
      * The case must not already exist in PIVOT.
@@ -74,6 +94,14 @@ public class Pivot implements ReadOnlyPivot {
         cases.add(p);
     }
 
+    /**
+     * Adds a case to PIVOT at the specified position of the case list.
+     * The case must not already exist in PIVOT.
+     */
+    public void addCase(int index, Case p) {
+        cases.add(index, p);
+    }
+
     /**
      * Replaces the given case {@code target} in the list with {@code editedCase}.
      * {@code target} must exist in PIVOT.
@@ -93,6 +121,31 @@ public class Pivot implements ReadOnlyPivot {
         cases.remove(key);
     }
 
+    /**
+     * Returns a predicate that tests whether a case in PIVOT matches {@code query}.
+     * The matching cases are looked up in an index instead of testing the details of every case.
+     */
+    public Predicate<Case> getQueryPredicate(CaseQuery query) {
+        return cases.getQueryPredicate(query);
+    }
+
+    /**
+     * Returns a predicate that tests whether a case in PIVOT matches {@code filter}.
+     * The matching cases are looked up in bitmaps of the cases with each status, archive status and tag instead of
+     * testing every case.
+     */
+    public Predicate<Case> getFilterPredicate(CaseFilter filter) {
+        return cases.getFilterPredicate(filter);
+    }
+
+    /**
+     * Returns the {@code limit} cases in PIVOT matching both {@code query} and {@code filter} that are the most
+     * relevant to {@code query}.
+     */
+    public RankedMatches getRankedMatches(CaseQuery query, Predicate<Case> filter, int limit) {
+        return cases.getRankedMatches(query, filter, limit);
+    }
+
     //// util methods
 
     @Override
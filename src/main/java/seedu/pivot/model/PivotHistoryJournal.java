@@ -0,0 +1,39 @@
+package seedu.pivot.model;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.model.VersionedPivot.PivotState;
+
+/**
+ * Represents a journal which keeps the oldest undo history of PIVOT outside of memory.
+ * Batches of {@code PivotState}s are pushed as checkpoints and popped back in the reverse order.
+ */
+public interface PivotHistoryJournal {
+
+    /**
+     * Saves {@code states}, ordered from oldest to newest, as a single checkpoint.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void pushStates(List<PivotState> states) throws IOException;
+
+    /**
+     * Removes the most recently pushed checkpoint from the journal and returns its states,
+     * ordered from oldest to newest.
+     * @throws IOException if there was any problem reading from the journal.
+     * @throws DataConversionException if the checkpoint is not in the expected format.
+     */
+    List<PivotState> popStates() throws IOException, DataConversionException;
+
+    /**
+     * Returns true if the journal has no checkpoints.
+     */
+    boolean isEmpty();
+
+    /**
+     * Removes all checkpoints from the journal.
+     * @throws IOException if there was any problem clearing the journal.
+     */
+    void clear() throws IOException;
+}
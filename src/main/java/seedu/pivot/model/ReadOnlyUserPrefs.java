@@ -2,6 +2,9 @@ package seedu.pivot.model;
 
 import java.nio.file.Path;
 
+import seedu.pivot.commons.core.DataFileCompression;
+import seedu.pivot.commons.core.DataFileFormat;
+import seedu.pivot.commons.core.DataFileSyncPolicy;
 import seedu.pivot.commons.core.GuiSettings;
 
 /**
@@ -13,4 +16,45 @@ public interface ReadOnlyUserPrefs {
 
     Path getPivotFilePath();
 
+    /**
+     * Returns the maximum number of undoable commands kept in memory.
+     */
+    int getUndoHistoryLimit();
+
+    /**
+     * Returns the estimated number of bytes the undo history may keep in memory.
+     */
+    long getUndoHistoryMemoryLimit();
+
+    /**
+     * Returns the format in which the data file is saved.
+     */
+    DataFileFormat getPivotFileFormat();
+
+    /**
+     * Returns whether a json data file is indented across lines, which makes it readable but larger and slower to save.
+     */
+    boolean isPivotFilePrettyPrinted();
+
+    /**
+     * Returns when changes to a data file updated in place are forced onto the disk.
+     */
+    DataFileSyncPolicy getPivotFileSyncPolicy();
+
+    /**
+     * Returns the longest time changes to a data file updated in place are left unforced under the
+     * {@code INTERVAL} sync policy.
+     */
+    long getPivotFileSyncIntervalMillis();
+
+    /**
+     * Returns how json data files are compressed as they are saved.
+     */
+    DataFileCompression getPivotFileCompression();
+
+    /**
+     * Returns the level of compression of json data files, from 1 for the fastest to 9 for the smallest.
+     */
+    int getPivotFileCompressionLevel();
+
 }
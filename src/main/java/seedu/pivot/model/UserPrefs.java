@@ -1,11 +1,16 @@
 package seedu.pivot.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.pivot.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.zip.Deflater;
 
+import seedu.pivot.commons.core.DataFileCompression;
+import seedu.pivot.commons.core.DataFileFormat;
+import seedu.pivot.commons.core.DataFileSyncPolicy;
 import seedu.pivot.commons.core.GuiSettings;
 
 /**
@@ -13,8 +18,21 @@ import seedu.pivot.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_INVALID_UNDO_HISTORY_LIMIT = "Undo history limits should be positive";
+    public static final String MESSAGE_INVALID_SYNC_INTERVAL = "Data file sync interval should be positive";
+    public static final String MESSAGE_INVALID_COMPRESSION_LEVEL = "Data file compression level should be from "
+            + Deflater.BEST_SPEED + " to " + Deflater.BEST_COMPRESSION;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path pivotFilePath = Paths.get("data" , "pivot.json");
+    private int undoHistoryLimit = 100;
+    private long undoHistoryMemoryLimit = 8 * 1024 * 1024;
+    private DataFileFormat pivotFileFormat = DataFileFormat.JSON;
+    private boolean isPivotFilePrettyPrinted = true;
+    private DataFileSyncPolicy pivotFileSyncPolicy = DataFileSyncPolicy.EVERY_COMMAND;
+    private long pivotFileSyncIntervalMillis = 1000;
+    private DataFileCompression pivotFileCompression = DataFileCompression.NONE;
+    private int pivotFileCompressionLevel = 6;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +54,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setPivotFilePath(newUserPrefs.getPivotFilePath());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setUndoHistoryMemoryLimit(newUserPrefs.getUndoHistoryMemoryLimit());
+        setPivotFileFormat(newUserPrefs.getPivotFileFormat());
+        setPivotFilePrettyPrinted(newUserPrefs.isPivotFilePrettyPrinted());
+        setPivotFileSyncPolicy(newUserPrefs.getPivotFileSyncPolicy());
+        setPivotFileSyncIntervalMillis(newUserPrefs.getPivotFileSyncIntervalMillis());
+        setPivotFileCompression(newUserPrefs.getPivotFileCompression());
+        setPivotFileCompressionLevel(newUserPrefs.getPivotFileCompressionLevel());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +82,78 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.pivotFilePath = pivotFilePath;
     }
 
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit > 0, MESSAGE_INVALID_UNDO_HISTORY_LIMIT);
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public long getUndoHistoryMemoryLimit() {
+        return undoHistoryMemoryLimit;
+    }
+
+    public void setUndoHistoryMemoryLimit(long undoHistoryMemoryLimit) {
+        checkArgument(undoHistoryMemoryLimit > 0, MESSAGE_INVALID_UNDO_HISTORY_LIMIT);
+        this.undoHistoryMemoryLimit = undoHistoryMemoryLimit;
+    }
+
+    public DataFileFormat getPivotFileFormat() {
+        return pivotFileFormat;
+    }
+
+    public void setPivotFileFormat(DataFileFormat pivotFileFormat) {
+        requireNonNull(pivotFileFormat);
+        this.pivotFileFormat = pivotFileFormat;
+    }
+
+    public boolean isPivotFilePrettyPrinted() {
+        return isPivotFilePrettyPrinted;
+    }
+
+    public void setPivotFilePrettyPrinted(boolean isPivotFilePrettyPrinted) {
+        this.isPivotFilePrettyPrinted = isPivotFilePrettyPrinted;
+    }
+
+    public DataFileSyncPolicy getPivotFileSyncPolicy() {
+        return pivotFileSyncPolicy;
+    }
+
+    public void setPivotFileSyncPolicy(DataFileSyncPolicy pivotFileSyncPolicy) {
+        requireNonNull(pivotFileSyncPolicy);
+        this.pivotFileSyncPolicy = pivotFileSyncPolicy;
+    }
+
+    public long getPivotFileSyncIntervalMillis() {
+        return pivotFileSyncIntervalMillis;
+    }
+
+    public void setPivotFileSyncIntervalMillis(long pivotFileSyncIntervalMillis) {
+        checkArgument(pivotFileSyncIntervalMillis > 0, MESSAGE_INVALID_SYNC_INTERVAL);
+        this.pivotFileSyncIntervalMillis = pivotFileSyncIntervalMillis;
+    }
+
+    public DataFileCompression getPivotFileCompression() {
+        return pivotFileCompression;
+    }
+
+    public void setPivotFileCompression(DataFileCompression pivotFileCompression) {
+        requireNonNull(pivotFileCompression);
+        this.pivotFileCompression = pivotFileCompression;
+    }
+
+    public int getPivotFileCompressionLevel() {
+        return pivotFileCompressionLevel;
+    }
+
+    public void setPivotFileCompressionLevel(int pivotFileCompressionLevel) {
+        checkArgument(pivotFileCompressionLevel >= Deflater.BEST_SPEED
+                && pivotFileCompressionLevel <= Deflater.BEST_COMPRESSION, MESSAGE_INVALID_COMPRESSION_LEVEL);
+        this.pivotFileCompressionLevel = pivotFileCompressionLevel;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +166,22 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && pivotFilePath.equals(o.pivotFilePath);
+                && pivotFilePath.equals(o.pivotFilePath)
+                && undoHistoryLimit == o.undoHistoryLimit
+                && undoHistoryMemoryLimit == o.undoHistoryMemoryLimit
+                && pivotFileFormat == o.pivotFileFormat
+                && isPivotFilePrettyPrinted == o.isPivotFilePrettyPrinted
+                && pivotFileSyncPolicy == o.pivotFileSyncPolicy
+                && pivotFileSyncIntervalMillis == o.pivotFileSyncIntervalMillis
+                && pivotFileCompression == o.pivotFileCompression
+                && pivotFileCompressionLevel == o.pivotFileCompressionLevel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, pivotFilePath);
+        return Objects.hash(guiSettings, pivotFilePath, undoHistoryLimit, undoHistoryMemoryLimit,
+                pivotFileFormat, isPivotFilePrettyPrinted, pivotFileSyncPolicy, pivotFileSyncIntervalMillis,
+                pivotFileCompression, pivotFileCompressionLevel);
     }
 
     @Override
@@ -81,6 +189,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + pivotFilePath);
+        sb.append("\nUndo history limit : " + undoHistoryLimit + " commands, " + undoHistoryMemoryLimit + " bytes");
         return sb.toString();
     }
 
@@ -3,19 +3,40 @@ package seedu.pivot.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.logging.Logger;
 
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.exceptions.DataConversionException;
 import seedu.pivot.logic.commands.Page;
 import seedu.pivot.logic.commands.Undoable;
 
+/**
+ * Keeps the undo/redo history of PIVOT.
+ * Each {@code PivotState} only stores the {@code CaseChange}s made by the command that created it, so that
+ * committing a state costs time and memory proportional to the number of changed cases rather than the
+ * number of cases in PIVOT. Undoing and redoing revert and reapply these changes on the current Pivot.
+ * The history is bounded by a maximum number of states and an estimated memory budget. When either bound is
+ * exceeded, the oldest states are spilled to a {@code PivotHistoryJournal} if there is one, or dropped otherwise.
+ * Spilled states are loaded back once every state in memory has been undone.
+ */
 public class VersionedPivot {
 
     public static final String INITIAL_COMMAND = "Initial command";
     public static final int INITIAL_STATE = 0;
 
+    private static final Logger logger = LogsCenter.getLogger(VersionedPivot.class);
+    private static final int OLDEST_UNDOABLE_STATE = INITIAL_STATE + 1;
+
     private final List<PivotState> pivotStateList = new ArrayList<>();
+    private final int maxStates;
+    private final long maxBytes;
+    private final PivotHistoryJournal journal;
 
+    private long estimatedBytes = 0;
     private int currentStatePointer;
     private Undoable commandResult = null;
     private String commandMessageResult = "";
@@ -24,11 +45,22 @@ public class VersionedPivot {
      * Creates a VersionedPivot object with the list of Pivot states being
      * initialised with the initial state. The current state pointer points to the
      * initial state.
-     * @param pivot The initial Pivot state.
      */
-    public VersionedPivot(ReadOnlyPivot pivot) {
-        requireNonNull(pivot);
-        pivotStateList.add(new PivotState(pivot, null, INITIAL_COMMAND));
+    public VersionedPivot() {
+        this(Integer.MAX_VALUE, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Creates a VersionedPivot object which keeps at most {@code maxStates} undoable states, using an estimated
+     * {@code maxBytes} of memory, in memory. Older states are spilled to {@code journal}, or dropped if
+     * {@code journal} is null.
+     */
+    public VersionedPivot(int maxStates, long maxBytes, PivotHistoryJournal journal) {
+        assert maxStates > 0 && maxBytes > 0 : "Limits of undo history must be positive";
+        this.maxStates = maxStates;
+        this.maxBytes = maxBytes;
+        this.journal = journal;
+        pivotStateList.add(new PivotState(Collections.emptyList(), null, INITIAL_COMMAND));
         currentStatePointer = INITIAL_STATE;
     }
 
@@ -40,11 +72,16 @@ public class VersionedPivot {
      */
     public VersionedPivot(List<PivotState> pivotStateList, int currentStatePointer,
             Undoable commandResult, String commandMessageResult) {
+        this.maxStates = Integer.MAX_VALUE;
+        this.maxBytes = Long.MAX_VALUE;
+        this.journal = null;
         this.pivotStateList.addAll(pivotStateList);
         this.currentStatePointer = currentStatePointer;
         this.commandResult = commandResult;
         this.commandMessageResult = commandMessageResult;
-
+        for (PivotState state : pivotStateList) {
+            estimatedBytes += state.estimatedSize;
+        }
     }
 
     public List<PivotState> getPivotStateList() {
@@ -63,6 +100,10 @@ public class VersionedPivot {
         return this.commandMessageResult;
     }
 
+    public long getEstimatedBytes() {
+        return this.estimatedBytes;
+    }
+
     /**
      * Checks if the Command being undone or redone is a main page or case page command.
      * @return True if the Command is a main page command, False otherwise.
@@ -91,15 +132,84 @@ public class VersionedPivot {
     }
 
     /**
-     * Removes all states after the current state and add the current Pivot state into the list of Pivot states.
-     * @param pivot Current Pivot state.
+     * Adds a new Pivot state, made up of the changes since the current state, into the list of Pivot states.
+     * @param changes Changes made to the Pivot since the current state, in the order they were made.
      */
-    public void commit(ReadOnlyPivot pivot, String commandMessage, Undoable command) {
-        requireAllNonNull(pivot, commandMessage, command);
-        pivotStateList.add(new PivotState(pivot, command, commandMessage));
+    public void commit(List<CaseChange> changes, String commandMessage, Undoable command) {
+        requireAllNonNull(changes, commandMessage, command);
+        PivotState state = new PivotState(changes, command, commandMessage);
+        pivotStateList.add(state);
+        estimatedBytes += state.estimatedSize;
         currentStatePointer++;
 
         assert currentStatePointer < pivotStateList.size() : "Index out of bounds";
+        enforceLimits();
+    }
+
+    /**
+     * Spills or drops the oldest undoable states until the history is within its limits.
+     * The current state is always kept in memory. With a journal, states are spilled until the history is
+     * within half of its limits, so that the journal is written in batches rather than on every commit.
+     */
+    private void enforceLimits() {
+        if (!isOverLimits(maxStates, maxBytes)) {
+            return;
+        }
+
+        int targetStates = journal == null ? maxStates : maxStates / 2;
+        long targetBytes = journal == null ? maxBytes : maxBytes / 2;
+        List<PivotState> removedStates = new ArrayList<>();
+        while (currentStatePointer > OLDEST_UNDOABLE_STATE && isOverLimits(targetStates, targetBytes)) {
+            PivotState oldestState = pivotStateList.remove(OLDEST_UNDOABLE_STATE);
+            estimatedBytes -= oldestState.estimatedSize;
+            currentStatePointer--;
+            removedStates.add(oldestState);
+        }
+
+        if (removedStates.isEmpty()) {
+            return;
+        } else if (journal == null) {
+            logger.fine("Dropped " + removedStates.size() + " oldest undo states");
+            return;
+        }
+
+        try {
+            journal.pushStates(removedStates);
+        } catch (IOException e) {
+            logger.warning("Could not spill undo history, dropping oldest undo states: " + e);
+            clearJournal();
+        }
+    }
+
+    private boolean isOverLimits(int stateLimit, long byteLimit) {
+        return pivotStateList.size() - 1 > stateLimit || estimatedBytes > byteLimit;
+    }
+
+    /**
+     * Loads the most recently spilled states back in front of the states in memory.
+     * If the states cannot be loaded, the rest of the journal is discarded as it can no longer be undone in order.
+     */
+    private void loadFromJournal() {
+        assert currentStatePointer == INITIAL_STATE : "Spilled states are only needed when all states are undone";
+        try {
+            List<PivotState> loadedStates = journal.popStates();
+            pivotStateList.addAll(OLDEST_UNDOABLE_STATE, loadedStates);
+            for (PivotState state : loadedStates) {
+                estimatedBytes += state.estimatedSize;
+            }
+            currentStatePointer += loadedStates.size();
+        } catch (IOException | DataConversionException e) {
+            logger.warning("Could not load spilled undo history, dropping older undo states: " + e);
+            clearJournal();
+        }
+    }
+
+    private void clearJournal() {
+        try {
+            journal.clear();
+        } catch (IOException e) {
+            logger.warning("Could not clear undo history journal: " + e);
+        }
     }
 
     /**
@@ -108,7 +218,7 @@ public class VersionedPivot {
     public void purgeStates() {
         int len = pivotStateList.size();
         for (int i = len - 1; i > currentStatePointer; i--) {
-            pivotStateList.remove(i);
+            estimatedBytes -= pivotStateList.remove(i).estimatedSize;
         }
 
         commandResult = null;
@@ -126,30 +236,46 @@ public class VersionedPivot {
     }
 
     /**
-     * Undoes the previous Pivot state.
-     * @return Previous Pivot state.
+     * Undoes the current Pivot state by reverting its changes on {@code pivot}.
+     * @param pivot Pivot in the current state.
+     * @return The changes made to {@code pivot}, in the order they were made.
      */
-    public ReadOnlyPivot undo() {
+    public List<CaseChange> undo(Pivot pivot) {
+        requireNonNull(pivot);
         updateRedoUndoResult();
 
+        List<CaseChange> changes = pivotStateList.get(currentStatePointer).changes;
+        List<CaseChange> revertedChanges = new ArrayList<>();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(pivot);
+            revertedChanges.add(changes.get(i).inverse());
+        }
+
         currentStatePointer--;
         assert currentStatePointer >= 0 : "Index out of bounds";
 
-        PivotState newPivotState = pivotStateList.get(currentStatePointer);
-        return newPivotState.pivotState;
+        if (currentStatePointer == INITIAL_STATE && journal != null && !journal.isEmpty()) {
+            loadFromJournal();
+        }
+        return revertedChanges;
     }
 
     /**
-     * Redoes the most recent pivot state.
-     * @return Recent pivot state.
+     * Redoes the most recent Pivot state by reapplying its changes on {@code pivot}.
+     * @param pivot Pivot in the current state.
+     * @return The changes made to {@code pivot}, in the order they were made.
      */
-    public ReadOnlyPivot redo() {
+    public List<CaseChange> redo(Pivot pivot) {
+        requireNonNull(pivot);
         currentStatePointer++;
         assert currentStatePointer < pivotStateList.size() : "Index out of bounds";
 
         updateRedoUndoResult();
-        PivotState newPivotState = pivotStateList.get(currentStatePointer);
-        return newPivotState.pivotState;
+        List<CaseChange> changes = pivotStateList.get(currentStatePointer).changes;
+        for (CaseChange change : changes) {
+            change.apply(pivot);
+        }
+        return changes;
     }
 
     @Override
@@ -171,25 +297,53 @@ public class VersionedPivot {
     }
 
     public static class PivotState {
-        final ReadOnlyPivot pivotState;
+        private static final long STATE_OVERHEAD_BYTES = 64;
+        private static final long CHANGE_OVERHEAD_BYTES = 32;
+
+        final List<CaseChange> changes;
         final Undoable command;
         final String commandMessage;
+        final long estimatedSize;
 
         /**
-         * Creates a PivotState with a PIVOT state, the command that caused the change in state, and its corresponding
-         * message that was displayed to the user when the command was used.
-         * @param pivotState PIVOT state.
+         * Creates a PivotState with the changes made to PIVOT, the command that caused the change in state, and its
+         * corresponding message that was displayed to the user when the command was used.
+         * @param changes Changes made to PIVOT by the command.
          * @param command Command that caused the change in PIVOT state.
          * @param commandMessage Message displayed to user when command was used.
          */
-        public PivotState(ReadOnlyPivot pivotState, Undoable command, String commandMessage) {
-            this.pivotState = pivotState;
+        public PivotState(List<CaseChange> changes, Undoable command, String commandMessage) {
+            this.changes = List.copyOf(changes);
             this.command = command;
             this.commandMessage = commandMessage;
+            this.estimatedSize = estimateSize(this.changes, commandMessage);
+        }
+
+        /**
+         * Returns a rough estimate of the memory used by a state with the given changes and message.
+         * Each changed case is estimated from the size kept alongside it, so that committing does not scan the text
+         * of the changed cases.
+         */
+        private static long estimateSize(List<CaseChange> changes, String commandMessage) {
+            long size = STATE_OVERHEAD_BYTES + 2L * commandMessage.length();
+            for (CaseChange change : changes) {
+                size += CHANGE_OVERHEAD_BYTES;
+                if (change.getBefore() != null) {
+                    size += change.getBefore().getEstimatedSize();
+                }
+                if (change.getAfter() != null) {
+                    size += change.getAfter().getEstimatedSize();
+                }
+            }
+            return size;
+        }
+
+        public long getEstimatedSize() {
+            return this.estimatedSize;
         }
 
-        public ReadOnlyPivot getPivotState() {
-            return this.pivotState;
+        public List<CaseChange> getChanges() {
+            return this.changes;
         }
 
         public String getCommandMessage() {
@@ -211,7 +365,7 @@ public class VersionedPivot {
             }
 
             PivotState otherPivotState = (PivotState) other;
-            return otherPivotState.getPivotState().equals(getPivotState())
+            return otherPivotState.getChanges().equals(getChanges())
                     && otherPivotState.getCommandMessage().equals(getCommandMessage())
                     && (otherPivotState.getCommand() == getCommand()
                             || otherPivotState.getCommand().equals(getCommand()));
@@ -3,8 +3,13 @@ package seedu.pivot.model.investigationcase;
 import static java.util.Objects.requireNonNull;
 import static seedu.pivot.commons.util.AppUtil.checkArgument;
 
-import java.util.Objects;
+import java.util.regex.Pattern;
 
+/**
+ * Represents a string of alphanumeric characters and spaces in PIVOT.
+ * The string compared for equality and its hash code are computed once when it is constructed, so that comparing
+ * two values with different hash codes does not compare their strings.
+ */
 public abstract class Alphanumeric {
 
     public static final String MESSAGE_CONSTRAINTS =
@@ -14,19 +19,49 @@ public abstract class Alphanumeric {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private final String alphaNum;
+    /** The string compared for equality, which ignores case if the value is not case sensitive. */
+    private final String comparedAlphaNum;
+    private final int hash;
 
     /**
-     * Constructs a {@code Name}.
+     * Constructs a case sensitive {@code Alphanumeric}.
      *
      * @param alphaNum A valid alphaNum.
      */
     protected Alphanumeric(String alphaNum, boolean canBeBlank) {
+        this(alphaNum, canBeBlank, true);
+    }
+
+    /**
+     * Constructs an {@code Alphanumeric}, which is equal to values differing only in case if not
+     * {@code isCaseSensitive}.
+     *
+     * @param alphaNum A valid alphaNum.
+     */
+    protected Alphanumeric(String alphaNum, boolean canBeBlank, boolean isCaseSensitive) {
+        this(alphaNum, canBeBlank, isCaseSensitive, false);
+    }
+
+    /**
+     * Constructs an {@code Alphanumeric}, which is only validated if not {@code isValidated}, so that values already
+     * checked with {@link #isValidAlphanum(String, boolean)} are not checked again.
+     *
+     * @param alphaNum A valid alphaNum.
+     */
+    protected Alphanumeric(String alphaNum, boolean canBeBlank, boolean isCaseSensitive, boolean isValidated) {
         requireNonNull(alphaNum);
         String trimmedAlphanum = alphaNum.trim();
-        checkArgument(isValidAlphanum(trimmedAlphanum, canBeBlank), MESSAGE_CONSTRAINTS);
+        if (isValidated) {
+            assert isValidAlphanum(trimmedAlphanum, canBeBlank) : MESSAGE_CONSTRAINTS;
+        } else {
+            checkArgument(isValidAlphanum(trimmedAlphanum, canBeBlank), MESSAGE_CONSTRAINTS);
+        }
         this.alphaNum = trimmedAlphanum;
+        this.comparedAlphaNum = isCaseSensitive ? trimmedAlphanum : trimmedAlphanum.toLowerCase();
+        this.hash = comparedAlphaNum.hashCode();
     }
 
     public String getAlphaNum() {
@@ -39,8 +74,8 @@ public abstract class Alphanumeric {
     protected static boolean isValidAlphanum(String test, boolean canBeBlank) {
         String trimmedTest = test.trim();
         return canBeBlank
-                ? trimmedTest.isEmpty() || trimmedTest.matches(VALIDATION_REGEX)
-                : trimmedTest.matches(VALIDATION_REGEX);
+                ? trimmedTest.isEmpty() || VALIDATION_PATTERN.matcher(trimmedTest).matches()
+                : VALIDATION_PATTERN.matcher(trimmedTest).matches();
     }
 
     @Override
@@ -48,11 +83,18 @@ public abstract class Alphanumeric {
         return alphaNum;
     }
 
+    /**
+     * Returns true if {@code other} has the same alphaNum as this value, comparing the hash codes first.
+     */
+    protected boolean hasSameAlphaNum(Alphanumeric other) {
+        return hash == other.hash && comparedAlphaNum.equals(other.comparedAlphaNum);
+    }
+
     @Override
     public abstract boolean equals(Object other);
 
     @Override
     public int hashCode() {
-        return Objects.hash(alphaNum);
+        return hash;
     }
 }
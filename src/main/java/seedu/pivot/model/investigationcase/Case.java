@@ -1,14 +1,17 @@
 package seedu.pivot.model.investigationcase;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.pivot.commons.util.CollectionUtil.listWith;
+import static seedu.pivot.commons.util.CollectionUtil.listWithReplaced;
+import static seedu.pivot.commons.util.CollectionUtil.listWithout;
 import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -20,6 +23,17 @@ import seedu.pivot.model.tag.Tag;
 /**
  * Represents a Case in PIVOT.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The {@code CaseDetails} of a case may be loaded only when they are needed, in which case they are not kept by the
+ * case, so that cases can be listed without holding all their details in memory. The methods returning details then
+ * throw a {@code CaseDetailsUnavailableException} if the details cannot be loaded, which their callers handle.
+ * Each case has a {@code CaseId}, which edited versions of the case keep, so that the case can be found in PIVOT by
+ * its ID.
+ * The lists and tags of a case are unmodifiable, so they are returned without being copied. An edited version of a
+ * case is created with the {@code with} methods, which share every field that is not changed with this case.
+ * The hash code of a case is kept once it is computed, and cases whose hash codes are both known are only compared
+ * field by field if their hash codes are equal.
+ * The estimated memory used by the details a case holds is kept alongside them, so that the size of a case can be
+ * estimated without loading or scanning its details.
  */
 public class Case {
 
@@ -30,62 +44,112 @@ public class Case {
     private static final String VICTIMS_HEADER = "Victims: ";
     private static final String WITNESSES_HEADER = "Witnesses: ";
     private static final String TAGS_HEADER = "Tags: ";
+    private static final long CASE_OVERHEAD_BYTES = 256;
+    private static final long TAG_OVERHEAD_BYTES = 16;
 
     // Identity fields
+    private final CaseId id;
     private final Title title;
 
     // Data fields
-    private final Description description;
     private final Status status;
     private final ArchiveStatus archiveStatus;
-    private final List<Suspect> suspects = new ArrayList<>();
-    private final List<Victim> victims = new ArrayList<>();
-    private final Set<Tag> tags = new HashSet<>();
-    private final List<Witness> witnesses = new ArrayList<>();
-    private final List<Document> documents = new ArrayList<>();
+    private final Set<Tag> tags;
+    private final Supplier<CaseDetails> details;
+    /** The estimated memory used by the details held by this case, or 0 if they are loaded only when needed. */
+    private final long detailsSize;
+    /** The hash code of this case, or 0 if it has not been computed yet, as computing it loads the details. */
+    private int hash;
 
     /**
+     * Creates a case with a newly generated ID.
      * Every field must be present and not null.
      */
     public Case(Title title, Description description, Status status, List<Document> documents,
                 List<Suspect> suspects, List<Victim> victims, List<Witness> witnesses, Set<Tag> tags,
                 ArchiveStatus archiveStatus) {
-        requireAllNonNull(title, description, status, documents, suspects, victims, witnesses, tags);
+        this(CaseId.generate(), title, description, status, documents, suspects, victims, witnesses, tags,
+                archiveStatus);
+    }
+
+    /**
+     * Creates a case with {@code id}, such as an edited version of the case with {@code id}.
+     * Every field must be present and not null.
+     */
+    public Case(CaseId id, Title title, Description description, Status status, List<Document> documents,
+                List<Suspect> suspects, List<Victim> victims, List<Witness> witnesses, Set<Tag> tags,
+                ArchiveStatus archiveStatus) {
+        requireAllNonNull(id, title, description, status, documents, suspects, victims, witnesses, tags);
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+        this.archiveStatus = archiveStatus;
+        CaseDetails caseDetails = new CaseDetails(description, documents, suspects, victims, witnesses);
+        this.details = () -> caseDetails;
+        this.detailsSize = caseDetails.getEstimatedSize();
+    }
+
+    /**
+     * Creates a case with {@code id}, whose details are loaded by {@code detailsLoader} each time they are needed.
+     * {@code detailsLoader} must always supply equal details, and may keep a bounded number of them in memory.
+     * Every field must be present and not null.
+     */
+    public Case(CaseId id, Title title, Status status, Set<Tag> tags, ArchiveStatus archiveStatus,
+                Supplier<CaseDetails> detailsLoader) {
+        requireAllNonNull(id, title, status, tags, archiveStatus, detailsLoader);
+        this.id = id;
         this.title = title;
-        this.description = description;
         this.status = status;
-        this.documents.addAll(documents);
-        this.suspects.addAll(suspects);
-        this.victims.addAll(victims);
-        this.tags.addAll(tags);
-        this.witnesses.addAll(witnesses);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
         this.archiveStatus = archiveStatus;
+        this.details = detailsLoader;
+        this.detailsSize = 0;
     }
 
     /**
-     * Creates a deep copy of a Case.
+     * Creates an edited version of {@code base}, which keeps its ID and tags.
+     */
+    private Case(Case base, Title title, Status status, ArchiveStatus archiveStatus, Supplier<CaseDetails> details,
+            long detailsSize) {
+        requireAllNonNull(title, status, archiveStatus);
+        this.id = base.id;
+        this.title = title;
+        this.status = status;
+        this.tags = base.tags;
+        this.archiveStatus = archiveStatus;
+        this.details = details;
+        this.detailsSize = detailsSize;
+    }
+
+    /**
+     * Creates a shallow copy of a Case, which shares the tags and details of {@code toCopy} instead of copying them.
      *
      * @param toCopy Original case to be copied.
      */
     public Case(Case toCopy) {
         requireNonNull(toCopy);
+        this.id = toCopy.getId();
         this.title = toCopy.getTitle();
-        this.description = toCopy.getDescription();
         this.status = toCopy.getStatus();
-        this.documents.addAll(toCopy.getDocuments());
-        this.suspects.addAll(toCopy.getSuspects());
-        this.victims.addAll(toCopy.getVictims());
-        this.tags.addAll(toCopy.getTags());
-        this.witnesses.addAll(toCopy.getWitnesses());
+        this.tags = toCopy.tags;
         this.archiveStatus = toCopy.getArchiveStatus();
+        // The details are immutable, so they are shared, and are only loaded when needed if they were before.
+        this.details = toCopy.details;
+        this.detailsSize = toCopy.detailsSize;
+        this.hash = toCopy.hash;
+    }
+
+    public CaseId getId() {
+        return id;
     }
 
     public Title getTitle() {
-        return new Title(title.getAlphaNum());
+        return title;
     }
 
     public Description getDescription() {
-        return new Description(description.getDescription());
+        return details.get().getDescription();
     }
 
     public Status getStatus() {
@@ -93,30 +157,30 @@ public class Case {
     }
 
     /**
-     * Returns a copy of the list of documents in the Case.
+     * Returns the unmodifiable list of documents in the Case.
      *
      * @return List of Documents in the Case.
      */
     public List<Document> getDocuments() {
-        return documents.stream().collect(Collectors.toList());
+        return details.get().getDocuments();
     }
 
     /**
-     * Returns a copy of the list of suspects in the Case.
+     * Returns the unmodifiable list of suspects in the Case.
      *
      * @return List of suspects in the Case.
      */
     public List<Suspect> getSuspects() {
-        return suspects.stream().collect(Collectors.toList());
+        return details.get().getSuspects();
     }
 
     /**
-     * Returns a copy of the list of victims in the Case.
+     * Returns the unmodifiable list of victims in the Case.
      *
      * @return List of victims in the Case.
      */
     public List<Victim> getVictims() {
-        return victims.stream().collect(Collectors.toList());
+        return details.get().getVictims();
     }
 
     /**
@@ -124,22 +188,171 @@ public class Case {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
-     * Returns a copy of the list of witnesses in the Case.
+     * Returns the unmodifiable list of witnesses in the Case.
      *
      * @return List of witnesses in the Case.
      */
     public List<Witness> getWitnesses() {
-        return witnesses.stream().collect(Collectors.toList());
+        return details.get().getWitnesses();
     }
 
     public ArchiveStatus getArchiveStatus() {
         return archiveStatus;
     }
 
+    /**
+     * Returns a rough estimate of the memory used by this case, most of which is taken up by strings.
+     * Details which are loaded only when needed are not held by the case, so they are not counted or loaded.
+     */
+    public long getEstimatedSize() {
+        return CASE_OVERHEAD_BYTES + 2L * title.getAlphaNum().length() + TAG_OVERHEAD_BYTES * tags.size()
+                + detailsSize;
+    }
+
+    /**
+     * Returns a copy of this case with {@code title}. The details of the case are not loaded.
+     */
+    public Case withTitle(Title title) {
+        return new Case(this, title, status, archiveStatus, details, detailsSize);
+    }
+
+    /**
+     * Returns a copy of this case with {@code status}. The details of the case are not loaded.
+     */
+    public Case withStatus(Status status) {
+        return new Case(this, title, status, archiveStatus, details, detailsSize);
+    }
+
+    /**
+     * Returns a copy of this case with {@code archiveStatus}. The details of the case are not loaded.
+     */
+    public Case withArchiveStatus(ArchiveStatus archiveStatus) {
+        return new Case(this, title, status, archiveStatus, details, detailsSize);
+    }
+
+    /**
+     * Returns a copy of this case with {@code description}. The other details of the case are loaded.
+     */
+    public Case withDescription(Description description) {
+        return withDetails(details.get().withDescription(description));
+    }
+
+    /**
+     * Returns a copy of this case with {@code document} added to the end of its documents.
+     */
+    public Case withDocumentAdded(Document document) {
+        return withDocuments(listWith(getDocuments(), document));
+    }
+
+    /**
+     * Returns a copy of this case with the document at zero-based {@code index} replaced by {@code document}.
+     */
+    public Case withDocumentReplaced(int index, Document document) {
+        return withDocuments(listWithReplaced(getDocuments(), index, document));
+    }
+
+    /**
+     * Returns a copy of this case without the document at zero-based {@code index}.
+     */
+    public Case withDocumentRemoved(int index) {
+        return withDocuments(listWithout(getDocuments(), index));
+    }
+
+    /**
+     * Returns a copy of this case with {@code suspect} added to the end of its suspects.
+     */
+    public Case withSuspectAdded(Suspect suspect) {
+        return withSuspects(listWith(getSuspects(), suspect));
+    }
+
+    /**
+     * Returns a copy of this case with the suspect at zero-based {@code index} replaced by {@code suspect}.
+     */
+    public Case withSuspectReplaced(int index, Suspect suspect) {
+        return withSuspects(listWithReplaced(getSuspects(), index, suspect));
+    }
+
+    /**
+     * Returns a copy of this case without the suspect at zero-based {@code index}.
+     */
+    public Case withSuspectRemoved(int index) {
+        return withSuspects(listWithout(getSuspects(), index));
+    }
+
+    /**
+     * Returns a copy of this case with {@code victim} added to the end of its victims.
+     */
+    public Case withVictimAdded(Victim victim) {
+        return withVictims(listWith(getVictims(), victim));
+    }
+
+    /**
+     * Returns a copy of this case with the victim at zero-based {@code index} replaced by {@code victim}.
+     */
+    public Case withVictimReplaced(int index, Victim victim) {
+        return withVictims(listWithReplaced(getVictims(), index, victim));
+    }
+
+    /**
+     * Returns a copy of this case without the victim at zero-based {@code index}.
+     */
+    public Case withVictimRemoved(int index) {
+        return withVictims(listWithout(getVictims(), index));
+    }
+
+    /**
+     * Returns a copy of this case with {@code witness} added to the end of its witnesses.
+     */
+    public Case withWitnessAdded(Witness witness) {
+        return withWitnesses(listWith(getWitnesses(), witness));
+    }
+
+    /**
+     * Returns a copy of this case with the witness at zero-based {@code index} replaced by {@code witness}.
+     */
+    public Case withWitnessReplaced(int index, Witness witness) {
+        return withWitnesses(listWithReplaced(getWitnesses(), index, witness));
+    }
+
+    /**
+     * Returns a copy of this case without the witness at zero-based {@code index}.
+     */
+    public Case withWitnessRemoved(int index) {
+        return withWitnesses(listWithout(getWitnesses(), index));
+    }
+
+    private Case withDocuments(List<Document> documents) {
+        CaseDetails caseDetails = details.get();
+        return withDetails(new CaseDetails(caseDetails.getDescription(), documents, caseDetails.getSuspects(),
+                caseDetails.getVictims(), caseDetails.getWitnesses()));
+    }
+
+    private Case withSuspects(List<Suspect> suspects) {
+        CaseDetails caseDetails = details.get();
+        return withDetails(new CaseDetails(caseDetails.getDescription(), caseDetails.getDocuments(), suspects,
+                caseDetails.getVictims(), caseDetails.getWitnesses()));
+    }
+
+    private Case withVictims(List<Victim> victims) {
+        CaseDetails caseDetails = details.get();
+        return withDetails(new CaseDetails(caseDetails.getDescription(), caseDetails.getDocuments(),
+                caseDetails.getSuspects(), victims, caseDetails.getWitnesses()));
+    }
+
+    private Case withWitnesses(List<Witness> witnesses) {
+        CaseDetails caseDetails = details.get();
+        return withDetails(new CaseDetails(caseDetails.getDescription(), caseDetails.getDocuments(),
+                caseDetails.getSuspects(), caseDetails.getVictims(), witnesses));
+    }
+
+    private Case withDetails(CaseDetails caseDetails) {
+        return new Case(this, title, status, archiveStatus, () -> caseDetails, caseDetails.getEstimatedSize());
+    }
+
     /**
      * Returns true if both cases have the same title.
      * This defines a weaker notion of equality between two cases.
@@ -156,6 +369,7 @@ public class Case {
     /**
      * Returns true if both cases have the same identity and data fields.
      * This defines a stronger notion of equality between two cases.
+     * The IDs of the cases are not compared, so that a case is equal to a copy of it created anew.
      */
     @Override
     public boolean equals(Object other) {
@@ -168,72 +382,65 @@ public class Case {
         }
 
         Case otherCase = (Case) other;
-        return otherCase.getTitle().equals(getTitle())
-                && otherCase.getDescription().equals(getDescription())
-                && otherCase.getStatus().equals(getStatus())
-                && otherCase.getDocuments().equals(getDocuments())
-                && otherCase.getSuspects().equals(getSuspects())
-                && otherCase.getVictims().equals(getVictims())
-                && otherCase.getWitnesses().equals(getWitnesses())
-                && otherCase.getTags().equals(getTags());
+        return otherCase.title.equals(title)
+                && otherCase.status.equals(status)
+                && otherCase.tags.equals(tags)
+                && (otherCase.hash == 0 || hash == 0 || otherCase.hash == hash) // known hash codes short circuit
+                && (otherCase.details == details || otherCase.details.get().equals(details.get()));
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(title, description, status, documents,
-                            suspects, victims, witnesses, tags);
+        // The hash code is computed at most once by each thread, as a racing thread computes the same value.
+        int h = hash;
+        if (h == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            h = Objects.hash(title, status, tags, details.get());
+            hash = h;
+        }
+        return h;
     }
 
     @Override
     public String toString() {
+        CaseDetails caseDetails = details.get();
         final StringBuilder builder = new StringBuilder();
-        builder.append(getTitle()).append("\n")
-                .append(DESCRIPTION_HEADER).append(getDescription()).append("\n")
-                .append(STATUS_HEADER).append(getStatus());
+        builder.append(title).append("\n")
+                .append(DESCRIPTION_HEADER).append(caseDetails.getDescription()).append("\n")
+                .append(STATUS_HEADER).append(status);
 
         // Documents
-        if (!getDocuments().isEmpty()) {
-            builder.append("\n");
-            builder.append(DOCUMENTS_HEADER);
-        }
-        Stream<String> docs = getDocuments().stream().map(x -> x.getName().toString());
-        builder.append(docs.collect(Collectors.joining(", ")));
+        appendNames(builder, DOCUMENTS_HEADER, caseDetails.getDocuments().stream().map(x -> x.getName().toString()));
 
         // Suspects
-        if (!getSuspects().isEmpty()) {
-            builder.append("\n");
-            builder.append(SUSPECTS_HEADER);
-        }
-        Stream<String> suspects = getSuspects().stream().map(x -> x.getName().toString());
-        builder.append(suspects.collect(Collectors.joining(", ")));
+        appendNames(builder, SUSPECTS_HEADER, caseDetails.getSuspects().stream().map(x -> x.getName().toString()));
 
         // Victims
-        if (!getVictims().isEmpty()) {
-            builder.append("\n");
-            builder.append(VICTIMS_HEADER);
-        }
-        Stream<String> victims = getVictims().stream().map(x -> x.getName().toString());
-        builder.append(victims.collect(Collectors.joining(", ")));
+        appendNames(builder, VICTIMS_HEADER, caseDetails.getVictims().stream().map(x -> x.getName().toString()));
 
         // Witnesses
-        if (!getWitnesses().isEmpty()) {
-            builder.append("\n");
-            builder.append(WITNESSES_HEADER);
-        }
-        Stream<String> witnesses = getWitnesses().stream().map(x -> x.getName().toString());
-        builder.append(witnesses.collect(Collectors.joining(", ")));
+        appendNames(builder, WITNESSES_HEADER, caseDetails.getWitnesses().stream().map(x -> x.getName().toString()));
 
         // Tags
-        if (!getTags().isEmpty()) {
+        if (!tags.isEmpty()) {
             builder.append("\n");
             builder.append(TAGS_HEADER);
         }
-        for (Tag tag : getTags()) {
+        for (Tag tag : tags) {
             builder.append(tag.tagName);
         }
 
         return builder.toString();
     }
 
+    /**
+     * Appends {@code header} and then {@code names} to {@code builder} on a new line, if there are any names.
+     */
+    private static void appendNames(StringBuilder builder, String header, Stream<String> names) {
+        String joinedNames = names.collect(Collectors.joining(", "));
+        if (!joinedNames.isEmpty()) {
+            builder.append("\n").append(header).append(joinedNames);
+        }
+    }
+
 }
@@ -0,0 +1,159 @@
+package seedu.pivot.model.investigationcase;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.pivot.model.tag.Tag;
+
+/**
+ * A bitmap index from the status, archive status and tags of cases to the cases having them.
+ * Each indexed case is given a slot, which is a small number kept by the case until it is removed and then given to
+ * the next case added, so that the bitmaps stay as short as the list of cases. Each status, archive status and tag
+ * has a bitmap of the slots of the cases having it, so that a {@code CaseFilter} is answered by combining bitmaps
+ * instead of testing every case.
+ * Slots are kept by {@code CaseId}, so the index must be updated whenever a case in the list is added or replaced.
+ *
+ * @see CaseFilter
+ */
+public class CaseAttributeIndex {
+
+    /** The case in each slot, or null if the slot is free. */
+    private final List<Case> casesBySlot = new ArrayList<>();
+    private final Map<CaseId, Integer> slots = new HashMap<>();
+    private final BitSet usedSlots = new BitSet();
+    private final Map<Status, BitSet> statusBitmaps = new EnumMap<>(Status.class);
+    private final Map<ArchiveStatus, BitSet> archiveStatusBitmaps = new EnumMap<>(ArchiveStatus.class);
+    private final Map<Tag, BitSet> tagBitmaps = new HashMap<>();
+    private int modificationCount = 0;
+
+    /**
+     * Adds {@code toAdd} to the index, in the lowest free slot.
+     * No case with the ID of {@code toAdd} may be in the index.
+     */
+    public void add(Case toAdd) {
+        requireNonNull(toAdd);
+        assert !slots.containsKey(toAdd.getId());
+
+        int slot = usedSlots.nextClearBit(0);
+        usedSlots.set(slot);
+        if (slot == casesBySlot.size()) {
+            casesBySlot.add(toAdd);
+        } else {
+            casesBySlot.set(slot, toAdd);
+        }
+        slots.put(toAdd.getId(), slot);
+
+        statusBitmaps.computeIfAbsent(toAdd.getStatus(), status -> new BitSet()).set(slot);
+        archiveStatusBitmaps.computeIfAbsent(toAdd.getArchiveStatus(), archiveStatus -> new BitSet()).set(slot);
+        for (Tag tag : toAdd.getTags()) {
+            tagBitmaps.computeIfAbsent(tag, newTag -> new BitSet()).set(slot);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code toRemove} from the index, freeing its slot.
+     * {@code toRemove} must be the same instance that was added to the index.
+     */
+    public void remove(Case toRemove) {
+        requireNonNull(toRemove);
+        Integer slot = slots.remove(toRemove.getId());
+        assert slot != null && casesBySlot.get(slot) == toRemove;
+
+        usedSlots.clear(slot);
+        casesBySlot.set(slot, null);
+        clearSlot(statusBitmaps, toRemove.getStatus(), slot);
+        clearSlot(archiveStatusBitmaps, toRemove.getArchiveStatus(), slot);
+        for (Tag tag : toRemove.getTags()) {
+            clearSlot(tagBitmaps, tag, slot);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Clears {@code slot} in the bitmap of {@code key}, and drops the bitmap once no case has {@code key}.
+     */
+    private static <K> void clearSlot(Map<K, BitSet> bitmaps, K key, int slot) {
+        BitSet bitmap = bitmaps.get(key);
+        bitmap.clear(slot);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+
+    /**
+     * Removes all cases from the index.
+     */
+    public void clear() {
+        casesBySlot.clear();
+        slots.clear();
+        usedSlots.clear();
+        statusBitmaps.clear();
+        archiveStatusBitmaps.clear();
+        tagBitmaps.clear();
+        modificationCount++;
+    }
+
+    BitSet getAllCases() {
+        return (BitSet) usedSlots.clone();
+    }
+
+    BitSet getCases(Status status) {
+        return copyOf(statusBitmaps.get(status));
+    }
+
+    BitSet getCases(ArchiveStatus archiveStatus) {
+        return copyOf(archiveStatusBitmaps.get(archiveStatus));
+    }
+
+    BitSet getCases(Tag tag) {
+        return copyOf(tagBitmaps.get(tag));
+    }
+
+    private static BitSet copyOf(BitSet bitmap) {
+        return bitmap == null ? new BitSet() : (BitSet) bitmap.clone();
+    }
+
+    /**
+     * Returns a predicate that tests whether a case matches {@code filter}.
+     * The slots of the indexed cases matching {@code filter} are found once by combining bitmaps, and again only after
+     * the index has changed. Cases which are not in the index are tested by {@code filter} itself.
+     */
+    public Predicate<Case> getMatchingPredicate(CaseFilter filter) {
+        requireNonNull(filter);
+        return new MatchingPredicate(filter);
+    }
+
+    /**
+     * A predicate backed by the slots of the cases matching its filter in the index.
+     */
+    private class MatchingPredicate implements Predicate<Case> {
+        private final CaseFilter filter;
+        private BitSet matches;
+        private int matchesModificationCount;
+
+        private MatchingPredicate(CaseFilter filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean test(Case investigationCase) {
+            Integer slot = slots.get(investigationCase.getId());
+            if (slot == null || casesBySlot.get(slot) != investigationCase) {
+                return filter.test(investigationCase);
+            }
+            if (matches == null || matchesModificationCount != modificationCount) {
+                matches = filter.evaluate(CaseAttributeIndex.this);
+                matchesModificationCount = modificationCount;
+            }
+            return matches.get(slot);
+        }
+    }
+}
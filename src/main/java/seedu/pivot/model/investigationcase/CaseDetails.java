@@ -0,0 +1,123 @@
+package seedu.pivot.model.investigationcase;
+
+import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import seedu.pivot.model.investigationcase.caseperson.CasePerson;
+import seedu.pivot.model.investigationcase.caseperson.Suspect;
+import seedu.pivot.model.investigationcase.caseperson.Victim;
+import seedu.pivot.model.investigationcase.caseperson.Witness;
+
+/**
+ * Represents the details of a Case in PIVOT which are not needed to list it: its description, documents and persons.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ * The lists are unmodifiable, and a list which is already unmodifiable is kept instead of being copied, so that
+ * details which differ in only one list share the others. The hash code of the details is computed once when they are
+ * constructed, and compared before their fields. A rough estimate of the memory used by the details is also computed
+ * once, so that the undo history can be bounded without rescanning them.
+ */
+public class CaseDetails {
+
+    private static final long DETAILS_OVERHEAD_BYTES = 128;
+    private static final long ITEM_OVERHEAD_BYTES = 64;
+
+    private final Description description;
+    private final List<Document> documents;
+    private final List<Suspect> suspects;
+    private final List<Victim> victims;
+    private final List<Witness> witnesses;
+    private final int hash;
+    private final long estimatedSize;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public CaseDetails(Description description, List<Document> documents, List<Suspect> suspects,
+            List<Victim> victims, List<Witness> witnesses) {
+        requireAllNonNull(description, documents, suspects, victims, witnesses);
+        this.description = description;
+        this.documents = List.copyOf(documents);
+        this.suspects = List.copyOf(suspects);
+        this.victims = List.copyOf(victims);
+        this.witnesses = List.copyOf(witnesses);
+        this.hash = Objects.hash(description, this.documents, this.suspects, this.victims, this.witnesses);
+        this.estimatedSize = estimateSize();
+    }
+
+    /**
+     * Returns a rough estimate of the memory used by these details, most of which is taken up by strings.
+     */
+    private long estimateSize() {
+        long size = DETAILS_OVERHEAD_BYTES + 2L * description.getDescription().length();
+        for (Document document : documents) {
+            size += ITEM_OVERHEAD_BYTES + 2L * (document.getName().getAlphaNum().length()
+                    + document.getReference().getFileName().length());
+        }
+        Iterable<CasePerson> persons = Stream.of(suspects, victims, witnesses)
+                .<CasePerson>flatMap(List::stream)::iterator;
+        for (CasePerson person : persons) {
+            size += ITEM_OVERHEAD_BYTES + 2L * (person.getName().getAlphaNum().length()
+                    + person.getPhone().value.length() + person.getEmail().value.length()
+                    + person.getAddress().value.length());
+        }
+        return size;
+    }
+
+    /**
+     * Returns a copy of these details with {@code description}, which shares the lists of these details.
+     */
+    public CaseDetails withDescription(Description description) {
+        return new CaseDetails(description, documents, suspects, victims, witnesses);
+    }
+
+    public Description getDescription() {
+        return description;
+    }
+
+    public List<Document> getDocuments() {
+        return documents;
+    }
+
+    public List<Suspect> getSuspects() {
+        return suspects;
+    }
+
+    public List<Victim> getVictims() {
+        return victims;
+    }
+
+    public List<Witness> getWitnesses() {
+        return witnesses;
+    }
+
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CaseDetails)) {
+            return false;
+        }
+
+        CaseDetails otherDetails = (CaseDetails) other;
+        return otherDetails.hash == hash // different hash codes short circuit
+                && otherDetails.description.equals(description)
+                && otherDetails.documents.equals(documents)
+                && otherDetails.suspects.equals(suspects)
+                && otherDetails.victims.equals(victims)
+                && otherDetails.witnesses.equals(witnesses);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
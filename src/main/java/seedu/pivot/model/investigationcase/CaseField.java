@@ -0,0 +1,63 @@
+package seedu.pivot.model.investigationcase;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a field of a Case that can be searched for keywords.
+ * Fields that are searched by default are those searched by {@code DetailsContainsKeywordsPredicate}.
+ */
+public enum CaseField {
+    TITLE("title", true, investigationCase -> investigationCase.getTitle().getAlphaNum()),
+    DESCRIPTION("desc", true, investigationCase -> investigationCase.getDescription().toString()),
+    STATUS("status", true, investigationCase -> investigationCase.getStatus().toString()),
+    DOCUMENT("doc", true, DetailsContainsKeywordsPredicate::getDocumentsInfo),
+    SUSPECT("suspect", true, DetailsContainsKeywordsPredicate::getSuspectsInfo),
+    VICTIM("victim", true, DetailsContainsKeywordsPredicate::getVictimsInfo),
+    WITNESS("witness", true, DetailsContainsKeywordsPredicate::getWitnessesInfo),
+    TAG("tag", false, investigationCase -> investigationCase.getTags().stream()
+            .map(tag -> tag.tagName)
+            .collect(Collectors.joining(" ")));
+
+    private final String name;
+    private final boolean isSearchedByDefault;
+    private final Function<Case, String> detailsGetter;
+
+    CaseField(String name, boolean isSearchedByDefault, Function<Case, String> detailsGetter) {
+        this.name = name;
+        this.isSearchedByDefault = isSearchedByDefault;
+        this.detailsGetter = detailsGetter;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isSearchedByDefault() {
+        return isSearchedByDefault;
+    }
+
+    /**
+     * Returns the details of {@code investigationCase} in this field.
+     */
+    public String getDetails(Case investigationCase) {
+        requireNonNull(investigationCase);
+        return detailsGetter.apply(investigationCase);
+    }
+
+    /**
+     * Returns the field with the given name, ignoring case, if there is one.
+     */
+    public static Optional<CaseField> fromName(String name) {
+        requireNonNull(name);
+        for (CaseField field : values()) {
+            if (field.name.equalsIgnoreCase(name)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.pivot.model.investigationcase;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.pivot.model.tag.Tag;
+
+/**
+ * Represents a filter on the status, archive status and tags of cases, which can be combined with other filters.
+ * Besides testing a single case, a filter is answered for all the cases in a {@code CaseAttributeIndex} by combining
+ * the bitmaps of the index with bitwise operations, instead of testing every case.
+ * Guarantees: immutable.
+ */
+public class CaseFilter implements Predicate<Case> {
+
+    private final Predicate<Case> tester;
+    private final Function<CaseAttributeIndex, BitSet> evaluator;
+
+    private CaseFilter(Predicate<Case> tester, Function<CaseAttributeIndex, BitSet> evaluator) {
+        this.tester = tester;
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * Returns a filter for the cases with {@code status}.
+     */
+    public static CaseFilter ofStatus(Status status) {
+        requireNonNull(status);
+        return new CaseFilter(investigationCase -> investigationCase.getStatus() == status, index ->
+                index.getCases(status));
+    }
+
+    /**
+     * Returns a filter for the cases with {@code archiveStatus}.
+     */
+    public static CaseFilter ofArchiveStatus(ArchiveStatus archiveStatus) {
+        requireNonNull(archiveStatus);
+        return new CaseFilter(investigationCase -> investigationCase.getArchiveStatus() == archiveStatus, index ->
+                index.getCases(archiveStatus));
+    }
+
+    /**
+     * Returns a filter for the cases tagged with {@code tag}.
+     */
+    public static CaseFilter ofTag(Tag tag) {
+        requireNonNull(tag);
+        return new CaseFilter(investigationCase -> investigationCase.getTags().contains(tag), index ->
+                index.getCases(tag));
+    }
+
+    /**
+     * Returns a filter for the cases matching both this filter and {@code other}.
+     */
+    public CaseFilter and(CaseFilter other) {
+        requireNonNull(other);
+        return new CaseFilter(investigationCase -> test(investigationCase) && other.test(investigationCase), index -> {
+            BitSet matches = evaluate(index);
+            matches.and(other.evaluate(index));
+            return matches;
+        });
+    }
+
+    /**
+     * Returns a filter for the cases matching this filter, {@code other} or both.
+     */
+    public CaseFilter or(CaseFilter other) {
+        requireNonNull(other);
+        return new CaseFilter(investigationCase -> test(investigationCase) || other.test(investigationCase), index -> {
+            BitSet matches = evaluate(index);
+            matches.or(other.evaluate(index));
+            return matches;
+        });
+    }
+
+    /**
+     * Returns a filter for the cases not matching this filter.
+     */
+    @Override
+    public CaseFilter negate() {
+        return new CaseFilter(investigationCase -> !test(investigationCase), index -> {
+            BitSet matches = index.getAllCases();
+            matches.andNot(evaluate(index));
+            return matches;
+        });
+    }
+
+    /**
+     * Returns the slots in {@code index} of the cases matching this filter, as a new bitmap that can be changed.
+     */
+    BitSet evaluate(CaseAttributeIndex index) {
+        return evaluator.apply(index);
+    }
+
+    @Override
+    public boolean test(Case investigationCase) {
+        return tester.test(investigationCase);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.pivot.model.investigationcase;
+
+import static seedu.pivot.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Represents the identifier of a Case in PIVOT, which is generated when the case is created, kept by every edit of
+ * the case and saved with it, so that the case can be found without comparing its fields.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(long)}
+ */
+public class CaseId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Case IDs should be numbers that are not negative";
+
+    private final long value;
+
+    /**
+     * Constructs a {@code CaseId}.
+     *
+     * @param value A valid ID.
+     */
+    public CaseId(long value) {
+        checkArgument(isValidId(value), MESSAGE_CONSTRAINTS);
+        this.value = value;
+    }
+
+    /**
+     * Returns a new ID, drawn at random from the 2^63 valid IDs so that IDs generated in different sessions do not
+     * need to be coordinated.
+     */
+    public static CaseId generate() {
+        return new CaseId(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE);
+    }
+
+    public static boolean isValidId(long test) {
+        return test >= 0;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CaseId // instanceof handles nulls
+                && value == ((CaseId) other).value); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.pivot.model.investigationcase;
+
+import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Represents a parsed find query.
+ * A case matches the query if its details contain any of the keywords, as tested by
+ * {@code DetailsContainsKeywordsPredicate}, and it satisfies all of the terms. A query without keywords only needs
+ * to satisfy its terms, while an empty query matches no cases.
+ * A query with a rank limit only lists that many of its matching cases, ranked by their relevance to the query.
+ * Guarantees: immutable.
+ */
+public class CaseQuery implements Predicate<Case> {
+
+    private final List<String> keywords;
+    private final List<QueryTerm> terms;
+    private final Integer rankLimit;
+
+    /**
+     * Constructs a {@code CaseQuery} with the given keywords and terms.
+     */
+    public CaseQuery(List<String> keywords, List<QueryTerm> terms) {
+        this(keywords, terms, null);
+    }
+
+    private CaseQuery(List<String> keywords, List<QueryTerm> terms, Integer rankLimit) {
+        requireAllNonNull(keywords, terms);
+        this.keywords = List.copyOf(keywords);
+        this.terms = List.copyOf(terms);
+        this.rankLimit = rankLimit;
+    }
+
+    /**
+     * Returns a query that matches the cases whose details contain any of {@code keywords}.
+     */
+    public static CaseQuery ofKeywords(List<String> keywords) {
+        return new CaseQuery(keywords, Collections.emptyList());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public List<QueryTerm> getTerms() {
+        return terms;
+    }
+
+    public Optional<Integer> getRankLimit() {
+        return Optional.ofNullable(rankLimit);
+    }
+
+    /**
+     * Returns a copy of this query which only lists the {@code rankLimit} most relevant matching cases.
+     */
+    public CaseQuery withRankLimit(int rankLimit) {
+        if (rankLimit <= 0) {
+            throw new IllegalArgumentException("Rank limit must be positive");
+        }
+        return new CaseQuery(keywords, terms, rankLimit);
+    }
+
+    @Override
+    public boolean test(Case investigationCase) {
+        boolean matchesKeywords = keywords.isEmpty()
+                ? !terms.isEmpty()
+                : new DetailsContainsKeywordsPredicate(keywords).test(investigationCase);
+        return matchesKeywords
+                && terms.stream().allMatch(term -> term.test(investigationCase));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CaseQuery // instanceof handles nulls
+                && keywords.equals(((CaseQuery) other).keywords)
+                && terms.equals(((CaseQuery) other).terms)
+                && Objects.equals(rankLimit, ((CaseQuery) other).rankLimit)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, terms, rankLimit);
+    }
+
+    @Override
+    public String toString() {
+        return "Keywords: " + keywords + " Terms: " + terms + (rankLimit == null ? "" : " Top: " + rankLimit);
+    }
+}
@@ -0,0 +1,687 @@
+package seedu.pivot.model.investigationcase;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import seedu.pivot.model.investigationcase.exceptions.CaseDetailsUnavailableException;
+
+/**
+ * An inverted index from the words in each searchable field of cases to the cases containing them.
+ * Words are the lower-cased, whitespace-separated parts of the details in a {@code CaseField}. As a keyword
+ * without whitespace is contained in the details of a field exactly when it is contained in one of its words,
+ * such keywords are answered by the index alone, while values containing whitespace are narrowed down by the index
+ * and then verified.
+ * The words of each field are kept in a {@code NgramIndex}, so that the words containing a keyword are found without
+ * scanning every word.
+ * Each field also keeps the number of times each word appears in a case and the number of words in the field of
+ * each case, so that cases matching a query can be ranked by their BM25 relevance without rescanning their details.
+ * Cases are indexed by identity, so the index must be updated whenever a case in the list is added or replaced.
+ * The matches most recently ranked are updated along with the index when a case is replaced, so that a list ranked by
+ * them stays ranked without ranking all the cases again.
+ * When all the cases are replaced, the new cases are only indexed once the index is next searched, so that the
+ * details of cases which are never searched need not be loaded.
+ *
+ * @see CaseField#getDetails(Case)
+ */
+public class CaseTextIndex {
+
+    private static final String WORD_SEPARATOR = "\\s+";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
+    private static final double BM25_K1 = 1.2;
+    private static final double BM25_B = 0.75;
+    private static final double TITLE_WEIGHT = 2.0;
+
+    private final Map<CaseField, FieldIndex> fieldIndexes = new EnumMap<>(CaseField.class);
+    private int modificationCount = 0;
+    /** Supplies the cases to index before the next search, or is null if the index is up to date. */
+    private Supplier<? extends Collection<Case>> pendingCases;
+    /** Whether the details of a case could not be loaded to update the index, which is then rebuilt on next search. */
+    private boolean isStale = false;
+    /** The matches most recently ranked, or null if the cases have been replaced since. */
+    private RankedMatches lastRankedMatches;
+
+    /**
+     * Creates an empty index for every {@code CaseField}.
+     */
+    public CaseTextIndex() {
+        for (CaseField field : CaseField.values()) {
+            fieldIndexes.put(field, new FieldIndex());
+        }
+    }
+
+    /**
+     * Adds the words in the details of {@code toAdd} to the index.
+     * If the details cannot be loaded, all the cases are indexed anew before the next search instead, which reports
+     * the failure if it persists.
+     */
+    public void add(Case toAdd) {
+        requireNonNull(toAdd);
+        if (pendingCases == null && !isStale) {
+            try {
+                index(toAdd);
+            } catch (CaseDetailsUnavailableException e) {
+                setStale();
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the words in the details of {@code toRemove} from the index.
+     * {@code toRemove} must be the same instance that was added to the index.
+     * If the details cannot be loaded, all the cases are indexed anew before the next search instead.
+     */
+    public void remove(Case toRemove) {
+        requireNonNull(toRemove);
+        if (pendingCases == null && !isStale) {
+            try {
+                Map<CaseField, Map<String, Integer>> wordCounts = getWordCounts(toRemove);
+                wordCounts.forEach((field, counts) -> fieldIndexes.get(field).remove(toRemove, counts));
+            } catch (CaseDetailsUnavailableException e) {
+                setStale();
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces {@code replaced} with {@code replacement} in the index, and in the matches most recently ranked.
+     * {@code replaced} must be the same instance that was added to the index.
+     *
+     * @see RankedMatches#replace(Case, Case)
+     */
+    public void replace(Case replaced, Case replacement) {
+        requireNonNull(replaced);
+        requireNonNull(replacement);
+        remove(replaced);
+        add(replacement);
+        if (lastRankedMatches != null) {
+            lastRankedMatches.replace(replaced, replacement);
+        }
+    }
+
+    /**
+     * Removes all cases from the index.
+     */
+    public void clear() {
+        fieldIndexes.values().forEach(FieldIndex::clear);
+        pendingCases = null;
+        isStale = false;
+        lastRankedMatches = null;
+        modificationCount++;
+    }
+
+    /**
+     * Adds the words in the details of {@code toAdd} to the index, loading all the details before any is added.
+     * @throws CaseDetailsUnavailableException if the details cannot be loaded, leaving the index unchanged.
+     */
+    private void index(Case toAdd) {
+        Map<CaseField, Map<String, Integer>> wordCounts = getWordCounts(toAdd);
+        wordCounts.forEach((field, counts) -> fieldIndexes.get(field).add(toAdd, counts));
+    }
+
+    private void setStale() {
+        fieldIndexes.values().forEach(FieldIndex::clear);
+        isStale = true;
+    }
+
+    /**
+     * Removes all cases from the index, and indexes the cases supplied by {@code cases} when the index is next
+     * searched. Until then, adding and removing cases only changes {@code cases}, which is read when the cases are
+     * indexed.
+     */
+    public void setCasesLazily(Supplier<? extends Collection<Case>> cases) {
+        requireNonNull(cases);
+        clear();
+        pendingCases = cases;
+    }
+
+    /**
+     * Indexes the cases supplied since the cases were last replaced, if they have not been indexed yet.
+     */
+    private void indexPendingCases() {
+        if (pendingCases == null) {
+            return;
+        }
+        try {
+            for (Case investigationCase : pendingCases.get()) {
+                index(investigationCase);
+            }
+        } catch (CaseDetailsUnavailableException e) {
+            // The cases are indexed again before the next search.
+            fieldIndexes.values().forEach(FieldIndex::clear);
+            throw e;
+        }
+        pendingCases = null;
+        modificationCount++;
+    }
+
+    /**
+     * Returns a predicate that tests whether a case is one of {@code allCases} matching {@code query}.
+     * The query is compiled into a plan which looks up the most selective part of the query in the index, and only
+     * tests the rest of the query on the cases found. The plan is executed once, and again only after the index
+     * has changed.
+     *
+     * @param allCases Supplies all indexed cases, for queries that only exclude cases.
+     */
+    public Predicate<Case> getMatchingPredicate(CaseQuery query, Supplier<Collection<Case>> allCases) {
+        requireNonNull(query);
+        requireNonNull(allCases);
+        return new MatchingPredicate(query, allCases);
+    }
+
+    /**
+     * Returns the {@code limit} cases of {@code allCases} that match both {@code query} and {@code filter} and are
+     * the most relevant to {@code query}. The cases are ranked once, so that the matches stay consistent while a list
+     * is filtered or sorted by them. Only the matches most recently obtained are updated when a case is replaced, and
+     * removing a case leaves its rank, so that it is ranked again if it is added back. Matches for all the current
+     * cases are obtained by calling this method again.
+     *
+     * @param allCases Supplies all indexed cases in their list order, which breaks ties between equally relevant cases.
+     */
+    public RankedMatches getRankedMatches(CaseQuery query, Predicate<Case> filter, int limit,
+            Supplier<Collection<Case>> allCases) {
+        requireNonNull(query);
+        requireNonNull(filter);
+        requireNonNull(allCases);
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Rank limit must be positive");
+        }
+        lastRankedMatches = new RankedMatches(query, filter, limit, allCases.get());
+        return lastRankedMatches;
+    }
+
+    /**
+     * Returns the current statistics of each field, from which the relevance of cases is computed.
+     */
+    private Map<CaseField, FieldStatistics> getStatistics() {
+        Map<CaseField, FieldStatistics> statistics = new EnumMap<>(CaseField.class);
+        fieldIndexes.forEach((field, fieldIndex) -> statistics.put(field, fieldIndex.getStatistics()));
+        return statistics;
+    }
+
+    /**
+     * Adds the relevance of the values searched by {@code query}, computed from {@code statistics}, to the score of
+     * each case in {@code scores}.
+     */
+    private void addScores(CaseQuery query, Map<CaseField, FieldStatistics> statistics, Map<Case, Double> scores) {
+        for (String keyword : query.getKeywords()) {
+            addScores(keyword, null, statistics, scores);
+        }
+        for (QueryTerm term : query.getTerms()) {
+            if (!term.isNegated()) {
+                addScores(term.getValue(), term.getField().orElse(null), statistics, scores);
+            }
+        }
+    }
+
+    /**
+     * Adds the relevance of {@code value} in {@code field}, or in the fields searched by default if {@code field} is
+     * null, to the score of each case in {@code scores}.
+     */
+    private void addScores(String value, CaseField field, Map<CaseField, FieldStatistics> statistics,
+            Map<Case, Double> scores) {
+        for (CaseField searchedField : CaseField.values()) {
+            if (field == null ? searchedField.isSearchedByDefault() : field == searchedField) {
+                double weight = searchedField == CaseField.TITLE ? TITLE_WEIGHT : 1;
+                fieldIndexes.get(searchedField).addScores(value.toLowerCase(), weight, statistics.get(searchedField),
+                        scores);
+            }
+        }
+    }
+
+    /**
+     * Returns the cases in {@code allCases} matching {@code query}.
+     */
+    private Set<Case> execute(CaseQuery query, Collection<Case> allCases) {
+        if (isStale) {
+            pendingCases = () -> allCases;
+            isStale = false;
+        }
+        indexPendingCases();
+        if (query.getKeywords().isEmpty() && query.getTerms().isEmpty()) {
+            return newCaseSet();
+        }
+
+        List<Clause> positiveClauses = new ArrayList<>();
+        List<QueryTerm> negatedTerms = new ArrayList<>();
+        if (!query.getKeywords().isEmpty()) {
+            positiveClauses.add(new Clause(query.getKeywords(), null, new DetailsContainsKeywordsPredicate(
+                    query.getKeywords())));
+        }
+        for (QueryTerm term : query.getTerms()) {
+            if (term.isNegated()) {
+                negatedTerms.add(term);
+            } else {
+                positiveClauses.add(new Clause(Collections.singletonList(term.getValue()),
+                        term.getField().orElse(null), term));
+            }
+        }
+        positiveClauses.sort(Comparator.comparingInt(Clause::estimateMatches));
+
+        Collection<Case> candidates;
+        List<Predicate<Case>> checks = new ArrayList<>();
+        if (positiveClauses.isEmpty()) {
+            candidates = allCases;
+        } else {
+            Clause mostSelectiveClause = positiveClauses.get(0);
+            candidates = mostSelectiveClause.findCandidates();
+            if (!mostSelectiveClause.isExact()) {
+                checks.add(mostSelectiveClause.predicate);
+            }
+            positiveClauses.stream().skip(1).forEach(clause -> checks.add(clause.predicate));
+        }
+        checks.addAll(negatedTerms);
+
+        Set<Case> matches = newCaseSet();
+        for (Case candidate : candidates) {
+            if (checks.stream().allMatch(check -> check.test(candidate))) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private static Set<Case> newCaseSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns the number of times each word appears in each field of {@code investigationCase}.
+     */
+    private static Map<CaseField, Map<String, Integer>> getWordCounts(Case investigationCase) {
+        Map<CaseField, Map<String, Integer>> wordCounts = new EnumMap<>(CaseField.class);
+        for (CaseField field : CaseField.values()) {
+            wordCounts.put(field, getWordCounts(field.getDetails(investigationCase)));
+        }
+        return wordCounts;
+    }
+
+    /**
+     * Returns the number of times each word appears in {@code details}.
+     */
+    private static Map<String, Integer> getWordCounts(String details) {
+        Map<String, Integer> wordCounts = new HashMap<>();
+        for (String word : details.toLowerCase().split(WORD_SEPARATOR)) {
+            if (!word.isEmpty()) {
+                wordCounts.merge(word, 1, Integer::sum);
+            }
+        }
+        return wordCounts;
+    }
+
+    /**
+     * The index of the words in a single field, with the statistics needed to score how relevant the field of
+     * a case is to a value.
+     */
+    private static class FieldIndex {
+        private final Map<String, Map<Case, Integer>> postings = new HashMap<>();
+        private final Map<Case, Integer> lengths = new IdentityHashMap<>();
+        private final NgramIndex words = new NgramIndex();
+        private long totalLength = 0;
+
+        private void add(Case toAdd, Map<String, Integer> wordCounts) {
+            int length = 0;
+            for (Map.Entry<String, Integer> wordCount : wordCounts.entrySet()) {
+                postings.computeIfAbsent(wordCount.getKey(), newWord -> {
+                    words.add(newWord);
+                    return new IdentityHashMap<>();
+                }).put(toAdd, wordCount.getValue());
+                length += wordCount.getValue();
+            }
+            lengths.put(toAdd, length);
+            totalLength += length;
+        }
+
+        private void remove(Case toRemove, Map<String, Integer> wordCounts) {
+            for (String word : wordCounts.keySet()) {
+                Map<Case, Integer> cases = postings.get(word);
+                if (cases == null) {
+                    continue;
+                }
+                cases.remove(toRemove);
+                if (cases.isEmpty()) {
+                    postings.remove(word);
+                    words.remove(word);
+                }
+            }
+            Integer length = lengths.remove(toRemove);
+            if (length != null) {
+                totalLength -= length;
+            }
+        }
+
+        private void clear() {
+            postings.clear();
+            lengths.clear();
+            words.clear();
+            totalLength = 0;
+        }
+
+        private FieldStatistics getStatistics() {
+            int caseCount = lengths.size();
+            return new FieldStatistics(caseCount, caseCount == 0 ? 1 : Math.max(1, (double) totalLength / caseCount));
+        }
+
+        /**
+         * Adds the cases that may contain {@code value} in this field to {@code candidates}.
+         * The cases added are exactly those containing {@code value} if it does not contain whitespace.
+         */
+        private void addCandidates(String value, Set<Case> candidates) {
+            List<String> parts = new ArrayList<>(getWordCounts(value).keySet());
+            if (parts.isEmpty()) {
+                postings.values().forEach(cases -> candidates.addAll(cases.keySet()));
+                return;
+            }
+
+            if (parts.size() == 1) {
+                for (String word : words.find(parts.get(0))) {
+                    candidates.addAll(postings.get(word).keySet());
+                }
+                return;
+            }
+
+            Set<Case> partCandidates = null;
+            for (String part : parts) {
+                Set<Case> casesWithPart = newCaseSet();
+                addCandidates(part, casesWithPart);
+                if (partCandidates != null) {
+                    casesWithPart.retainAll(partCandidates);
+                }
+                partCandidates = casesWithPart;
+            }
+            candidates.addAll(partCandidates);
+        }
+
+        /**
+         * Returns an upper bound of the number of cases containing {@code value} in this field.
+         */
+        private int estimateMatches(String value) {
+            int estimate = Integer.MAX_VALUE;
+            for (String part : getWordCounts(value).keySet()) {
+                int partEstimate = 0;
+                for (String word : words.find(part)) {
+                    partEstimate += postings.get(word).size();
+                }
+                estimate = Math.min(estimate, partEstimate);
+            }
+            return estimate;
+        }
+
+        /**
+         * Adds the BM25 score of every word containing a part of {@code value} in this field to the score of each
+         * case in {@code scores} with that word, multiplied by {@code weight}, using the number of cases, the average
+         * length and the number of cases with each word in {@code statistics}.
+         * Only the smaller of {@code scores} and the cases with a word are gone through, so that a few cases are
+         * scored without going through every case with a common word.
+         */
+        private void addScores(String value, double weight, FieldStatistics statistics, Map<Case, Double> scores) {
+            if (statistics.caseCount == 0) {
+                return;
+            }
+
+            for (String part : getWordCounts(value).keySet()) {
+                for (String word : words.find(part)) {
+                    Map<Case, Integer> cases = postings.get(word);
+                    double inverseFrequency = statistics.inverseFrequencies.computeIfAbsent(word, unused ->
+                            Math.log(1 + (statistics.caseCount - cases.size() + 0.5) / (cases.size() + 0.5)));
+                    Set<Case> scoredCases = scores.size() < cases.size() ? scores.keySet() : cases.keySet();
+                    for (Case scoredCase : scoredCases) {
+                        Double score = scores.get(scoredCase);
+                        Integer frequency = cases.get(scoredCase);
+                        if (score == null || frequency == null) {
+                            continue;
+                        }
+                        double lengthRatio = lengths.get(scoredCase) / statistics.averageLength;
+                        double termScore = inverseFrequency * frequency * (BM25_K1 + 1)
+                                / (frequency + BM25_K1 * (1 - BM25_B + BM25_B * lengthRatio));
+                        // Replaces the score of a case already in scores, which leaves the cases iterated unchanged.
+                        scores.put(scoredCase, score + weight * termScore);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The statistics of a field from which the relevance of its cases is computed. The inverse frequency of each word
+     * is kept once computed, so that cases scored after the index has changed are scored like the cases scored before.
+     */
+    private static class FieldStatistics {
+        private final int caseCount;
+        private final double averageLength;
+        private final Map<String, Double> inverseFrequencies = new HashMap<>();
+
+        private FieldStatistics(int caseCount, double averageLength) {
+            this.caseCount = caseCount;
+            this.averageLength = averageLength;
+        }
+    }
+
+    /**
+     * A part of a compiled query that a case must match, made up of values that any of the searched fields of the
+     * case must contain.
+     */
+    private class Clause {
+        private final List<String> values;
+        private final CaseField field;
+        private final Predicate<Case> predicate;
+
+        private Clause(List<String> values, CaseField field, Predicate<Case> predicate) {
+            this.values = values;
+            this.field = field;
+            this.predicate = predicate;
+        }
+
+        private List<FieldIndex> getSearchedIndexes() {
+            List<FieldIndex> searchedIndexes = new ArrayList<>();
+            for (CaseField searchedField : CaseField.values()) {
+                if (field == null ? searchedField.isSearchedByDefault() : field == searchedField) {
+                    searchedIndexes.add(fieldIndexes.get(searchedField));
+                }
+            }
+            return searchedIndexes;
+        }
+
+        /**
+         * Returns true if the candidates found are exactly the cases matching this clause.
+         */
+        private boolean isExact() {
+            return values.stream().noneMatch(value -> WHITESPACE.matcher(value).find());
+        }
+
+        private int estimateMatches() {
+            int estimate = 0;
+            for (String value : values) {
+                for (FieldIndex fieldIndex : getSearchedIndexes()) {
+                    estimate += fieldIndex.estimateMatches(value.toLowerCase());
+                    if (estimate < 0) {
+                        return Integer.MAX_VALUE;
+                    }
+                }
+            }
+            return estimate;
+        }
+
+        private Set<Case> findCandidates() {
+            Set<Case> candidates = newCaseSet();
+            for (String value : values) {
+                for (FieldIndex fieldIndex : getSearchedIndexes()) {
+                    fieldIndex.addCandidates(value.toLowerCase(), candidates);
+                }
+            }
+            return candidates;
+        }
+    }
+
+    /**
+     * A predicate backed by the cases matching its query in the index.
+     */
+    private class MatchingPredicate implements Predicate<Case> {
+        private final CaseQuery query;
+        private final Supplier<Collection<Case>> allCases;
+        private Set<Case> matches;
+        private int matchesModificationCount;
+
+        private MatchingPredicate(CaseQuery query, Supplier<Collection<Case>> allCases) {
+            this.query = query;
+            this.allCases = allCases;
+        }
+
+        @Override
+        public boolean test(Case investigationCase) {
+            if (matches == null || matchesModificationCount != modificationCount) {
+                matches = execute(query, allCases.get());
+                matchesModificationCount = modificationCount;
+            }
+            return matches.contains(investigationCase);
+        }
+    }
+
+    /**
+     * The most relevant cases matching a query, which can be used both to filter and to order a list of cases.
+     * Equally relevant cases are ordered by their position in the list when they were ranked.
+     */
+    public class RankedMatches implements Predicate<Case> {
+        private final CaseQuery query;
+        private final Predicate<Case> filter;
+        private final int limit;
+        /** The statistics the cases were ranked by, with which replacements are scored. */
+        private final Map<CaseField, FieldStatistics> statistics;
+        private final Map<Case, Double> scores = new IdentityHashMap<>();
+        private final Map<Case, Integer> orders = new IdentityHashMap<>();
+        /** The ranked cases from the most to the least relevant. */
+        private final TreeSet<Case> rankedCases = new TreeSet<>(Comparator.<Case>comparingDouble(scores::get)
+                .reversed().thenComparingInt(orders::get));
+        private int nextOrder = 0;
+        private int displacedCount = 0;
+
+        private RankedMatches(CaseQuery query, Predicate<Case> filter, int limit, Collection<Case> allCases) {
+            this.query = query;
+            this.filter = filter;
+            this.limit = limit;
+            Map<Case, Double> matchScores = new IdentityHashMap<>();
+            for (Case match : execute(query, allCases)) {
+                if (filter.test(match)) {
+                    matchScores.put(match, 0.0);
+                }
+            }
+            statistics = getStatistics();
+            addScores(query, statistics, matchScores);
+
+            for (Case investigationCase : allCases) {
+                Double score = matchScores.get(investigationCase);
+                if (score != null) {
+                    rank(investigationCase, score, nextOrder++);
+                }
+            }
+        }
+
+        @Override
+        public boolean test(Case investigationCase) {
+            return scores.containsKey(investigationCase);
+        }
+
+        /**
+         * Returns a comparator which orders the ranked cases from the most to the least relevant.
+         */
+        public Comparator<Case> getComparator() {
+            return Comparator.<Case>comparingDouble(investigationCase ->
+                    scores.getOrDefault(investigationCase, Double.NEGATIVE_INFINITY)).reversed()
+                    .thenComparingInt(investigationCase -> orders.getOrDefault(investigationCase, Integer.MAX_VALUE));
+        }
+
+        /**
+         * Returns the number of ranked cases which have stopped being ranked because a more relevant case took their
+         * place, which a list filtered by these matches does not find out by itself.
+         */
+        public int getDisplacedCount() {
+            return displacedCount;
+        }
+
+        /**
+         * Ranks {@code replacement} at its relevance if it matches the query and the filter, in place of
+         * {@code replaced} if that was ranked, or otherwise only if it is among the {@code limit} most relevant cases.
+         * Cases which stop matching are not replaced by the next most relevant case until the cases are ranked again.
+         */
+        private void replace(Case replaced, Case replacement) {
+            Double replacedScore = scores.get(replaced);
+            Integer order = orders.get(replaced);
+            if (order != null) {
+                unrank(replaced);
+            }
+
+            Double score;
+            try {
+                if (!matches(replacement)) {
+                    return;
+                }
+                // The words of the cases are not known while the index is stale, so the relevance is kept instead.
+                score = isStale ? replacedScore : getScore(replacement);
+            } catch (CaseDetailsUnavailableException e) {
+                // The case is left out until the details are loaded when the cases are ranked again.
+                return;
+            }
+            if (score != null) {
+                rank(replacement, score, order == null ? nextOrder++ : order);
+            }
+        }
+
+        private boolean matches(Case investigationCase) {
+            if (query.getKeywords().isEmpty() && query.getTerms().isEmpty()) {
+                return false;
+            }
+            if (!query.getKeywords().isEmpty()
+                    && !new DetailsContainsKeywordsPredicate(query.getKeywords()).test(investigationCase)) {
+                return false;
+            }
+            return query.getTerms().stream().allMatch(term -> term.test(investigationCase))
+                    && filter.test(investigationCase);
+        }
+
+        private double getScore(Case investigationCase) {
+            Map<Case, Double> caseScores = new IdentityHashMap<>();
+            caseScores.put(investigationCase, 0.0);
+            addScores(query, statistics, caseScores);
+            return caseScores.get(investigationCase);
+        }
+
+        /**
+         * Ranks {@code investigationCase}, and stops ranking the least relevant case if there are more than
+         * {@code limit} ranked cases.
+         */
+        private void rank(Case investigationCase, double score, int order) {
+            scores.put(investigationCase, score);
+            orders.put(investigationCase, order);
+            rankedCases.add(investigationCase);
+            if (rankedCases.size() > limit) {
+                Case leastRelevant = rankedCases.last();
+                unrank(leastRelevant);
+                if (leastRelevant != investigationCase) {
+                    displacedCount++;
+                }
+            }
+        }
+
+        private void unrank(Case investigationCase) {
+            // The case is removed from the tree first, as the tree finds it by its score and order.
+            rankedCases.remove(investigationCase);
+            scores.remove(investigationCase);
+            orders.remove(investigationCase);
+        }
+    }
+}
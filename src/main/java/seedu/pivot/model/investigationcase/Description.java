@@ -11,6 +11,7 @@ public class Description {
     public static final String MESSAGE_CONSTRAINTS = "Description cannot be blank";
 
     private final String description;
+    private final int hash;
 
     /**
      * Constructs a {@code Description}.
@@ -20,6 +21,7 @@ public class Description {
     public Description(String description) {
         requireNonNull(description);
         this.description = description;
+        this.hash = description.hashCode();
     }
 
     public String getDescription() {
@@ -45,7 +47,13 @@ public class Description {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Description // instanceof handles nulls
-                && description.equals(other.toString())); // state check
+                && hash == ((Description) other).hash // different hash codes short circuit
+                && description.equals(((Description) other).description)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
     }
 
     @Override
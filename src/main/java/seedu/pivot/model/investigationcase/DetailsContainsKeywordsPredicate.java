@@ -1,7 +1,9 @@
 package seedu.pivot.model.investigationcase;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.pivot.model.investigationcase.caseperson.CasePerson;
 import seedu.pivot.model.investigationcase.caseperson.Suspect;
@@ -18,28 +20,32 @@ public class DetailsContainsKeywordsPredicate implements Predicate<Case> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Case investigationCase) {
+        List<String> detailsLowerCase = getDetails(investigationCase).stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toList());
         return keywords.stream()
-                .anyMatch(keyword -> {
-                    String keywordLowerCase = keyword.toLowerCase();
-                    String titleLowerCase = investigationCase.getTitle().getAlphaNum().toLowerCase();
-                    String descriptionLowerCase = investigationCase.getDescription().toString().toLowerCase();
-                    String statusLowerCase = investigationCase.getStatus().toString().toLowerCase();
-                    String documentsLowerCase = getDocumentsInfo(investigationCase).toLowerCase();
-                    String suspectsLowerCase = getSuspectsInfo(investigationCase).toLowerCase();
-                    String victimsLowerCase = getVictimsInfo(investigationCase).toLowerCase();
-                    String witnessLowerCase = getWitnessesInfo(investigationCase).toLowerCase();
+                .map(String::toLowerCase)
+                .anyMatch(keyword -> detailsLowerCase.stream().anyMatch(details -> details.contains(keyword)));
+    }
 
-                    return titleLowerCase.contains(keywordLowerCase)
-                            || descriptionLowerCase.contains(keywordLowerCase)
-                            || statusLowerCase.contains(keywordLowerCase)
-                            || documentsLowerCase.contains(keywordLowerCase)
-                            || suspectsLowerCase.contains(keywordLowerCase)
-                            || victimsLowerCase.contains(keywordLowerCase)
-                            || witnessLowerCase.contains(keywordLowerCase);
-                }
-                );
+    /**
+     * Obtains the details of a case that are searched for keywords, which are its title, description, status,
+     * documents, suspects, victims and witnesses.
+     *
+     * @param investigationCase The case to obtain details from.
+     * @return List containing the information of each of the searched fields.
+     */
+    public static List<String> getDetails(Case investigationCase) {
+        return Arrays.stream(CaseField.values())
+                .filter(CaseField::isSearchedByDefault)
+                .map(field -> field.getDetails(investigationCase))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -48,7 +54,7 @@ public class DetailsContainsKeywordsPredicate implements Predicate<Case> {
      * @param investigationCase The case to obtain information from.
      * @return String containing all documents information (name and reference).
      */
-    public String getDocumentsInfo(Case investigationCase) {
+    public static String getDocumentsInfo(Case investigationCase) {
         StringBuilder documentsInfo = new StringBuilder();
         for (Document doc : investigationCase.getDocuments()) {
             documentsInfo.append(doc.getName()).append(" ");
@@ -63,7 +69,7 @@ public class DetailsContainsKeywordsPredicate implements Predicate<Case> {
      * @param investigationCase The case to obtain information from.
      * @return String containing all witnesses information.
      */
-    public String getSuspectsInfo(Case investigationCase) {
+    public static String getSuspectsInfo(Case investigationCase) {
         StringBuilder suspectsInfo = new StringBuilder();
         for (Suspect suspect : investigationCase.getSuspects()) {
             appendPersonDetails(suspectsInfo, suspect);
@@ -77,7 +83,7 @@ public class DetailsContainsKeywordsPredicate implements Predicate<Case> {
      * @param investigationCase The case to obtain information from.
      * @return String containing all witnesses information.
      */
-    public String getWitnessesInfo(Case investigationCase) {
+    public static String getWitnessesInfo(Case investigationCase) {
         StringBuilder witnessesInfo = new StringBuilder();
         for (Witness witness : investigationCase.getWitnesses()) {
             appendPersonDetails(witnessesInfo, witness);
@@ -91,7 +97,7 @@ public class DetailsContainsKeywordsPredicate implements Predicate<Case> {
      * @param investigationCase The case to obtain information from.
      * @return String containing all victims information.
      */
-    public String getVictimsInfo(Case investigationCase) {
+    public static String getVictimsInfo(Case investigationCase) {
         StringBuilder victimsInfo = new StringBuilder();
         for (Victim victim : investigationCase.getVictims()) {
             appendPersonDetails(victimsInfo, victim);
@@ -106,7 +112,7 @@ public class DetailsContainsKeywordsPredicate implements Predicate<Case> {
      * @param builder The StringBuilder to append to.
      * @param person The CasePerson whose details are to be added.
      */
-    public void appendPersonDetails(StringBuilder builder, CasePerson person) {
+    public static void appendPersonDetails(StringBuilder builder, CasePerson person) {
         builder.append(person.getName()).append(" ");
         builder.append(person.getSex().toString()).append(" ");
         builder.append(person.getPhone()).append(" ");
@@ -9,6 +9,7 @@ public class Name extends Alphanumeric {
     public static final String MESSAGE_CONSTRAINTS =
             "Names should only contain alphanumeric characters and spaces, and it should not be blank";
     private static final boolean CAN_BE_BLANK = false;
+    private static final boolean IS_CASE_SENSITIVE = false;
 
     /**
      * Constructs a {@code Name}.
@@ -16,7 +17,7 @@ public class Name extends Alphanumeric {
      * @param name A valid name.
      */
     public Name(String name) {
-        super(name, CAN_BE_BLANK);
+        super(name, CAN_BE_BLANK, IS_CASE_SENSITIVE);
     }
 
     public static boolean isValidName(String name) {
@@ -27,6 +28,6 @@ public class Name extends Alphanumeric {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Name // instanceof handles nulls
-                && getAlphaNum().toLowerCase().equals(((Name) other).getAlphaNum().toLowerCase())); // state check
+                && hasSameAlphaNum((Name) other)); // state check
     }
 }
@@ -0,0 +1,99 @@
+package seedu.pivot.model.investigationcase;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from the n-grams of a set of words to the words containing them, used to find the words containing a
+ * substring without scanning every word.
+ * Every n-gram of up to {@code MAX_GRAM_LENGTH} characters is indexed. A substring of up to that length is looked
+ * up directly. A longer substring takes the words of its least common n-gram of the maximum length as candidates,
+ * and verifies that each candidate contains the whole substring.
+ */
+public class NgramIndex {
+
+    public static final int MAX_GRAM_LENGTH = 3;
+
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+
+    /**
+     * Adds {@code word} to the index.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        for (String gram : getGrams(word)) {
+            wordsByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    /**
+     * Removes {@code word} from the index.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        for (String gram : getGrams(word)) {
+            Set<String> words = wordsByGram.get(gram);
+            if (words == null) {
+                continue;
+            }
+            words.remove(word);
+            if (words.isEmpty()) {
+                wordsByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes all words from the index.
+     */
+    public void clear() {
+        wordsByGram.clear();
+    }
+
+    /**
+     * Returns an unmodifiable set of the indexed words that contain {@code substring}.
+     * {@code substring} must not be empty.
+     */
+    public Set<String> find(String substring) {
+        requireNonNull(substring);
+        assert !substring.isEmpty() : "Substring must not be empty";
+
+        if (substring.length() <= MAX_GRAM_LENGTH) {
+            return Collections.unmodifiableSet(wordsByGram.getOrDefault(substring, Collections.emptySet()));
+        }
+
+        Set<String> smallestWords = null;
+        for (int i = 0; i + MAX_GRAM_LENGTH <= substring.length(); i++) {
+            Set<String> words = wordsByGram.get(substring.substring(i, i + MAX_GRAM_LENGTH));
+            if (words == null) {
+                return Collections.emptySet();
+            }
+            if (smallestWords == null || words.size() < smallestWords.size()) {
+                smallestWords = words;
+            }
+        }
+
+        Set<String> matches = new HashSet<>();
+        for (String candidate : smallestWords) {
+            if (candidate.contains(substring)) {
+                matches.add(candidate);
+            }
+        }
+        return Collections.unmodifiableSet(matches);
+    }
+
+    private static Set<String> getGrams(String word) {
+        Set<String> grams = new HashSet<>();
+        for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= word.length(); i++) {
+                grams.add(word.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.pivot.model.investigationcase;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.pivot.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a term of a {@code CaseQuery}, which tests whether a field of a case contains a value, ignoring case.
+ * A term without a field tests the fields that are searched by default. A negated term tests that the field does
+ * not contain the value.
+ * Guarantees: immutable; value is not blank.
+ */
+public class QueryTerm implements Predicate<Case> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Search terms should not be blank";
+
+    private final CaseField field;
+    private final String value;
+    private final boolean isNegated;
+
+    /**
+     * Constructs a {@code QueryTerm}.
+     *
+     * @param field The field to search, or null to search the fields that are searched by default.
+     * @param value A value that is not blank.
+     * @param isNegated Whether the field must not contain the value.
+     */
+    public QueryTerm(CaseField field, String value, boolean isNegated) {
+        requireNonNull(value);
+        checkArgument(!value.isBlank(), MESSAGE_CONSTRAINTS);
+        this.field = field;
+        this.value = value;
+        this.isNegated = isNegated;
+    }
+
+    public Optional<CaseField> getField() {
+        return Optional.ofNullable(field);
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isNegated() {
+        return isNegated;
+    }
+
+    /**
+     * Returns the fields searched by this term.
+     */
+    public List<CaseField> getSearchedFields() {
+        if (field != null) {
+            return List.of(field);
+        }
+        return Arrays.stream(CaseField.values())
+                .filter(CaseField::isSearchedByDefault)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if any searched field of {@code investigationCase} contains the value, regardless of negation.
+     */
+    public boolean isContainedIn(Case investigationCase) {
+        String valueLowerCase = value.toLowerCase();
+        return getSearchedFields().stream()
+                .anyMatch(searchedField -> searchedField.getDetails(investigationCase).toLowerCase()
+                        .contains(valueLowerCase));
+    }
+
+    @Override
+    public boolean test(Case investigationCase) {
+        return isContainedIn(investigationCase) != isNegated;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof QueryTerm)) {
+            return false;
+        }
+
+        QueryTerm otherTerm = (QueryTerm) other;
+        return otherTerm.field == field
+                && otherTerm.value.equals(value)
+                && otherTerm.isNegated == isNegated;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, value, isNegated);
+    }
+
+    @Override
+    public String toString() {
+        return (isNegated ? "-" : "") + (field == null ? "" : field.getName() + ":") + value;
+    }
+}
@@ -9,6 +9,7 @@ public class Title extends Alphanumeric {
     public static final String MESSAGE_CONSTRAINTS =
             "Titles should only contain alphanumeric characters and spaces, and it should not be blank";
     private static final boolean CAN_BE_BLANK = false;
+    private static final boolean IS_CASE_SENSITIVE = true;
 
     /**
      * Constructs a {@code Title}.
@@ -16,7 +17,19 @@ public class Title extends Alphanumeric {
      * @param title A valid title.
      */
     public Title(String title) {
-        super(title, CAN_BE_BLANK);
+        this(title, false);
+    }
+
+    private Title(String title, boolean isValidated) {
+        super(title, CAN_BE_BLANK, IS_CASE_SENSITIVE, isValidated);
+    }
+
+    /**
+     * Returns a {@code Title} for {@code title} without validating it again, for a title which has already been
+     * checked with {@link #isValidTitle(String)}.
+     */
+    public static Title createTrustedTitle(String title) {
+        return new Title(title, true);
     }
 
     public static boolean isValidTitle(String title) {
@@ -27,6 +40,6 @@ public class Title extends Alphanumeric {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Title // instanceof handles nulls
-                && getAlphaNum().equals(((Title) other).getAlphaNum())); // state check
+                && hasSameAlphaNum((Title) other)); // state check
     }
 }
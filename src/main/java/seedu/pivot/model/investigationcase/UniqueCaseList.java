@@ -3,8 +3,14 @@ package seedu.pivot.model.investigationcase;
 import static java.util.Objects.requireNonNull;
 import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +24,16 @@ import seedu.pivot.model.investigationcase.exceptions.DuplicateCaseException;
  * unique in terms of identity in the UniqueCaseList. However, the removal of a case uses Case#equals(Object) so
  * as to ensure that the case with exactly the same fields will be removed.
  *
+ * The titles of the cases in the list are also kept in a hash set, so that checking for a case with the same
+ * identity takes constant time instead of a scan of the whole list. The cases are also kept by their {@code CaseId},
+ * which must be unique in the list, together with their positions, so that a case is found and replaced in constant
+ * time instead of comparing it with every case. The positions are rebuilt when they are next needed after a case is
+ * inserted or removed before the end of the list, as that shifts the cases after it. The details of the cases are
+ * kept in a {@code CaseTextIndex} for keyword searches, and their status, archive status and tags in a
+ * {@code CaseAttributeIndex} for filters. The indexes are updated before the backing list is changed, so that they
+ * are up to date when listeners of the list are notified. When all the cases are replaced, their details are only
+ * indexed once the list is next searched, so that replacing the cases does not load their details.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Case#isSameCase(Case)
@@ -27,13 +43,20 @@ public class UniqueCaseList implements Iterable<Case> {
     private final ObservableList<Case> internalList = FXCollections.observableArrayList();
     private final ObservableList<Case> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<Title> titles = new HashSet<>();
+    private final Map<CaseId, Case> casesById = new HashMap<>();
+    private final Map<CaseId, Integer> positions = new HashMap<>();
+    private final CaseTextIndex textIndex = new CaseTextIndex();
+    private final CaseAttributeIndex attributeIndex = new CaseAttributeIndex();
+    /** Whether {@code positions} holds the position of every case in the list. */
+    private boolean arePositionsCurrent = true;
 
     /**
      * Returns true if the list contains an equivalent case as the given argument.
      */
     public boolean contains(Case toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCase);
+        return titles.contains(toCheck.getTitle());
     }
 
     /**
@@ -41,11 +64,54 @@ public class UniqueCaseList implements Iterable<Case> {
      * The case must not already exist in the list.
      */
     public void add(Case toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a case to the list at the specified position.
+     * The case must not already exist in the list.
+     */
+    public void add(int index, Case toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || casesById.containsKey(toAdd.getId())) {
             throw new DuplicateCaseException();
         }
-        internalList.add(toAdd);
+        if (index < 0 || index > internalList.size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + internalList.size()
+                    + " cases");
+        }
+        titles.add(toAdd.getTitle());
+        casesById.put(toAdd.getId(), toAdd);
+        if (index == internalList.size()) {
+            positions.put(toAdd.getId(), index);
+        } else {
+            invalidatePositions();
+        }
+        textIndex.add(toAdd);
+        attributeIndex.add(toAdd);
+        internalList.add(index, toAdd);
+    }
+
+    /**
+     * Returns the case with {@code id} in the list, if any.
+     */
+    public Optional<Case> get(CaseId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(casesById.get(id));
+    }
+
+    /**
+     * Returns the position of {@code target} in the list, or -1 if the list does not contain it.
+     * The case with the ID of {@code target} is checked first, so that only a case equal to {@code target} under
+     * another ID is searched for by comparing it with every case.
+     */
+    public int indexOf(Case target) {
+        requireNonNull(target);
+        Integer position = getPositions().get(target.getId());
+        if (position != null && internalList.get(position).equals(target)) {
+            return position;
+        }
+        return internalList.indexOf(target);
     }
 
     /**
@@ -56,15 +122,30 @@ public class UniqueCaseList implements Iterable<Case> {
     public void setCase(Case target, Case editedCase) {
         requireAllNonNull(target, editedCase);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new CaseNotFoundException();
         }
 
+        Case replacedCase = internalList.get(index);
         if (!target.isSameCase(editedCase) && contains(editedCase)) {
             throw new DuplicateCaseException();
         }
+        if (!replacedCase.getId().equals(editedCase.getId()) && casesById.containsKey(editedCase.getId())) {
+            throw new DuplicateCaseException();
+        }
 
+        titles.remove(replacedCase.getTitle());
+        titles.add(editedCase.getTitle());
+        casesById.remove(replacedCase.getId());
+        casesById.put(editedCase.getId(), editedCase);
+        if (arePositionsCurrent) {
+            positions.remove(replacedCase.getId());
+            positions.put(editedCase.getId(), index);
+        }
+        textIndex.replace(replacedCase, editedCase);
+        attributeIndex.remove(replacedCase);
+        attributeIndex.add(editedCase);
         internalList.set(index, editedCase);
     }
 
@@ -74,13 +155,35 @@ public class UniqueCaseList implements Iterable<Case> {
      */
     public void remove(Case toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new CaseNotFoundException();
         }
+
+        Case removedCase = internalList.get(index);
+        titles.remove(removedCase.getTitle());
+        casesById.remove(removedCase.getId());
+        if (index == internalList.size() - 1) {
+            positions.remove(removedCase.getId());
+        } else {
+            invalidatePositions();
+        }
+        textIndex.remove(removedCase);
+        attributeIndex.remove(removedCase);
+        internalList.remove(index);
     }
 
     public void setCases(UniqueCaseList replacement) {
         requireNonNull(replacement);
+        Set<Title> replacementTitles = new HashSet<>(replacement.titles);
+        Map<CaseId, Case> replacementCasesById = new HashMap<>(replacement.casesById);
+        titles.clear();
+        titles.addAll(replacementTitles);
+        casesById.clear();
+        casesById.putAll(replacementCasesById);
+        invalidatePositions();
+        textIndex.setCasesLazily(() -> internalList);
+        setAttributeIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +193,46 @@ public class UniqueCaseList implements Iterable<Case> {
      */
     public void setCases(List<Case> cases) {
         requireAllNonNull(cases);
-        if (!casesAreUnique(cases)) {
+        Set<Title> replacementTitles = getUniqueTitles(cases);
+        Map<CaseId, Case> replacementCasesById = getCasesByUniqueId(cases);
+        if (replacementTitles == null || replacementCasesById == null) {
             throw new DuplicateCaseException();
         }
 
+        titles.clear();
+        titles.addAll(replacementTitles);
+        casesById.clear();
+        casesById.putAll(replacementCasesById);
+        invalidatePositions();
+        textIndex.setCasesLazily(() -> internalList);
+        setAttributeIndex(cases);
         internalList.setAll(cases);
     }
 
+    /**
+     * Returns a predicate that tests whether a case in the list matches {@code query}, by looking up the matching
+     * cases in the index of the list instead of testing the details of every case.
+     */
+    public Predicate<Case> getQueryPredicate(CaseQuery query) {
+        return textIndex.getMatchingPredicate(query, () -> internalList);
+    }
+
+    /**
+     * Returns the {@code limit} cases in the list matching both {@code query} and {@code filter} that are the most
+     * relevant to {@code query}, as ranked by the index of the list.
+     */
+    public CaseTextIndex.RankedMatches getRankedMatches(CaseQuery query, Predicate<Case> filter, int limit) {
+        return textIndex.getRankedMatches(query, filter, limit, () -> internalList);
+    }
+
+    /**
+     * Returns a predicate that tests whether a case in the list matches {@code filter}, by combining the bitmaps of
+     * the cases with each status, archive status and tag instead of testing every case.
+     */
+    public Predicate<Case> getFilterPredicate(CaseFilter filter) {
+        return attributeIndex.getMatchingPredicate(filter);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -122,16 +258,51 @@ public class UniqueCaseList implements Iterable<Case> {
     }
 
     /**
-     * Returns true if {@code cases} contains only unique cases.
+     * Returns the titles of {@code cases}, or null if {@code cases} contains duplicate cases.
+     */
+    private Set<Title> getUniqueTitles(List<Case> cases) {
+        Set<Title> uniqueTitles = new HashSet<>();
+        for (Case investigationCase : cases) {
+            if (!uniqueTitles.add(investigationCase.getTitle())) {
+                return null;
+            }
+        }
+        return uniqueTitles;
+    }
+
+    /**
+     * Returns {@code cases} by their IDs, or null if {@code cases} contains cases with the same ID.
+     */
+    private Map<CaseId, Case> getCasesByUniqueId(List<Case> cases) {
+        Map<CaseId, Case> uniqueCasesById = new HashMap<>();
+        for (Case investigationCase : cases) {
+            if (uniqueCasesById.put(investigationCase.getId(), investigationCase) != null) {
+                return null;
+            }
+        }
+        return uniqueCasesById;
+    }
+
+    private void setAttributeIndex(List<Case> cases) {
+        attributeIndex.clear();
+        cases.forEach(attributeIndex::add);
+    }
+
+    private void invalidatePositions() {
+        positions.clear();
+        arePositionsCurrent = false;
+    }
+
+    /**
+     * Returns the position of each case in the list by its ID, rebuilding them if they are not current.
      */
-    private boolean casesAreUnique(List<Case> cases) {
-        for (int i = 0; i < cases.size() - 1; i++) {
-            for (int j = i + 1; j < cases.size(); j++) {
-                if (cases.get(i).isSameCase(cases.get(j))) {
-                    return false;
-                }
+    private Map<CaseId, Integer> getPositions() {
+        if (!arePositionsCurrent) {
+            for (int i = 0; i < internalList.size(); i++) {
+                positions.put(internalList.get(i).getId(), i);
             }
+            arePositionsCurrent = true;
         }
-        return true;
+        return positions;
     }
 }
@@ -8,6 +8,7 @@ import seedu.pivot.model.investigationcase.Name;
 
 /**
  * Encapsulates a Person related to an Investigation Case.
+ * The hash code of the person is computed once when it is constructed, and subclasses compare it before their fields.
  */
 public abstract class CasePerson {
     // Identity fields
@@ -19,6 +20,8 @@ public abstract class CasePerson {
     private final Email email;
     private final Address address;
 
+    private final int hash;
+
     /**
      * Every field must be present and not null.
      */
@@ -29,6 +32,8 @@ public abstract class CasePerson {
         this.phone = phone;
         this.email = email;
         this.address = address;
+        // use this method for custom fields hashing instead of implementing your own
+        this.hash = Objects.hash(name, sex, phone, email, address);
     }
 
     public Name getName() {
@@ -56,8 +61,7 @@ public abstract class CasePerson {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, sex, phone, email, address);
+        return hash;
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.pivot.model.investigationcase.caseperson;
 import static java.util.Objects.requireNonNull;
 import static seedu.pivot.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's email in PIVOT.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -29,6 +31,7 @@ public class Email {
             + "(?:[a-z0-9-]*[a-z0-9])?|\\[(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(?:25[0-5]|2[0-4][0-9]|[01]"
             + "?[0-9][0-9]?|[a-z0-9-]*[a-z0-9]:(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21-\\x5a\\x53-\\x7f]|\\\\["
             + "\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])+)\\])";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX_CHECK);
 
     public final String value;
 
@@ -49,7 +52,7 @@ public class Email {
      */
     public static boolean isValidEmail(String test) {
         String trimmedLowerCaseTest = test.trim().toLowerCase();
-        return trimmedLowerCaseTest.isBlank() || trimmedLowerCaseTest.matches(VALIDATION_REGEX_CHECK);
+        return trimmedLowerCaseTest.isBlank() || VALIDATION_PATTERN.matcher(trimmedLowerCaseTest).matches();
     }
 
     @Override
@@ -66,7 +69,8 @@ public class Email {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // equal emails differ only in case
+        return value.toLowerCase().hashCode();
     }
 
 }
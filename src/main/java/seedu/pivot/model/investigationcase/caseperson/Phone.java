@@ -3,6 +3,8 @@ package seedu.pivot.model.investigationcase.caseperson;
 import static java.util.Objects.requireNonNull;
 import static seedu.pivot.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's phone number in PIVOT.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -12,6 +14,7 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -31,7 +34,7 @@ public class Phone {
      */
     public static boolean isValidPhone(String test) {
         String trimmedTest = test.trim();
-        return trimmedTest.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(trimmedTest).matches();
     }
 
     @Override
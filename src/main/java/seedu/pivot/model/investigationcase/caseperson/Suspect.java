@@ -45,7 +45,8 @@ public class Suspect extends CasePerson {
         }
 
         Suspect otherSuspect = (Suspect) other;
-        return otherSuspect.getName().equals(getName())
+        return otherSuspect.hashCode() == hashCode() // different hash codes short circuit
+                && otherSuspect.getName().equals(getName())
                 && otherSuspect.getSex().equals(getSex())
                 && otherSuspect.getPhone().equals(getPhone())
                 && otherSuspect.getEmail().equals(getEmail())
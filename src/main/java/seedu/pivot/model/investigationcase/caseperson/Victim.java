@@ -46,7 +46,8 @@ public class Victim extends CasePerson {
         }
 
         Victim otherVictim = (Victim) other;
-        return otherVictim.getName().equals(getName())
+        return otherVictim.hashCode() == hashCode() // different hash codes short circuit
+                && otherVictim.getName().equals(getName())
                 && otherVictim.getSex().equals(getSex())
                 && otherVictim.getPhone().equals(getPhone())
                 && otherVictim.getEmail().equals(getEmail())
@@ -46,7 +46,8 @@ public class Witness extends CasePerson {
         }
 
         Witness otherWitness = (Witness) other;
-        return otherWitness.getName().equals(getName())
+        return otherWitness.hashCode() == hashCode() // different hash codes short circuit
+                && otherWitness.getName().equals(getName())
                 && otherWitness.getSex().equals(getSex())
                 && otherWitness.getPhone().equals(getPhone())
                 && otherWitness.getEmail().equals(getEmail())
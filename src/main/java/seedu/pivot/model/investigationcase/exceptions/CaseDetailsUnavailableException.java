@@ -0,0 +1,10 @@
+package seedu.pivot.model.investigationcase.exceptions;
+
+/**
+ * Signals that the details of a Case, which are loaded only when they are needed, could not be loaded.
+ */
+public class CaseDetailsUnavailableException extends RuntimeException {
+    public CaseDetailsUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.pivot.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A pool of immutable values which hands out a single shared instance of each value, so that a value which appears
+ * in many cases is held in memory once, and comparing two shared instances short circuits on identity.
+ * Values are pooled by a key string, which must be held by the value itself and determine it exactly. The pool only
+ * weakly references its values, and the entry of a value is dropped from the pool once nothing else holds it.
+ * The pool can be used from several threads at once without locking it as a whole, so that cases converted in
+ * parallel do not wait on each other to share their values.
+ *
+ * @param <T> Type of the values in the pool.
+ */
+public class Interner<T> {
+
+    private final ConcurrentMap<String, ValueReference<T>> values = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> droppedValues = new ReferenceQueue<>();
+    private final Function<T, String> keyOf;
+
+    /**
+     * Creates an empty pool of values, which are pooled by the key returned by {@code keyOf}.
+     */
+    public Interner(Function<T, String> keyOf) {
+        requireNonNull(keyOf);
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns the pooled value equal to {@code value}, adding {@code value} to the pool if there is none.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        String key = keyOf.apply(value);
+        removeDroppedValues();
+        ValueReference<T> newReference = new ValueReference<>(key, value, droppedValues);
+        while (true) {
+            ValueReference<T> reference = values.putIfAbsent(key, newReference);
+            if (reference == null) {
+                return value;
+            }
+            T pooledValue = reference.get();
+            if (pooledValue != null) {
+                return pooledValue;
+            }
+            // The pooled value was dropped, so it is replaced unless another thread has replaced it first.
+            if (values.replace(key, reference, newReference)) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Returns the pooled value whose key is {@code key}, or else the pooled value equal to the value created from
+     * {@code key} by {@code factory}, so that a value is only created if {@code key} is not already pooled.
+     *
+     * @throws IllegalArgumentException if {@code factory} rejects {@code key}.
+     */
+    public T intern(String key, Function<String, T> factory) {
+        requireNonNull(key);
+        T pooledValue = get(key);
+        return pooledValue != null ? pooledValue : intern(factory.apply(key));
+    }
+
+    /**
+     * Returns the number of values in the pool, including values no longer held elsewhere which have not been
+     * dropped yet.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    private T get(String key) {
+        Reference<T> reference = values.get(key);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Removes the entries of the values which have been dropped since the pool was last added to.
+     */
+    private void removeDroppedValues() {
+        Reference<? extends T> reference;
+        while ((reference = droppedValues.poll()) != null) {
+            ValueReference<?> droppedReference = (ValueReference<?>) reference;
+            values.remove(droppedReference.key, droppedReference);
+        }
+    }
+
+    /**
+     * A weak reference to a pooled value, which keeps the key of the value so that its entry can be removed once the
+     * value is dropped.
+     */
+    private static class ValueReference<T> extends WeakReference<T> {
+        private final String key;
+
+        private ValueReference(String key, T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
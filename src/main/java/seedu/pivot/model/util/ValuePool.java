@@ -0,0 +1,63 @@
+package seedu.pivot.model.util;
+
+import seedu.pivot.model.investigationcase.Name;
+import seedu.pivot.model.investigationcase.caseperson.Address;
+import seedu.pivot.model.investigationcase.caseperson.Email;
+import seedu.pivot.model.investigationcase.caseperson.Phone;
+import seedu.pivot.model.tag.Tag;
+
+/**
+ * Contains the shared instances of the values which are often repeated across cases, such as tags and the names and
+ * contact details of persons, so that values read from storage or parsed from commands are held in memory once.
+ * Values are pooled by their exact string, so names which are equal but differ in case are kept apart.
+ * Values are looked up by the given string before they are created, so a string equal to the key of a pooled value
+ * is not validated again, and only strings which are not pooled yet are validated by constructing their values.
+ */
+public class ValuePool {
+
+    private static final Interner<Name> NAMES = new Interner<>(Name::getAlphaNum);
+    private static final Interner<Tag> TAGS = new Interner<>(tag -> tag.tagName);
+    private static final Interner<Phone> PHONES = new Interner<>(phone -> phone.value);
+    private static final Interner<Email> EMAILS = new Interner<>(email -> email.value);
+    private static final Interner<Address> ADDRESSES = new Interner<>(address -> address.value);
+
+    /**
+     * Returns the shared {@code Name} for {@code name}.
+     *
+     * @throws IllegalArgumentException if {@code name} is not a valid name.
+     */
+    public static Name getName(String name) {
+        return NAMES.intern(name, Name::new);
+    }
+
+    /**
+     * Returns the shared {@code Tag} for {@code tagName}.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag getTag(String tagName) {
+        return TAGS.intern(tagName, Tag::new);
+    }
+
+    /**
+     * Returns the shared {@code Phone} for {@code phone}.
+     *
+     * @throws IllegalArgumentException if {@code phone} is not a valid phone.
+     */
+    public static Phone getPhone(String phone) {
+        return PHONES.intern(phone, Phone::new);
+    }
+
+    /**
+     * Returns the shared {@code Email} for {@code email}.
+     *
+     * @throws IllegalArgumentException if {@code email} is not a valid email.
+     */
+    public static Email getEmail(String email) {
+        return EMAILS.intern(email, Email::new);
+    }
+
+    public static Address getAddress(String address) {
+        return ADDRESSES.intern(address, Address::new);
+    }
+}
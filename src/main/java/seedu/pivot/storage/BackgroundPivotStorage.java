@@ -0,0 +1,223 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.commons.util.StringUtil;
+import seedu.pivot.model.CaseChange;
+import seedu.pivot.model.ReadOnlyPivot;
+import seedu.pivot.model.investigationcase.Case;
+
+/**
+ * A {@code PivotStorage} which saves changes to another {@code PivotStorage} on a background writer, so that
+ * saving never waits for the disk.
+ * Each save takes a snapshot of the case list, which is cheap as cases are immutable. Saves made while the writer
+ * is busy are coalesced into a single save of their combined changes and the latest snapshot. Failures are passed
+ * to the save failure handler, and the failed changes are saved again together with the next save.
+ */
+public class BackgroundPivotStorage implements PivotStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundPivotStorage.class);
+
+    private final PivotStorage storage;
+    private final Executor writer;
+    private Consumer<IOException> saveFailureHandler = failure -> { };
+
+    private List<CaseChange> pendingChanges = new ArrayList<>();
+    private ReadOnlyPivot pendingPivot;
+    private boolean isWriteScheduled = false;
+    private IOException lastFailure;
+    private int writeCount = 0;
+
+    /**
+     * Creates a storage which saves to {@code storage} on a dedicated writer thread.
+     */
+    public BackgroundPivotStorage(PivotStorage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pivot-storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a storage which saves to {@code storage} on {@code writer}, which must run one task at a time.
+     */
+    public BackgroundPivotStorage(PivotStorage storage, Executor writer) {
+        requireAllNonNull(storage, writer);
+        this.storage = storage;
+        this.writer = writer;
+    }
+
+    @Override
+    public Path getPivotFilePath() {
+        return storage.getPivotFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyPivot> readPivot() throws DataConversionException, IOException {
+        return readPivot(getPivotFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyPivot> readPivot(Path filePath) throws DataConversionException, IOException {
+        awaitPendingSaves();
+        return storage.readPivot(filePath);
+    }
+
+    @Override
+    public void savePivot(ReadOnlyPivot pivot) throws IOException {
+        savePivot(pivot, getPivotFilePath());
+    }
+
+    /**
+     * Saves the whole of {@code pivot} after the saves in progress, and waits for it to be written.
+     */
+    @Override
+    public void savePivot(ReadOnlyPivot pivot, Path filePath) throws IOException {
+        awaitPendingSaves();
+        storage.savePivot(pivot, filePath);
+    }
+
+    /**
+     * Schedules {@code changes} to be saved on the writer, and returns without waiting for them to be written.
+     */
+    @Override
+    public void savePivotChanges(ReadOnlyPivot pivot, List<CaseChange> changes) {
+        requireAllNonNull(pivot, changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        ObservableList<Case> cases = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(pivot.getCaseList()));
+        synchronized (this) {
+            pendingChanges.addAll(changes);
+            pendingPivot = () -> cases;
+            scheduleWrite();
+        }
+    }
+
+    @Override
+    public synchronized void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Waits until the changes saved so far have been written, retrying changes which previously failed.
+     * @throws IOException if the changes could not be written.
+     */
+    @Override
+    public synchronized void awaitPendingSaves() throws IOException {
+        scheduleWrite();
+        boolean isInterrupted = false;
+        while (isWriteScheduled) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (pendingPivot != null) {
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * Waits until the changes saved so far have been written, and closes the underlying storage.
+     * @throws IOException if the changes could not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        awaitPendingSaves();
+        storage.close();
+    }
+
+    /**
+     * Returns the number of writes to the underlying storage that completed, which is fewer than the number of
+     * saves if saves were coalesced.
+     */
+    public synchronized int getWriteCount() {
+        return writeCount;
+    }
+
+    private synchronized void scheduleWrite() {
+        if (pendingPivot != null && !isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.execute(this::writePendingChanges);
+        }
+    }
+
+    /**
+     * Writes the pending changes until there are none left, or writing them fails.
+     */
+    private void writePendingChanges() {
+        while (true) {
+            List<CaseChange> changes;
+            ReadOnlyPivot pivot;
+            synchronized (this) {
+                if (pendingPivot == null) {
+                    isWriteScheduled = false;
+                    notifyAll();
+                    return;
+                }
+                changes = pendingChanges;
+                pivot = pendingPivot;
+                pendingChanges = new ArrayList<>();
+                pendingPivot = null;
+            }
+
+            IOException failure = null;
+            try {
+                storage.savePivotChanges(pivot, changes);
+            } catch (IOException e) {
+                failure = e;
+            }
+
+            Consumer<IOException> failureHandler;
+            boolean isRetryDeferred;
+            synchronized (this) {
+                if (failure == null) {
+                    writeCount++;
+                    continue;
+                }
+
+                logger.warning("Failed to save " + changes.size() + " changes: " + StringUtil.getDetails(failure));
+                changes.addAll(pendingChanges);
+                pendingChanges = changes;
+                lastFailure = failure;
+                failureHandler = saveFailureHandler;
+                // Without a newer save, the retry waits for the next save instead of looping while the failure lasts.
+                isRetryDeferred = pendingPivot == null;
+                if (isRetryDeferred) {
+                    pendingPivot = pivot;
+                    isWriteScheduled = false;
+                    notifyAll();
+                }
+            }
+            failureHandler.accept(failure);
+            if (isRetryDeferred) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.pivot.storage;
+
+import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.model.investigationcase.CaseDetails;
+import seedu.pivot.model.investigationcase.Description;
+import seedu.pivot.model.investigationcase.Document;
+import seedu.pivot.model.investigationcase.caseperson.Suspect;
+import seedu.pivot.model.investigationcase.caseperson.Victim;
+import seedu.pivot.model.investigationcase.caseperson.Witness;
+import seedu.pivot.model.investigationcase.exceptions.CaseDetailsUnavailableException;
+
+/**
+ * Loads the {@code CaseDetails} of cases from their details records in a binary PIVOT data file when they are
+ * needed, keeping a bounded number of the details loaded most recently in memory.
+ * The file is kept open until the loader is closed, or else until no case can load its details from it any more, so
+ * that the details can still be loaded after the file has been replaced by a later save or read again.
+ * The records are checked against their checksums when the file is read, so the details only fail to load if the file
+ * cannot be read by then, or holds invalid details, which is reported with a {@code CaseDetailsUnavailableException}
+ * for the caller to handle.
+ */
+class BinaryCaseDetailsLoader {
+
+    /** The number of case details kept in memory by default, comfortably more than a screen of cases. */
+    static final int DEFAULT_CACHE_SIZE = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCaseDetailsLoader.class);
+    private static final Cleaner cleaner = Cleaner.create();
+
+    private final Path filePath;
+    private final FileChannel channel;
+    private final Map<Long, CaseDetails> cache;
+    private final BinaryRecordReader recordReader = new BinaryRecordReader();
+    private final Cleaner.Cleanable fileCloser;
+
+    /**
+     * Creates a loader of details records from {@code channel}, which is open on the file at {@code filePath}.
+     */
+    BinaryCaseDetailsLoader(Path filePath, FileChannel channel, int cacheSize) {
+        requireAllNonNull(filePath, channel);
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("The cache size must be positive");
+        }
+        this.filePath = filePath;
+        this.channel = channel;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CaseDetails> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.fileCloser = cleaner.register(this, () -> closeFile(filePath, channel));
+    }
+
+    /**
+     * Returns a supplier of the details in the record at {@code offset}, whose body is {@code length} bytes long.
+     */
+    Supplier<CaseDetails> getDetailsSupplier(long offset, int length) {
+        return () -> load(offset, length);
+    }
+
+    /**
+     * Returns the details in the record at {@code offset}, reading them from the file if they are not in memory.
+     * @throws CaseDetailsUnavailableException if the details cannot be read, or are invalid.
+     */
+    synchronized CaseDetails load(long offset, int length) {
+        CaseDetails details = cache.get(offset);
+        if (details == null) {
+            try {
+                details = readDetails(offset, length);
+            } catch (IOException e) {
+                logger.warning("Error reading case details from binary file " + filePath + ": " + e);
+                throw new CaseDetailsUnavailableException("Could not read case details from " + filePath, e);
+            } catch (IllegalValueException ive) {
+                logger.warning("Illegal case details found in " + filePath + ": " + ive.getMessage());
+                throw new CaseDetailsUnavailableException("Illegal case details found in " + filePath, ive);
+            }
+            cache.put(offset, details);
+        }
+        return details;
+    }
+
+    /**
+     * Closes the file, after which only the details still in memory can be loaded. Only called once no case is
+     * expected to load its details any more, as the file is otherwise closed once no case can.
+     */
+    synchronized void close() {
+        fileCloser.clean();
+    }
+
+    private static void closeFile(Path filePath, FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warning("Error closing binary file " + filePath + ": " + e);
+        }
+    }
+
+    private CaseDetails readDetails(long offset, int length) throws IOException, IllegalValueException {
+        ByteBuffer record = ByteBuffer.allocate(length + Integer.BYTES);
+        while (record.hasRemaining()) {
+            if (channel.read(record, offset + record.position()) == -1) {
+                throw new EOFException("Details record at " + offset + " extends past the end of the file");
+            }
+        }
+        record.flip();
+        byte[] bodyBytes = new byte[length];
+        record.get(bodyBytes);
+        recordReader.startBody(bodyBytes, record.getInt(), "details record at " + offset);
+        recordReader.clearStrings();
+
+        Description description = new Description(recordReader.readString());
+
+        int documentCount = recordReader.readCount();
+        List<Document> documents = new ArrayList<>(documentCount);
+        for (int i = 0; i < documentCount; i++) {
+            documents.add(new JsonAdaptedDocument(recordReader.readString(), recordReader.readString())
+                    .toModelType());
+        }
+
+        int suspectCount = recordReader.readCount();
+        List<Suspect> suspects = new ArrayList<>(suspectCount);
+        for (int i = 0; i < suspectCount; i++) {
+            suspects.add(new JsonAdaptedSuspect(recordReader.readString(), recordReader.readString(),
+                    recordReader.readString(), recordReader.readString(), recordReader.readString()).toModelType());
+        }
+
+        int victimCount = recordReader.readCount();
+        List<Victim> victims = new ArrayList<>(victimCount);
+        for (int i = 0; i < victimCount; i++) {
+            victims.add(new JsonAdaptedVictim(recordReader.readString(), recordReader.readString(),
+                    recordReader.readString(), recordReader.readString(), recordReader.readString()).toModelType());
+        }
+
+        int witnessCount = recordReader.readCount();
+        List<Witness> witnesses = new ArrayList<>(witnessCount);
+        for (int i = 0; i < witnessCount; i++) {
+            witnesses.add(new JsonAdaptedWitness(recordReader.readString(), recordReader.readString(),
+                    recordReader.readString(), recordReader.readString(), recordReader.readString()).toModelType());
+        }
+
+        recordReader.endBody();
+        return new CaseDetails(description, documents, suspects, victims, witnesses);
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.pivot.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Describes the binary format of PIVOT data files, written by {@code BinaryPivotWriter} and read by
+ * {@code BinaryPivotReader}.
+ * <p>
+ * A file starts with {@link #MAGIC}, the {@link #FORMAT_VERSION} of the file and the number of the last journaled
+ * change it includes, followed by the number of cases, one details record per case, one index record per case, and
+ * the position in the file of the first index record as a fixed {@link #FOOTER_LENGTH}-byte integer.
+ * An index record holds the title, status, archive status and tags of a case, which are all that is needed to list
+ * it, the position and body length of its details record, and the {@code CaseId} of the case. Index records written
+ * before IDs were kept end at the body length, and their cases are given new IDs when they are read.
+ * A details record holds the description, documents, suspects, victims and witnesses of a case, in the order of the
+ * {@code JsonAdaptedCase} fields, so that it can be read on its own when the details of the case are needed.
+ * Each record is its body and the CRC32 of its body, and each index record is also prefixed by its length. Each list
+ * in a body is prefixed by its length.
+ * <p>
+ * Strings are kept in a table built while the index records, or a single details record, are read. A string is
+ * written as 0 followed by its length and UTF-8 bytes the first time it appears, which adds it to the table, and as
+ * its position in the table plus one every later time, so that repeated values such as statuses, sexes and tags take
+ * a byte or two each.
+ * All lengths, counts and numbers other than the footer are written as unsigned variable-length integers of 7 bits
+ * per byte.
+ */
+final class BinaryPivotFormat {
+
+    static final byte[] MAGIC = {'P', 'V', 'T', 'B'};
+    static final int FORMAT_VERSION = 2;
+    static final int FOOTER_LENGTH = Long.BYTES;
+    static final int NEW_STRING = 0;
+
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MASK = 0x7f;
+    private static final int VARINT_CONTINUATION = 0x80;
+
+    private BinaryPivotFormat() {}
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC}.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        byte[] start = new byte[MAGIC.length];
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return inputStream.readNBytes(start, 0, start.length) == start.length && Arrays.equals(start, MAGIC);
+        }
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, as a variable-length integer.
+     */
+    static void writeVarLong(DataOutput output, long value) throws IOException {
+        assert value >= 0;
+        long remaining = value;
+        while (remaining > VARINT_MASK) {
+            output.writeByte((int) (remaining & VARINT_MASK) | VARINT_CONTINUATION);
+            remaining >>>= VARINT_BITS;
+        }
+        output.writeByte((int) remaining);
+    }
+
+    /**
+     * Returns the number of bytes {@code value}, which must not be negative, takes as a variable-length integer.
+     */
+    static int getVarLongLength(long value) {
+        assert value >= 0;
+        int length = 1;
+        for (long remaining = value >>> VARINT_BITS; remaining > 0; remaining >>>= VARINT_BITS) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Reads a variable-length integer written by {@link #writeVarLong(DataOutput, long)}.
+     * @throws IOException if the integer is too long to be a {@code long}.
+     */
+    static long readVarLong(DataInput input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += VARINT_BITS) {
+            int nextByte = input.readUnsignedByte();
+            value |= (long) (nextByte & VARINT_MASK) << shift;
+            if ((nextByte & VARINT_CONTINUATION) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /**
+     * Reads a variable-length integer which must be an {@code int} no larger than {@code max}.
+     * @throws IOException if the integer is larger.
+     */
+    static int readVarInt(DataInput input, int max) throws IOException {
+        long value = readVarLong(input);
+        if (value > max) {
+            throw new IOException("Expected a number of at most " + max + " but found " + value);
+        }
+        return (int) value;
+    }
+}
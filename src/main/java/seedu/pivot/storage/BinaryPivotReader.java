@@ -0,0 +1,285 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.pivot.storage.BinaryPivotFormat.getVarLongLength;
+import static seedu.pivot.storage.BinaryPivotFormat.readVarInt;
+import static seedu.pivot.storage.BinaryPivotFormat.readVarLong;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.model.Pivot;
+import seedu.pivot.model.investigationcase.ArchiveStatus;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.CaseId;
+import seedu.pivot.model.investigationcase.Status;
+import seedu.pivot.model.investigationcase.Title;
+import seedu.pivot.model.investigationcase.exceptions.DuplicateCaseException;
+import seedu.pivot.model.tag.Tag;
+
+/**
+ * Reads PIVOT data from a file in the binary format described by {@link BinaryPivotFormat}.
+ * Only the index records are read with the file, into cases whose details are loaded from the file by a
+ * {@link BinaryCaseDetailsLoader} when they are needed, so that reading takes time and memory in proportion to the
+ * number of cases rather than their details.
+ * The file stays open while the details of the cases read from it may still be loaded, until the reader is closed.
+ * The position, length and checksum of every details record are checked as the index is read, so that a damaged file
+ * fails the read, while an earlier generation of it can still be read instead, rather than a later load of the
+ * details.
+ */
+class BinaryPivotReader implements PivotFileReader {
+
+    /** The largest record accepted, so that a corrupted length does not exhaust the memory. */
+    static final int MAX_RECORD_LENGTH = 64 * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryPivotReader.class);
+
+    private final Path filePath;
+    private final int cacheSize;
+    private long journalSequence = 0;
+    private BinaryCaseDetailsLoader detailsLoader;
+
+    /**
+     * Creates a reader of the binary file at {@code filePath}.
+     */
+    public BinaryPivotReader(Path filePath) {
+        this(filePath, BinaryCaseDetailsLoader.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a reader of the binary file at {@code filePath}, which keeps the details of at most {@code cacheSize}
+     * of the cases read in memory.
+     */
+    BinaryPivotReader(Path filePath, int cacheSize) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.cacheSize = cacheSize;
+    }
+
+    @Override
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    @Override
+    public Optional<Pivot> read() throws DataConversionException {
+        // The cases read before may still load their details, so their file is only closed once none of them can.
+        detailsLoader = null;
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        logger.info("Converting binary data to PIVOT models");
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(filePath, StandardOpenOption.READ);
+            return Optional.of(readPivot(channel));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            closeQuietly(channel);
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            closeQuietly(channel);
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (detailsLoader != null) {
+            BinaryCaseDetailsLoader closedLoader = detailsLoader;
+            detailsLoader = null;
+            closedLoader.close();
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            logger.warning("Error closing binary file: " + e);
+        }
+    }
+
+    /**
+     * Reads the cases in the file open on {@code channel}, which is closed unless the details of the cases are
+     * still to be loaded from it.
+     */
+    private Pivot readPivot(FileChannel channel) throws IOException, IllegalValueException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        byte[] magic = new byte[BinaryPivotFormat.MAGIC.length];
+        input.readFully(magic);
+        if (!Arrays.equals(magic, BinaryPivotFormat.MAGIC)) {
+            throw new IOException("Not a binary PIVOT data file");
+        }
+        long version = readVarLong(input);
+        if (version != BinaryPivotFormat.FORMAT_VERSION) {
+            throw new IOException("Unsupported binary PIVOT data file version " + version);
+        }
+        journalSequence = readVarLong(input);
+        int caseCount = readVarInt(input, Integer.MAX_VALUE);
+
+        long headerLength = BinaryPivotFormat.MAGIC.length + getVarLongLength(version)
+                + getVarLongLength(journalSequence) + getVarLongLength(caseCount);
+        List<Case> cases = readIndexRecords(channel, caseCount, headerLength);
+
+        Pivot pivot = new Pivot();
+        try {
+            pivot.setCases(cases);
+        } catch (DuplicateCaseException e) {
+            throw new IllegalValueException(JsonSerializablePivot.MESSAGE_DUPLICATE_PERSON);
+        }
+        return pivot;
+    }
+
+    /**
+     * Reads the index records of {@code caseCount} cases from {@code channel}, whose details records start at
+     * {@code firstDetailsOffset}. The channel is kept open by the details loader of the cases if there are any.
+     */
+    private List<Case> readIndexRecords(FileChannel channel, int caseCount, long firstDetailsOffset)
+            throws IOException, IllegalValueException {
+        long indexOffset = readFooter(channel);
+        channel.position(indexOffset);
+        DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        BinaryCaseDetailsLoader loader = new BinaryCaseDetailsLoader(filePath, channel, cacheSize);
+        BinaryRecordReader recordReader = new BinaryRecordReader();
+
+        List<Case> cases = new ArrayList<>(caseCount);
+        int[] detailsLengths = new int[caseCount];
+        // The details records are written one after another in the order of the cases, up to the index.
+        long expectedDetailsOffset = firstDetailsOffset;
+        for (int i = 0; i < caseCount; i++) {
+            String recordName = "index record of case " + (i + 1);
+            recordReader.startBody(readRecordBody(input), input.readInt(), recordName);
+            String title = recordReader.readString();
+            String status = recordReader.readString();
+            String archiveStatus = recordReader.readString();
+            int tagCount = recordReader.readCount();
+            Set<Tag> tags = new HashSet<>();
+            for (int j = 0; j < tagCount; j++) {
+                tags.add(new JsonAdaptedTag(recordReader.readString()).toModelType());
+            }
+            long detailsOffset = recordReader.readNumber();
+            long detailsLength = recordReader.readNumber();
+            CaseId id = recordReader.hasMoreValues() ? toModelId(recordReader.readNumber()) : CaseId.generate();
+            recordReader.endBody();
+            if (detailsOffset != expectedDetailsOffset || detailsLength > MAX_RECORD_LENGTH
+                    || detailsOffset + detailsLength + Integer.BYTES > indexOffset) {
+                throw new IOException("Details record out of bounds in the " + recordName);
+            }
+            expectedDetailsOffset += detailsLength + Integer.BYTES;
+            detailsLengths[i] = (int) detailsLength;
+
+            cases.add(new Case(id, toModelTitle(title), toModelStatus(status), tags,
+                    toModelArchiveStatus(archiveStatus),
+                    loader.getDetailsSupplier(detailsOffset, (int) detailsLength)));
+        }
+        if (expectedDetailsOffset != indexOffset) {
+            throw new IOException("Unexpected data after the last details record");
+        }
+        if (input.readLong() != indexOffset) {
+            throw new IOException("Unexpected data after the last index record");
+        }
+        checkDetailsRecords(channel, firstDetailsOffset, detailsLengths);
+        if (cases.isEmpty()) {
+            channel.close();
+        } else {
+            detailsLoader = loader;
+        }
+        return cases;
+    }
+
+    /**
+     * Checks the details records of the cases, whose bodies are {@code detailsLengths} bytes long and which are
+     * written one after another from {@code firstDetailsOffset}, against their checksums. The details are not read.
+     */
+    private static void checkDetailsRecords(FileChannel channel, long firstDetailsOffset, int[] detailsLengths)
+            throws IOException {
+        channel.position(firstDetailsOffset);
+        DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        BinaryRecordReader recordReader = new BinaryRecordReader();
+        for (int i = 0; i < detailsLengths.length; i++) {
+            byte[] bodyBytes = new byte[detailsLengths[i]];
+            input.readFully(bodyBytes);
+            recordReader.startBody(bodyBytes, input.readInt(), "details record of case " + (i + 1));
+        }
+    }
+
+    /**
+     * Returns the position of the first index record, as written in the footer of the file.
+     */
+    private static long readFooter(FileChannel channel) throws IOException {
+        long footerOffset = channel.size() - BinaryPivotFormat.FOOTER_LENGTH;
+        if (footerOffset < 0) {
+            throw new EOFException("Missing footer");
+        }
+        ByteBuffer footer = ByteBuffer.allocate(BinaryPivotFormat.FOOTER_LENGTH);
+        while (footer.hasRemaining()) {
+            if (channel.read(footer, footerOffset + footer.position()) == -1) {
+                throw new EOFException("Missing footer");
+            }
+        }
+        long indexOffset = footer.getLong(0);
+        if (indexOffset < 0 || indexOffset > footerOffset) {
+            throw new IOException("Index offset out of bounds");
+        }
+        return indexOffset;
+    }
+
+    private static CaseId toModelId(long id) throws IllegalValueException {
+        if (!CaseId.isValidId(id)) {
+            throw new IllegalValueException(CaseId.MESSAGE_CONSTRAINTS);
+        }
+        return new CaseId(id);
+    }
+
+    private static Title toModelTitle(String title) throws IllegalValueException {
+        if (!Title.isValidTitle(title)) {
+            throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
+        }
+        return Title.createTrustedTitle(title);
+    }
+
+    private static Status toModelStatus(String status) throws IllegalValueException {
+        if (!Status.isValidStatus(status)) {
+            throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
+        }
+        return Status.createStatus(status);
+    }
+
+    private static ArchiveStatus toModelArchiveStatus(String archiveStatus) throws IllegalValueException {
+        try {
+            return ArchiveStatus.valueOf(archiveStatus);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException("Invalid archive status: " + archiveStatus);
+        }
+    }
+
+    private static byte[] readRecordBody(DataInputStream input) throws IOException {
+        byte[] bodyBytes = new byte[readVarInt(input, MAX_RECORD_LENGTH)];
+        input.readFully(bodyBytes);
+        return bodyBytes;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.model.ReadOnlyPivot;
+
+/**
+ * A class to access PIVOT data stored as a binary file on the hard disk, in the format described by
+ * {@link BinaryPivotFormat}.
+ * The details of the cases read are loaded from the file when they are needed, so the file stays open until it is
+ * read again or the storage is closed.
+ */
+public class BinaryPivotStorage implements PivotStorage {
+
+    private final Path filePath;
+    private final BinaryPivotWriter writer = new BinaryPivotWriter();
+    private final Map<Path, BinaryPivotReader> readers = new HashMap<>();
+
+    public BinaryPivotStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getPivotFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyPivot> readPivot() throws DataConversionException {
+        return readPivot(filePath);
+    }
+
+    /**
+     * Similar to {@link #readPivot()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyPivot> readPivot(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        return readers.computeIfAbsent(filePath, BinaryPivotReader::new).read().map(pivot -> pivot);
+    }
+
+    @Override
+    public void savePivot(ReadOnlyPivot pivot) throws IOException {
+        savePivot(pivot, filePath);
+    }
+
+    /**
+     * Similar to {@link #savePivot(ReadOnlyPivot)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void savePivot(ReadOnlyPivot pivot, Path filePath) throws IOException {
+        requireNonNull(pivot);
+        requireNonNull(filePath);
+
+        writer.write(pivot.getCaseList(), 0, filePath);
+    }
+
+    /**
+     * Closes the files the data read from this storage still loads from.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        for (BinaryPivotReader reader : readers.values()) {
+            reader.close();
+        }
+        readers.clear();
+    }
+
+}
@@ -0,0 +1,76 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.pivot.storage.BinaryPivotFormat.writeVarLong;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import seedu.pivot.commons.util.FileUtil;
+import seedu.pivot.model.investigationcase.Case;
+
+/**
+ * Writes PIVOT data to a file in the binary format described by {@link BinaryPivotFormat}, one case at a time.
+ * The data is written beside the file and then moved over it, as the cases being written may still load their
+ * details from the file they were read from.
+ */
+class BinaryPivotWriter implements PivotFileWriter {
+
+    @Override
+    public void write(Collection<Case> cases, long journalSequence, Path filePath) throws IOException {
+        requireNonNull(cases);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryPath = FileUtil.getTemporaryFile(filePath);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporaryPath)))) {
+            writeCases(output, cases, journalSequence);
+        }
+        FileUtil.moveDurably(temporaryPath, filePath);
+    }
+
+    private void writeCases(DataOutputStream output, Collection<Case> cases, long journalSequence)
+            throws IOException {
+        output.write(BinaryPivotFormat.MAGIC);
+        writeVarLong(output, BinaryPivotFormat.FORMAT_VERSION);
+        writeVarLong(output, journalSequence);
+        writeVarLong(output, cases.size());
+
+        BinaryRecordWriter recordWriter = new BinaryRecordWriter();
+        long position = output.size();
+        long[] detailsOffsets = new long[cases.size()];
+        int[] detailsLengths = new int[cases.size()];
+        int caseNumber = 0;
+        for (Case investigationCase : cases) {
+            // Each details record has a string table of its own, so that it can be read on its own.
+            recordWriter.startBody();
+            recordWriter.clearStrings();
+            recordWriter.writeDetails(investigationCase);
+            recordWriter.writeRecordTo(output);
+            detailsOffsets[caseNumber] = position;
+            detailsLengths[caseNumber] = recordWriter.getBodyLength();
+            position += recordWriter.getBodyLength() + Integer.BYTES;
+            caseNumber++;
+        }
+
+        long indexOffset = position;
+        recordWriter.clearStrings();
+        caseNumber = 0;
+        for (Case investigationCase : cases) {
+            recordWriter.startBody();
+            recordWriter.writeSummary(investigationCase);
+            recordWriter.writeNumber(detailsOffsets[caseNumber]);
+            recordWriter.writeNumber(detailsLengths[caseNumber]);
+            recordWriter.writeNumber(investigationCase.getId().getValue());
+            writeVarLong(output, recordWriter.getBodyLength());
+            recordWriter.writeRecordTo(output);
+            caseNumber++;
+        }
+        output.writeLong(indexOffset);
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.pivot.storage;
+
+import static seedu.pivot.storage.BinaryPivotFormat.readVarInt;
+import static seedu.pivot.storage.BinaryPivotFormat.readVarLong;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Reads the values in the bodies of the records of a binary PIVOT data file, as described by
+ * {@link BinaryPivotFormat}, keeping the strings read since the string table was last cleared.
+ */
+class BinaryRecordReader {
+
+    private final List<String> stringTable = new ArrayList<>();
+    private final CRC32 checksum = new CRC32();
+    private DataInputStream body;
+    private String recordName;
+
+    void clearStrings() {
+        stringTable.clear();
+    }
+
+    /**
+     * Starts reading the values in {@code bodyBytes}, the body of the record named {@code recordName} in messages.
+     * @throws IOException if the body does not match {@code expectedChecksum}.
+     */
+    void startBody(byte[] bodyBytes, int expectedChecksum, String recordName) throws IOException {
+        checksum.reset();
+        checksum.update(bodyBytes, 0, bodyBytes.length);
+        if (expectedChecksum != (int) checksum.getValue()) {
+            throw new IOException("Checksum mismatch in the " + recordName);
+        }
+        this.body = new DataInputStream(new ByteArrayInputStream(bodyBytes));
+        this.recordName = recordName;
+    }
+
+    /**
+     * Checks that every value in the body has been read.
+     * @throws IOException if it has not.
+     */
+    void endBody() throws IOException {
+        if (body.read() != -1) {
+            throw new IOException("Unexpected data in the " + recordName);
+        }
+    }
+
+    /**
+     * Returns true if some of the values in the body have not been read, such as the values added to records after
+     * older records were written.
+     */
+    boolean hasMoreValues() throws IOException {
+        return body.available() > 0;
+    }
+
+    /**
+     * Reads the length of a list, which cannot be longer than the rest of the body.
+     */
+    int readCount() throws IOException {
+        return readVarInt(body, body.available());
+    }
+
+    long readNumber() throws IOException {
+        return readVarLong(body);
+    }
+
+    String readString() throws IOException {
+        int position = readVarInt(body, stringTable.size());
+        if (position != BinaryPivotFormat.NEW_STRING) {
+            return stringTable.get(position - 1);
+        }
+
+        byte[] bytes = new byte[readVarInt(body, body.available())];
+        body.readFully(bytes);
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        stringTable.add(value);
+        return value;
+    }
+
+    /**
+     * Reads every field of a case, in the order of the {@code JsonAdaptedCase} fields, and its ID if the record has
+     * one.
+     */
+    JsonAdaptedCase readCase() throws IOException {
+        String title = readString();
+        String description = readString();
+        String status = readString();
+        String archiveStatus = readString();
+
+        int documentCount = readCount();
+        List<JsonAdaptedDocument> documents = new ArrayList<>(documentCount);
+        for (int i = 0; i < documentCount; i++) {
+            documents.add(new JsonAdaptedDocument(readString(), readString()));
+        }
+
+        int suspectCount = readCount();
+        List<JsonAdaptedSuspect> suspects = new ArrayList<>(suspectCount);
+        for (int i = 0; i < suspectCount; i++) {
+            suspects.add(new JsonAdaptedSuspect(readString(), readString(),
+                    readString(), readString(), readString()));
+        }
+
+        int victimCount = readCount();
+        List<JsonAdaptedVictim> victims = new ArrayList<>(victimCount);
+        for (int i = 0; i < victimCount; i++) {
+            victims.add(new JsonAdaptedVictim(readString(), readString(),
+                    readString(), readString(), readString()));
+        }
+
+        int witnessCount = readCount();
+        List<JsonAdaptedWitness> witnesses = new ArrayList<>(witnessCount);
+        for (int i = 0; i < witnessCount; i++) {
+            witnesses.add(new JsonAdaptedWitness(readString(), readString(),
+                    readString(), readString(), readString()));
+        }
+
+        int tagCount = readCount();
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readString()));
+        }
+
+        Long id = hasMoreValues() ? readNumber() : null;
+        return new JsonAdaptedCase(id, title, description, status, documents, suspects, victims, witnesses, tags,
+                archiveStatus);
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.pivot.storage;
+
+import static seedu.pivot.storage.BinaryPivotFormat.writeVarLong;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.Document;
+import seedu.pivot.model.investigationcase.caseperson.CasePerson;
+import seedu.pivot.model.investigationcase.exceptions.CaseDetailsUnavailableException;
+import seedu.pivot.model.tag.Tag;
+
+/**
+ * Writes the values in the bodies of the records of a binary PIVOT data file, as described by
+ * {@link BinaryPivotFormat}, keeping the strings written since the string table was last cleared.
+ */
+class BinaryRecordWriter {
+
+    private final Map<String, Integer> stringTable = new HashMap<>();
+    private final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+    private final CRC32 checksum = new CRC32();
+    private final DataOutputStream body = new DataOutputStream(new CheckedOutputStream(bodyBytes, checksum));
+
+    void clearStrings() {
+        stringTable.clear();
+    }
+
+    /**
+     * Starts a new body, discarding the values written to the last one.
+     */
+    void startBody() {
+        bodyBytes.reset();
+        checksum.reset();
+    }
+
+    int getBodyLength() {
+        return bodyBytes.size();
+    }
+
+    int getChecksum() {
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Writes the body followed by its checksum to {@code output}.
+     */
+    void writeRecordTo(DataOutputStream output) throws IOException {
+        bodyBytes.writeTo(output);
+        output.writeInt(getChecksum());
+    }
+
+    byte[] toBodyBytes() {
+        return bodyBytes.toByteArray();
+    }
+
+    void writeNumber(long value) throws IOException {
+        writeVarLong(body, value);
+    }
+
+    void writeString(String value) throws IOException {
+        Integer position = stringTable.get(value);
+        if (position != null) {
+            writeVarLong(body, position + 1);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(body, BinaryPivotFormat.NEW_STRING);
+        writeVarLong(body, bytes.length);
+        body.write(bytes);
+        stringTable.put(value, stringTable.size());
+    }
+
+    /**
+     * Writes every field of {@code investigationCase}, in the order of the {@code JsonAdaptedCase} fields, with its ID
+     * last.
+     * @throws IOException if the details of the case cannot be loaded.
+     */
+    void writeCase(Case investigationCase) throws IOException {
+        try {
+            writeString(investigationCase.getTitle().getAlphaNum());
+            writeString(investigationCase.getDescription().toString());
+            writeString(investigationCase.getStatus().name());
+            writeString(investigationCase.getArchiveStatus().toString());
+            writeDocumentsAndCasePersons(investigationCase);
+            writeTags(investigationCase);
+            writeNumber(investigationCase.getId().getValue());
+        } catch (CaseDetailsUnavailableException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the fields of {@code investigationCase} held by its {@code CaseDetails}.
+     * @throws IOException if the details of the case cannot be loaded.
+     */
+    void writeDetails(Case investigationCase) throws IOException {
+        try {
+            writeString(investigationCase.getDescription().toString());
+            writeDocumentsAndCasePersons(investigationCase);
+        } catch (CaseDetailsUnavailableException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the fields of {@code investigationCase} needed to list it.
+     */
+    void writeSummary(Case investigationCase) throws IOException {
+        writeString(investigationCase.getTitle().getAlphaNum());
+        writeString(investigationCase.getStatus().name());
+        writeString(investigationCase.getArchiveStatus().toString());
+        writeTags(investigationCase);
+    }
+
+    private void writeDocumentsAndCasePersons(Case investigationCase) throws IOException {
+        writeNumber(investigationCase.getDocuments().size());
+        for (Document document : investigationCase.getDocuments()) {
+            writeString(document.getName().getAlphaNum());
+            writeString(document.getReference().getFileName());
+        }
+        writeCasePersons(investigationCase.getSuspects());
+        writeCasePersons(investigationCase.getVictims());
+        writeCasePersons(investigationCase.getWitnesses());
+    }
+
+    private void writeTags(Case investigationCase) throws IOException {
+        writeNumber(investigationCase.getTags().size());
+        for (Tag tag : investigationCase.getTags()) {
+            writeString(tag.tagName);
+        }
+    }
+
+    private void writeCasePersons(List<? extends CasePerson> casePersons) throws IOException {
+        writeNumber(casePersons.size());
+        for (CasePerson casePerson : casePersons) {
+            writeString(casePerson.getName().getAlphaNum());
+            writeString(casePerson.getSex().toString());
+            writeString(casePerson.getPhone().toString());
+            writeString(casePerson.getEmail().toString());
+            writeString(casePerson.getAddress().toString());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.pivot.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Compresses the data written to a data file and decompresses the data read from it, one buffer at a time.
+ * Each codec starts the files it compresses with magic bytes of its own, by which they are recognised when read.
+ */
+interface CompressionCodec {
+
+    /**
+     * Returns true if a file starting with the first {@code length} bytes of {@code header} was compressed by this
+     * codec. {@code length} is at most {@link CompressionCodecs#HEADER_LENGTH}, and less only for shorter files.
+     */
+    boolean isCompressedBy(byte[] header, int length);
+
+    /**
+     * Returns a stream which compresses the data written to it at {@code level}, from 1 for the fastest to 9 for the
+     * smallest, into {@code output}. Closing the stream closes {@code output}.
+     */
+    OutputStream compress(OutputStream output, int level) throws IOException;
+
+    /**
+     * Returns a stream of the data decompressed from {@code input}. Closing the stream closes {@code input}.
+     * @throws IOException if {@code input} does not start as data compressed by this codec.
+     */
+    InputStream decompress(InputStream input) throws IOException;
+}
@@ -0,0 +1,75 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.pivot.commons.core.DataFileCompression;
+
+/**
+ * The {@link CompressionCodec}s data files may be compressed by, and the means to find which of them compressed a
+ * file from its magic bytes.
+ */
+final class CompressionCodecs {
+
+    /** The number of bytes at the start of a file read to find the codec which compressed it. */
+    static final int HEADER_LENGTH = 2;
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final CompressionCodec GZIP = new GzipCodec();
+    private static final CompressionCodec DEFLATE = new DeflateCodec();
+    private static final List<CompressionCodec> CODECS = List.of(GZIP, DEFLATE);
+
+    private CompressionCodecs() {}
+
+    /**
+     * Returns the codec of {@code compression}, or {@code Optional.empty()} if data is not compressed.
+     */
+    static Optional<CompressionCodec> get(DataFileCompression compression) {
+        requireNonNull(compression);
+        switch (compression) {
+        case NONE:
+            return Optional.empty();
+        case GZIP:
+            return Optional.of(GZIP);
+        case DEFLATE:
+            return Optional.of(DEFLATE);
+        default:
+            throw new AssertionError("Unknown data file compression: " + compression);
+        }
+    }
+
+    /**
+     * Returns a stream which compresses the data written to it into {@code output} as set by {@code compression}
+     * and {@code level}, or {@code output} itself if data is not compressed.
+     */
+    static OutputStream compress(OutputStream output, DataFileCompression compression, int level)
+            throws IOException {
+        Optional<CompressionCodec> codec = get(compression);
+        return codec.isPresent() ? codec.get().compress(output, level) : output;
+    }
+
+    /**
+     * Returns a stream of the data in {@code input}, decompressed by the codec whose magic bytes it starts with, or
+     * as it is if it starts with none of them.
+     */
+    static InputStream decompressIfCompressed(InputStream input) throws IOException {
+        BufferedInputStream bufferedInput = new BufferedInputStream(input, BUFFER_SIZE);
+        byte[] header = new byte[HEADER_LENGTH];
+        bufferedInput.mark(HEADER_LENGTH);
+        int length = bufferedInput.readNBytes(header, 0, HEADER_LENGTH);
+        bufferedInput.reset();
+
+        for (CompressionCodec codec : CODECS) {
+            if (codec.isCompressedBy(header, length)) {
+                return codec.decompress(bufferedInput);
+            }
+        }
+        return bufferedInput;
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.pivot.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compresses data files in the zlib format, whose two-byte header names the deflate method and is a multiple of 31.
+ * A json data file cannot start the same way, as none of the characters which may start it name the deflate method.
+ */
+class DeflateCodec implements CompressionCodec {
+
+    private static final int DEFLATE_METHOD = 8;
+    private static final int HEADER_CHECK_DIVISOR = 31;
+
+    @Override
+    public boolean isCompressedBy(byte[] header, int length) {
+        if (length < 2) {
+            return false;
+        }
+        int methodAndInfo = header[0] & 0xff;
+        int flags = header[1] & 0xff;
+        return (methodAndInfo & 0x0f) == DEFLATE_METHOD && (methodAndInfo << 8 | flags) % HEADER_CHECK_DIVISOR == 0;
+    }
+
+    @Override
+    public OutputStream compress(OutputStream output, int level) {
+        Deflater deflater = new Deflater(level);
+        return new DeflaterOutputStream(output, deflater, CompressionCodecs.BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    deflater.end();
+                }
+            }
+        };
+    }
+
+    @Override
+    public InputStream decompress(InputStream input) {
+        Inflater inflater = new Inflater();
+        return new InflaterInputStream(input, inflater, CompressionCodecs.BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.pivot.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses data files in the gzip format, which starts with the magic bytes {@code 1f 8b}.
+ */
+class GzipCodec implements CompressionCodec {
+
+    private static final int MAGIC = GZIPInputStream.GZIP_MAGIC;
+
+    @Override
+    public boolean isCompressedBy(byte[] header, int length) {
+        return length >= 2 && ((header[0] & 0xff) | (header[1] & 0xff) << 8) == MAGIC;
+    }
+
+    @Override
+    public OutputStream compress(OutputStream output, int level) throws IOException {
+        return new GZIPOutputStream(output, CompressionCodecs.BUFFER_SIZE) {
+            {
+                def.setLevel(level);
+            }
+        };
+    }
+
+    @Override
+    public InputStream decompress(InputStream input) throws IOException {
+        return new GZIPInputStream(input, CompressionCodecs.BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,479 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+
+import seedu.pivot.commons.core.DataFileCompression;
+import seedu.pivot.commons.core.DataFileFormat;
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.commons.util.JsonUtil;
+import seedu.pivot.commons.util.StringUtil;
+import seedu.pivot.model.CaseChange;
+import seedu.pivot.model.Pivot;
+import seedu.pivot.model.ReadOnlyPivot;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.exceptions.CaseDetailsUnavailableException;
+import seedu.pivot.model.investigationcase.exceptions.CaseNotFoundException;
+import seedu.pivot.model.investigationcase.exceptions.DuplicateCaseException;
+
+/**
+ * A class to access PIVOT data stored on the hard disk as a json snapshot, together with a journal of the changes
+ * made since the snapshot was saved.
+ * Saving changes appends one line per change to the current segment of the journal, so that the data written for
+ * a command is proportional to its changes rather than to all the data. Once enough changes are journaled, later
+ * changes go to a new segment, and a snapshot including the earlier segments is written in the background, after
+ * which those segments are deleted. Each change is numbered, and the snapshot records the number of the last change
+ * it includes, so that segments left behind by an interrupted compaction are not replayed twice.
+ * Reading the data replays the journal on top of the snapshot.
+ * The previous snapshots are kept as {@link SnapshotGenerations}, together with the segments they need, and reading
+ * the data falls back to the newest of them which is intact if the current snapshot is damaged.
+ * The reader of the data last read from each file is kept until the file is read again or the storage is closed, as
+ * snapshots in the binary format load the details of their cases from the file when they are needed.
+ */
+public class JournaledPivotStorage implements PivotStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledPivotStorage.class);
+    private static final String SEGMENT_SUFFIX = ".journal-";
+    private static final Pattern SEGMENT_NUMBER = Pattern.compile("\\d{1,9}");
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final Executor compactionExecutor;
+    private final PivotFileWriter writer;
+    private final SnapshotGenerations generations;
+    private final AtomicBoolean isCompacting = new AtomicBoolean(false);
+    private final Map<Path, PivotFileReader> readers = new HashMap<>();
+
+    /** Whether the snapshot and journal in {@code filePath} hold the data last read or saved. */
+    private boolean isSnapshotCurrent = false;
+    private long lastSequence = 0;
+    private int currentSegment = 0;
+    private int changesSinceSnapshot = 0;
+    private long snapshotSequence = -1;
+    private boolean isClosed = false;
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which compacts its journal on a background thread.
+     */
+    public JournaledPivotStorage(Path filePath) {
+        this(filePath, DataFileFormat.JSON, true);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which compacts its journal on a background thread.
+     * Snapshots are saved in {@code format}, and json snapshots are indented across lines if {@code isPrettyPrinted}.
+     * Snapshots are read in the format they were saved in.
+     */
+    public JournaledPivotStorage(Path filePath, DataFileFormat format, boolean isPrettyPrinted) {
+        this(filePath, format, isPrettyPrinted, DataFileCompression.NONE, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath} as above, whose json snapshots are compressed as set by
+     * {@code compression} at {@code compressionLevel}.
+     */
+    public JournaledPivotStorage(Path filePath, DataFileFormat format, boolean isPrettyPrinted,
+            DataFileCompression compression, int compressionLevel) {
+        this(filePath, format, isPrettyPrinted, compression, compressionLevel, DEFAULT_COMPACTION_THRESHOLD,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "pivot-journal-compaction");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which compacts its journal on
+     * {@code compactionExecutor} once {@code compactionThreshold} changes have been journaled since the last snapshot.
+     */
+    public JournaledPivotStorage(Path filePath, DataFileFormat format, boolean isPrettyPrinted,
+            int compactionThreshold, Executor compactionExecutor) {
+        this(filePath, format, isPrettyPrinted, DataFileCompression.NONE, Deflater.DEFAULT_COMPRESSION,
+                compactionThreshold, compactionExecutor);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, whose json snapshots are compressed as set by
+     * {@code compression} at {@code compressionLevel}, and which compacts its journal on {@code compactionExecutor}
+     * once {@code compactionThreshold} changes have been journaled since the last snapshot.
+     */
+    public JournaledPivotStorage(Path filePath, DataFileFormat format, boolean isPrettyPrinted,
+            DataFileCompression compression, int compressionLevel, int compactionThreshold,
+            Executor compactionExecutor) {
+        requireAllNonNull(filePath, format, compression, compactionExecutor);
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("Compaction threshold must be positive");
+        }
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.compactionExecutor = compactionExecutor;
+        this.writer = PivotFileConverter.createWriter(format, isPrettyPrinted, compression, compressionLevel);
+        this.generations = new SnapshotGenerations(filePath, SnapshotGenerations.DEFAULT_GENERATION_COUNT);
+    }
+
+    @Override
+    public Path getPivotFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyPivot> readPivot() throws DataConversionException, IOException {
+        return readPivot(filePath);
+    }
+
+    /**
+     * Similar to {@link #readPivot()}.
+     * If the current snapshot does not match its checksum, or cannot be read, the data is recovered from the newest
+     * previous generation which can be, together with the journal kept for it.
+     *
+     * @param filePath location of the snapshot, next to which the journal is kept. Cannot be null.
+     * @throws DataConversionException if no snapshot can be read together with the journal.
+     */
+    @Override
+    public Optional<ReadOnlyPivot> readPivot(Path filePath) throws DataConversionException, IOException {
+        return readNewestSnapshot(filePath, SnapshotGenerations.DEFAULT_GENERATION_COUNT);
+    }
+
+    /**
+     * Similar to {@link #readPivot(Path)}, but reads only the current snapshot together with the journal, for data
+     * files whose previous generations do not hold the data, and reports a damaged snapshot instead.
+     */
+    Optional<ReadOnlyPivot> readCurrentPivot(Path filePath) throws DataConversionException, IOException {
+        return readNewestSnapshot(filePath, 1);
+    }
+
+    /**
+     * Reads the data as {@link #readPivot(Path)} does, from the newest of at most {@code generationCount} snapshots.
+     */
+    private Optional<ReadOnlyPivot> readNewestSnapshot(Path filePath, int generationCount)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        // The data read before may still load parts of itself, so its file is only closed once no part of it can.
+        synchronized (readers) {
+            readers.remove(filePath);
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        DataConversionException firstFailure = null;
+        List<SnapshotGenerations.Snapshot> snapshots =
+                new SnapshotGenerations(filePath, SnapshotGenerations.DEFAULT_GENERATION_COUNT).getSnapshots();
+        snapshots = snapshots.subList(0, Math.min(generationCount, snapshots.size()));
+        for (SnapshotGenerations.Snapshot snapshot : snapshots) {
+            if (!snapshot.isIntact()) {
+                logger.warning("Snapshot " + snapshot.getPath() + " does not match its checksum");
+                continue;
+            }
+            try {
+                Pivot pivot = readSnapshot(snapshot, filePath);
+                if (!snapshot.getPath().equals(filePath)) {
+                    logger.warning("Recovered data of " + filePath + " from " + snapshot.getPath());
+                }
+                return Optional.of(pivot);
+            } catch (DataConversionException e) {
+                logger.warning("Failed to read snapshot " + snapshot.getPath() + ": " + e.getMessage());
+                firstFailure = firstFailure == null ? e : firstFailure;
+            }
+        }
+        throw firstFailure != null
+                ? firstFailure
+                : new DataConversionException(new IOException("No intact snapshot of " + filePath));
+    }
+
+    /**
+     * Returns the data in {@code snapshot} of the data file at {@code filePath}, with the journal kept for it replayed
+     * on top, and continues the journal from there if the data file is that of this storage.
+     */
+    private Pivot readSnapshot(SnapshotGenerations.Snapshot snapshot, Path filePath)
+            throws DataConversionException, IOException {
+        PivotFileReader reader = PivotFileConverter.createReader(snapshot.getPath());
+        Optional<Pivot> snapshotData = reader.read();
+        if (!snapshotData.isPresent()) {
+            throw new DataConversionException(new NoSuchFileException(snapshot.getPath().toString()));
+        }
+
+        Pivot pivot = snapshotData.get();
+        long sequence = reader.getJournalSequence();
+        List<Path> segmentPaths = getSegmentPaths(filePath);
+        try {
+            for (Path segmentPath : segmentPaths) {
+                if (getSegmentNumber(segmentPath) >= snapshot.getFirstLiveSegment()) {
+                    sequence = replaySegment(segmentPath, pivot, sequence);
+                }
+            }
+        } catch (DataConversionException | IOException e) {
+            reader.close();
+            throw e;
+        }
+        synchronized (readers) {
+            readers.put(filePath, reader);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            lastSequence = sequence;
+            currentSegment = segmentPaths.isEmpty()
+                    ? 0
+                    : getSegmentNumber(segmentPaths.get(segmentPaths.size() - 1)) + 1;
+            changesSinceSnapshot = (int) Math.min(Integer.MAX_VALUE, sequence - reader.getJournalSequence());
+            // Data recovered from a previous generation is saved whole again, rather than journaled on top of the
+            // damaged snapshot.
+            isSnapshotCurrent = snapshot.getPath().equals(filePath);
+        }
+        return pivot;
+    }
+
+    /**
+     * Returns the number of the last change included in the data last read or saved.
+     */
+    long getJournalSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Returns true if the data last read or saved is held by the current snapshot together with the journal, rather
+     * than recovered from a previous generation.
+     */
+    boolean isSnapshotCurrent() {
+        return isSnapshotCurrent;
+    }
+
+    @Override
+    public void savePivot(ReadOnlyPivot pivot) throws IOException {
+        savePivot(pivot, filePath);
+    }
+
+    /**
+     * Similar to {@link #savePivot(ReadOnlyPivot)}.
+     * Saving to the data file of this storage replaces its journal with a new snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void savePivot(ReadOnlyPivot pivot, Path filePath) throws IOException {
+        requireAllNonNull(pivot, filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writer.write(pivot.getCaseList(), 0, filePath);
+            return;
+        }
+
+        currentSegment++;
+        writeSnapshot(new ArrayList<>(pivot.getCaseList()), lastSequence, currentSegment);
+        changesSinceSnapshot = 0;
+        isSnapshotCurrent = true;
+    }
+
+    /**
+     * Appends {@code changes} to the journal, or saves the whole of {@code pivot} if the data file does not hold
+     * the data last read or saved. Saving no changes writes nothing.
+     */
+    @Override
+    public void savePivotChanges(ReadOnlyPivot pivot, List<CaseChange> changes) throws IOException {
+        requireAllNonNull(pivot, changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        if (!isSnapshotCurrent) {
+            savePivot(pivot);
+            return;
+        }
+
+        StringBuilder entries = new StringBuilder();
+        long sequence = lastSequence;
+        try {
+            for (CaseChange change : changes) {
+                entries.append(JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(++sequence, change)))
+                        .append('\n');
+            }
+        } catch (CaseDetailsUnavailableException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        try {
+            Files.write(getSegmentPath(filePath, currentSegment), entries.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (IOException e) {
+            // The segment may hold some of the changes, so the next save rewrites all the data instead.
+            isSnapshotCurrent = false;
+            throw e;
+        }
+
+        lastSequence = sequence;
+        changesSinceSnapshot += changes.size();
+        if (changesSinceSnapshot >= compactionThreshold) {
+            compact(pivot);
+        }
+    }
+
+    /**
+     * Starts a new segment of the journal, and writes a snapshot of {@code pivot} including the earlier segments
+     * on the compaction executor. Does nothing if a compaction is already in progress.
+     */
+    private void compact(ReadOnlyPivot pivot) {
+        if (!isCompacting.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<Case> cases = new ArrayList<>(pivot.getCaseList());
+        long compactedSequence = lastSequence;
+        currentSegment++;
+        int firstLiveSegment = currentSegment;
+        changesSinceSnapshot = 0;
+        compactionExecutor.execute(() -> {
+            try {
+                writeCompactedSnapshot(cases, compactedSequence, firstLiveSegment);
+                logger.fine("Compacted journal of " + filePath + " up to change " + compactedSequence);
+            } catch (IOException e) {
+                logger.warning("Failed to compact journal of " + filePath + ": " + StringUtil.getDetails(e));
+            } finally {
+                isCompacting.set(false);
+            }
+        });
+    }
+
+    /**
+     * Replaces the snapshot with {@code cases}, which include the changes up to {@code sequence}, keeping the previous
+     * snapshot as a generation, and deletes the segments which no snapshot kept needs. Does nothing if a later snapshot
+     * has already been written.
+     */
+    private synchronized void writeSnapshot(List<Case> cases, long sequence, int firstLiveSegment)
+            throws IOException {
+        if (sequence < snapshotSequence) {
+            return;
+        }
+
+        int firstNeededSegment = generations.write(writer, cases, sequence, firstLiveSegment);
+        snapshotSequence = sequence;
+
+        for (Path segmentPath : getSegmentPaths(filePath)) {
+            if (getSegmentNumber(segmentPath) < firstNeededSegment) {
+                Files.deleteIfExists(segmentPath);
+            }
+        }
+    }
+
+    /**
+     * Writes a snapshot as {@link #writeSnapshot} does, unless the storage has been closed, as the cases may load their
+     * details from a file which is closed by then. The journal still holds the changes the snapshot would include.
+     */
+    private synchronized void writeCompactedSnapshot(List<Case> cases, long sequence, int firstLiveSegment)
+            throws IOException {
+        if (isClosed) {
+            logger.fine("Dropped compaction of the journal of closed storage " + filePath);
+            return;
+        }
+        writeSnapshot(cases, sequence, firstLiveSegment);
+    }
+
+    /**
+     * Closes the files the data read from this storage still loads from, after a compaction being written finishes.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        isClosed = true;
+        List<PivotFileReader> closedReaders;
+        synchronized (readers) {
+            closedReaders = new ArrayList<>(readers.values());
+            readers.clear();
+        }
+        for (PivotFileReader reader : closedReaders) {
+            reader.close();
+        }
+    }
+
+    /**
+     * Applies the changes in the segment at {@code segmentPath} numbered after {@code sequence} to {@code pivot}.
+     * An incomplete last line, left by an interrupted save, is ignored.
+     *
+     * @return The number of the last change applied, or {@code sequence} if there were none.
+     * @throws DataConversionException if a change is not in the correct format, or cannot be applied.
+     */
+    private static long replaySegment(Path segmentPath, Pivot pivot, long sequence)
+            throws DataConversionException, IOException {
+        List<String> lines = Files.readAllLines(segmentPath, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete change at the end of " + segmentPath);
+                    break;
+                }
+                throw new DataConversionException(e);
+            }
+
+            if (entry.getSequence() <= sequence) {
+                continue;
+            }
+            try {
+                entry.toModelType().apply(pivot);
+            } catch (IllegalValueException | CaseNotFoundException | DuplicateCaseException
+                    | IndexOutOfBoundsException e) {
+                logger.info("Invalid change found in " + segmentPath + ": " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+            sequence = entry.getSequence();
+        }
+        return sequence;
+    }
+
+    private static Path getSegmentPath(Path filePath, int segment) {
+        return filePath.resolveSibling(filePath.getFileName() + SEGMENT_SUFFIX + segment);
+    }
+
+    private static int getSegmentNumber(Path segmentPath) {
+        String fileName = segmentPath.getFileName().toString();
+        return Integer.parseInt(fileName.substring(fileName.lastIndexOf(SEGMENT_SUFFIX) + SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Returns the paths of the segments of the journal of {@code filePath}, in the order they were written.
+     */
+    private static List<Path> getSegmentPaths(Path filePath) throws IOException {
+        Path directoryPath = filePath.toAbsolutePath().getParent();
+        if (directoryPath == null || !Files.isDirectory(directoryPath)) {
+            return new ArrayList<>();
+        }
+
+        String segmentPrefix = filePath.getFileName() + SEGMENT_SUFFIX;
+        try (Stream<Path> paths = Files.list(directoryPath)) {
+            return paths.filter(path -> {
+                String fileName = path.getFileName().toString();
+                return fileName.startsWith(segmentPrefix)
+                        && SEGMENT_NUMBER.matcher(fileName.substring(segmentPrefix.length())).matches();
+            }).sorted(Comparator.comparingInt(JournaledPivotStorage::getSegmentNumber)).collect(Collectors.toList());
+        }
+    }
+}
@@ -14,6 +14,7 @@ import seedu.pivot.commons.core.LogsCenter;
 import seedu.pivot.commons.exceptions.IllegalValueException;
 import seedu.pivot.model.investigationcase.ArchiveStatus;
 import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.CaseId;
 import seedu.pivot.model.investigationcase.Description;
 import seedu.pivot.model.investigationcase.Document;
 import seedu.pivot.model.investigationcase.Status;
@@ -30,6 +31,7 @@ class JsonAdaptedCase {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Case's %s field is missing!";
     private static final Logger logger = LogsCenter.getLogger(JsonAdaptedCase.class);
 
+    private final Long id;
     private final String title;
     private final String description;
     private final String status;
@@ -40,11 +42,22 @@ class JsonAdaptedCase {
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
     private final List<JsonAdaptedWitness> witnesses = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedCase} with the given case details, and no ID.
+     */
+    public JsonAdaptedCase(String title, String description, String status, List<JsonAdaptedDocument> documents,
+            List<JsonAdaptedSuspect> suspects, List<JsonAdaptedVictim> victims, List<JsonAdaptedWitness> witnesses,
+            List<JsonAdaptedTag> tagged, String archiveStatus) {
+        this(null, title, description, status, documents, suspects, victims, witnesses, tagged, archiveStatus);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedCase} with the given case details.
+     * The ID is missing from cases saved before IDs were kept, in which case a new ID is generated for the case.
      */
     @JsonCreator
-    public JsonAdaptedCase(@JsonProperty("title") String title, @JsonProperty("description") String description,
+    public JsonAdaptedCase(@JsonProperty("id") Long id,
+            @JsonProperty("title") String title, @JsonProperty("description") String description,
             @JsonProperty("status") String status,
             @JsonProperty("documents") List<JsonAdaptedDocument> documents,
             @JsonProperty("suspects") List<JsonAdaptedSuspect> suspects,
@@ -53,6 +66,7 @@ class JsonAdaptedCase {
             @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
             @JsonProperty("archiveStatus") String archiveStatus) {
 
+        this.id = id;
         this.title = title;
         this.description = description;
         this.status = status;
@@ -78,6 +92,7 @@ class JsonAdaptedCase {
      * Converts a given {@code Case} into this class for Jackson use.
      */
     public JsonAdaptedCase(Case source) {
+        id = source.getId().getValue();
         title = source.getTitle().getAlphaNum();
         description = source.getDescription().toString();
         status = source.getStatus().name();
@@ -99,6 +114,22 @@ class JsonAdaptedCase {
                 .collect(Collectors.toList()));
     }
 
+    Long getId() {
+        return id;
+    }
+
+    String getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns a copy of this case without its ID, which is given a newly generated ID when it is converted.
+     */
+    JsonAdaptedCase withoutId() {
+        return new JsonAdaptedCase(null, title, description, status, documents, suspects, victims, witnesses,
+                tagged, archiveStatus);
+    }
+
     /**
      * Converts this Jackson-friendly adapted case object into the model's {@code Case} object.
      *
@@ -106,6 +137,12 @@ class JsonAdaptedCase {
      */
     public Case toModelType() throws IllegalValueException {
         logger.info("Converting JSON to Case");
+        if (id != null && !CaseId.isValidId(id)) {
+            logger.warning("ID is invalid. Check data");
+            throw new IllegalValueException(CaseId.MESSAGE_CONSTRAINTS);
+        }
+        final CaseId modelId = id == null ? CaseId.generate() : new CaseId(id);
+
         final List<Tag> caseTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             caseTags.add(tag.toModelType());
@@ -120,7 +157,7 @@ class JsonAdaptedCase {
             logger.warning("Title is invalid. Check data");
             throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
         }
-        final Title modelTitle = new Title(title);
+        final Title modelTitle = Title.createTrustedTitle(title);
 
         if (description == null) {
             logger.warning("Description is null. Check data");
@@ -170,7 +207,7 @@ class JsonAdaptedCase {
         }
         final ArchiveStatus modelArchiveStatus = ArchiveStatus.valueOf(archiveStatus);
 
-        return new Case(modelTitle, modelDescription, modelStatus, modelDocument,
+        return new Case(modelId, modelTitle, modelDescription, modelStatus, modelDocument,
                 modelSuspects, modelVictims, modelWitnesses, modelTags, modelArchiveStatus);
     }
 
@@ -0,0 +1,61 @@
+package seedu.pivot.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.model.CaseChange;
+import seedu.pivot.model.investigationcase.Case;
+
+/**
+ * Jackson-friendly version of {@link CaseChange}.
+ */
+class JsonAdaptedCaseChange {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Case change must have a valid index and affect a case!";
+
+    private final int index;
+    private final JsonAdaptedCase before;
+    private final JsonAdaptedCase after;
+
+    /**
+     * Constructs a {@code JsonAdaptedCaseChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedCaseChange(@JsonProperty("index") int index, @JsonProperty("before") JsonAdaptedCase before,
+            @JsonProperty("after") JsonAdaptedCase after) {
+        this.index = index;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Converts a given {@code CaseChange} into this class for Jackson use.
+     */
+    public JsonAdaptedCaseChange(CaseChange source) {
+        index = source.getIndex();
+        before = source.getBefore() == null ? null : new JsonAdaptedCase(source.getBefore());
+        after = source.getAfter() == null ? null : new JsonAdaptedCase(source.getAfter());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code CaseChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public CaseChange toModelType() throws IllegalValueException {
+        if (index < 0 || (before == null && after == null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_CHANGE);
+        }
+
+        Case modelBefore = before == null ? null : before.toModelType();
+        Case modelAfter = after == null ? null : after.toModelType();
+        if (modelBefore == null) {
+            return CaseChange.ofAdd(index, modelAfter);
+        } else if (modelAfter == null) {
+            return CaseChange.ofRemove(index, modelBefore);
+        } else {
+            return CaseChange.ofSet(index, modelBefore, modelAfter);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import seedu.pivot.commons.exceptions.IllegalValueException;
 import seedu.pivot.model.investigationcase.Document;
 import seedu.pivot.model.investigationcase.Name;
 import seedu.pivot.model.investigationcase.Reference;
+import seedu.pivot.model.util.ValuePool;
 
 /**
  * Jackson-friendly version of {@link Document}.
@@ -63,7 +64,7 @@ class JsonAdaptedDocument {
             logger.warning("Document reference is invalid. Check data");
             throw new IllegalValueException(Reference.MESSAGE_CONSTRAINTS);
         }
-        return new Document(new Name(name), new Reference(reference));
+        return new Document(ValuePool.getName(name), new Reference(reference));
     }
 
 }
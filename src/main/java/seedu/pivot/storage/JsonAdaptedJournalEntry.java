@@ -0,0 +1,53 @@
+package seedu.pivot.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.model.CaseChange;
+
+/**
+ * Jackson-friendly version of a {@link CaseChange} in the journal of a data file, numbered by its position in
+ * the journal.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_CHANGE_MESSAGE = "Journal entry is missing its change!";
+
+    private final long sequence;
+    private final JsonAdaptedCaseChange change;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequence") long sequence,
+            @JsonProperty("change") JsonAdaptedCaseChange change) {
+        this.sequence = sequence;
+        this.change = change;
+    }
+
+    /**
+     * Converts a given {@code CaseChange} into this class for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(long sequence, CaseChange source) {
+        this.sequence = sequence;
+        change = new JsonAdaptedCaseChange(source);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Converts the change in this entry into the model's {@code CaseChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public CaseChange toModelType() throws IllegalValueException {
+        if (change == null) {
+            throw new IllegalValueException(MISSING_CHANGE_MESSAGE);
+        }
+        return change.toModelType();
+    }
+}
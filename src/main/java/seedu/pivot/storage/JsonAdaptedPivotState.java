@@ -0,0 +1,81 @@
+package seedu.pivot.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.logic.commands.Page;
+import seedu.pivot.logic.commands.Undoable;
+import seedu.pivot.model.CaseChange;
+import seedu.pivot.model.VersionedPivot.PivotState;
+
+/**
+ * Jackson-friendly version of {@link PivotState}.
+ */
+class JsonAdaptedPivotState {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Pivot state's %s field is missing!";
+    public static final String MESSAGE_INVALID_PAGE = "Pivot state's page is not valid!";
+
+    private final String commandMessage;
+    private final String page;
+    private final List<JsonAdaptedCaseChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedPivotState} with the given state details.
+     */
+    @JsonCreator
+    public JsonAdaptedPivotState(@JsonProperty("commandMessage") String commandMessage,
+            @JsonProperty("page") String page, @JsonProperty("changes") List<JsonAdaptedCaseChange> changes) {
+        this.commandMessage = commandMessage;
+        this.page = page;
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    /**
+     * Converts a given {@code PivotState} into this class for Jackson use.
+     */
+    public JsonAdaptedPivotState(PivotState source) {
+        commandMessage = source.getCommandMessage();
+        page = source.getCommand().getPage().name();
+        changes.addAll(source.getChanges().stream()
+                .map(JsonAdaptedCaseChange::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted state object into the model's {@code PivotState} object.
+     * The command of the state is restored as an {@code Undoable} on the saved page.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted state.
+     */
+    public PivotState toModelType() throws IllegalValueException {
+        if (commandMessage == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "commandMessage"));
+        }
+        if (page == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "page"));
+        }
+
+        final Page modelPage;
+        try {
+            modelPage = Page.valueOf(page);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_PAGE);
+        }
+
+        final List<CaseChange> modelChanges = new ArrayList<>();
+        for (JsonAdaptedCaseChange change : changes) {
+            modelChanges.add(change.toModelType());
+        }
+
+        Undoable command = () -> modelPage;
+        return new PivotState(modelChanges, command, commandMessage);
+    }
+}
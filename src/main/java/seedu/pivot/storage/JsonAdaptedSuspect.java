@@ -13,6 +13,7 @@ import seedu.pivot.model.investigationcase.caseperson.Email;
 import seedu.pivot.model.investigationcase.caseperson.Phone;
 import seedu.pivot.model.investigationcase.caseperson.Sex;
 import seedu.pivot.model.investigationcase.caseperson.Suspect;
+import seedu.pivot.model.util.ValuePool;
 
 
 /**
@@ -69,7 +70,7 @@ public class JsonAdaptedSuspect {
             logger.warning("Suspect name is invalid. Check data");
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = ValuePool.getName(name);
 
         if (sex == null) {
             logger.warning("Suspect sex is null. Check data");
@@ -89,7 +90,7 @@ public class JsonAdaptedSuspect {
             logger.warning("Suspect phone is invalid. Check data");
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = ValuePool.getPhone(phone);
 
         if (email == null) {
             logger.warning("Suspect email is null. Check data");
@@ -99,13 +100,13 @@ public class JsonAdaptedSuspect {
             logger.warning("Suspect email is invalid. Check data");
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = ValuePool.getEmail(email);
 
         if (address == null) {
             logger.warning("Suspect address is null. Check data");
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = ValuePool.getAddress(address);
 
         return new Suspect(modelName, modelSex, modelPhone, modelEmail, modelAddress);
     }
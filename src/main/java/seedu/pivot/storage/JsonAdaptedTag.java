@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import seedu.pivot.commons.exceptions.IllegalValueException;
 import seedu.pivot.model.tag.Tag;
+import seedu.pivot.model.util.ValuePool;
 
 /**
  * Jackson-friendly version of {@link Tag}.
@@ -42,7 +43,7 @@ class JsonAdaptedTag {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return ValuePool.getTag(tagName);
     }
 
 }
@@ -13,6 +13,7 @@ import seedu.pivot.model.investigationcase.caseperson.Email;
 import seedu.pivot.model.investigationcase.caseperson.Phone;
 import seedu.pivot.model.investigationcase.caseperson.Sex;
 import seedu.pivot.model.investigationcase.caseperson.Witness;
+import seedu.pivot.model.util.ValuePool;
 
 
 
@@ -70,7 +71,7 @@ public class JsonAdaptedWitness {
             logger.warning("Witness name is invalid. Check data");
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = ValuePool.getName(name);
 
         if (sex == null) {
             logger.warning("Witness gender is null. Check data");
@@ -90,7 +91,7 @@ public class JsonAdaptedWitness {
             logger.warning("Witness phone is invalid. Check data");
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = ValuePool.getPhone(phone);
 
         if (email == null) {
             logger.warning("Witness email is null. Check data");
@@ -100,13 +101,13 @@ public class JsonAdaptedWitness {
             logger.warning("Witness email is invalid. Check data");
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = ValuePool.getEmail(email);
 
         if (address == null) {
             logger.warning("Witness address is null. Check data");
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = ValuePool.getAddress(address);
 
         return new Witness(modelName, modelSex, modelPhone, modelEmail, modelAddress);
     }
@@ -0,0 +1,109 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.commons.util.FileUtil;
+import seedu.pivot.commons.util.JsonUtil;
+import seedu.pivot.model.PivotHistoryJournal;
+import seedu.pivot.model.VersionedPivot.PivotState;
+import seedu.pivot.model.investigationcase.exceptions.CaseDetailsUnavailableException;
+
+/**
+ * A class to keep the oldest undo history of PIVOT as json files in a directory on the hard disk.
+ * Each checkpoint is saved to its own numbered file, so that pushing and popping a checkpoint only touches
+ * the states in that checkpoint. Undo history does not outlive the application, hence any checkpoints left
+ * in the directory by a previous run are removed when the journal is created.
+ */
+public class JsonPivotHistoryJournal implements PivotHistoryJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonPivotHistoryJournal.class);
+    private static final String CHECKPOINT_FILE_FORMAT = "checkpoint-%d.json";
+
+    private final Path directoryPath;
+    private int checkpointCount = 0;
+
+    /**
+     * Creates a journal that keeps its checkpoints in {@code directoryPath}.
+     * @throws IOException if the checkpoints of a previous run could not be removed.
+     */
+    public JsonPivotHistoryJournal(Path directoryPath) throws IOException {
+        requireNonNull(directoryPath);
+        this.directoryPath = directoryPath;
+        clear();
+    }
+
+    public Path getDirectoryPath() {
+        return directoryPath;
+    }
+
+    private Path getCheckpointPath(int checkpoint) {
+        return directoryPath.resolve(String.format(CHECKPOINT_FILE_FORMAT, checkpoint));
+    }
+
+    @Override
+    public void pushStates(List<PivotState> states) throws IOException {
+        requireNonNull(states);
+        Path checkpointPath = getCheckpointPath(checkpointCount);
+        FileUtil.createIfMissing(checkpointPath);
+        try {
+            JsonUtil.saveJsonFile(new JsonSerializablePivotHistory(states), checkpointPath);
+        } catch (CaseDetailsUnavailableException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        checkpointCount++;
+        logger.fine("Spilled " + states.size() + " undo states to " + checkpointPath);
+    }
+
+    @Override
+    public List<PivotState> popStates() throws IOException, DataConversionException {
+        if (isEmpty()) {
+            throw new IOException("Undo history journal is empty");
+        }
+
+        Path checkpointPath = getCheckpointPath(checkpointCount - 1);
+        JsonSerializablePivotHistory history = JsonUtil.readJsonFile(checkpointPath,
+                JsonSerializablePivotHistory.class).orElseThrow(() -> new IOException(checkpointPath + " is missing"));
+        checkpointCount--;
+        Files.deleteIfExists(checkpointPath);
+
+        try {
+            List<PivotState> states = history.toModelType();
+            logger.fine("Loaded " + states.size() + " undo states from " + checkpointPath);
+            return states;
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + checkpointPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return checkpointCount == 0;
+    }
+
+    @Override
+    public void clear() throws IOException {
+        checkpointCount = 0;
+        if (!Files.isDirectory(directoryPath)) {
+            return;
+        }
+
+        try (Stream<Path> checkpoints = Files.list(directoryPath)) {
+            for (Path checkpoint : (Iterable<Path>) checkpoints::iterator) {
+                if (checkpoint.getFileName().toString().matches("checkpoint-\\d+\\.json")) {
+                    Files.delete(checkpoint);
+                }
+            }
+        }
+    }
+}
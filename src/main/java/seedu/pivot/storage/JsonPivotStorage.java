@@ -7,11 +7,9 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.pivot.commons.core.DataFileCompression;
 import seedu.pivot.commons.core.LogsCenter;
 import seedu.pivot.commons.exceptions.DataConversionException;
-import seedu.pivot.commons.exceptions.IllegalValueException;
-import seedu.pivot.commons.util.FileUtil;
-import seedu.pivot.commons.util.JsonUtil;
 import seedu.pivot.model.ReadOnlyPivot;
 
 /**
@@ -22,9 +20,29 @@ public class JsonPivotStorage implements PivotStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonPivotStorage.class);
 
     private Path filePath;
+    private final StreamingJsonPivotWriter writer;
 
     public JsonPivotStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which is indented across lines if
+     * {@code isPrettyPrinted}, or saved on a single line otherwise.
+     */
+    public JsonPivotStorage(Path filePath, boolean isPrettyPrinted) {
+        this.filePath = filePath;
+        this.writer = new StreamingJsonPivotWriter(isPrettyPrinted);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath} as above, whose text is compressed as set by
+     * {@code compression} at {@code compressionLevel}. Compressed data files are read whichever compression is set.
+     */
+    public JsonPivotStorage(Path filePath, boolean isPrettyPrinted, DataFileCompression compression,
+            int compressionLevel) {
         this.filePath = filePath;
+        this.writer = new StreamingJsonPivotWriter(isPrettyPrinted, compression, compressionLevel);
     }
 
     public Path getPivotFilePath() {
@@ -45,18 +63,7 @@ public class JsonPivotStorage implements PivotStorage {
     public Optional<ReadOnlyPivot> readPivot(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializablePivot> jsonPivot = JsonUtil.readJsonFile(
-                filePath, JsonSerializablePivot.class);
-        if (!jsonPivot.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonPivot.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return new StreamingJsonPivotReader(filePath).read().map(pivot -> pivot);
     }
 
     @Override
@@ -73,8 +80,7 @@ public class JsonPivotStorage implements PivotStorage {
         requireNonNull(pivot);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializablePivot(pivot), filePath);
+        writer.write(pivot.getCaseList(), 0, filePath);
     }
 
 }
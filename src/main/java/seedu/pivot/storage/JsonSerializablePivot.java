@@ -6,6 +6,7 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -13,7 +14,7 @@ import seedu.pivot.commons.core.LogsCenter;
 import seedu.pivot.commons.exceptions.IllegalValueException;
 import seedu.pivot.model.Pivot;
 import seedu.pivot.model.ReadOnlyPivot;
-import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.exceptions.DuplicateCaseException;
 
 /**
  * An Immutable PIVOT that is serializable to JSON format.
@@ -25,13 +26,18 @@ class JsonSerializablePivot {
     private static final Logger logger = LogsCenter.getLogger(JsonSerializablePivot.class);
 
     private final List<JsonAdaptedCase> persons = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long journalSequence;
 
     /**
-     * Constructs a {@code JsonSerializablePivot} with the given persons.
+     * Constructs a {@code JsonSerializablePivot} with the given persons, which includes the changes in the
+     * journal of the data file up to {@code journalSequence}.
      */
     @JsonCreator
-    public JsonSerializablePivot(@JsonProperty("persons") List<JsonAdaptedCase> persons) {
+    public JsonSerializablePivot(@JsonProperty("persons") List<JsonAdaptedCase> persons,
+            @JsonProperty("journalSequence") long journalSequence) {
         this.persons.addAll(persons);
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -40,7 +46,22 @@ class JsonSerializablePivot {
      * @param source future changes to this will not affect the created {@code JsonSerializablePivot}.
      */
     public JsonSerializablePivot(ReadOnlyPivot source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyPivot}, which includes the changes in the journal of the data file up to
+     * {@code journalSequence}, into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializablePivot}.
+     */
+    public JsonSerializablePivot(ReadOnlyPivot source, long journalSequence) {
         persons.addAll(source.getCaseList().stream().map(JsonAdaptedCase::new).collect(Collectors.toList()));
+        this.journalSequence = journalSequence;
+    }
+
+    public long getJournalSequence() {
+        return journalSequence;
     }
 
     /**
@@ -50,13 +71,14 @@ class JsonSerializablePivot {
      */
     public Pivot toModelType() throws IllegalValueException {
         logger.info("Converting JSON to PIVOT models");
+        ParallelCaseConverter converter = new ParallelCaseConverter();
+        persons.forEach(converter::add);
+
         Pivot pivot = new Pivot();
-        for (JsonAdaptedCase jsonAdaptedCase : persons) {
-            Case investigationCase = jsonAdaptedCase.toModelType();
-            if (pivot.hasCase(investigationCase)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            pivot.addCase(investigationCase);
+        try {
+            pivot.setCases(converter.getCases());
+        } catch (DuplicateCaseException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return pivot;
     }
@@ -0,0 +1,52 @@
+package seedu.pivot.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.model.VersionedPivot.PivotState;
+
+/**
+ * A checkpoint of PIVOT undo history that is serializable to JSON format.
+ */
+@JsonRootName(value = "history")
+class JsonSerializablePivotHistory {
+
+    private final List<JsonAdaptedPivotState> states = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializablePivotHistory} with the given states.
+     */
+    @JsonCreator
+    public JsonSerializablePivotHistory(@JsonProperty("states") List<JsonAdaptedPivotState> states) {
+        if (states != null) {
+            this.states.addAll(states);
+        }
+    }
+
+    /**
+     * Converts the given {@code PivotState}s into this class for Jackson use.
+     */
+    public JsonSerializablePivotHistory(Iterable<PivotState> source) {
+        for (PivotState state : source) {
+            states.add(new JsonAdaptedPivotState(state));
+        }
+    }
+
+    /**
+     * Converts this checkpoint into the model's {@code PivotState}s, ordered from oldest to newest.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<PivotState> toModelType() throws IllegalValueException {
+        List<PivotState> modelStates = new ArrayList<>();
+        for (JsonAdaptedPivotState state : states) {
+            modelStates.add(state.toModelType());
+        }
+        return modelStates;
+    }
+}
@@ -0,0 +1,504 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.pivot.storage.PagedPivotFormat.LARGE_RECORD_KEY_OFFSET;
+import static seedu.pivot.storage.PagedPivotFormat.MAX_SLOTTED_RECORD_LENGTH;
+import static seedu.pivot.storage.PagedPivotFormat.ORDER_KEY_GAP;
+import static seedu.pivot.storage.PagedPivotFormat.PAGE_SIZE;
+import static seedu.pivot.storage.PagedPivotFormat.PagedRecord.LARGE_RECORD_SLOT;
+import static seedu.pivot.storage.PagedPivotFormat.PagedRecord.getPageNumber;
+import static seedu.pivot.storage.PagedPivotFormat.PagedRecord.getSlot;
+import static seedu.pivot.storage.PagedPivotFormat.PagedRecord.toLocation;
+import static seedu.pivot.storage.PagedPivotFormat.SLOTTED_PAGE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.storage.PagedPivotFormat.PagedRecord;
+
+/**
+ * Keeps the cases of PIVOT in a data file in the format described by {@link PagedPivotFormat}, mapped into memory,
+ * so that adding, replacing or removing a case writes the record of that case alone.
+ * The location and order key of the record of each case are kept in the order of the case list, together with a
+ * free-space map holding the largest record each page can take. The pages are also indexed by their free space, and
+ * the empty pages kept apart, so that the page best fitting a record, or a run of empty pages long enough for a large
+ * record, is found without going through every page. The file is mapped a segment of pages at a time, and grows by
+ * a segment when no page has room.
+ * Changes are written to the mapped pages, which the operating system writes to the file in its own time, until
+ * {@link #sync()} forces them onto the disk. A new record is written as a pending record beside the record it
+ * replaces, which is only freed once the new record is on the disk, so that the file holds a whole version of every
+ * record wherever the writes stop. The mapped pages are only released once the store is garbage collected, even after
+ * it is closed.
+ */
+class PagedCaseStore {
+
+    static final int PAGES_PER_SEGMENT = 256;
+
+    private static final long SEGMENT_SIZE = (long) PAGES_PER_SEGMENT * PAGE_SIZE;
+    private static final int EMPTY_PAGE_FREE_SPACE = MAX_SLOTTED_RECORD_LENGTH;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final BitSet unsyncedSegments = new BitSet();
+    private final BinaryRecordWriter recordWriter = new BinaryRecordWriter();
+    private final long journalSequence;
+
+    /** The largest record each page can take, which is 0 for the header page and the pages of large records. */
+    private int[] freeSpace = new int[0];
+    /** The slotted pages with some free space, by their free space and then their number. */
+    private final NavigableSet<Long> pagesByFreeSpace = new TreeSet<>();
+    private final BitSet emptyPages = new BitSet();
+    private final List<Long> locations = new ArrayList<>();
+    private final List<Long> orderKeys = new ArrayList<>();
+    /** The locations of the pending records, which the next sync commits. */
+    private final Set<Long> pendingLocations = new HashSet<>();
+    /** The locations of the committed records replaced or removed since the last sync, which the next sync frees. */
+    private final Set<Long> replacedLocations = new LinkedHashSet<>();
+
+    private PagedCaseStore(FileChannel channel) throws IOException {
+        this.channel = channel;
+        long fileSize = channel.size();
+        if (fileSize < PAGE_SIZE || fileSize % PAGE_SIZE != 0) {
+            throw new IOException("Paged data file size is not a whole number of pages: " + fileSize);
+        }
+        while ((long) getPageCount() * PAGE_SIZE < fileSize) {
+            addSegment();
+        }
+        journalSequence = PagedPivotFormat.readHeaderPage(getMappedPage(0));
+        setFreeSpace(0, 0);
+    }
+
+    /**
+     * Opens the paged data file at {@code filePath} for reading and writing.
+     * @throws IOException if the file cannot be opened, or is not in the paged format.
+     */
+    static PagedCaseStore open(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new PagedCaseStore(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of the last journaled change included in the file.
+     */
+    long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Returns the number of cases in the store.
+     */
+    synchronized int size() {
+        return locations.size();
+    }
+
+    /**
+     * Reads every record in the file, in the order of the case list, and rebuilds the locations of the records and
+     * the free-space map from the pages. The next sync frees the versions of records left out, and commits the
+     * pending records kept.
+     * @throws IOException if a page or record is malformed.
+     */
+    synchronized List<PagedRecord> load() throws IOException {
+        List<PagedRecord> replacedRecords = new ArrayList<>();
+        List<PagedRecord> records = PagedPivotFormat.readRecords(this::getMappedPage, getPageCount(),
+                replacedRecords);
+        locations.clear();
+        orderKeys.clear();
+        pendingLocations.clear();
+        replacedLocations.clear();
+        BitSet largeRecordPages = new BitSet();
+        for (PagedRecord record : records) {
+            locations.add(record.getLocation());
+            orderKeys.add(record.getOrderKey());
+            if (record.isPending()) {
+                pendingLocations.add(record.getLocation());
+            }
+            addLargeRecordPages(record, largeRecordPages);
+        }
+        for (PagedRecord record : replacedRecords) {
+            replacedLocations.add(record.getLocation());
+            addLargeRecordPages(record, largeRecordPages);
+        }
+
+        for (int pageNumber = 1; pageNumber < getPageCount(); pageNumber++) {
+            ByteBuffer page = getMappedPage(pageNumber);
+            if (largeRecordPages.get(pageNumber)) {
+                setFreeSpace(pageNumber, 0);
+            } else if (PagedPivotFormat.getPageType(page) == SLOTTED_PAGE) {
+                setFreeSpace(pageNumber, new SlottedPage(page).getFreeSpace());
+            } else {
+                setFreeSpace(pageNumber, EMPTY_PAGE_FREE_SPACE);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Adds the pages taken by {@code record} to {@code largeRecordPages} if it is a large record.
+     */
+    private static void addLargeRecordPages(PagedRecord record, BitSet largeRecordPages) {
+        if (getSlot(record.getLocation()) == LARGE_RECORD_SLOT) {
+            int firstPage = getPageNumber(record.getLocation());
+            largeRecordPages.set(firstPage, firstPage + PagedPivotFormat.getLargeRecordPageCount(record.getLength()));
+        }
+    }
+
+    /**
+     * Adds {@code investigationCase} at position {@code index} of the case list.
+     */
+    synchronized void add(int index, Case investigationCase) throws IOException {
+        if (index < 0 || index > locations.size()) {
+            throw new IndexOutOfBoundsException("No case position " + index + " in the data file");
+        }
+        long orderKey = getNewOrderKey(index);
+        long location = writeRecord(PagedPivotFormat.toRecord(orderKey, investigationCase, recordWriter));
+        locations.add(index, location);
+        orderKeys.add(index, orderKey);
+    }
+
+    /**
+     * Replaces the case at position {@code index} of the case list with {@code investigationCase}. The new record is
+     * written beside the record it replaces, in the same page if there is space for it.
+     */
+    synchronized void set(int index, Case investigationCase) throws IOException {
+        byte[] record = PagedPivotFormat.toRecord(orderKeys.get(index), investigationCase, recordWriter);
+        long location = writeRecord(record);
+        // The location of the replaced record is looked up only now, as its page may have been compacted.
+        freeRecord(locations.get(index));
+        locations.set(index, location);
+    }
+
+    /**
+     * Removes the case at position {@code index} of the case list.
+     */
+    synchronized void remove(int index) throws IOException {
+        freeRecord(locations.remove(index));
+        orderKeys.remove(index);
+    }
+
+    /**
+     * Returns true if some changes have not been forced onto the disk, or some records have not been committed.
+     */
+    synchronized boolean hasUnsyncedChanges() {
+        return !unsyncedSegments.isEmpty() || !pendingLocations.isEmpty() || !replacedLocations.isEmpty();
+    }
+
+    /**
+     * Forces the changes written so far onto the disk, and commits the pending records.
+     * The replaced records are freed only once the pending records are on the disk, and the pending records are
+     * committed only once the replaced records are freed on the disk, so that a crash never leaves two committed
+     * versions of a record.
+     */
+    synchronized void sync() throws IOException {
+        forceUnsyncedSegments();
+        if (pendingLocations.isEmpty() && replacedLocations.isEmpty()) {
+            return;
+        }
+
+        for (long location : replacedLocations) {
+            clearRecord(location);
+        }
+        replacedLocations.clear();
+        forceUnsyncedSegments();
+
+        for (long location : pendingLocations) {
+            commitRecord(location);
+        }
+        pendingLocations.clear();
+        forceUnsyncedSegments();
+    }
+
+    /**
+     * Closes the file. The store cannot be used afterwards.
+     */
+    synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void forceUnsyncedSegments() {
+        for (int segment = unsyncedSegments.nextSetBit(0); segment >= 0;
+                segment = unsyncedSegments.nextSetBit(segment + 1)) {
+            segments.get(segment).force();
+        }
+        unsyncedSegments.clear();
+    }
+
+    private int getPageCount() {
+        return segments.size() * PAGES_PER_SEGMENT;
+    }
+
+    /**
+     * Returns a buffer holding the page numbered {@code pageNumber}, through which it is read and written.
+     */
+    private ByteBuffer getMappedPage(int pageNumber) {
+        int offset = (pageNumber % PAGES_PER_SEGMENT) * PAGE_SIZE;
+        return segments.get(pageNumber / PAGES_PER_SEGMENT).duplicate().position(offset).limit(offset + PAGE_SIZE)
+                .slice();
+    }
+
+    /**
+     * Returns the slotted page numbered {@code pageNumber}, clearing it first if it is empty, as an empty page may
+     * still hold what was left of a large record removed from it.
+     */
+    private SlottedPage getSlottedPage(int pageNumber) {
+        SlottedPage page = new SlottedPage(getMappedPage(pageNumber));
+        if (emptyPages.get(pageNumber)) {
+            page.clear();
+        }
+        return page;
+    }
+
+    /**
+     * Maps the next segment of the file, growing the file if needed.
+     */
+    private void addSegment() throws IOException {
+        int firstNewPage = getPageCount();
+        segments.add(channel.map(FileChannel.MapMode.READ_WRITE, segments.size() * SEGMENT_SIZE, SEGMENT_SIZE));
+        freeSpace = Arrays.copyOf(freeSpace, getPageCount());
+        for (int pageNumber = firstNewPage; pageNumber < getPageCount(); pageNumber++) {
+            setFreeSpace(pageNumber, EMPTY_PAGE_FREE_SPACE);
+        }
+    }
+
+    private void markUnsynced(int pageNumber) {
+        unsyncedSegments.set(pageNumber / PAGES_PER_SEGMENT);
+    }
+
+    private void updateFreeSpace(int pageNumber, SlottedPage page) {
+        setFreeSpace(pageNumber, page.getFreeSpace());
+        markUnsynced(pageNumber);
+    }
+
+    /**
+     * Records {@code space} as the largest record the page numbered {@code pageNumber} can take, in the free-space map
+     * and its index.
+     */
+    private void setFreeSpace(int pageNumber, int space) {
+        if (freeSpace[pageNumber] > 0) {
+            pagesByFreeSpace.remove(toFreeSpaceEntry(freeSpace[pageNumber], pageNumber));
+        }
+        freeSpace[pageNumber] = space;
+        if (space > 0) {
+            pagesByFreeSpace.add(toFreeSpaceEntry(space, pageNumber));
+        }
+        emptyPages.set(pageNumber, space == EMPTY_PAGE_FREE_SPACE);
+    }
+
+    private static long toFreeSpaceEntry(int space, int pageNumber) {
+        return ((long) space << Integer.SIZE) | pageNumber;
+    }
+
+    /**
+     * Returns an order key between those of the cases around position {@code index}, renumbering the keys of all
+     * the cases if there is no key left between them.
+     */
+    private long getNewOrderKey(int index) throws IOException {
+        long previousKey = index == 0 ? 0 : orderKeys.get(index - 1);
+        if (index == orderKeys.size() && previousKey <= Long.MAX_VALUE - ORDER_KEY_GAP) {
+            return previousKey + ORDER_KEY_GAP;
+        }
+        long nextKey = index == orderKeys.size() ? Long.MAX_VALUE : orderKeys.get(index);
+        if (nextKey - previousKey < 2) {
+            renumberOrderKeys();
+            return getNewOrderKey(index);
+        }
+        return previousKey + (nextKey - previousKey) / 2;
+    }
+
+    /**
+     * Spreads the order keys of all the cases apart again, writing the new key of each case in place. The changes so
+     * far are synced first, so that no record is left with another version under its old key.
+     */
+    private void renumberOrderKeys() throws IOException {
+        sync();
+        for (int i = 0; i < orderKeys.size(); i++) {
+            long orderKey = (i + 1) * ORDER_KEY_GAP;
+            long location = locations.get(i);
+            ByteBuffer page = getMappedPage(getPageNumber(location));
+            int keyOffset = getSlot(location) == LARGE_RECORD_SLOT
+                    ? LARGE_RECORD_KEY_OFFSET
+                    : new SlottedPage(page).getRecordOffset(getSlot(location));
+            page.putLong(keyOffset, orderKey);
+            orderKeys.set(i, orderKey);
+            markUnsynced(getPageNumber(location));
+        }
+    }
+
+    /**
+     * Writes {@code record} as a pending record to the page with the least space which can take it, compacting that
+     * page first if its free space is split up, or to the first run of empty pages long enough for it if it is a large
+     * record, and returns its location.
+     */
+    private long writeRecord(byte[] record) throws IOException {
+        long location;
+        if (record.length > MAX_SLOTTED_RECORD_LENGTH) {
+            int recordPageCount = PagedPivotFormat.getLargeRecordPageCount(record.length);
+            int firstPage = findEmptyPages(recordPageCount);
+            for (int i = 0; i < recordPageCount; i++) {
+                PagedPivotFormat.writeLargeRecordPage(getMappedPage(firstPage + i), record, i, true);
+                setFreeSpace(firstPage + i, 0);
+                markUnsynced(firstPage + i);
+            }
+            location = toLocation(firstPage, LARGE_RECORD_SLOT);
+        } else {
+            int pageNumber = findPageWithSpace(record.length);
+            SlottedPage page = getSlottedPage(pageNumber);
+            int slot = page.add(record, true);
+            if (slot < 0) {
+                pageNumber = compactPage(pageNumber);
+                page = new SlottedPage(getMappedPage(pageNumber));
+                slot = page.add(record, true);
+            }
+            assert slot >= 0 : "The free-space map is out of date";
+            updateFreeSpace(pageNumber, page);
+            location = toLocation(pageNumber, slot);
+        }
+        pendingLocations.add(location);
+        return location;
+    }
+
+    /**
+     * Copies the records of the cases in the page numbered {@code pageNumber} into an empty shadow page, leaving all
+     * the free space between the slots and the records, and returns the number of the shadow page.
+     * The copies are pending, and take the place of the records in the case list. The page itself is not written
+     * over, as its committed records are only freed by the next sync, once the copies are on the disk.
+     */
+    private int compactPage(int pageNumber) throws IOException {
+        int shadowPageNumber = findEmptyPages(1);
+        SlottedPage shadowPage = getSlottedPage(shadowPageNumber);
+        ByteBuffer pageBuffer = getMappedPage(pageNumber);
+        SlottedPage page = new SlottedPage(pageBuffer);
+
+        BitSet caseSlots = new BitSet();
+        List<Integer> caseIndexes = new ArrayList<>();
+        for (int slot = 0; slot < page.getSlotCount(); slot++) {
+            if (!page.isUsed(slot)) {
+                continue;
+            }
+            int index = indexOf(toLocation(pageNumber, slot), pageBuffer.getLong(page.getRecordOffset(slot)));
+            if (index >= 0) {
+                caseSlots.set(slot);
+                caseIndexes.add(index);
+            }
+        }
+        page.compactInto(shadowPage, caseSlots);
+        updateFreeSpace(shadowPageNumber, shadowPage);
+
+        int i = 0;
+        for (int slot = caseSlots.nextSetBit(0); slot >= 0; slot = caseSlots.nextSetBit(slot + 1)) {
+            long shadowLocation = toLocation(shadowPageNumber, slot);
+            locations.set(caseIndexes.get(i++), shadowLocation);
+            pendingLocations.add(shadowLocation);
+            freeRecord(toLocation(pageNumber, slot));
+        }
+        return shadowPageNumber;
+    }
+
+    /**
+     * Returns the position in the case list of the case whose record is at {@code location}, found by the
+     * {@code orderKey} of the record, or -1 if the record there is a replaced one.
+     */
+    private int indexOf(long location, long orderKey) {
+        int index = Collections.binarySearch(orderKeys, orderKey);
+        if (index < 0) {
+            return -1;
+        }
+        // Committed records read with the same key are all kept, so the cases next to it may share its key.
+        int first = index;
+        while (first > 0 && orderKeys.get(first - 1) == orderKey) {
+            first--;
+        }
+        for (int i = first; i < orderKeys.size() && orderKeys.get(i) == orderKey; i++) {
+            if (locations.get(i) == location) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Frees the record at {@code location} at once if it is pending, as the version it replaced is still on the
+     * disk, or else by the next sync.
+     */
+    private void freeRecord(long location) throws IOException {
+        if (pendingLocations.remove(location)) {
+            clearRecord(location);
+        } else {
+            replacedLocations.add(location);
+        }
+    }
+
+    /**
+     * Removes the record at {@code location} from its page. Only the first page of a large record is cleared, which
+     * leaves the rest of its pages empty.
+     */
+    private void clearRecord(long location) throws IOException {
+        int pageNumber = getPageNumber(location);
+        if (getSlot(location) != LARGE_RECORD_SLOT) {
+            SlottedPage page = new SlottedPage(getMappedPage(pageNumber));
+            page.remove(getSlot(location));
+            updateFreeSpace(pageNumber, page);
+            return;
+        }
+
+        int recordPageCount = PagedPivotFormat.getLargeRecordPageCount(
+                PagedPivotFormat.getLargeRecordLength(getMappedPage(pageNumber)));
+        new SlottedPage(getMappedPage(pageNumber)).clear();
+        markUnsynced(pageNumber);
+        for (int i = 0; i < recordPageCount; i++) {
+            setFreeSpace(pageNumber + i, EMPTY_PAGE_FREE_SPACE);
+        }
+    }
+
+    private void commitRecord(long location) {
+        int pageNumber = getPageNumber(location);
+        if (getSlot(location) == LARGE_RECORD_SLOT) {
+            PagedPivotFormat.commitLargeRecord(getMappedPage(pageNumber));
+        } else {
+            new SlottedPage(getMappedPage(pageNumber)).commit(getSlot(location));
+        }
+        markUnsynced(pageNumber);
+    }
+
+    private int findPageWithSpace(int recordLength) throws IOException {
+        Long entry;
+        while ((entry = pagesByFreeSpace.ceiling(toFreeSpaceEntry(recordLength, 0))) == null) {
+            addSegment();
+        }
+        return (int) (long) entry;
+    }
+
+    private int findEmptyPages(int pageCount) throws IOException {
+        while (true) {
+            int firstPage = emptyPages.nextSetBit(1);
+            while (firstPage >= 0) {
+                int runEnd = emptyPages.nextClearBit(firstPage);
+                if (runEnd - firstPage >= pageCount) {
+                    return firstPage;
+                }
+                firstPage = emptyPages.nextSetBit(runEnd);
+            }
+            addSegment();
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package seedu.pivot.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import seedu.pivot.model.investigationcase.Case;
+
+/**
+ * Describes the paged format of PIVOT data files, which are updated in place by {@code PagedCaseStore}, written
+ * whole by {@code PagedPivotWriter} and read whole by {@code PagedPivotReader}.
+ * <p>
+ * A file is a whole number of {@link #PAGE_SIZE}-byte pages. The first page is the header, which holds
+ * {@link #MAGIC}, the {@link #FORMAT_VERSION} of the file, the page size and the number of the last journaled change
+ * the file includes. Every other page starts with a {@link #PAGE_HEADER_SIZE}-byte page header holding its type.
+ * <p>
+ * A slotted page holds whole records. Its page header also holds its number of slots and the number of bytes at the
+ * end of the page taken by its record area. The slots follow the page header, each holding the position and length of
+ * a record in the page, or a length of 0 if the slot is free. The top bit of the position is set if the record is
+ * pending. Records are added to the record area from the end of the page, and are never written over while a slot
+ * points to them. A page of zeros is an empty slotted page.
+ * <p>
+ * A record too large for a slotted page is a large record, spread over the rest of as many whole pages as it needs.
+ * The page header of its first page also holds whether the record is pending, and the length of the record. A page of
+ * a large record which follows no first page is an empty page left by a record which has been removed.
+ * <p>
+ * A new version of a record, and a copy of a record made to compact its page, is written elsewhere in the file as a
+ * pending record, while the record it replaces is left as it is. The new version is committed once it is on the
+ * disk and the record it replaces has been removed. Of the records with the same order key, a committed record which
+ * matches its checksum is read, or else a pending one, and a pending record which does not match its checksum is left
+ * out, so that a crash at any point leaves one whole version of each record.
+ * <p>
+ * A record is the order key of its case, a body holding every field of the case in the order of the
+ * {@code JsonAdaptedCase} fields, written as in the binary format with a string table of its own, followed by the
+ * {@code CaseId} of the case if the record was written after IDs were kept, and the CRC32 of the body. Cases are
+ * listed in the order of their keys, which are spread apart so that a case can usually be inserted between two others
+ * without changing any other record.
+ */
+final class PagedPivotFormat {
+
+    static final byte[] MAGIC = {'P', 'V', 'T', 'P'};
+    static final int FORMAT_VERSION = 2;
+    static final int PAGE_SIZE = 8192;
+
+    static final int PAGE_HEADER_SIZE = 8;
+    static final int SLOT_SIZE = 4;
+    static final byte SLOTTED_PAGE = 0;
+    static final byte LARGE_RECORD_FIRST_PAGE = 1;
+    static final byte LARGE_RECORD_PAGE = 2;
+    /** The largest record held by a slotted page, which is a page holding nothing else. */
+    static final int MAX_SLOTTED_RECORD_LENGTH = PAGE_SIZE - PAGE_HEADER_SIZE - SLOT_SIZE;
+    /** The number of bytes of a large record held by each of its pages. */
+    static final int LARGE_RECORD_BYTES_PER_PAGE = PAGE_SIZE - PAGE_HEADER_SIZE;
+
+    /** The position of the order key of a large record, relative to its first page. */
+    static final int LARGE_RECORD_KEY_OFFSET = PAGE_HEADER_SIZE;
+
+    /** The difference between the order keys of cases appended one after another. */
+    static final long ORDER_KEY_GAP = 1L << 20;
+
+    private static final int VERSION_OFFSET = 4;
+    private static final int PAGE_SIZE_OFFSET = 8;
+    private static final int JOURNAL_SEQUENCE_OFFSET = 12;
+    private static final int PAGE_TYPE_OFFSET = 0;
+    private static final int LARGE_RECORD_FLAGS_OFFSET = 1;
+    private static final byte LARGE_RECORD_PENDING = 1;
+    private static final int LARGE_RECORD_LENGTH_OFFSET = 4;
+    private static final int RECORD_OVERHEAD = Long.BYTES + Integer.BYTES;
+
+    private PagedPivotFormat() {}
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC}.
+     */
+    static boolean isPagedFile(Path filePath) throws IOException {
+        byte[] start = new byte[MAGIC.length];
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return inputStream.readNBytes(start, 0, start.length) == start.length && Arrays.equals(start, MAGIC);
+        }
+    }
+
+    /**
+     * Returns the header page of a file including the changes up to {@code journalSequence}.
+     */
+    static ByteBuffer createHeaderPage(long journalSequence) {
+        ByteBuffer header = ByteBuffer.allocate(PAGE_SIZE);
+        header.put(MAGIC);
+        header.putInt(VERSION_OFFSET, FORMAT_VERSION);
+        header.putInt(PAGE_SIZE_OFFSET, PAGE_SIZE);
+        header.putLong(JOURNAL_SEQUENCE_OFFSET, journalSequence);
+        return header.clear();
+    }
+
+    /**
+     * Checks {@code header}, the first page of a file, and returns the number of the last journaled change included
+     * in the file.
+     * @throws IOException if the file is not in this format.
+     */
+    static long readHeaderPage(ByteBuffer header) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        readBytes(header, 0, magic, 0, magic.length);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a paged PIVOT data file");
+        }
+        if (header.getInt(VERSION_OFFSET) != FORMAT_VERSION) {
+            throw new IOException("Unsupported paged PIVOT data file version " + header.getInt(VERSION_OFFSET));
+        }
+        if (header.getInt(PAGE_SIZE_OFFSET) != PAGE_SIZE) {
+            throw new IOException("Unsupported page size " + header.getInt(PAGE_SIZE_OFFSET));
+        }
+        return header.getLong(JOURNAL_SEQUENCE_OFFSET);
+    }
+
+    /**
+     * Returns the record of {@code investigationCase} with {@code orderKey}, using {@code recordWriter}.
+     */
+    static byte[] toRecord(long orderKey, Case investigationCase, BinaryRecordWriter recordWriter)
+            throws IOException {
+        recordWriter.startBody();
+        recordWriter.clearStrings();
+        recordWriter.writeCase(investigationCase);
+        ByteBuffer record = ByteBuffer.allocate(recordWriter.getBodyLength() + RECORD_OVERHEAD);
+        record.putLong(orderKey).put(recordWriter.toBodyBytes()).putInt(recordWriter.getChecksum());
+        return record.array();
+    }
+
+    static byte getPageType(ByteBuffer page) {
+        return page.get(PAGE_TYPE_OFFSET);
+    }
+
+    /**
+     * Returns the number of pages taken by a large record of {@code length} bytes.
+     */
+    static int getLargeRecordPageCount(int length) {
+        return (length + LARGE_RECORD_BYTES_PER_PAGE - 1) / LARGE_RECORD_BYTES_PER_PAGE;
+    }
+
+    /**
+     * Writes the part of the large {@code record} held by {@code page}, the {@code pageIndex}th of its pages, marking
+     * the record pending if {@code isPending}.
+     */
+    static void writeLargeRecordPage(ByteBuffer page, byte[] record, int pageIndex, boolean isPending) {
+        page.putLong(0, 0);
+        page.put(PAGE_TYPE_OFFSET, pageIndex == 0 ? LARGE_RECORD_FIRST_PAGE : LARGE_RECORD_PAGE);
+        if (pageIndex == 0) {
+            page.put(LARGE_RECORD_FLAGS_OFFSET, isPending ? LARGE_RECORD_PENDING : 0);
+            page.putInt(LARGE_RECORD_LENGTH_OFFSET, record.length);
+        }
+        int start = pageIndex * LARGE_RECORD_BYTES_PER_PAGE;
+        writeBytes(page, PAGE_HEADER_SIZE, record, start, Math.min(LARGE_RECORD_BYTES_PER_PAGE, record.length - start));
+    }
+
+    static boolean isLargeRecordPending(ByteBuffer page) {
+        return page.get(LARGE_RECORD_FLAGS_OFFSET) == LARGE_RECORD_PENDING;
+    }
+
+    /**
+     * Marks the large record starting on {@code page} as committed.
+     */
+    static void commitLargeRecord(ByteBuffer page) {
+        page.put(LARGE_RECORD_FLAGS_OFFSET, (byte) 0);
+    }
+
+    /**
+     * Returns the length of the large record starting on {@code page}.
+     * @throws IOException if the length is out of bounds.
+     */
+    static int getLargeRecordLength(ByteBuffer page) throws IOException {
+        int length = page.getInt(LARGE_RECORD_LENGTH_OFFSET);
+        if (length <= MAX_SLOTTED_RECORD_LENGTH || length > BinaryPivotReader.MAX_RECORD_LENGTH) {
+            throw new IOException("Large record length out of bounds: " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Copies {@code length} bytes at {@code index} in {@code buffer} into {@code bytes} from {@code offset}.
+     */
+    static void readBytes(ByteBuffer buffer, int index, byte[] bytes, int offset, int length) {
+        buffer.duplicate().position(index).get(bytes, offset, length);
+    }
+
+    /**
+     * Copies {@code length} bytes from {@code offset} in {@code bytes} to {@code index} in {@code buffer}.
+     */
+    static void writeBytes(ByteBuffer buffer, int index, byte[] bytes, int offset, int length) {
+        buffer.duplicate().position(index).put(bytes, offset, length);
+    }
+
+    /**
+     * Reads the pages of a file in this format.
+     */
+    @FunctionalInterface
+    interface PageReader {
+        /**
+         * Returns a buffer holding the page numbered {@code pageNumber}.
+         */
+        ByteBuffer readPage(int pageNumber) throws IOException;
+    }
+
+    /**
+     * Reads every record in the {@code pageCount} pages read by {@code pageReader}, in the order of their keys.
+     * The records replaced by another version of them, and the pending records which do not match their checksums,
+     * are left out and added to {@code replacedRecords}.
+     * @throws IOException if a page or committed record is malformed.
+     */
+    static List<PagedRecord> readRecords(PageReader pageReader, int pageCount, List<PagedRecord> replacedRecords)
+            throws IOException {
+        List<PagedRecord> records = new ArrayList<>();
+        for (int pageNumber = 1; pageNumber < pageCount; pageNumber++) {
+            ByteBuffer page = pageReader.readPage(pageNumber);
+            switch (getPageType(page)) {
+            case SLOTTED_PAGE:
+                SlottedPage slottedPage = new SlottedPage(page);
+                for (int slot = 0; slot < slottedPage.getSlotCount(); slot++) {
+                    if (!slottedPage.isUsed(slot)) {
+                        continue;
+                    }
+                    PagedRecord record = PagedRecord.of(PagedRecord.toLocation(pageNumber, slot),
+                            slottedPage.getRecord(slot), slottedPage.isPending(slot));
+                    if (record.isPending() && !record.isIntact()) {
+                        replacedRecords.add(record);
+                    } else {
+                        records.add(record);
+                    }
+                }
+                break;
+            case LARGE_RECORD_FIRST_PAGE:
+                PagedRecord record;
+                try {
+                    record = readLargeRecord(pageReader, page, pageNumber, pageCount);
+                } catch (IOException e) {
+                    if (!isLargeRecordPending(page)) {
+                        throw e;
+                    }
+                    // A pending record left incomplete by a crash holds no pages.
+                    break;
+                }
+                if (record.isPending() && !record.isIntact()) {
+                    break;
+                }
+                records.add(record);
+                pageNumber += getLargeRecordPageCount(record.getLength()) - 1;
+                break;
+            case LARGE_RECORD_PAGE:
+                break;
+            default:
+                throw new IOException("Unexpected page type " + getPageType(page) + " on page " + pageNumber);
+            }
+        }
+        records.sort(Comparator.comparingLong(PagedRecord::getOrderKey));
+        return keepOneVersion(records, replacedRecords);
+    }
+
+    /**
+     * Similar to {@link #readRecords(PageReader, int, List)}, but drops the records left out.
+     */
+    static List<PagedRecord> readRecords(PageReader pageReader, int pageCount) throws IOException {
+        return readRecords(pageReader, pageCount, new ArrayList<>());
+    }
+
+    private static PagedRecord readLargeRecord(PageReader pageReader, ByteBuffer page, int pageNumber, int pageCount)
+            throws IOException {
+        int length = getLargeRecordLength(page);
+        int recordPageCount = getLargeRecordPageCount(length);
+        if (pageNumber + recordPageCount > pageCount) {
+            throw new IOException("Large record on page " + pageNumber + " extends past the end of the file");
+        }
+        byte[] record = new byte[length];
+        for (int i = 0; i < recordPageCount; i++) {
+            ByteBuffer recordPage = i == 0 ? page : pageReader.readPage(pageNumber + i);
+            if (i > 0 && getPageType(recordPage) != LARGE_RECORD_PAGE) {
+                throw new IOException("Large record on page " + pageNumber + " is incomplete");
+            }
+            int start = i * LARGE_RECORD_BYTES_PER_PAGE;
+            readBytes(recordPage, PAGE_HEADER_SIZE, record, start,
+                    Math.min(LARGE_RECORD_BYTES_PER_PAGE, length - start));
+        }
+        return PagedRecord.of(PagedRecord.toLocation(pageNumber, PagedRecord.LARGE_RECORD_SLOT), record,
+                isLargeRecordPending(page));
+    }
+
+    /**
+     * Returns {@code records}, sorted by their keys, with one version kept of the records sharing a key with a pending
+     * record: the first committed one which matches its checksum, or else the first pending one. The other versions
+     * are added to {@code replacedRecords}. Committed records sharing a key with no pending record are all kept.
+     */
+    private static List<PagedRecord> keepOneVersion(List<PagedRecord> records, List<PagedRecord> replacedRecords) {
+        List<PagedRecord> keptRecords = new ArrayList<>();
+        int start = 0;
+        while (start < records.size()) {
+            int end = start + 1;
+            while (end < records.size() && records.get(end).getOrderKey() == records.get(start).getOrderKey()) {
+                end++;
+            }
+            List<PagedRecord> versions = records.subList(start, end);
+            start = end;
+            if (versions.stream().noneMatch(PagedRecord::isPending)) {
+                keptRecords.addAll(versions);
+                continue;
+            }
+
+            PagedRecord keptRecord = versions.stream()
+                    .filter(record -> !record.isPending() && record.isIntact())
+                    .findFirst()
+                    .orElseGet(() -> versions.stream().filter(PagedRecord::isPending).findFirst().get());
+            keptRecords.add(keptRecord);
+            versions.stream().filter(record -> record != keptRecord).forEach(replacedRecords::add);
+        }
+        return keptRecords;
+    }
+
+    /**
+     * A record read from a file in this format, together with its location in the file.
+     */
+    static class PagedRecord {
+        /** The slot in the location of a large record. */
+        static final int LARGE_RECORD_SLOT = 0xffff;
+
+        private final long location;
+        private final boolean isPending;
+        private final long orderKey;
+        private final byte[] body;
+        private final int checksum;
+
+        private PagedRecord(long location, boolean isPending, long orderKey, byte[] body, int checksum) {
+            this.location = location;
+            this.isPending = isPending;
+            this.orderKey = orderKey;
+            this.body = body;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Returns the record held in {@code recordBytes} at {@code location}, which is pending if {@code isPending}.
+         * @throws IOException if the record is too short.
+         */
+        static PagedRecord of(long location, byte[] recordBytes, boolean isPending) throws IOException {
+            if (recordBytes.length < RECORD_OVERHEAD) {
+                throw new IOException("Truncated record on page " + getPageNumber(location));
+            }
+            ByteBuffer record = ByteBuffer.wrap(recordBytes);
+            long orderKey = record.getLong();
+            byte[] body = new byte[recordBytes.length - RECORD_OVERHEAD];
+            record.get(body);
+            return new PagedRecord(location, isPending, orderKey, body, record.getInt());
+        }
+
+        static long toLocation(int page, int slot) {
+            return ((long) page << Short.SIZE) | slot;
+        }
+
+        static int getPageNumber(long location) {
+            return (int) (location >>> Short.SIZE);
+        }
+
+        static int getSlot(long location) {
+            return (int) (location & LARGE_RECORD_SLOT);
+        }
+
+        long getLocation() {
+            return location;
+        }
+
+        long getOrderKey() {
+            return orderKey;
+        }
+
+        boolean isPending() {
+            return isPending;
+        }
+
+        /**
+         * Returns the length of the record in the file.
+         */
+        int getLength() {
+            return body.length + RECORD_OVERHEAD;
+        }
+
+        /**
+         * Returns true if the body matches its checksum.
+         */
+        boolean isIntact() {
+            CRC32 bodyChecksum = new CRC32();
+            bodyChecksum.update(body, 0, body.length);
+            return (int) bodyChecksum.getValue() == checksum;
+        }
+
+        /**
+         * Reads the case in this record with {@code recordReader}.
+         * @throws IOException if the body does not match its checksum, or is malformed.
+         */
+        JsonAdaptedCase readCase(BinaryRecordReader recordReader) throws IOException {
+            recordReader.startBody(body, checksum, "record on page " + getPageNumber(location));
+            recordReader.clearStrings();
+            JsonAdaptedCase jsonAdaptedCase = recordReader.readCase();
+            recordReader.endBody();
+            return jsonAdaptedCase;
+        }
+    }
+}
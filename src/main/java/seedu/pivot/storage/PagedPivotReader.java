@@ -0,0 +1,102 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.model.Pivot;
+import seedu.pivot.model.investigationcase.exceptions.DuplicateCaseException;
+import seedu.pivot.storage.PagedPivotFormat.PagedRecord;
+
+/**
+ * Reads all the PIVOT data in a file in the paged format described by {@link PagedPivotFormat}, a page at a time,
+ * without mapping the file into memory.
+ */
+class PagedPivotReader implements PivotFileReader {
+
+    private static final Logger logger = LogsCenter.getLogger(PagedPivotReader.class);
+
+    private final Path filePath;
+    private long journalSequence = 0;
+
+    /**
+     * Creates a reader of the paged file at {@code filePath}.
+     */
+    public PagedPivotReader(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    @Override
+    public Optional<Pivot> read() throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Paged file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        logger.info("Converting paged data to PIVOT models");
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < PagedPivotFormat.PAGE_SIZE || fileSize % PagedPivotFormat.PAGE_SIZE != 0) {
+                throw new IOException("Paged data file size is not a whole number of pages: " + fileSize);
+            }
+            journalSequence = PagedPivotFormat.readHeaderPage(readPage(channel, 0));
+            return Optional.of(toPivot(PagedPivotFormat.readRecords(pageNumber -> readPage(channel, pageNumber),
+                    (int) (fileSize / PagedPivotFormat.PAGE_SIZE))));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from paged file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the cases in {@code records}, in order, after checking and validating the values of each case like
+     * those of json files.
+     */
+    static Pivot toPivot(List<PagedRecord> records) throws IOException, IllegalValueException {
+        BinaryRecordReader recordReader = new BinaryRecordReader();
+        ParallelCaseConverter converter = new ParallelCaseConverter();
+        for (PagedRecord record : records) {
+            converter.add(record.readCase(recordReader));
+        }
+
+        Pivot pivot = new Pivot();
+        try {
+            pivot.setCases(converter.getCases());
+        } catch (DuplicateCaseException e) {
+            throw new IllegalValueException(JsonSerializablePivot.MESSAGE_DUPLICATE_PERSON);
+        }
+        return pivot;
+    }
+
+    private static ByteBuffer readPage(FileChannel channel, int pageNumber) throws IOException {
+        ByteBuffer page = ByteBuffer.allocate(PagedPivotFormat.PAGE_SIZE);
+        long position = (long) pageNumber * PagedPivotFormat.PAGE_SIZE;
+        while (page.hasRemaining()) {
+            if (channel.read(page, position + page.position()) == -1) {
+                throw new EOFException("Page " + pageNumber + " extends past the end of the file");
+            }
+        }
+        return page.clear();
+    }
+}
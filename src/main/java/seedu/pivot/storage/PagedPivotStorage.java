@@ -0,0 +1,330 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.pivot.commons.core.DataFileFormat;
+import seedu.pivot.commons.core.DataFileSyncPolicy;
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.commons.util.StringUtil;
+import seedu.pivot.model.CaseChange;
+import seedu.pivot.model.Pivot;
+import seedu.pivot.model.ReadOnlyPivot;
+
+/**
+ * A class to access PIVOT data stored on the hard disk in a paged data file, which is mapped into memory and
+ * updated in place by a {@link PagedCaseStore}, so that the time taken to save the changes of a command does not
+ * grow with the number of cases.
+ * The changes written are forced onto the disk as set by a {@code DataFileSyncPolicy}.
+ * The data file is copied as a previous generation, as kept by {@link SnapshotGenerations}, each time it is read and
+ * before it is changed in place, and is kept as one, rather than written over, when the data is saved whole. A data
+ * file which cannot be read is recovered from the newest previous generation which can be.
+ * A data file in another format is converted into a paged data file, together with its journal, when it is read.
+ */
+public class PagedPivotStorage implements PivotStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(PagedPivotStorage.class);
+
+    private final Path filePath;
+    private final DataFileSyncPolicy syncPolicy;
+    private final long syncIntervalMillis;
+    private final PagedPivotWriter writer = new PagedPivotWriter();
+
+    /** The store of the data file, or null if the data file has not been read or saved yet. */
+    private PagedCaseStore store;
+    /** Whether the store holds the data last read or saved. */
+    private boolean isStoreCurrent = false;
+    /** The number of the last journaled change included in the data last read or saved. */
+    private long journalSequence = 0;
+    private ScheduledExecutorService syncScheduler;
+    private ScheduledFuture<?> scheduledSync;
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which forces changes onto the disk after every
+     * command.
+     */
+    public PagedPivotStorage(Path filePath) {
+        this(filePath, DataFileSyncPolicy.EVERY_COMMAND, 1);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which forces changes onto the disk as set by
+     * {@code syncPolicy}, at most {@code syncIntervalMillis} after they are written under the {@code INTERVAL}
+     * policy.
+     */
+    public PagedPivotStorage(Path filePath, DataFileSyncPolicy syncPolicy, long syncIntervalMillis) {
+        requireAllNonNull(filePath, syncPolicy);
+        if (syncIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Sync interval must be positive");
+        }
+        this.filePath = filePath;
+        this.syncPolicy = syncPolicy;
+        this.syncIntervalMillis = syncIntervalMillis;
+    }
+
+    @Override
+    public Path getPivotFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyPivot> readPivot() throws DataConversionException, IOException {
+        return readPivot(filePath);
+    }
+
+    /**
+     * Similar to {@link #readPivot()}.
+     * Reading the data file of this storage maps it into memory, after converting it into a paged data file if it
+     * is in another format, or recovering it from its previous generations if it cannot be read.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file, and every previous generation of it, is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyPivot> readPivot(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            logger.info("Paged file " + filePath + " not found");
+            return Optional.empty();
+        }
+        boolean isPagedFile = PagedPivotFormat.isPagedFile(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return isPagedFile
+                    ? new PagedPivotReader(filePath).read().map(pivot -> pivot)
+                    : createJournaledStorage(filePath).readPivot(filePath);
+        }
+
+        if (isPagedFile) {
+            try {
+                return Optional.of(loadStore(true));
+            } catch (DataConversionException e) {
+                logger.warning("Recovering " + filePath + " from its previous generations");
+            }
+        }
+        return readAndConvert();
+    }
+
+    /**
+     * Reads the data file of this storage, which is in another format or cannot be read as it is, together with its
+     * journal, or else the newest previous generation of it which can be read, and saves the data read as a new paged
+     * data file. The data file read is kept as a previous generation.
+     */
+    private Optional<ReadOnlyPivot> readAndConvert() throws DataConversionException, IOException {
+        JournaledPivotStorage journaledStorage = createJournaledStorage(filePath);
+        try {
+            Optional<ReadOnlyPivot> pivot = journaledStorage.readPivot(filePath);
+            if (!pivot.isPresent()) {
+                return pivot;
+            }
+            // Saving replaces the journal with a paged snapshot holding the number of the last change in the journal.
+            journaledStorage.savePivot(pivot.get());
+        } finally {
+            journaledStorage.close();
+        }
+        logger.info("Converted " + filePath + " to a paged data file");
+        return Optional.of(loadStore(false));
+    }
+
+    private static JournaledPivotStorage createJournaledStorage(Path filePath) {
+        return new JournaledPivotStorage(filePath, DataFileFormat.PAGED, false,
+                JournaledPivotStorage.DEFAULT_COMPACTION_THRESHOLD, Runnable::run);
+    }
+
+    @Override
+    public void savePivot(ReadOnlyPivot pivot) throws IOException {
+        savePivot(pivot, filePath);
+    }
+
+    /**
+     * Similar to {@link #savePivot(ReadOnlyPivot)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void savePivot(ReadOnlyPivot pivot, Path filePath) throws IOException {
+        requireAllNonNull(pivot, filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writer.write(pivot.getCaseList(), 0, filePath);
+            return;
+        }
+
+        // The data file is kept as a previous generation rather than written over, as it may be one which failed to
+        // be read.
+        closeStore();
+        new SnapshotGenerations(filePath, SnapshotGenerations.DEFAULT_GENERATION_COUNT)
+                .write(writer, pivot.getCaseList(), journalSequence, 0);
+        try {
+            loadStore(false);
+        } catch (DataConversionException e) {
+            throw new IOException("Saved paged file " + filePath + " cannot be read", e);
+        }
+    }
+
+    /**
+     * Writes {@code changes} to the records of the cases they change, or saves the whole of {@code pivot} if the
+     * data file does not hold the data last read or saved. Saving no changes writes nothing.
+     */
+    @Override
+    public synchronized void savePivotChanges(ReadOnlyPivot pivot, List<CaseChange> changes) throws IOException {
+        requireAllNonNull(pivot, changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        if (store == null || !isStoreCurrent) {
+            savePivot(pivot);
+            return;
+        }
+
+        // Some of the changes may be written before a failure, so the next save rewrites all the data instead.
+        isStoreCurrent = false;
+        try {
+            for (CaseChange change : changes) {
+                if (change.getBefore() == null) {
+                    store.add(change.getIndex(), change.getAfter());
+                } else if (change.getAfter() == null) {
+                    store.remove(change.getIndex());
+                } else {
+                    store.set(change.getIndex(), change.getAfter());
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Changes do not match the data file: " + e.getMessage(), e);
+        }
+        isStoreCurrent = true;
+        syncAfterSave();
+    }
+
+    /**
+     * Forces the changes written so far onto the disk, and closes the data file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (syncScheduler != null) {
+            syncScheduler.shutdownNow();
+            syncScheduler = null;
+        }
+        closeStore();
+    }
+
+    /**
+     * Returns true if some of the changes written have not been forced onto the disk.
+     */
+    synchronized boolean hasUnsyncedChanges() {
+        return store != null && store.hasUnsyncedChanges();
+    }
+
+    private void syncAfterSave() throws IOException {
+        switch (syncPolicy) {
+        case EVERY_COMMAND:
+            store.sync();
+            break;
+        case INTERVAL:
+            scheduleSync();
+            break;
+        case ON_EXIT:
+            break;
+        default:
+            throw new AssertionError("Unknown sync policy: " + syncPolicy);
+        }
+    }
+
+    private void scheduleSync() {
+        if (scheduledSync != null && !scheduledSync.isDone()) {
+            return;
+        }
+        if (syncScheduler == null) {
+            syncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "pivot-data-file-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        scheduledSync = syncScheduler.schedule(this::syncScheduled, syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void syncScheduled() {
+        try {
+            if (store != null) {
+                store.sync();
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to sync " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Opens and reads the paged data file of this storage, to be updated in place, and returns the data in it.
+     * The checksums kept of the data file by {@link SnapshotGenerations} are dropped, as they no longer hold once the
+     * file changes, after the file is copied as a previous generation if {@code isCopyKept}.
+     *
+     * @throws DataConversionException if the file cannot be read, in which case it is left as it is.
+     */
+    private Pivot loadStore(boolean isCopyKept) throws DataConversionException, IOException {
+        closeStore();
+        PagedCaseStore newStore;
+        Pivot pivot;
+        try {
+            newStore = PagedCaseStore.open(filePath);
+        } catch (IOException e) {
+            logger.warning("Error opening paged file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        try {
+            pivot = PagedPivotReader.toPivot(newStore.load());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            newStore.close();
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from paged file " + filePath + ": " + e);
+            newStore.close();
+            throw new DataConversionException(e);
+        }
+
+        try {
+            if (isCopyKept) {
+                new SnapshotGenerations(filePath, SnapshotGenerations.DEFAULT_GENERATION_COUNT).keepCopy();
+            } else {
+                SnapshotGenerations.deleteManifest(filePath);
+            }
+        } catch (IOException e) {
+            newStore.close();
+            throw e;
+        }
+
+        store = newStore;
+        isStoreCurrent = true;
+        journalSequence = newStore.getJournalSequence();
+        return pivot;
+    }
+
+    private void closeStore() throws IOException {
+        if (store == null) {
+            return;
+        }
+        PagedCaseStore closedStore = store;
+        store = null;
+        isStoreCurrent = false;
+        try {
+            closedStore.sync();
+        } finally {
+            closedStore.close();
+        }
+    }
+}
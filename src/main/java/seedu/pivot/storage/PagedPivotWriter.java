@@ -0,0 +1,83 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+import seedu.pivot.commons.util.FileUtil;
+import seedu.pivot.model.investigationcase.Case;
+
+/**
+ * Writes PIVOT data to a new file in the paged format described by {@link PagedPivotFormat}, filling one page at a
+ * time without mapping the file into memory.
+ * The data is written beside the file and then moved over it, as the file may still be read while it is written.
+ */
+class PagedPivotWriter implements PivotFileWriter {
+
+    @Override
+    public void write(Collection<Case> cases, long journalSequence, Path filePath) throws IOException {
+        requireNonNull(cases);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryPath = FileUtil.getTemporaryFile(filePath);
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeCases(channel, cases, journalSequence);
+        }
+        FileUtil.moveDurably(temporaryPath, filePath);
+    }
+
+    private void writeCases(FileChannel channel, Collection<Case> cases, long journalSequence) throws IOException {
+        writePage(channel, 0, PagedPivotFormat.createHeaderPage(journalSequence));
+
+        BinaryRecordWriter recordWriter = new BinaryRecordWriter();
+        ByteBuffer pageBuffer = ByteBuffer.allocate(PagedPivotFormat.PAGE_SIZE);
+        SlottedPage page = new SlottedPage(pageBuffer);
+        boolean isPageEmpty = true;
+        int pageNumber = 1;
+        long orderKey = 0;
+        for (Case investigationCase : cases) {
+            orderKey += PagedPivotFormat.ORDER_KEY_GAP;
+            byte[] record = PagedPivotFormat.toRecord(orderKey, investigationCase, recordWriter);
+            if (record.length <= PagedPivotFormat.MAX_SLOTTED_RECORD_LENGTH && page.add(record) >= 0) {
+                isPageEmpty = false;
+                continue;
+            }
+
+            if (!isPageEmpty) {
+                writePage(channel, pageNumber++, pageBuffer);
+                pageBuffer = ByteBuffer.allocate(PagedPivotFormat.PAGE_SIZE);
+                page = new SlottedPage(pageBuffer);
+                isPageEmpty = true;
+            }
+            if (record.length <= PagedPivotFormat.MAX_SLOTTED_RECORD_LENGTH) {
+                page.add(record);
+                isPageEmpty = false;
+                continue;
+            }
+
+            for (int i = 0; i < PagedPivotFormat.getLargeRecordPageCount(record.length); i++) {
+                ByteBuffer recordPage = ByteBuffer.allocate(PagedPivotFormat.PAGE_SIZE);
+                PagedPivotFormat.writeLargeRecordPage(recordPage, record, i, false);
+                writePage(channel, pageNumber++, recordPage);
+            }
+        }
+        if (!isPageEmpty) {
+            writePage(channel, pageNumber, pageBuffer);
+        }
+    }
+
+    private static void writePage(FileChannel channel, int pageNumber, ByteBuffer page) throws IOException {
+        ByteBuffer source = page.duplicate().clear();
+        long position = (long) pageNumber * PagedPivotFormat.PAGE_SIZE;
+        while (source.hasRemaining()) {
+            channel.write(source, position + source.position());
+        }
+    }
+}
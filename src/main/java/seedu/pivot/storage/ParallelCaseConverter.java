@@ -0,0 +1,126 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.model.investigationcase.Case;
+
+/**
+ * Converts {@code JsonAdaptedCase}s into the model's {@code Case}s in chunks on a fork-join pool, so that the
+ * validation of large data files is spread over all the processors.
+ * Cases are added one at a time, and each full chunk is converted while later cases are still being added.
+ * The converted cases keep the order in which they were added, and if several cases are invalid, the error of the
+ * first of them is reported, regardless of which chunk finished converting first.
+ * A case whose ID was already taken by an earlier case, such as a case copied within a data file by hand, is given a
+ * newly generated ID instead, so that the other cases can still be loaded.
+ */
+class ParallelCaseConverter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(ParallelCaseConverter.class);
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final List<ForkJoinTask<ConvertedChunk>> convertedChunks = new ArrayList<>();
+    private final Set<Long> addedIds = new HashSet<>();
+    private List<JsonAdaptedCase> currentChunk = new ArrayList<>();
+
+    /**
+     * Creates a converter which converts chunks of {@link #DEFAULT_CHUNK_SIZE} cases on the common pool.
+     */
+    public ParallelCaseConverter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a converter which converts chunks of {@code chunkSize} cases on {@code pool}.
+     */
+    public ParallelCaseConverter(ForkJoinPool pool, int chunkSize) {
+        requireNonNull(pool);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Adds {@code jsonAdaptedCase} to the cases to convert, and starts converting its chunk if the chunk is full.
+     */
+    public void add(JsonAdaptedCase jsonAdaptedCase) {
+        requireNonNull(jsonAdaptedCase);
+        Long id = jsonAdaptedCase.getId();
+        if (id != null && !addedIds.add(id)) {
+            logger.warning("Case ID " + id + " is used by more than one case, so a new ID is generated for "
+                    + jsonAdaptedCase.getTitle());
+            jsonAdaptedCase = jsonAdaptedCase.withoutId();
+        }
+        currentChunk.add(jsonAdaptedCase);
+        if (currentChunk.size() == chunkSize) {
+            List<JsonAdaptedCase> chunk = currentChunk;
+            convertedChunks.add(pool.submit(() -> new ConvertedChunk(chunk)));
+            currentChunk = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Returns the converted cases in the order they were added.
+     * The last chunk, which may not be full, is converted on the calling thread while the other chunks finish.
+     *
+     * @throws IllegalValueException if any case is invalid, for the first invalid case added.
+     */
+    public List<Case> getCases() throws IllegalValueException {
+        ConvertedChunk lastChunk = new ConvertedChunk(currentChunk);
+        currentChunk = new ArrayList<>();
+
+        List<Case> cases = new ArrayList<>();
+        for (int i = 0; i < convertedChunks.size(); i++) {
+            ConvertedChunk convertedChunk = convertedChunks.get(i).join();
+            if (convertedChunk.failure != null) {
+                convertedChunks.subList(i + 1, convertedChunks.size()).forEach(chunk -> chunk.cancel(false));
+                convertedChunks.clear();
+                throw convertedChunk.failure;
+            }
+            cases.addAll(convertedChunk.cases);
+        }
+        convertedChunks.clear();
+
+        if (lastChunk.failure != null) {
+            throw lastChunk.failure;
+        }
+        cases.addAll(lastChunk.cases);
+        return cases;
+    }
+
+    /**
+     * The cases converted from a chunk, or the error of its first invalid case.
+     */
+    private static class ConvertedChunk {
+        private final List<Case> cases;
+        private final IllegalValueException failure;
+
+        ConvertedChunk(List<JsonAdaptedCase> chunk) {
+            List<Case> convertedCases = new ArrayList<>(chunk.size());
+            IllegalValueException firstFailure = null;
+            try {
+                for (JsonAdaptedCase jsonAdaptedCase : chunk) {
+                    convertedCases.add(jsonAdaptedCase.toModelType());
+                }
+            } catch (IllegalValueException ive) {
+                firstFailure = ive;
+            }
+            cases = convertedCases;
+            failure = firstFailure;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.pivot.storage;
+
+import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+
+import seedu.pivot.commons.core.DataFileCompression;
+import seedu.pivot.commons.core.DataFileFormat;
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.model.Pivot;
+
+/**
+ * Converts PIVOT data files between the {@code DataFileFormat}s, and creates the readers and writers of each format.
+ * Files are read in the format they were written in, whatever the format they are saved in next, so that changing
+ * the format of the data file takes effect on the next save without losing any data.
+ */
+public class PivotFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(PivotFileConverter.class);
+
+    private PivotFileConverter() {}
+
+    /**
+     * Returns a reader of the file at {@code filePath}, in the format the file is in.
+     * @throws IOException if the start of the file cannot be read to find its format.
+     */
+    static PivotFileReader createReader(Path filePath) throws IOException {
+        if (Files.exists(filePath) && ShardedPivotFormat.isShardedFile(filePath)) {
+            return new ShardedPivotReader(filePath);
+        }
+        if (Files.exists(filePath) && PagedPivotFormat.isPagedFile(filePath)) {
+            return new PagedPivotReader(filePath);
+        }
+        if (Files.exists(filePath) && BinaryPivotFormat.isBinaryFile(filePath)) {
+            return new BinaryPivotReader(filePath);
+        }
+        return new StreamingJsonPivotReader(filePath);
+    }
+
+    /**
+     * Returns a writer of files in {@code format}. Json files are indented across lines if {@code isPrettyPrinted}.
+     */
+    static PivotFileWriter createWriter(DataFileFormat format, boolean isPrettyPrinted) {
+        return createWriter(format, isPrettyPrinted, DataFileCompression.NONE, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Returns a writer of files in {@code format} as above, which compresses json files as set by
+     * {@code compression} at {@code compressionLevel}. Binary files are not compressed, as their records are read
+     * from where they lie in the file, and neither are the json files of sharded data, as each holds a single case.
+     */
+    static PivotFileWriter createWriter(DataFileFormat format, boolean isPrettyPrinted,
+            DataFileCompression compression, int compressionLevel) {
+        switch (format) {
+        case BINARY:
+            return new BinaryPivotWriter();
+        case PAGED:
+            return new PagedPivotWriter();
+        case SHARDED:
+            return new ShardedPivotWriter(isPrettyPrinted);
+        case JSON:
+            return new StreamingJsonPivotWriter(isPrettyPrinted, compression, compressionLevel);
+        default:
+            throw new AssertionError("Unknown data file format: " + format);
+        }
+    }
+
+    /**
+     * Saves the data in the file at {@code sourcePath}, in either format, to the file at {@code targetPath} in
+     * {@code targetFormat}, keeping every value and the journal sequence of the data.
+     * The journal of the source file, if any, is not converted.
+     *
+     * @return false if there is no file at {@code sourcePath}, in which case nothing is written.
+     * @throws DataConversionException if the source file is not in either format, or its data is invalid.
+     * @throws IllegalArgumentException if both paths are the same.
+     */
+    public static boolean convert(Path sourcePath, Path targetPath, DataFileFormat targetFormat,
+            boolean isPrettyPrinted) throws DataConversionException, IOException {
+        requireAllNonNull(sourcePath, targetPath, targetFormat);
+        if (sourcePath.toAbsolutePath().normalize().equals(targetPath.toAbsolutePath().normalize())) {
+            throw new IllegalArgumentException("A data file cannot be converted into itself");
+        }
+
+        PivotFileReader reader = createReader(sourcePath);
+        try {
+            Optional<Pivot> pivot = reader.read();
+            if (!pivot.isPresent()) {
+                return false;
+            }
+            createWriter(targetFormat, isPrettyPrinted).write(pivot.get().getCaseList(), reader.getJournalSequence(),
+                    targetPath);
+        } finally {
+            reader.close();
+        }
+        logger.info("Converted " + sourcePath + " to " + targetFormat + " in " + targetPath);
+        return true;
+    }
+}
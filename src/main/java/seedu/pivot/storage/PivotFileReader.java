@@ -0,0 +1,32 @@
+package seedu.pivot.storage;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.model.Pivot;
+
+/**
+ * Reads PIVOT data from a data file in one of the {@code DataFileFormat}s.
+ */
+interface PivotFileReader {
+
+    /**
+     * Returns the PIVOT data in the file, or {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the file is not in the expected format, or its data is invalid.
+     */
+    Optional<Pivot> read() throws DataConversionException;
+
+    /**
+     * Returns the number of the last journaled change included in the data read.
+     */
+    long getJournalSequence();
+
+    /**
+     * Closes the file if the data read still loads parts of itself from it, after which those parts can no longer be
+     * loaded, so it is only called once the data is no longer used. Otherwise, the file is closed once no part of the
+     * data read can load from it, including when the data is read again.
+     */
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.pivot.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import seedu.pivot.model.investigationcase.Case;
+
+/**
+ * Writes PIVOT data to a data file in one of the {@code DataFileFormat}s.
+ */
+interface PivotFileWriter {
+
+    /**
+     * Replaces the contents of the file at {@code filePath} with {@code cases}, which include the changes in the
+     * journal of the file up to {@code journalSequence}. Creates the file if it is missing.
+     * The file is replaced only once all the data has been written and forced onto the disk.
+     */
+    void write(Collection<Case> cases, long journalSequence, Path filePath) throws IOException;
+}
@@ -2,9 +2,12 @@ package seedu.pivot.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.model.CaseChange;
 import seedu.pivot.model.Pivot;
 import seedu.pivot.model.ReadOnlyPivot;
 
@@ -43,4 +46,37 @@ public interface PivotStorage {
      */
     void savePivot(ReadOnlyPivot pivot, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code changes}, the changes made to {@code pivot} since it was last saved, to the storage.
+     * Storages which cannot save the changes alone save the whole of {@code pivot}.
+     * @param pivot cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    default void savePivotChanges(ReadOnlyPivot pivot, List<CaseChange> changes) throws IOException {
+        savePivot(pivot);
+    }
+
+    /**
+     * Sets the handler of failures of saves which are written after the save method has returned.
+     * Storages which finish writing before returning report failures by throwing instead.
+     */
+    default void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+    }
+
+    /**
+     * Waits until the saves made so far have been written.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    default void awaitPendingSaves() throws IOException {
+    }
+
+    /**
+     * Waits until the saves made so far have been written, and releases the data file.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    default void close() throws IOException {
+        awaitPendingSaves();
+    }
+
 }
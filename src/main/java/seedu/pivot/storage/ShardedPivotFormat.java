@@ -0,0 +1,236 @@
+package seedu.pivot.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.pivot.commons.util.FileUtil;
+import seedu.pivot.commons.util.JsonUtil;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.exceptions.CaseDetailsUnavailableException;
+
+/**
+ * The layout of sharded PIVOT data, in which each case is saved as a json file of its own in a directory beside the
+ * data file. The file of a case is named by the {@code CaseId} of the case and the revision of the data in which the
+ * file was written, so that a case keeps its ID across saves while the file of each revision is written beside the
+ * files of the data it replaces. The data file itself is a short text manifest of lines holding, in order:
+ * <ul>
+ *     <li>the magic line, {@code PVTS 2};</li>
+ *     <li>the name of the directory of the cases, relative to the directory of the manifest;</li>
+ *     <li>the number of the last journaled change included in the data;</li>
+ *     <li>the revision to be given to the next files of cases written;</li>
+ *     <li>the name of the file of each case without its suffix, in the order of the case list.</li>
+ * </ul>
+ * The manifest is only ever replaced whole, so the data is changed at once when the manifest naming the files of
+ * the new revision replaces the old one.
+ * The manifest starts with bytes which are neither json nor another binary format, so that a sharded data file is
+ * never mistaken for a file in another format.
+ */
+final class ShardedPivotFormat {
+
+    static final String MAGIC = "PVTS";
+    static final int FORMAT_VERSION = 2;
+
+    private static final String SHARD_DIRECTORY_SUFFIX = ".cases";
+    private static final String SHARD_SUFFIX = ".json";
+    private static final int HEADER_LINE_COUNT = 4;
+    private static final Pattern SHARD_NAME = Pattern.compile("\\d{1,19}-\\d{1,18}");
+
+    private ShardedPivotFormat() {}
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the magic bytes of a sharded manifest.
+     */
+    static boolean isShardedFile(Path filePath) throws IOException {
+        byte[] magic = MAGIC.getBytes(StandardCharsets.US_ASCII);
+        byte[] start = new byte[magic.length];
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return inputStream.readNBytes(start, 0, start.length) == start.length && Arrays.equals(start, magic);
+        }
+    }
+
+    /**
+     * Returns the directory in which the cases of the data file at {@code filePath} are saved, unless its manifest
+     * names another.
+     */
+    static Path getDefaultShardDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the name of the file of the case with {@code caseId} written in {@code revision}, without its suffix.
+     */
+    static String getShardName(long caseId, long revision) {
+        return caseId + "-" + revision;
+    }
+
+    /**
+     * Returns true if the file named {@code shardName} is that of the case with {@code caseId}.
+     */
+    static boolean isShardOf(String shardName, long caseId) {
+        return shardName.startsWith(caseId + "-");
+    }
+
+    static Path getShardPath(Path shardDirectory, String shardName) {
+        return shardDirectory.resolve(shardName + SHARD_SUFFIX);
+    }
+
+    /**
+     * Returns the names, without their suffix, of the files in {@code shardDirectory} which are named as cases.
+     */
+    static List<String> listShardNames(Path shardDirectory) throws IOException {
+        if (!Files.isDirectory(shardDirectory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> paths = Files.list(shardDirectory)) {
+            return paths.map(path -> path.getFileName().toString())
+                    .filter(fileName -> fileName.endsWith(SHARD_SUFFIX))
+                    .map(fileName -> fileName.substring(0, fileName.length() - SHARD_SUFFIX.length()))
+                    .filter(shardName -> SHARD_NAME.matcher(shardName).matches())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the revision of the file named {@code shardName}.
+     */
+    static long getRevision(String shardName) {
+        return Long.parseLong(shardName.substring(shardName.indexOf('-') + 1));
+    }
+
+    /**
+     * Saves {@code source} in {@code shardDirectory} as the file named {@code shardName}, replacing it whole.
+     */
+    static void writeShard(Path shardDirectory, String shardName, Case source, boolean isPrettyPrinted)
+            throws IOException {
+        JsonAdaptedCase adaptedCase;
+        try {
+            adaptedCase = new JsonAdaptedCase(source);
+        } catch (CaseDetailsUnavailableException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        String json = isPrettyPrinted ? JsonUtil.toJsonString(adaptedCase) : JsonUtil.toCompactJsonString(adaptedCase);
+        FileUtil.writeToFile(getShardPath(shardDirectory, shardName), json);
+    }
+
+    /**
+     * Returns the cases in the files named {@code shardNames} in {@code shardDirectory}, in the same order, reading
+     * and parsing the files in parallel. The values of the cases are not checked.
+     *
+     * @throws IOException if the file of a case is missing or not json.
+     */
+    static List<JsonAdaptedCase> readShards(Path shardDirectory, List<String> shardNames) throws IOException {
+        try {
+            return shardNames.parallelStream()
+                    .map(shardName -> readShard(getShardPath(shardDirectory, shardName)))
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static JsonAdaptedCase readShard(Path shardPath) {
+        try {
+            if (!Files.exists(shardPath)) {
+                throw new NoSuchFileException(shardPath.toString());
+            }
+            return JsonUtil.fromJsonString(FileUtil.readFromFile(shardPath), JsonAdaptedCase.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the manifest in the data file at {@code filePath}.
+     *
+     * @throws IOException if the file is not a manifest of this version.
+     */
+    static Manifest readManifest(Path filePath) throws IOException {
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        if (lines.size() < HEADER_LINE_COUNT || !lines.get(0).equals(MAGIC + " " + FORMAT_VERSION)) {
+            throw new IOException(filePath + " is not a sharded data file of version " + FORMAT_VERSION);
+        }
+
+        try {
+            String directoryName = lines.get(1);
+            long journalSequence = Long.parseLong(lines.get(2));
+            long nextRevision = Long.parseLong(lines.get(3));
+            List<String> shardNames = new ArrayList<>(lines.subList(HEADER_LINE_COUNT, lines.size()));
+            for (String shardName : shardNames) {
+                if (!SHARD_NAME.matcher(shardName).matches()) {
+                    throw new IOException("Invalid file of a case in " + filePath + ": " + shardName);
+                }
+            }
+            if (directoryName.isEmpty() || directoryName.contains("/") || directoryName.contains(File.separator)) {
+                throw new IOException("Invalid directory of cases in " + filePath + ": " + directoryName);
+            }
+            return new Manifest(filePath.resolveSibling(directoryName), journalSequence, nextRevision, shardNames);
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed manifest " + filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Replaces the data file at {@code filePath} with {@code manifest}, whole and atomically.
+     */
+    static void writeManifest(Path filePath, Manifest manifest) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        lines.append(MAGIC).append(' ').append(FORMAT_VERSION).append('\n')
+                .append(manifest.shardDirectory.getFileName()).append('\n')
+                .append(manifest.journalSequence).append('\n')
+                .append(manifest.nextRevision).append('\n');
+        for (String shardName : manifest.shardNames) {
+            lines.append(shardName).append('\n');
+        }
+        FileUtil.writeToFile(filePath, lines.toString());
+    }
+
+    /**
+     * The contents of a manifest.
+     */
+    static class Manifest {
+        private final Path shardDirectory;
+        private final long journalSequence;
+        private final long nextRevision;
+        private final List<String> shardNames;
+
+        /**
+         * Creates a manifest of the cases in the files named {@code shardNames} in {@code shardDirectory}, which must
+         * be a sibling of the data file.
+         */
+        Manifest(Path shardDirectory, long journalSequence, long nextRevision, List<String> shardNames) {
+            this.shardDirectory = shardDirectory;
+            this.journalSequence = journalSequence;
+            this.nextRevision = nextRevision;
+            this.shardNames = shardNames;
+        }
+
+        Path getShardDirectory() {
+            return shardDirectory;
+        }
+
+        long getJournalSequence() {
+            return journalSequence;
+        }
+
+        long getNextRevision() {
+            return nextRevision;
+        }
+
+        List<String> getShardNames() {
+            return shardNames;
+        }
+    }
+}
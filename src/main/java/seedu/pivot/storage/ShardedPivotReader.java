@@ -0,0 +1,85 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.model.Pivot;
+import seedu.pivot.model.investigationcase.exceptions.DuplicateCaseException;
+
+/**
+ * Reads PIVOT data from a sharded data file, as described by {@link ShardedPivotFormat}.
+ * The files of the cases are read and parsed in parallel, and their values are validated in chunks on a
+ * {@link ParallelCaseConverter}, so that the time taken to read many small files is not spent one file at a time.
+ */
+class ShardedPivotReader implements PivotFileReader {
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedPivotReader.class);
+
+    private final Path filePath;
+    private ShardedPivotFormat.Manifest manifest;
+
+    /**
+     * Creates a reader of the sharded data file at {@code filePath}.
+     */
+    public ShardedPivotReader(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public long getJournalSequence() {
+        return manifest == null ? 0 : manifest.getJournalSequence();
+    }
+
+    /**
+     * Returns the manifest read, or null if the file has not been read.
+     */
+    ShardedPivotFormat.Manifest getManifest() {
+        return manifest;
+    }
+
+    @Override
+    public Optional<Pivot> read() throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Sharded file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        logger.info("Converting sharded data to PIVOT models");
+        try {
+            ShardedPivotFormat.Manifest newManifest = ShardedPivotFormat.readManifest(filePath);
+            Pivot pivot = toPivot(ShardedPivotFormat.readShards(newManifest.getShardDirectory(),
+                    newManifest.getShardNames()));
+            manifest = newManifest;
+            return Optional.of(pivot);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from sharded file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static Pivot toPivot(List<JsonAdaptedCase> adaptedCases) throws IllegalValueException {
+        ParallelCaseConverter converter = new ParallelCaseConverter();
+        adaptedCases.forEach(converter::add);
+
+        Pivot pivot = new Pivot();
+        try {
+            pivot.setCases(converter.getCases());
+        } catch (DuplicateCaseException e) {
+            throw new IllegalValueException(JsonSerializablePivot.MESSAGE_DUPLICATE_PERSON);
+        }
+        return pivot;
+    }
+}
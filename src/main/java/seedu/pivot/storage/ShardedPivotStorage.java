@@ -0,0 +1,264 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.pivot.commons.core.DataFileFormat;
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.model.CaseChange;
+import seedu.pivot.model.ReadOnlyPivot;
+import seedu.pivot.model.investigationcase.Case;
+
+/**
+ * A class to access PIVOT data stored on the hard disk as a json file for each case, listed in order by a small
+ * manifest at the path of the data file, as described by {@link ShardedPivotFormat}.
+ * Saving the changes of a command writes only the files of the cases changed, so that the time taken to save does not
+ * grow with the size of the cases. Changes to more than one case are written as new files beside the old ones and
+ * committed by replacing the manifest, so that the data holds either all the changes of a save or none of them after
+ * a crash. A change to a single case only replaces the file of the case.
+ * The files of the cases are read in parallel.
+ * A data file in another format is converted into sharded data, together with its journal, when it is read.
+ */
+public class ShardedPivotStorage implements PivotStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedPivotStorage.class);
+
+    private final Path filePath;
+    private final boolean isPrettyPrinted;
+    private final ShardedPivotWriter writer;
+
+    /** The directory of the files of the cases, or null if the data file has not been read or saved yet. */
+    private Path shardDirectory;
+    /** The name of the file of each case in the data last read or saved, in the order of the case list. */
+    private List<String> shardNames = new ArrayList<>();
+    private long nextRevision = 0;
+    private long journalSequence = 0;
+    /** Whether the manifest and the files of the cases hold the data last read or saved. */
+    private boolean isShardsCurrent = false;
+    /** The storage the data was last read through, which may still load the details of its cases from the file. */
+    private JournaledPivotStorage sourceStorage;
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which saves each case compactly on a single line.
+     */
+    public ShardedPivotStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which indents the json file of each case across lines
+     * if {@code isPrettyPrinted}.
+     */
+    public ShardedPivotStorage(Path filePath, boolean isPrettyPrinted) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.writer = new ShardedPivotWriter(isPrettyPrinted);
+    }
+
+    @Override
+    public Path getPivotFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyPivot> readPivot() throws DataConversionException, IOException {
+        return readPivot(filePath);
+    }
+
+    /**
+     * Similar to {@link #readPivot()}.
+     * The data file is read together with its journal, if any, so that data saved in another format is kept, and a
+     * data file in another format falls back to its previous generations if it is damaged. Reading the data file of
+     * this storage converts it into sharded data if the data is not held by its manifest alone, and deletes the files
+     * of cases which the manifest does not list, such as those written by a save which was interrupted before it
+     * replaced the manifest.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format, its manifest is damaged, or the file
+     *     of a case is missing.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyPivot> readPivot(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            logger.info("Sharded file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        // The data read before may still load parts of itself, so its files are only closed once no part of it can.
+        sourceStorage = new JournaledPivotStorage(filePath, DataFileFormat.SHARDED,
+                isPrettyPrinted, JournaledPivotStorage.DEFAULT_COMPACTION_THRESHOLD, Runnable::run);
+        // The manifest alone records which files hold sharded data, so damaged sharded data is reported rather than
+        // recovered from an older generation saved in another format.
+        boolean isSharded = ShardedPivotFormat.isShardedFile(filePath);
+        Optional<ReadOnlyPivot> pivot = isSharded
+                ? sourceStorage.readCurrentPivot(filePath)
+                : sourceStorage.readPivot(filePath);
+        if (!pivot.isPresent() || !filePath.equals(this.filePath)) {
+            return pivot;
+        }
+
+        journalSequence = sourceStorage.getJournalSequence();
+        ShardedPivotFormat.Manifest manifest = isSharded ? ShardedPivotFormat.readManifest(filePath) : null;
+        if (manifest == null || manifest.getJournalSequence() != journalSequence) {
+            // Saving the data whole gives it a manifest holding the number of the last change in the journal.
+            savePivot(pivot.get());
+            logger.info("Converted " + filePath + " to sharded data");
+            return pivot;
+        }
+
+        setManifest(manifest);
+        deleteUnlistedShards();
+        isShardsCurrent = true;
+        return pivot;
+    }
+
+    @Override
+    public void savePivot(ReadOnlyPivot pivot) throws IOException {
+        savePivot(pivot, filePath);
+    }
+
+    /**
+     * Similar to {@link #savePivot(ReadOnlyPivot)}.
+     * Every case is saved again, in a new revision, before the manifest is replaced.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void savePivot(ReadOnlyPivot pivot, Path filePath) throws IOException {
+        requireAllNonNull(pivot, filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writer.write(pivot.getCaseList(), 0, filePath);
+            return;
+        }
+
+        // The checksums kept of the data file by other storages no longer hold once the manifest changes in place.
+        SnapshotGenerations.deleteManifest(filePath);
+        isShardsCurrent = false;
+        writer.write(pivot.getCaseList(), journalSequence, filePath);
+        setManifest(ShardedPivotFormat.readManifest(filePath));
+        isShardsCurrent = true;
+    }
+
+    /**
+     * Writes the files of the cases changed by {@code changes} in a new revision, replaces the manifest with one
+     * naming them, and then deletes the files they replace and those of the cases deleted. A change to a single case,
+     * which leaves the order of the cases as it is, replaces the file of the case in place instead. Saves the whole of
+     * {@code pivot} instead if the data file does not hold the data last read or saved. Saving no changes writes
+     * nothing.
+     * A case changed more than once is written once, as it is in {@code pivot}.
+     */
+    @Override
+    public synchronized void savePivotChanges(ReadOnlyPivot pivot, List<CaseChange> changes) throws IOException {
+        requireAllNonNull(pivot, changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        if (!isShardsCurrent) {
+            savePivot(pivot);
+            return;
+        }
+
+        // Each position holds the name of the file of the case there, or null if the case is to be written.
+        List<String> newShardNames = new ArrayList<>(shardNames);
+        List<String> replacedNames = new ArrayList<>();
+        boolean isOrderChanged = false;
+        try {
+            for (CaseChange change : changes) {
+                if (change.getBefore() == null) {
+                    newShardNames.add(change.getIndex(), null);
+                    isOrderChanged = true;
+                } else if (change.getAfter() == null) {
+                    String deletedName = newShardNames.remove(change.getIndex());
+                    if (deletedName != null) {
+                        replacedNames.add(deletedName);
+                    }
+                    isOrderChanged = true;
+                } else {
+                    String replacedName = newShardNames.set(change.getIndex(), null);
+                    if (replacedName != null) {
+                        replacedNames.add(replacedName);
+                    }
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Changes do not match the data file: " + e.getMessage(), e);
+        }
+        List<Case> cases = pivot.getCaseList();
+        if (newShardNames.size() != cases.size()) {
+            throw new IOException("Changes do not match the data file: " + newShardNames.size() + " cases expected, "
+                    + cases.size() + " found");
+        }
+
+        // A failed save may leave some of the changes written, so the next save rewrites all the data instead.
+        isShardsCurrent = false;
+        if (!isOrderChanged && replacedNames.size() == 1) {
+            int index = newShardNames.indexOf(null);
+            String shardName = replacedNames.get(0);
+            if (ShardedPivotFormat.isShardOf(shardName, cases.get(index).getId().getValue())) {
+                ShardedPivotFormat.writeShard(shardDirectory, shardName, cases.get(index), isPrettyPrinted);
+                isShardsCurrent = true;
+                return;
+            }
+        }
+
+        long revision = nextRevision;
+        for (int i = 0; i < newShardNames.size(); i++) {
+            if (newShardNames.get(i) == null) {
+                String shardName = ShardedPivotFormat.getShardName(cases.get(i).getId().getValue(), revision);
+                ShardedPivotFormat.writeShard(shardDirectory, shardName, cases.get(i), isPrettyPrinted);
+                newShardNames.set(i, shardName);
+            }
+        }
+        ShardedPivotFormat.writeManifest(filePath,
+                new ShardedPivotFormat.Manifest(shardDirectory, journalSequence, revision + 1, newShardNames));
+        shardNames = newShardNames;
+        nextRevision = revision + 1;
+        for (String replacedName : replacedNames) {
+            Files.deleteIfExists(ShardedPivotFormat.getShardPath(shardDirectory, replacedName));
+        }
+        isShardsCurrent = true;
+    }
+
+    /**
+     * Closes the files the data last read may still load from.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (sourceStorage != null) {
+            sourceStorage.close();
+            sourceStorage = null;
+        }
+    }
+
+    private void setManifest(ShardedPivotFormat.Manifest manifest) {
+        shardDirectory = manifest.getShardDirectory();
+        shardNames = new ArrayList<>(manifest.getShardNames());
+        nextRevision = manifest.getNextRevision();
+        journalSequence = manifest.getJournalSequence();
+    }
+
+    private void deleteUnlistedShards() throws IOException {
+        Set<String> listedNames = new HashSet<>(shardNames);
+        for (String shardName : ShardedPivotFormat.listShardNames(shardDirectory)) {
+            if (!listedNames.contains(shardName)) {
+                Files.deleteIfExists(ShardedPivotFormat.getShardPath(shardDirectory, shardName));
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.pivot.commons.util.FileUtil;
+import seedu.pivot.model.investigationcase.Case;
+
+/**
+ * Writes PIVOT data to a sharded data file, as described by {@link ShardedPivotFormat}, with every case saved again
+ * in a new revision in the directory named after the file.
+ * The files of the cases are written before the manifest which names them, and the files left over from the data
+ * replaced are deleted after it, so that the data file holds either the old or the new data after a crash.
+ */
+class ShardedPivotWriter implements PivotFileWriter {
+
+    private final boolean isPrettyPrinted;
+
+    /**
+     * Creates a writer which indents the json files of cases across lines if {@code isPrettyPrinted}.
+     */
+    ShardedPivotWriter(boolean isPrettyPrinted) {
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    @Override
+    public void write(Collection<Case> cases, long journalSequence, Path filePath) throws IOException {
+        requireNonNull(cases);
+        requireNonNull(filePath);
+
+        Path shardDirectory = ShardedPivotFormat.getDefaultShardDirectory(filePath);
+        FileUtil.createDirectories(shardDirectory);
+        long revision = getNextFreeRevision(filePath, shardDirectory);
+        List<String> shardNames = new ArrayList<>(cases.size());
+        Set<Long> caseIds = new HashSet<>();
+        for (Case investigationCase : cases) {
+            long caseId = investigationCase.getId().getValue();
+            if (!caseIds.add(caseId)) {
+                throw new IOException("More than one case with ID " + caseId);
+            }
+            String shardName = ShardedPivotFormat.getShardName(caseId, revision);
+            ShardedPivotFormat.writeShard(shardDirectory, shardName, investigationCase, isPrettyPrinted);
+            shardNames.add(shardName);
+        }
+        ShardedPivotFormat.writeManifest(filePath,
+                new ShardedPivotFormat.Manifest(shardDirectory, journalSequence, revision + 1, shardNames));
+
+        Set<String> listedNames = new HashSet<>(shardNames);
+        for (String leftoverName : ShardedPivotFormat.listShardNames(shardDirectory)) {
+            if (!listedNames.contains(leftoverName)) {
+                Files.deleteIfExists(ShardedPivotFormat.getShardPath(shardDirectory, leftoverName));
+            }
+        }
+    }
+
+    /**
+     * Returns the first revision which no file in {@code shardDirectory}, nor the manifest at {@code filePath}, uses,
+     * so that the cases of the data being replaced are kept until the new manifest is written.
+     */
+    private static long getNextFreeRevision(Path filePath, Path shardDirectory) throws IOException {
+        long nextRevision = 0;
+        if (Files.exists(filePath) && ShardedPivotFormat.isShardedFile(filePath)) {
+            try {
+                nextRevision = ShardedPivotFormat.readManifest(filePath).getNextRevision();
+            } catch (IOException e) {
+                // A damaged manifest is replaced, so only the files of cases need to be kept clear of.
+            }
+        }
+        for (String shardName : ShardedPivotFormat.listShardNames(shardDirectory)) {
+            nextRevision = Math.max(nextRevision, ShardedPivotFormat.getRevision(shardName) + 1);
+        }
+        return nextRevision;
+    }
+}
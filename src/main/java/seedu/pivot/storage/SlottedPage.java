@@ -0,0 +1,186 @@
+package seedu.pivot.storage;
+
+import static seedu.pivot.storage.PagedPivotFormat.PAGE_HEADER_SIZE;
+import static seedu.pivot.storage.PagedPivotFormat.PAGE_SIZE;
+import static seedu.pivot.storage.PagedPivotFormat.SLOT_SIZE;
+import static seedu.pivot.storage.PagedPivotFormat.readBytes;
+import static seedu.pivot.storage.PagedPivotFormat.writeBytes;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+/**
+ * A slotted page of a paged PIVOT data file, as described by {@link PagedPivotFormat}, read and written through a
+ * buffer holding the page.
+ * The bytes of a record are never written over while a slot points to them: a record is only added in the free space
+ * between the slots and the record area, and a page is compacted by copying its records into another page.
+ */
+class SlottedPage {
+
+    private static final int SLOT_COUNT_OFFSET = 2;
+    private static final int RECORD_AREA_LENGTH_OFFSET = 4;
+    private static final int SLOT_LENGTH_OFFSET = 2;
+    /** The flag set in the record position of a slot whose record is pending. */
+    private static final int PENDING_FLAG = 0x8000;
+
+    private final ByteBuffer page;
+
+    /**
+     * Creates a view of the slotted page held by {@code page}, which holds exactly one page.
+     */
+    SlottedPage(ByteBuffer page) {
+        assert page.capacity() == PAGE_SIZE;
+        this.page = page;
+    }
+
+    int getSlotCount() {
+        return Short.toUnsignedInt(page.getShort(SLOT_COUNT_OFFSET));
+    }
+
+    boolean isUsed(int slot) {
+        return getRecordLength(slot) > 0;
+    }
+
+    boolean isPending(int slot) {
+        return (Short.toUnsignedInt(page.getShort(getSlotOffset(slot))) & PENDING_FLAG) != 0;
+    }
+
+    int getRecordOffset(int slot) {
+        return Short.toUnsignedInt(page.getShort(getSlotOffset(slot))) & ~PENDING_FLAG;
+    }
+
+    int getRecordLength(int slot) {
+        return Short.toUnsignedInt(page.getShort(getSlotOffset(slot) + SLOT_LENGTH_OFFSET));
+    }
+
+    byte[] getRecord(int slot) {
+        byte[] record = new byte[getRecordLength(slot)];
+        readBytes(page, getRecordOffset(slot), record, 0, record.length);
+        return record;
+    }
+
+    /**
+     * Returns the length of the largest record which can be added to the page once it is compacted.
+     */
+    int getFreeSpace() {
+        int slotCount = getSlotCount() + (findFreeSlot() < 0 ? 1 : 0);
+        return Math.max(0, PAGE_SIZE - PAGE_HEADER_SIZE - slotCount * SLOT_SIZE - getUsedRecordBytes());
+    }
+
+    /**
+     * Adds {@code record} to the page as a committed record.
+     * @return the slot of the record, or -1 if there is not enough space for it.
+     * @see #add(byte[], boolean)
+     */
+    int add(byte[] record) {
+        return add(record, false);
+    }
+
+    /**
+     * Adds {@code record} to the page, marked pending if {@code isPending}, in the space between the slots and the
+     * record area. No other record is moved, so the page is left unchanged if there is not enough space there.
+     * The record is written before the slot pointing to it.
+     * @return the slot of the record, or -1 if there is not enough space for it.
+     */
+    int add(byte[] record, boolean isPending) {
+        int slot = findFreeSlot();
+        int slotCount = slot < 0 ? getSlotCount() + 1 : getSlotCount();
+        int offset = getRecordAreaStart() - record.length;
+        if (record.length == 0 || offset < PAGE_HEADER_SIZE + slotCount * SLOT_SIZE) {
+            return -1;
+        }
+
+        writeBytes(page, offset, record, 0, record.length);
+        page.putShort(RECORD_AREA_LENGTH_OFFSET, (short) (PAGE_SIZE - offset));
+        if (slot < 0) {
+            slot = slotCount - 1;
+            setSlot(slot, offset, record.length, isPending);
+            page.putShort(SLOT_COUNT_OFFSET, (short) slotCount);
+        } else {
+            setSlot(slot, offset, record.length, isPending);
+        }
+        return slot;
+    }
+
+    /**
+     * Marks the record in {@code slot} as committed.
+     */
+    void commit(int slot) {
+        page.putShort(getSlotOffset(slot), (short) getRecordOffset(slot));
+    }
+
+    /**
+     * Frees {@code slot}, and the space taken by its record.
+     */
+    void remove(int slot) {
+        setSlot(slot, 0, 0, false);
+        int slotCount = getSlotCount();
+        while (slotCount > 0 && !isUsed(slotCount - 1)) {
+            slotCount--;
+        }
+        page.putShort(SLOT_COUNT_OFFSET, (short) slotCount);
+        if (slotCount == 0) {
+            clear();
+        }
+    }
+
+    /**
+     * Empties the page.
+     */
+    void clear() {
+        page.putLong(0, 0);
+    }
+
+    /**
+     * Writes the records in {@code slots} of this page to {@code shadow}, an empty page, in the same slots but with no
+     * free space between them, and marked pending. This page is left unchanged.
+     */
+    void compactInto(SlottedPage shadow, BitSet slots) {
+        int slotCount = getSlotCount();
+        int offset = PAGE_SIZE;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (!slots.get(slot)) {
+                shadow.setSlot(slot, 0, 0, false);
+                continue;
+            }
+            byte[] record = getRecord(slot);
+            offset -= record.length;
+            writeBytes(shadow.page, offset, record, 0, record.length);
+            shadow.setSlot(slot, offset, record.length, true);
+        }
+        shadow.page.putShort(RECORD_AREA_LENGTH_OFFSET, (short) (PAGE_SIZE - offset));
+        shadow.page.putShort(SLOT_COUNT_OFFSET, (short) slotCount);
+    }
+
+    private int getRecordAreaStart() {
+        return PAGE_SIZE - Short.toUnsignedInt(page.getShort(RECORD_AREA_LENGTH_OFFSET));
+    }
+
+    private int getUsedRecordBytes() {
+        int usedBytes = 0;
+        for (int slot = 0; slot < getSlotCount(); slot++) {
+            usedBytes += getRecordLength(slot);
+        }
+        return usedBytes;
+    }
+
+    private int findFreeSlot() {
+        for (int slot = 0; slot < getSlotCount(); slot++) {
+            if (!isUsed(slot)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private static int getSlotOffset(int slot) {
+        return PAGE_HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    /**
+     * Points {@code slot} to the record of {@code length} bytes at {@code offset}, in a single write.
+     */
+    private void setSlot(int slot, int offset, int length, boolean isPending) {
+        page.putInt(getSlotOffset(slot), ((offset | (isPending ? PENDING_FLAG : 0)) << Short.SIZE) | length);
+    }
+}
@@ -0,0 +1,313 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.util.FileUtil;
+import seedu.pivot.model.investigationcase.Case;
+
+/**
+ * The snapshots of a data file kept by a {@link JournaledPivotStorage} or a {@link PagedPivotStorage}: the current
+ * snapshot at the path of the data file, and the previous generations of it beside the data file, numbered in the
+ * order they were replaced or copied.
+ * A manifest beside the data file records the length and checksum of each snapshot, so that a snapshot damaged by an
+ * interrupted write or a full disk is found without parsing it, and the first segment of the journal which each
+ * snapshot does not include, so that the journal is kept for as long as some generation needs it.
+ * Snapshots missing from the manifest, such as those saved before it existed, are checked by parsing them instead.
+ */
+class SnapshotGenerations {
+
+    static final int DEFAULT_GENERATION_COUNT = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotGenerations.class);
+    private static final String GENERATION_SUFFIX = ".gen-";
+    private static final String MANIFEST_SUFFIX = ".generations";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final Pattern GENERATION_NUMBER = Pattern.compile("\\d{1,9}");
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private final Path filePath;
+    private final int generationCount;
+
+    /**
+     * Creates the generations of the data file at {@code filePath}, which keep the current snapshot and up to
+     * {@code generationCount - 1} previous generations.
+     */
+    SnapshotGenerations(Path filePath, int generationCount) {
+        requireNonNull(filePath);
+        if (generationCount <= 0) {
+            throw new IllegalArgumentException("Generation count must be positive");
+        }
+        this.filePath = filePath;
+        this.generationCount = generationCount;
+    }
+
+    /**
+     * Returns the snapshots of the data file which exist, newest first: the current snapshot, if any, followed by the
+     * previous generations.
+     */
+    List<Snapshot> getSnapshots() throws IOException {
+        Map<String, ManifestEntry> manifest = readManifest();
+        List<Path> paths = getGenerationPaths();
+        Collections.reverse(paths);
+        if (Files.exists(filePath)) {
+            paths.add(0, filePath);
+        }
+        return paths.stream()
+                .map(path -> new Snapshot(path, manifest.get(path.getFileName().toString())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Writes {@code cases}, which include the changes in the journal up to {@code journalSequence}, as the new current
+     * snapshot, and keeps the current snapshot, if any, as the newest previous generation. The oldest generations
+     * beyond the number kept are deleted.
+     * The new snapshot is forced onto the disk before it replaces the current snapshot, so that the data file holds
+     * either of them, whole, after a crash.
+     *
+     * @param firstLiveSegment the first segment of the journal which the new snapshot does not include.
+     * @return the first segment of the journal which some snapshot kept does not include. The segments before it are
+     *     no longer needed.
+     */
+    int write(PivotFileWriter writer, Collection<Case> cases, long journalSequence, int firstLiveSegment)
+            throws IOException {
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_SUFFIX);
+        writer.write(cases, journalSequence, temporaryPath);
+        ManifestEntry newEntry = new ManifestEntry(Files.size(temporaryPath), computeChecksum(temporaryPath),
+                firstLiveSegment);
+
+        Map<String, ManifestEntry> manifest = readManifest();
+        List<Path> generationPaths = getGenerationPaths();
+        if (Files.exists(filePath)) {
+            Path generationPath = getNextGenerationPath(generationPaths);
+            keepAsGeneration(generationPath);
+            generationPaths.add(generationPath);
+            ManifestEntry currentEntry = manifest.get(filePath.getFileName().toString());
+            if (currentEntry != null) {
+                manifest.put(generationPath.getFileName().toString(), currentEntry);
+            }
+        }
+        FileUtil.moveDurably(temporaryPath, filePath);
+        deleteOldGenerations(generationPaths);
+
+        Map<String, ManifestEntry> newManifest = new LinkedHashMap<>();
+        newManifest.put(filePath.getFileName().toString(), newEntry);
+        int firstNeededSegment = firstLiveSegment;
+        for (Path generationPath : generationPaths) {
+            ManifestEntry entry = manifest.get(generationPath.getFileName().toString());
+            if (entry == null) {
+                // The journal this generation needs is unknown, so none of it is given up.
+                firstNeededSegment = 0;
+                continue;
+            }
+            newManifest.put(generationPath.getFileName().toString(), entry);
+            firstNeededSegment = Math.min(firstNeededSegment, entry.firstLiveSegment);
+        }
+        writeManifest(newManifest);
+        return firstNeededSegment;
+    }
+
+    /**
+     * Makes {@code generationPath} a second name of the current snapshot, or a copy of it if the file system does not
+     * support links, so that the current snapshot is kept when it is replaced.
+     */
+    private void keepAsGeneration(Path generationPath) throws IOException {
+        try {
+            Files.createLink(generationPath, filePath);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(filePath, generationPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Copies the current snapshot as the newest previous generation, for storages which go on to change the data file
+     * in place, so that the data file can still be recovered as it is now. The oldest generations beyond the number
+     * kept are deleted, and so is the manifest, whose checksum of the data file no longer holds once it changes.
+     */
+    void keepCopy() throws IOException {
+        List<Path> generationPaths = getGenerationPaths();
+        Path generationPath = getNextGenerationPath(generationPaths);
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_SUFFIX);
+        Files.copy(filePath, temporaryPath, StandardCopyOption.REPLACE_EXISTING);
+        FileUtil.moveDurably(temporaryPath, generationPath);
+        generationPaths.add(generationPath);
+        deleteOldGenerations(generationPaths);
+        deleteManifest(filePath);
+    }
+
+    /**
+     * Deletes the oldest of {@code generationPaths}, which are ordered oldest first, beyond the number kept.
+     */
+    private void deleteOldGenerations(List<Path> generationPaths) throws IOException {
+        while (generationPaths.size() > generationCount - 1) {
+            Files.deleteIfExists(generationPaths.remove(0));
+        }
+    }
+
+    /**
+     * Deletes the manifest of the data file at {@code filePath}, for storages which change the data file in place, so
+     * that its recorded checksum does not mark the changed file as damaged.
+     */
+    static void deleteManifest(Path filePath) throws IOException {
+        Files.deleteIfExists(getManifestPath(filePath));
+    }
+
+    private static Path getManifestPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + MANIFEST_SUFFIX);
+    }
+
+    private Path getGenerationPath(int generation) {
+        return filePath.resolveSibling(filePath.getFileName() + GENERATION_SUFFIX + generation);
+    }
+
+    /**
+     * Returns the path of the generation after the newest of {@code generationPaths}, which are ordered oldest first.
+     */
+    private Path getNextGenerationPath(List<Path> generationPaths) {
+        return getGenerationPath(generationPaths.isEmpty()
+                ? 1
+                : getGenerationNumber(generationPaths.get(generationPaths.size() - 1)) + 1);
+    }
+
+    private static int getGenerationNumber(Path generationPath) {
+        String fileName = generationPath.getFileName().toString();
+        return Integer.parseInt(fileName.substring(fileName.lastIndexOf(GENERATION_SUFFIX)
+                + GENERATION_SUFFIX.length()));
+    }
+
+    /**
+     * Returns the paths of the previous generations of the data file, oldest first.
+     */
+    private List<Path> getGenerationPaths() throws IOException {
+        Path directoryPath = filePath.toAbsolutePath().getParent();
+        if (directoryPath == null || !Files.isDirectory(directoryPath)) {
+            return new ArrayList<>();
+        }
+
+        String generationPrefix = filePath.getFileName() + GENERATION_SUFFIX;
+        try (Stream<Path> paths = Files.list(directoryPath)) {
+            return paths.filter(path -> {
+                String fileName = path.getFileName().toString();
+                return fileName.startsWith(generationPrefix)
+                        && GENERATION_NUMBER.matcher(fileName.substring(generationPrefix.length())).matches();
+            })
+                    .map(path -> filePath.resolveSibling(path.getFileName()))
+                    .sorted(Comparator.comparingInt(SnapshotGenerations::getGenerationNumber))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the entries of the manifest by the file names of the snapshots. Lines which cannot be parsed, and the
+     * whole manifest if it is missing, are treated as missing entries.
+     */
+    private Map<String, ManifestEntry> readManifest() throws IOException {
+        Map<String, ManifestEntry> manifest = new LinkedHashMap<>();
+        Path manifestPath = getManifestPath(filePath);
+        if (!Files.exists(manifestPath)) {
+            return manifest;
+        }
+
+        for (String line : Files.readAllLines(manifestPath, StandardCharsets.UTF_8)) {
+            String[] fields = line.split(FIELD_SEPARATOR);
+            try {
+                manifest.put(fields[0], new ManifestEntry(Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                        Integer.parseInt(fields[3])));
+            } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+                logger.warning("Ignoring malformed line in " + manifestPath + ": " + line);
+            }
+        }
+        return manifest;
+    }
+
+    private void writeManifest(Map<String, ManifestEntry> manifest) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        manifest.forEach((fileName, entry) -> lines.append(fileName)
+                .append(FIELD_SEPARATOR).append(entry.length)
+                .append(FIELD_SEPARATOR).append(entry.checksum)
+                .append(FIELD_SEPARATOR).append(entry.firstLiveSegment)
+                .append('\n'));
+        FileUtil.writeToFile(getManifestPath(filePath), lines.toString());
+    }
+
+    private static long computeChecksum(Path path) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+        try (InputStream input = Files.newInputStream(path)) {
+            int length;
+            while ((length = input.read(buffer)) > 0) {
+                checksum.update(buffer, 0, length);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * The length and checksum of a snapshot when it was written, and the first segment of the journal it does not
+     * include.
+     */
+    private static class ManifestEntry {
+        private final long length;
+        private final long checksum;
+        private final int firstLiveSegment;
+
+        ManifestEntry(long length, long checksum, int firstLiveSegment) {
+            this.length = length;
+            this.checksum = checksum;
+            this.firstLiveSegment = firstLiveSegment;
+        }
+    }
+
+    /**
+     * A snapshot of the data file, together with what the manifest records about it, if anything.
+     */
+    static class Snapshot {
+        private final Path path;
+        private final ManifestEntry entry;
+
+        private Snapshot(Path path, ManifestEntry entry) {
+            this.path = path;
+            this.entry = entry;
+        }
+
+        Path getPath() {
+            return path;
+        }
+
+        /**
+         * Returns the first segment of the journal which the snapshot does not include, or 0 if it is not known.
+         */
+        int getFirstLiveSegment() {
+            return entry == null ? 0 : entry.firstLiveSegment;
+        }
+
+        /**
+         * Returns false if the snapshot does not match the length and checksum recorded for it in the manifest.
+         * Snapshots missing from the manifest are assumed to be intact, and are checked when they are parsed.
+         */
+        boolean isIntact() throws IOException {
+            return entry == null
+                    || (Files.size(path) == entry.length && computeChecksum(path) == entry.checksum);
+        }
+    }
+}
@@ -2,9 +2,12 @@ package seedu.pivot.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.model.CaseChange;
 import seedu.pivot.model.ReadOnlyPivot;
 import seedu.pivot.model.ReadOnlyUserPrefs;
 import seedu.pivot.model.UserPrefs;
@@ -29,6 +32,18 @@ public interface Storage extends PivotStorage, UserPrefsStorage {
     @Override
     void savePivot(ReadOnlyPivot pivot) throws IOException;
 
+    @Override
+    void savePivotChanges(ReadOnlyPivot pivot, List<CaseChange> changes) throws IOException;
+
+    @Override
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
+    @Override
+    void awaitPendingSaves() throws IOException;
+
+    @Override
+    void close() throws IOException;
+
     void addReferenceTestFile() throws IOException;
 
 }
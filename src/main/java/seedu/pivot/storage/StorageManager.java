@@ -2,11 +2,14 @@ package seedu.pivot.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.pivot.commons.core.LogsCenter;
 import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.model.CaseChange;
 import seedu.pivot.model.ReadOnlyPivot;
 import seedu.pivot.model.ReadOnlyUserPrefs;
 import seedu.pivot.model.UserPrefs;
@@ -79,6 +82,27 @@ public class StorageManager implements Storage {
         pivotStorage.savePivot(pivot, filePath);
     }
 
+    @Override
+    public void savePivotChanges(ReadOnlyPivot pivot, List<CaseChange> changes) throws IOException {
+        logger.fine("Attempting to write " + changes.size() + " changes to data file: " + getPivotFilePath());
+        pivotStorage.savePivotChanges(pivot, changes);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        pivotStorage.setSaveFailureHandler(saveFailureHandler);
+    }
+
+    @Override
+    public void awaitPendingSaves() throws IOException {
+        pivotStorage.awaitPendingSaves();
+    }
+
+    @Override
+    public void close() throws IOException {
+        pivotStorage.close();
+    }
+
     // ================ ReferenceStorage methods ==============================
     @Override
     public void addReferenceTestFile() throws IOException {
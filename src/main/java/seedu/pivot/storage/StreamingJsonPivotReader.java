@@ -0,0 +1,122 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.pivot.commons.core.LogsCenter;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.commons.util.JsonUtil;
+import seedu.pivot.model.Pivot;
+import seedu.pivot.model.investigationcase.exceptions.DuplicateCaseException;
+
+/**
+ * Reads PIVOT data saved in the format of {@link JsonSerializablePivot} from a json file, one case at a time.
+ * Files compressed by a {@link CompressionCodec} are decompressed as they are read.
+ * Cases are read one at a time and converted in chunks on a {@link ParallelCaseConverter} while later cases are read,
+ * so that the whole file and its text are never held at once, and validation is spread over all the processors.
+ */
+class StreamingJsonPivotReader implements PivotFileReader {
+
+    private static final Logger logger = LogsCenter.getLogger(StreamingJsonPivotReader.class);
+    private static final String CASES_FIELD = "persons";
+    private static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private final Path filePath;
+    private long journalSequence = 0;
+
+    /**
+     * Creates a reader of the json file at {@code filePath}.
+     */
+    public StreamingJsonPivotReader(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    @Override
+    public Optional<Pivot> read() throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        logger.info("Converting JSON to PIVOT models");
+        try (InputStream inputStream = CompressionCodecs.decompressIfCompressed(Files.newInputStream(filePath));
+                JsonParser parser = JsonUtil.createParser(inputStream)) {
+            return Optional.of(readPivot(parser));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    private Pivot readPivot(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected PIVOT data to be a json object");
+        }
+
+        Pivot pivot = new Pivot();
+        journalSequence = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (CASES_FIELD.equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                readCases(parser, pivot);
+            } else if (JOURNAL_SEQUENCE_FIELD.equals(fieldName) && valueToken != JsonToken.VALUE_NULL) {
+                journalSequence = parser.getValueAsLong();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Expected PIVOT data to end with the end of a json object");
+        }
+        return pivot;
+    }
+
+    /**
+     * Converts the cases in the array at the current token of {@code parser} and sets them as the cases of
+     * {@code pivot}, checking that they are unique once all of them are converted.
+     */
+    private static void readCases(JsonParser parser, Pivot pivot) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected cases to be a json array");
+        }
+
+        ParallelCaseConverter converter = new ParallelCaseConverter();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() == null) {
+                throw new JsonParseException(parser, "Expected cases to end with the end of a json array");
+            }
+            JsonAdaptedCase jsonAdaptedCase = JsonUtil.readValue(parser, JsonAdaptedCase.class);
+            if (jsonAdaptedCase == null) {
+                throw new JsonParseException(parser, "Expected a case to be a json object");
+            }
+            converter.add(jsonAdaptedCase);
+        }
+
+        try {
+            pivot.setCases(converter.getCases());
+        } catch (DuplicateCaseException e) {
+            throw new IllegalValueException(JsonSerializablePivot.MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+}
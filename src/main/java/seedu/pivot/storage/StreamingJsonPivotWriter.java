@@ -0,0 +1,79 @@
+package seedu.pivot.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.zip.Deflater;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.pivot.commons.core.DataFileCompression;
+import seedu.pivot.commons.util.FileUtil;
+import seedu.pivot.commons.util.JsonUtil;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.exceptions.CaseDetailsUnavailableException;
+
+/**
+ * Writes PIVOT data to a json file in the format of {@link JsonSerializablePivot}, one case at a time.
+ * Each case is adapted and written to the buffer of the file as soon as it is reached, so that only one case is held
+ * in its json form at once, instead of all the adapted cases, the text of the file and its bytes.
+ * The data is written beside the file and then moved over it, so that an interrupted write leaves the file unchanged.
+ */
+class StreamingJsonPivotWriter implements PivotFileWriter {
+
+    private static final String CASES_FIELD = "persons";
+    private static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+
+    private final boolean isPrettyPrinted;
+    private final DataFileCompression compression;
+    private final int compressionLevel;
+
+    /**
+     * Creates a writer of json files, which are indented across lines if {@code isPrettyPrinted}, or written on a
+     * single line otherwise.
+     */
+    public StreamingJsonPivotWriter(boolean isPrettyPrinted) {
+        this(isPrettyPrinted, DataFileCompression.NONE, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates a writer of json files as above, whose text is compressed as set by {@code compression} at
+     * {@code compressionLevel} as it is written.
+     */
+    public StreamingJsonPivotWriter(boolean isPrettyPrinted, DataFileCompression compression, int compressionLevel) {
+        requireNonNull(compression);
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.compression = compression;
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public void write(Collection<Case> cases, long journalSequence, Path filePath) throws IOException {
+        requireNonNull(cases);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryPath = FileUtil.getTemporaryFile(filePath);
+        try (OutputStream fileStream = Files.newOutputStream(temporaryPath);
+                OutputStream outputStream = CompressionCodecs.compress(fileStream, compression, compressionLevel);
+                JsonGenerator generator = JsonUtil.createGenerator(outputStream, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(CASES_FIELD);
+            for (Case investigationCase : cases) {
+                JsonUtil.writeValue(generator, new JsonAdaptedCase(investigationCase));
+            }
+            generator.writeEndArray();
+            if (journalSequence != 0) {
+                generator.writeNumberField(JOURNAL_SEQUENCE_FIELD, journalSequence);
+            }
+            generator.writeEndObject();
+        } catch (CaseDetailsUnavailableException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        FileUtil.moveDurably(temporaryPath, filePath);
+    }
+}
@@ -1,14 +1,16 @@
 package seedu.pivot.ui;
 
+import static seedu.pivot.commons.core.UserMessages.MESSAGE_CASE_DETAILS_UNAVAILABLE;
 import static seedu.pivot.logic.commands.Command.TYPE_DOC;
 import static seedu.pivot.logic.commands.Command.TYPE_SUSPECT;
 import static seedu.pivot.logic.commands.Command.TYPE_VICTIM;
 import static seedu.pivot.logic.commands.Command.TYPE_WITNESS;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
@@ -33,7 +35,9 @@ import seedu.pivot.logic.commands.exceptions.CommandException;
 import seedu.pivot.logic.parser.exceptions.ParseException;
 import seedu.pivot.model.investigationcase.ArchiveStatus;
 import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.Document;
 import seedu.pivot.model.investigationcase.caseperson.CasePerson;
+import seedu.pivot.model.investigationcase.exceptions.CaseDetailsUnavailableException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -256,6 +260,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getPivotFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -289,27 +294,44 @@ public class MainWindow extends UiPart<Stage> {
             investigationCase = logic.getFilteredCaseList().get(indexSimpleObjectProperty.get().getZeroBased());
         }
 
+        String description = EMPTY;
+        List<Document> documents = new ArrayList<>();
+        List<CasePerson> suspects = new ArrayList<>();
+        List<CasePerson> witnesses = new ArrayList<>();
+        List<CasePerson> victims = new ArrayList<>();
+        if (investigationCase != null) {
+            try {
+                description = investigationCase.getDescription().toString();
+                documents = investigationCase.getDocuments();
+                suspects = new ArrayList<>(investigationCase.getSuspects());
+                witnesses = new ArrayList<>(investigationCase.getWitnesses());
+                victims = new ArrayList<>(investigationCase.getVictims());
+            } catch (CaseDetailsUnavailableException e) {
+                // Only the title and status are shown, as they are kept with the case.
+                logger.warning("Could not load the details of the case shown: " + e.getMessage());
+                resultDisplay.setFeedbackToUser(String.format(MESSAGE_CASE_DETAILS_UNAVAILABLE, e.getMessage()));
+                description = EMPTY;
+                documents = new ArrayList<>();
+                suspects = new ArrayList<>();
+                witnesses = new ArrayList<>();
+                victims = new ArrayList<>();
+            }
+        }
+
         caseTitle.setText(investigationCase == null ? EMPTY : investigationCase.getTitle().toString());
-        caseDescription.setText(investigationCase == null ? EMPTY : investigationCase.getDescription().toString());
+        caseDescription.setText(description);
         caseStatus.setText(investigationCase == null ? EMPTY : investigationCase.getStatus().toString());
 
-        documentListPanel = new DocumentListPanel(FXCollections.observableList(
-                investigationCase == null ? new ArrayList<>() : investigationCase.getDocuments()));
+        documentListPanel = new DocumentListPanel(FXCollections.observableList(documents));
         documentListPanelPlaceholder.getChildren().add(documentListPanel.getRoot());
 
-        suspectListPanel = new CasePersonListPanel(FXCollections.observableList(
-                investigationCase == null ? new ArrayList<>() : investigationCase.getSuspects().stream()
-                        .map(x -> (CasePerson) x).collect(Collectors.toList())));
+        suspectListPanel = new CasePersonListPanel(FXCollections.observableList(suspects));
         suspectListPanelPlaceholder.getChildren().add(suspectListPanel.getRoot());
 
-        witnessListPanel = new CasePersonListPanel(FXCollections.observableList(
-                investigationCase == null ? new ArrayList<>() : investigationCase.getWitnesses().stream()
-                        .map(x -> (CasePerson) x).collect(Collectors.toList())));
+        witnessListPanel = new CasePersonListPanel(FXCollections.observableList(witnesses));
         witnessListPanelPlaceholder.getChildren().add(witnessListPanel.getRoot());
 
-        victimListPanel = new CasePersonListPanel(FXCollections.observableList(
-                investigationCase == null ? new ArrayList<>() : investigationCase.getVictims().stream()
-                        .map(x -> (CasePerson) x).collect(Collectors.toList())));
+        victimListPanel = new CasePersonListPanel(FXCollections.observableList(victims));
         victimListPanelPlaceholder.getChildren().add(victimListPanel.getRoot());
     }
 
@@ -1,5 +1,6 @@
 package seedu.pivot.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.pivot.commons.util.CollectionUtil.requireAllNonNull;
@@ -82,6 +83,35 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void listWith() {
+        List<Integer> list = List.of(1, 2);
+        assertEquals(Arrays.asList(1, 2, 3), CollectionUtil.listWith(list, 3));
+        assertEquals(Arrays.asList(1, 2), list);
+        assertEquals(Collections.singletonList(1), CollectionUtil.listWith(Collections.emptyList(), 1));
+        assertThrows(UnsupportedOperationException.class, () -> CollectionUtil.listWith(list, 3).add(4));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.listWith(list, null));
+    }
+
+    @Test
+    public void listWithReplaced() {
+        List<Integer> list = List.of(1, 2, 3);
+        assertEquals(Arrays.asList(1, 4, 3), CollectionUtil.listWithReplaced(list, 1, 4));
+        assertEquals(Arrays.asList(1, 2, 3), list);
+        assertThrows(IndexOutOfBoundsException.class, () -> CollectionUtil.listWithReplaced(list, 3, 4));
+        assertThrows(UnsupportedOperationException.class, () -> CollectionUtil.listWithReplaced(list, 0, 4)
+                .remove(0));
+    }
+
+    @Test
+    public void listWithout() {
+        List<Integer> list = List.of(1, 2, 3);
+        assertEquals(Arrays.asList(1, 3), CollectionUtil.listWithout(list, 1));
+        assertEquals(Arrays.asList(1, 2, 3), list);
+        assertEquals(Collections.emptyList(), CollectionUtil.listWithout(Collections.singletonList(1), 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> CollectionUtil.listWithout(list, -1));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -1,6 +1,7 @@
 package seedu.pivot.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.pivot.testutil.Assert.assertThrows;
@@ -51,4 +52,14 @@ public class FileUtilTest {
         }
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutTemporaryFileLeft() throws IOException {
+        Path file = getTempFilePath("write.txt");
+        FileUtil.writeToFile(file, "old contents");
+        FileUtil.writeToFile(file, "new contents");
+
+        assertEquals("new contents", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTemporaryFile(file)));
+    }
+
 }
@@ -1,15 +1,18 @@
 package seedu.pivot.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.pivot.commons.core.UserMessages.MESSAGE_INVALID_CASE_DISPLAYED_INDEX;
 import static seedu.pivot.commons.core.UserMessages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.pivot.logic.commands.Command.TYPE_CASE;
 import static seedu.pivot.logic.commands.testutil.CommandTestUtil.PREFIX_WITH_TITLE_AMY;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_DEFAULT_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_DEFAULT_CASES;
 import static seedu.pivot.testutil.Assert.assertThrows;
 import static seedu.pivot.testutil.TypicalCases.AMY_BEE_DISAPPEARANCE;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -75,11 +78,30 @@ public class LogicManagerTest {
         StateManager.resetState();
         StateManager.setDefaultSection();
         Model expectedModel = new ModelManager(model.getPivot(), new UserPrefs());
-        expectedModel.updateFilteredCaseList(PREDICATE_SHOW_DEFAULT_CASES);
+        expectedModel.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
         String listCommand = ListCommand.COMMAND_WORD + " " + TYPE_CASE;
         assertCommandSuccess(listCommand, ListCaseCommand.MESSAGE_LIST_CASE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_nothingSaved() throws Exception {
+        StateManager.resetState();
+        StateManager.setDefaultSection();
+        logic.execute(ListCommand.COMMAND_WORD + " " + TYPE_CASE);
+        assertFalse(Files.exists(temporaryFolder.resolve("pivot.json")));
+        assertEquals(1, ((LogicManager) logic).getSkippedSaveCount());
+        assertEquals(0, ((LogicManager) logic).getPerformedSaveCount());
+    }
+
+    @Test
+    public void execute_changingCommand_saved() throws Exception {
+        StateManager.resetState();
+        logic.execute(AddCommand.COMMAND_WORD + " " + AddCommand.TYPE_CASE + PREFIX_WITH_TITLE_AMY);
+        assertTrue(Files.exists(temporaryFolder.resolve("pivot.json")));
+        assertEquals(0, ((LogicManager) logic).getSkippedSaveCount());
+        assertEquals(1, ((LogicManager) logic).getPerformedSaveCount());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() throws IOException {
 
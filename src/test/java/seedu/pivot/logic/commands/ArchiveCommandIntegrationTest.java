@@ -35,7 +35,7 @@ public class ArchiveCommandIntegrationTest {
         StateManager.setDefaultSection();
         StateManager.resetState();
         model = new ModelManager(getTypicalPivot(), new UserPrefs());
-        model.updateFilteredCaseList(Model.PREDICATE_SHOW_DEFAULT_CASES);
+        model.updateFilteredCaseList(Model.FILTER_SHOW_DEFAULT_CASES);
     }
 
     @Test
@@ -50,7 +50,7 @@ public class ArchiveCommandIntegrationTest {
         ModelManager expectedModel = new ModelManager(new Pivot(model.getPivot()), new UserPrefs());
         expectedModel.deleteCase(caseToArchive);
         expectedModel.addCase(archivedCase);
-        expectedModel.updateFilteredCaseList(Model.PREDICATE_SHOW_DEFAULT_CASES);
+        expectedModel.updateFilteredCaseList(Model.FILTER_SHOW_DEFAULT_CASES);
         expectedModel.commitPivot(expectedMessage, archiveCommand);
 
         assertCommandSuccess(archiveCommand, model, expectedMessage, expectedModel);
@@ -78,7 +78,7 @@ public class ArchiveCommandIntegrationTest {
         Model expectedModel = new ModelManager(new Pivot(model.getPivot()), new UserPrefs());
         expectedModel.deleteCase(caseToArchive);
         expectedModel.addCase(archivedCase);
-        expectedModel.updateFilteredCaseList(Model.PREDICATE_SHOW_DEFAULT_CASES);
+        expectedModel.updateFilteredCaseList(Model.FILTER_SHOW_DEFAULT_CASES);
         expectedModel.commitPivot(expectedMessage, archiveCommand);
 
         assertCommandSuccess(archiveCommand, model, expectedMessage, expectedModel);
@@ -5,7 +5,7 @@ import static seedu.pivot.commons.core.UserMessages.MESSAGE_INVALID_CASE_DISPLAY
 import static seedu.pivot.logic.commands.testutil.CommandTestUtil.assertCommandFailure;
 import static seedu.pivot.logic.commands.testutil.CommandTestUtil.assertCommandSuccess;
 import static seedu.pivot.logic.commands.testutil.CommandTestUtil.showCaseAtIndex;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_ARCHIVED_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_ARCHIVED_CASES;
 import static seedu.pivot.testutil.TypicalCases.getTypicalPivot;
 import static seedu.pivot.testutil.TypicalIndexes.FIRST_INDEX;
 import static seedu.pivot.testutil.TypicalIndexes.SECOND_INDEX;
@@ -35,7 +35,7 @@ public class UnarchiveCommandIntegrationTest {
         StateManager.setArchivedSection();
         StateManager.resetState();
         model = new ModelManager(getTypicalPivot(), new UserPrefs());
-        model.updateFilteredCaseList(PREDICATE_SHOW_ARCHIVED_CASES);
+        model.updateFilteredCaseList(FILTER_SHOW_ARCHIVED_CASES);
     }
 
     @Test
@@ -50,7 +50,7 @@ public class UnarchiveCommandIntegrationTest {
         ModelManager expectedModel = new ModelManager(new Pivot(model.getPivot()), new UserPrefs());
         expectedModel.deleteCase(caseToUnarchive);
         expectedModel.addCase(unarchivedCase);
-        expectedModel.updateFilteredCaseList(PREDICATE_SHOW_ARCHIVED_CASES);
+        expectedModel.updateFilteredCaseList(FILTER_SHOW_ARCHIVED_CASES);
         expectedModel.commitPivot(expectedMessage, unarchiveCommand);
 
         assertCommandSuccess(unarchiveCommand, model, expectedMessage, expectedModel);
@@ -78,7 +78,7 @@ public class UnarchiveCommandIntegrationTest {
         Model expectedModel = new ModelManager(new Pivot(model.getPivot()), new UserPrefs());
         expectedModel.deleteCase(caseToUnarchive);
         expectedModel.addCase(unarchivedCase);
-        expectedModel.updateFilteredCaseList(PREDICATE_SHOW_ARCHIVED_CASES);
+        expectedModel.updateFilteredCaseList(FILTER_SHOW_ARCHIVED_CASES);
         expectedModel.commitPivot(expectedMessage, unarchiveCommand);
 
         assertCommandSuccess(unarchiveCommand, model, expectedMessage, expectedModel);
@@ -2,8 +2,8 @@ package seedu.pivot.logic.commands.casecommands;
 
 import static seedu.pivot.logic.commands.testutil.CommandTestUtil.assertCommandFailure;
 import static seedu.pivot.logic.commands.testutil.CommandTestUtil.assertCommandSuccess;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_ARCHIVED_CASES;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_DEFAULT_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_ARCHIVED_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_DEFAULT_CASES;
 import static seedu.pivot.testutil.TypicalCases.getTypicalPivot;
 
 import org.junit.jupiter.api.Test;
@@ -27,13 +27,13 @@ public class AddCaseCommandIntegrationTest {
     public void setUpDefaultSection() {
         StateManager.setDefaultSection();
         model = new ModelManager(getTypicalPivot(), new UserPrefs());
-        model.updateFilteredCaseList(PREDICATE_SHOW_DEFAULT_CASES);
+        model.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
     }
 
     public void setUpArchivedSection() {
         StateManager.setArchivedSection();
         model = new ModelManager(getTypicalPivot(), new UserPrefs());
-        model.updateFilteredCaseList(PREDICATE_SHOW_ARCHIVED_CASES);
+        model.updateFilteredCaseList(FILTER_SHOW_ARCHIVED_CASES);
     }
 
     @Test
@@ -44,7 +44,7 @@ public class AddCaseCommandIntegrationTest {
         String expectedMessage = String.format(AddCaseCommand.MESSAGE_ADD_CASE_SUCCESS, validCase);
         Model expectedModel = new ModelManager(new Pivot(model.getPivot()), new UserPrefs());
         expectedModel.addCase(validCase);
-        expectedModel.updateFilteredCaseList(PREDICATE_SHOW_DEFAULT_CASES);
+        expectedModel.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
         expectedModel.commitPivot(expectedMessage, new AddCaseCommand(validCase));
 
         assertCommandSuccess(new AddCaseCommand(validCase), model, expectedMessage, expectedModel);
@@ -58,7 +58,7 @@ public class AddCaseCommandIntegrationTest {
         String expectedMessage = String.format(AddCaseCommand.MESSAGE_ADD_CASE_SUCCESS, validCase);
         Model expectedModel = new ModelManager(new Pivot(model.getPivot()), new UserPrefs());
         expectedModel.addCase(validCase);
-        expectedModel.updateFilteredCaseList(PREDICATE_SHOW_ARCHIVED_CASES);
+        expectedModel.updateFilteredCaseList(FILTER_SHOW_ARCHIVED_CASES);
         expectedModel.commitPivot(expectedMessage, new AddCaseCommand(validCase));
 
         assertCommandSuccess(new AddCaseCommand(validCase), model, expectedMessage, expectedModel);
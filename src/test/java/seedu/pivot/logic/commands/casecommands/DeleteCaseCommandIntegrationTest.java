@@ -5,8 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.pivot.logic.commands.testutil.CommandTestUtil.assertCommandFailure;
 import static seedu.pivot.logic.commands.testutil.CommandTestUtil.assertCommandSuccess;
 import static seedu.pivot.logic.commands.testutil.CommandTestUtil.showCaseAtIndex;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_ARCHIVED_CASES;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_DEFAULT_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_ARCHIVED_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_DEFAULT_CASES;
 import static seedu.pivot.testutil.TypicalCases.getTypicalPivot;
 import static seedu.pivot.testutil.TypicalIndexes.FIRST_INDEX;
 import static seedu.pivot.testutil.TypicalIndexes.SECOND_INDEX;
@@ -34,13 +34,13 @@ public class DeleteCaseCommandIntegrationTest {
     public void setUpDefaultSection() {
         StateManager.setDefaultSection();
         model = new ModelManager(getTypicalPivot(), new UserPrefs());
-        model.updateFilteredCaseList(PREDICATE_SHOW_DEFAULT_CASES);
+        model.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
     }
 
     public void setUpArchivedSection() {
         StateManager.setArchivedSection();
         model = new ModelManager(getTypicalPivot(), new UserPrefs());
-        model.updateFilteredCaseList(PREDICATE_SHOW_ARCHIVED_CASES);
+        model.updateFilteredCaseList(FILTER_SHOW_ARCHIVED_CASES);
     }
 
     @Test
@@ -54,7 +54,7 @@ public class DeleteCaseCommandIntegrationTest {
 
         ModelManager expectedModel = new ModelManager(new Pivot(model.getPivot()), new UserPrefs());
         expectedModel.deleteCase(caseToDelete);
-        expectedModel.updateFilteredCaseList(PREDICATE_SHOW_DEFAULT_CASES);
+        expectedModel.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
         expectedModel.commitPivot(expectedMessage, deleteCommand);
 
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
@@ -71,7 +71,7 @@ public class DeleteCaseCommandIntegrationTest {
 
         ModelManager expectedModel = new ModelManager(new Pivot(model.getPivot()), new UserPrefs());
         expectedModel.deleteCase(caseToDelete);
-        expectedModel.updateFilteredCaseList(PREDICATE_SHOW_ARCHIVED_CASES);
+        expectedModel.updateFilteredCaseList(FILTER_SHOW_ARCHIVED_CASES);
         expectedModel.commitPivot(expectedMessage, deleteCommand);
 
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
@@ -110,7 +110,7 @@ public class DeleteCaseCommandIntegrationTest {
 
         Model expectedModel = new ModelManager(new Pivot(model.getPivot()), new UserPrefs());
         expectedModel.deleteCase(caseToDelete);
-        expectedModel.updateFilteredCaseList(PREDICATE_SHOW_DEFAULT_CASES);
+        expectedModel.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
         expectedModel.commitPivot(expectedMessage, deleteCommand);
 
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
@@ -129,7 +129,7 @@ public class DeleteCaseCommandIntegrationTest {
 
         Model expectedModel = new ModelManager(new Pivot(model.getPivot()), new UserPrefs());
         expectedModel.deleteCase(caseToDelete);
-        expectedModel.updateFilteredCaseList(PREDICATE_SHOW_ARCHIVED_CASES);
+        expectedModel.updateFilteredCaseList(FILTER_SHOW_ARCHIVED_CASES);
         expectedModel.commitPivot(expectedMessage, deleteCommand);
 
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
@@ -30,14 +30,14 @@ public class ListCaseCommandTest {
 
     @Test
     public void execute_listIsNotFiltered_showsSameList() {
-        expectedModel.updateFilteredCaseList(Model.PREDICATE_SHOW_DEFAULT_CASES);
+        expectedModel.updateFilteredCaseList(Model.FILTER_SHOW_DEFAULT_CASES);
         assertCommandSuccess(new ListCaseCommand(), model, ListCaseCommand.MESSAGE_LIST_CASE_SUCCESS, expectedModel);
     }
 
     @Test
     public void execute_listIsFiltered_showsEverything() {
         showCaseAtIndex(model, FIRST_INDEX);
-        expectedModel.updateFilteredCaseList(Model.PREDICATE_SHOW_DEFAULT_CASES);
+        expectedModel.updateFilteredCaseList(Model.FILTER_SHOW_DEFAULT_CASES);
         assertCommandSuccess(new ListCaseCommand(), model, ListCaseCommand.MESSAGE_LIST_CASE_SUCCESS, expectedModel);
     }
 }
@@ -1,15 +1,21 @@
 package seedu.pivot.logic.commands.testutil;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.pivot.commons.core.GuiSettings;
 import seedu.pivot.logic.commands.Undoable;
+import seedu.pivot.model.CaseChange;
 import seedu.pivot.model.Model;
 import seedu.pivot.model.ReadOnlyPivot;
 import seedu.pivot.model.ReadOnlyUserPrefs;
 import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.CaseFilter;
+import seedu.pivot.model.investigationcase.CaseId;
+import seedu.pivot.model.investigationcase.CaseQuery;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -66,6 +72,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Optional<Case> getCase(CaseId id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteCase(Case target) {
         throw new AssertionError("This method should not be called.");
@@ -96,6 +107,36 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Predicate<Case> getIndexedPredicate(CaseQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Case> getIndexedPredicate(CaseFilter filter) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<CaseChange> getUnsavedChanges() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void clearUnsavedChanges() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateRankedCaseList(CaseQuery query, Predicate<Case> predicate, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void redoPivot() {
         throw new AssertionError("This method should not be called.");
@@ -7,13 +7,17 @@ import static seedu.pivot.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.pivot.testutil.TypicalIndexes.FIRST_INDEX;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.pivot.commons.core.index.Index;
 import seedu.pivot.logic.commands.FindCommand;
 import seedu.pivot.logic.state.StateManager;
+import seedu.pivot.model.investigationcase.CaseField;
+import seedu.pivot.model.investigationcase.CaseQuery;
 import seedu.pivot.model.investigationcase.DetailsContainsKeywordsPredicate;
+import seedu.pivot.model.investigationcase.QueryTerm;
 
 public class FindCommandParserTest {
 
@@ -51,6 +55,11 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // field-scoped keywords
+        expectedFindCommand = new FindCommand(new CaseQuery(Collections.singletonList("Alice"),
+                Collections.singletonList(new QueryTerm(CaseField.STATUS, "cold", true))));
+        assertParseSuccess(parser, "Alice -status:cold", expectedFindCommand);
     }
 
 }
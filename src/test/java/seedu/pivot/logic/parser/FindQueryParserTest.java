@@ -0,0 +1,72 @@
+package seedu.pivot.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.pivot.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.pivot.logic.parser.exceptions.ParseException;
+import seedu.pivot.model.investigationcase.CaseField;
+import seedu.pivot.model.investigationcase.CaseQuery;
+import seedu.pivot.model.investigationcase.QueryTerm;
+
+public class FindQueryParserTest {
+
+    private final FindQueryParser parser = new FindQueryParser();
+
+    @Test
+    public void parse_plainKeywords_keywordsOnly() throws Exception {
+        assertEquals(CaseQuery.ofKeywords(Arrays.asList("alice", "bob@example.com", "-")),
+                parser.parse(" alice \t bob@example.com -"));
+    }
+
+    @Test
+    public void parse_fieldsAndNegation_termsParsed() throws Exception {
+        CaseQuery expectedQuery = new CaseQuery(Collections.singletonList("bank"), Arrays.asList(
+                new QueryTerm(CaseField.STATUS, "active", false),
+                new QueryTerm(CaseField.SUSPECT, "john doe", false),
+                new QueryTerm(CaseField.TAG, "fraud", false),
+                new QueryTerm(CaseField.WITNESS, "mary", true),
+                new QueryTerm(null, "cold", true)));
+        assertEquals(expectedQuery,
+                parser.parse("status:active SUSPECT:\"john doe\" bank tag:fraud -witness:mary -cold"));
+    }
+
+    @Test
+    public void parse_unknownField_keptInValue() throws Exception {
+        assertEquals(CaseQuery.ofKeywords(Arrays.asList("http://site", "time:10")),
+                parser.parse("http://site time:10"));
+        assertEquals(new CaseQuery(Collections.emptyList(),
+                Collections.singletonList(new QueryTerm(null, "foo:bar", true))), parser.parse("-foo:bar"));
+    }
+
+    @Test
+    public void parse_quotedKeyword_whitespaceKept() throws Exception {
+        assertEquals(CaseQuery.ofKeywords(Collections.singletonList("big banana")),
+                parser.parse("\" big banana \""));
+    }
+
+    @Test
+    public void parse_invalidQuotes_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("suspect:\"john doe"));
+        assertThrows(ParseException.class, () -> parser.parse("suspect:\"  \""));
+    }
+
+    @Test
+    public void parse_rankLimit_limitParsed() throws Exception {
+        assertEquals(CaseQuery.ofKeywords(Collections.singletonList("robbery")).withRankLimit(5),
+                parser.parse("top:5 robbery"));
+        assertEquals(new CaseQuery(Collections.emptyList(),
+                Collections.singletonList(new QueryTerm(null, "top:5", true))), parser.parse("-top:5"));
+    }
+
+    @Test
+    public void parse_invalidRankLimit_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("top:0 robbery"));
+        assertThrows(ParseException.class, () -> parser.parse("top:many robbery"));
+        assertThrows(ParseException.class, () -> parser.parse("top:\"5\" robbery"));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.pivot.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.pivot.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.pivot.testutil.Assert.assertThrows;
@@ -93,6 +94,11 @@ public class ParserUtilTest {
         assertEquals(expectedTag, ParserUtil.parseTag(tagWithWhitespace));
     }
 
+    @Test
+    public void parseTag_sameValueParsedTwice_sameInstance() throws Exception {
+        assertSame(ParserUtil.parseTag(VALID_TAG_1), ParserUtil.parseTag(WHITESPACE + VALID_TAG_1));
+    }
+
     @Test
     public void parseTags_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseTags(null));
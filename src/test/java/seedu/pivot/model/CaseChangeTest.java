@@ -0,0 +1,87 @@
+package seedu.pivot.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.pivot.logic.commands.testutil.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.pivot.testutil.Assert.assertThrows;
+import static seedu.pivot.testutil.TypicalCases.ALICE_PAULINE_ASSAULT;
+import static seedu.pivot.testutil.TypicalCases.BENSON_MEIER_ROBBERY;
+import static seedu.pivot.testutil.TypicalCases.getTypicalPivot;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.testutil.CaseBuilder;
+
+public class CaseChangeTest {
+
+    @Test
+    public void factoryMethods_nullCase_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CaseChange.ofAdd(0, null));
+        assertThrows(NullPointerException.class, () -> CaseChange.ofRemove(0, null));
+        assertThrows(NullPointerException.class, () -> CaseChange.ofSet(0, null, ALICE_PAULINE_ASSAULT));
+        assertThrows(NullPointerException.class, () -> CaseChange.ofSet(0, ALICE_PAULINE_ASSAULT, null));
+    }
+
+    @Test
+    public void applyAndRevert_add_success() {
+        Case newCase = new CaseBuilder().build();
+        Pivot pivot = getTypicalPivot();
+        CaseChange change = CaseChange.ofAdd(1, newCase);
+
+        change.apply(pivot);
+        assertEquals(newCase, pivot.getCaseList().get(1));
+
+        change.revert(pivot);
+        assertEquals(getTypicalPivot(), pivot);
+    }
+
+    @Test
+    public void applyAndRevert_set_success() {
+        Case editedAlice = new CaseBuilder(ALICE_PAULINE_ASSAULT).withTags(VALID_TAG_HUSBAND).build();
+        Pivot pivot = getTypicalPivot();
+        int index = pivot.getCaseList().indexOf(ALICE_PAULINE_ASSAULT);
+        CaseChange change = CaseChange.ofSet(index, ALICE_PAULINE_ASSAULT, editedAlice);
+
+        change.apply(pivot);
+        assertEquals(editedAlice, pivot.getCaseList().get(index));
+
+        change.revert(pivot);
+        assertEquals(getTypicalPivot(), pivot);
+    }
+
+    @Test
+    public void applyAndRevert_remove_restoresPosition() {
+        Pivot pivot = getTypicalPivot();
+        int index = pivot.getCaseList().indexOf(BENSON_MEIER_ROBBERY);
+        CaseChange change = CaseChange.ofRemove(index, BENSON_MEIER_ROBBERY);
+
+        change.apply(pivot);
+        assertFalse(pivot.hasCase(BENSON_MEIER_ROBBERY));
+
+        change.revert(pivot);
+        assertTrue(pivot.hasCase(BENSON_MEIER_ROBBERY));
+        assertEquals(getTypicalPivot(), pivot);
+    }
+
+    @Test
+    public void equals() {
+        CaseChange change = CaseChange.ofAdd(0, ALICE_PAULINE_ASSAULT);
+
+        // same values -> returns true
+        assertTrue(change.equals(CaseChange.ofAdd(0, ALICE_PAULINE_ASSAULT)));
+
+        // same object -> returns true
+        assertTrue(change.equals(change));
+
+        // null -> returns false
+        assertFalse(change.equals(null));
+
+        // different index -> returns false
+        assertFalse(change.equals(CaseChange.ofAdd(1, ALICE_PAULINE_ASSAULT)));
+
+        // different kind of change -> returns false
+        assertFalse(change.equals(CaseChange.ofRemove(0, ALICE_PAULINE_ASSAULT)));
+    }
+}
@@ -3,7 +3,7 @@ package seedu.pivot.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static seedu.pivot.model.Model.PREDICATE_SHOW_DEFAULT_CASES;
+import static seedu.pivot.model.Model.FILTER_SHOW_DEFAULT_CASES;
 import static seedu.pivot.testutil.Assert.assertThrows;
 import static seedu.pivot.testutil.TypicalCases.ALICE_PAULINE_ASSAULT;
 import static seedu.pivot.testutil.TypicalCases.BENSON_MEIER_ROBBERY;
@@ -11,11 +11,18 @@ import static seedu.pivot.testutil.TypicalCases.BENSON_MEIER_ROBBERY;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.pivot.commons.core.GuiSettings;
+import seedu.pivot.logic.commands.Page;
+import seedu.pivot.logic.commands.Undoable;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.CaseQuery;
 import seedu.pivot.model.investigationcase.DetailsContainsKeywordsPredicate;
+import seedu.pivot.testutil.CaseBuilder;
 import seedu.pivot.testutil.PivotBuilder;
 
 public class ModelManagerTest {
@@ -88,11 +95,123 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasCase(ALICE_PAULINE_ASSAULT));
     }
 
+    @Test
+    public void getCase_caseInPivot_returnsCase() {
+        modelManager.addCase(ALICE_PAULINE_ASSAULT);
+        assertEquals(Optional.of(ALICE_PAULINE_ASSAULT), modelManager.getCase(ALICE_PAULINE_ASSAULT.getId()));
+        assertFalse(modelManager.getCase(BENSON_MEIER_ROBBERY.getId()).isPresent());
+    }
+
     @Test
     public void getFilteredCaseList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredCaseList().remove(0));
     }
 
+    @Test
+    public void undoRedoPivot_committedChanges_pivotRestored() {
+        Undoable command = () -> Page.MAIN;
+        Case editedAlice = new CaseBuilder(ALICE_PAULINE_ASSAULT).withStatus("CLOSED").build();
+        Pivot initialPivot = new PivotBuilder().withCase(ALICE_PAULINE_ASSAULT).build();
+        modelManager = new ModelManager(initialPivot, new UserPrefs());
+
+        modelManager.addCase(BENSON_MEIER_ROBBERY);
+        modelManager.commitPivot("add", command);
+        modelManager.setCase(ALICE_PAULINE_ASSAULT, editedAlice);
+        modelManager.commitPivot("edit", command);
+        modelManager.deleteCase(BENSON_MEIER_ROBBERY);
+        modelManager.commitPivot("delete", command);
+        Pivot finalPivot = new PivotBuilder().withCase(editedAlice).build();
+        assertEquals(finalPivot, modelManager.getPivot());
+
+        modelManager.undoPivot();
+        assertEquals("delete", modelManager.getCommandMessage());
+        modelManager.undoPivot();
+        modelManager.undoPivot();
+        assertEquals(initialPivot, modelManager.getPivot());
+        assertFalse(modelManager.canUndoPivot());
+
+        modelManager.redoPivot();
+        modelManager.redoPivot();
+        modelManager.redoPivot();
+        assertEquals(finalPivot, modelManager.getPivot());
+        assertFalse(modelManager.canRedoPivot());
+    }
+
+    @Test
+    public void updateRankedCaseList_caseEditedIntoTopMatches_otherCasePushedOut() {
+        Case bankRobbery = new CaseBuilder().withTitle("Bank Robbery").withDescription("robbery at the bank").build();
+        Case shopRobbery = new CaseBuilder().withTitle("Shop Theft").withDescription("robbery near the shop").build();
+        Case fraud = new CaseBuilder().withTitle("Bank Fraud").withDescription("fraud at the bank").build();
+        modelManager = new ModelManager(new PivotBuilder().withCase(fraud).withCase(shopRobbery)
+                .withCase(bankRobbery).build(), new UserPrefs());
+
+        CaseQuery query = CaseQuery.ofKeywords(Collections.singletonList("robbery"));
+        modelManager.updateRankedCaseList(query, unused -> true, 2);
+        assertEquals(Arrays.asList(bankRobbery, shopRobbery), modelManager.getFilteredCaseList());
+
+        // the edited case outranks both cases, pushing the shop robbery out of the top 2
+        Case editedFraud = new CaseBuilder(fraud).withTitle("Bank Robbery Robbery")
+                .withDescription("robbery robbery at the bank").build();
+        modelManager.setCase(fraud, editedFraud);
+        assertEquals(Arrays.asList(editedFraud, bankRobbery), modelManager.getFilteredCaseList());
+
+        // the shop robbery is only ranked again by the next find
+        modelManager.deleteCase(editedFraud);
+        assertEquals(Collections.singletonList(bankRobbery), modelManager.getFilteredCaseList());
+    }
+
+    @Test
+    public void updateRankedCaseList_rankedCaseEdited_onlyEditedCaseMoved() {
+        Case bankRobbery = new CaseBuilder().withTitle("Bank Robbery").withDescription("robbery at the bank").build();
+        Case shopRobbery = new CaseBuilder().withTitle("Shop Theft").withDescription("robbery near the shop").build();
+        Case carRobbery = new CaseBuilder().withTitle("Car Theft").withDescription("robbery of a stolen car").build();
+        modelManager = new ModelManager(new PivotBuilder().withCase(shopRobbery).withCase(carRobbery)
+                .withCase(bankRobbery).build(), new UserPrefs());
+
+        CaseQuery query = CaseQuery.ofKeywords(Collections.singletonList("robbery"));
+        modelManager.updateRankedCaseList(query, unused -> true, 3);
+        assertEquals(Arrays.asList(bankRobbery, shopRobbery, carRobbery), modelManager.getFilteredCaseList());
+
+        Case editedCarRobbery = new CaseBuilder(carRobbery).withTitle("Car Robbery").build();
+        modelManager.setCase(carRobbery, editedCarRobbery);
+        assertEquals(Arrays.asList(bankRobbery, editedCarRobbery, shopRobbery), modelManager.getFilteredCaseList());
+
+        Case editedBankRobbery = new CaseBuilder(bankRobbery).withTitle("Bank Heist").build();
+        modelManager.setCase(bankRobbery, editedBankRobbery);
+        assertEquals(Arrays.asList(editedCarRobbery, shopRobbery, editedBankRobbery),
+                modelManager.getFilteredCaseList());
+
+        Case editedShopRobbery = new CaseBuilder(shopRobbery).withDescription("theft near the shop").build();
+        modelManager.setCase(shopRobbery, editedShopRobbery);
+        assertEquals(Arrays.asList(editedCarRobbery, editedBankRobbery), modelManager.getFilteredCaseList());
+    }
+
+    @Test
+    public void getVersion_caseListChanged_versionChanged() {
+        long version = modelManager.getVersion();
+        modelManager.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
+        assertEquals(version, modelManager.getVersion());
+
+        modelManager.addCase(ALICE_PAULINE_ASSAULT);
+        assertTrue(modelManager.getVersion() > version);
+        version = modelManager.getVersion();
+        modelManager.commitPivot("add", () -> Page.MAIN);
+        assertEquals(version, modelManager.getVersion());
+
+        modelManager.undoPivot();
+        assertTrue(modelManager.getVersion() > version);
+    }
+
+    @Test
+    public void getUnsavedChanges_undoneChange_inverseRecorded() {
+        modelManager.addCase(ALICE_PAULINE_ASSAULT);
+        modelManager.commitPivot("add", () -> Page.MAIN);
+        modelManager.clearUnsavedChanges();
+
+        modelManager.undoPivot();
+        assertEquals(Arrays.asList(CaseChange.ofRemove(0, ALICE_PAULINE_ASSAULT)), modelManager.getUnsavedChanges());
+    }
+
     @Test
     public void equals() {
         Pivot pivot = new PivotBuilder().withCase(ALICE_PAULINE_ASSAULT).withCase(BENSON_MEIER_ROBBERY).build();
@@ -122,7 +241,7 @@ public class ModelManagerTest {
         assertFalse(modelManager.equals(new ModelManager(pivot, userPrefs)));
 
         // resets modelManager to initial state for upcoming tests
-        modelManager.updateFilteredCaseList(PREDICATE_SHOW_DEFAULT_CASES);
+        modelManager.updateFilteredCaseList(FILTER_SHOW_DEFAULT_CASES);
 
         // different userPrefs -> returns false
         UserPrefs differentUserPrefs = new UserPrefs();
@@ -18,4 +18,32 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setPivotFilePath(null));
     }
 
+    @Test
+    public void setPivotFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setPivotFileFormat(null));
+    }
+
+    @Test
+    public void setPivotFileSyncPolicy_invalidValues_throwsException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setPivotFileSyncPolicy(null));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setPivotFileSyncIntervalMillis(0));
+    }
+
+    @Test
+    public void setPivotFileCompression_invalidValues_throwsException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setPivotFileCompression(null));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setPivotFileCompressionLevel(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setPivotFileCompressionLevel(10));
+    }
+
+    @Test
+    public void setUndoHistoryLimit_nonPositiveLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryLimit(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryMemoryLimit(-1));
+    }
+
 }
@@ -6,10 +6,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.pivot.model.VersionedPivot.INITIAL_COMMAND;
 import static seedu.pivot.model.VersionedPivot.INITIAL_STATE;
 import static seedu.pivot.testutil.Assert.assertThrows;
+import static seedu.pivot.testutil.TypicalCases.getTypicalCases;
 import static seedu.pivot.testutil.TypicalCases.getTypicalPivot;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,25 +21,26 @@ import org.junit.jupiter.api.Test;
 import seedu.pivot.logic.commands.Page;
 import seedu.pivot.logic.commands.Undoable;
 import seedu.pivot.model.VersionedPivot.PivotState;
+import seedu.pivot.model.investigationcase.Case;
 
 public class VersionedPivotTest {
 
     private final Undoable initialCommandResult = null;
     private final String initialCommandMessageResult = "";
-    private final PivotTest.PivotStub emptyPivot = new PivotTest.PivotStub(Collections.emptyList());
-    private final PivotState initialState = new PivotState(emptyPivot, null, INITIAL_COMMAND);
-    private VersionedPivot versionedPivot = new VersionedPivot(emptyPivot);
+    private final PivotState initialState = new PivotState(Collections.emptyList(), null, INITIAL_COMMAND);
+    private final List<CaseChange> typicalChanges = getTypicalChanges();
+    private VersionedPivot versionedPivot = new VersionedPivot();
 
     @BeforeEach
     void setVersionedPivot() {
-        versionedPivot = new VersionedPivot(emptyPivot);
+        versionedPivot = new VersionedPivot();
     }
 
     @Test
     public void constructor() {
         // initialisation of pivotStateList
         List<PivotState> listWithInitialPivot = new ArrayList<>();
-        listWithInitialPivot.add(new PivotState(emptyPivot, null, INITIAL_COMMAND));
+        listWithInitialPivot.add(new PivotState(Collections.emptyList(), null, INITIAL_COMMAND));
         assertEquals(listWithInitialPivot, versionedPivot.getPivotStateList());
 
         // initialisation currentStatePointer
@@ -47,12 +51,12 @@ public class VersionedPivotTest {
     public void commit_validPivotAndCommand_success() {
         String testMessage = "Valid Message";
         Undoable testCommand = new UndoableMainPageStub();
-        versionedPivot.commit(getTypicalPivot(), testMessage, testCommand);
+        versionedPivot.commit(typicalChanges, testMessage, testCommand);
 
         // constructing expected versioned pivot object
         List<PivotState> expectedPivotStateList = new ArrayList<>();
         expectedPivotStateList.add(initialState);
-        PivotState newPivotState = new PivotState(getTypicalPivot(), testCommand, testMessage);
+        PivotState newPivotState = new PivotState(typicalChanges, testCommand, testMessage);
         expectedPivotStateList.add(newPivotState);
 
         int expectedCurrentStatePointer = 1;
@@ -64,7 +68,7 @@ public class VersionedPivotTest {
     }
 
     @Test
-    public void commit_nullPivot_throwsNullPointerException() {
+    public void commit_nullChanges_throwsNullPointerException() {
         String testMessage = "Valid Message";
         Undoable testCommand = new UndoableMainPageStub();
         assertThrows(NullPointerException.class, () -> versionedPivot.commit(null, testMessage, testCommand));
@@ -74,7 +78,7 @@ public class VersionedPivotTest {
     public void commit_nullString_throwsNullPointerException() {
         Undoable testCommand = new UndoableMainPageStub();
         assertThrows(NullPointerException.class, () -> versionedPivot.commit(
-                getTypicalPivot(), null, testCommand));
+                typicalChanges, null, testCommand));
     }
 
     @Test
@@ -89,7 +93,7 @@ public class VersionedPivotTest {
     public void updateRedoUndoResult_afterOneCommit_resultsUpdated() {
         String testMessage = "Valid Message";
         Undoable testCommand = new UndoableMainPageStub();
-        versionedPivot.commit(getTypicalPivot(), testMessage, testCommand);
+        versionedPivot.commit(typicalChanges, testMessage, testCommand);
         versionedPivot.updateRedoUndoResult();
 
         assertEquals(testMessage, versionedPivot.getCommandMessageResult());
@@ -105,7 +109,7 @@ public class VersionedPivotTest {
     public void canUndo_notAtInitialState_returnTrue() {
         String testMessage = "Valid Message";
         Undoable testCommand = new UndoableMainPageStub();
-        versionedPivot.commit(getTypicalPivot(), testMessage, testCommand);
+        versionedPivot.commit(typicalChanges, testMessage, testCommand);
         assertTrue(versionedPivot.canUndo());
     }
 
@@ -113,16 +117,17 @@ public class VersionedPivotTest {
     public void undo_undoPreviousState_success() {
         String testMessage = "Valid Message";
         Undoable testCommand = new UndoableMainPageStub();
-        versionedPivot.commit(getTypicalPivot(), testMessage, testCommand);
+        versionedPivot.commit(typicalChanges, testMessage, testCommand);
 
-        // check that previous state is correctly returned
-        ReadOnlyPivot currentState = versionedPivot.undo();
-        assertEquals(emptyPivot, currentState);
+        // check that changes of the current state are reverted
+        Pivot pivot = getTypicalPivot();
+        versionedPivot.undo(pivot);
+        assertEquals(new Pivot(), pivot);
 
         // constructing expected versioned pivot object
         List<PivotState> expectedPivotStateList = new ArrayList<>();
         expectedPivotStateList.add(initialState);
-        PivotState newPivotState = new PivotState(getTypicalPivot(), testCommand, testMessage);
+        PivotState newPivotState = new PivotState(typicalChanges, testCommand, testMessage);
         expectedPivotStateList.add(newPivotState);
 
         int expectedCurrentStatePointer = INITIAL_STATE;
@@ -142,8 +147,8 @@ public class VersionedPivotTest {
     public void canRedo_notAtMostRecentState_returnTrue() {
         String testMessage = "Valid Message";
         Undoable testCommand = new UndoableMainPageStub();
-        versionedPivot.commit(getTypicalPivot(), testMessage, testCommand);
-        versionedPivot.undo();
+        versionedPivot.commit(typicalChanges, testMessage, testCommand);
+        versionedPivot.undo(getTypicalPivot());
         assertTrue(versionedPivot.canRedo());
     }
 
@@ -151,17 +156,18 @@ public class VersionedPivotTest {
     public void redo_redoFollowingState_success() {
         String testMessage = "Valid Message";
         Undoable testCommand = new UndoableMainPageStub();
-        versionedPivot.commit(getTypicalPivot(), testMessage, testCommand);
-        versionedPivot.undo();
+        Pivot pivot = getTypicalPivot();
+        versionedPivot.commit(typicalChanges, testMessage, testCommand);
+        versionedPivot.undo(pivot);
 
-        // check that following state is correctly returned
-        ReadOnlyPivot currentState = versionedPivot.redo();
-        assertEquals(getTypicalPivot(), currentState);
+        // check that changes of the following state are reapplied
+        versionedPivot.redo(pivot);
+        assertEquals(getTypicalPivot(), pivot);
 
         // constructing expected versioned pivot object
         List<PivotState> expectedPivotStateList = new ArrayList<>();
         expectedPivotStateList.add(initialState);
-        PivotState newPivotState = new PivotState(getTypicalPivot(), testCommand, testMessage);
+        PivotState newPivotState = new PivotState(typicalChanges, testCommand, testMessage);
         expectedPivotStateList.add(newPivotState);
 
         int expectedCurrentStatePointer = 1;
@@ -192,8 +198,8 @@ public class VersionedPivotTest {
     public void purgeStates_purgeStatesAfterCurrent_listsChanged() {
         String testMessage = "Valid Message";
         Undoable testCommand = new UndoableMainPageStub();
-        versionedPivot.commit(getTypicalPivot(), testMessage, testCommand);
-        versionedPivot.undo();
+        versionedPivot.commit(typicalChanges, testMessage, testCommand);
+        versionedPivot.undo(getTypicalPivot());
         versionedPivot.purgeStates();
 
         // constructing expected versioned pivot object
@@ -213,7 +219,7 @@ public class VersionedPivotTest {
     public void isMainPageCommand_mainPageCommand_returnTrue() {
         String testMessage = "Valid Message";
         Undoable testCommand = new UndoableMainPageStub();
-        versionedPivot.commit(getTypicalPivot(), testMessage, testCommand);
+        versionedPivot.commit(typicalChanges, testMessage, testCommand);
         versionedPivot.updateRedoUndoResult();
         assertTrue(versionedPivot.isMainPageCommand());
     }
@@ -222,12 +228,118 @@ public class VersionedPivotTest {
     public void isMainPageCommand_casePageCommand_returnFalse() {
         String testMessage = "Valid Message";
         Undoable testCommand = new UndoableCasePageStub();
-        versionedPivot.commit(getTypicalPivot(), testMessage, testCommand);
+        versionedPivot.commit(typicalChanges, testMessage, testCommand);
         versionedPivot.updateRedoUndoResult();
         assertFalse(versionedPivot.isMainPageCommand());
     }
 
 
+    @Test
+    public void undoRedo_multipleStates_pivotRestored() {
+        Pivot pivot = new Pivot();
+        List<CaseChange> addChanges = new ArrayList<>();
+        for (Case investigationCase : getTypicalCases()) {
+            addChanges.add(CaseChange.ofAdd(pivot.getCaseList().size(), investigationCase));
+            pivot.addCase(investigationCase);
+        }
+        versionedPivot.commit(addChanges, "Add", new UndoableMainPageStub());
+
+        Case removedCase = pivot.getCaseList().get(1);
+        pivot.removeCase(removedCase);
+        versionedPivot.commit(Collections.singletonList(CaseChange.ofRemove(1, removedCase)), "Remove",
+                new UndoableMainPageStub());
+
+        versionedPivot.undo(pivot);
+        assertEquals(getTypicalPivot(), pivot);
+        versionedPivot.undo(pivot);
+        assertEquals(new Pivot(), pivot);
+        versionedPivot.redo(pivot);
+        assertEquals(getTypicalPivot(), pivot);
+        versionedPivot.redo(pivot);
+        assertFalse(pivot.hasCase(removedCase));
+        assertEquals(getTypicalCases().size() - 1, pivot.getCaseList().size());
+    }
+
+    @Test
+    public void commit_overStateLimitWithoutJournal_oldestStatesDropped() {
+        versionedPivot = new VersionedPivot(2, Long.MAX_VALUE, null);
+        Pivot pivot = new Pivot();
+        commitEachTypicalCase(pivot);
+
+        // only the two most recent states can be undone
+        assertEquals(3, versionedPivot.getPivotStateList().size());
+        versionedPivot.undo(pivot);
+        versionedPivot.undo(pivot);
+        assertFalse(versionedPivot.canUndo());
+        assertEquals(getTypicalCases().size() - 2, pivot.getCaseList().size());
+    }
+
+    @Test
+    public void commit_overMemoryLimitWithoutJournal_oldestStatesDropped() {
+        versionedPivot = new VersionedPivot(Integer.MAX_VALUE, 1, null);
+        Pivot pivot = new Pivot();
+        commitEachTypicalCase(pivot);
+
+        // the current state is always kept
+        assertEquals(2, versionedPivot.getPivotStateList().size());
+        assertTrue(versionedPivot.canUndo());
+    }
+
+    @Test
+    public void undo_statesSpilledToJournal_pivotRestored() {
+        PivotHistoryJournalStub journal = new PivotHistoryJournalStub();
+        versionedPivot = new VersionedPivot(4, Long.MAX_VALUE, journal);
+        Pivot pivot = new Pivot();
+        commitEachTypicalCase(pivot);
+
+        assertFalse(journal.isEmpty());
+        assertTrue(versionedPivot.getPivotStateList().size() - 1 <= 4);
+
+        while (versionedPivot.canUndo()) {
+            versionedPivot.undo(pivot);
+        }
+        assertEquals(new Pivot(), pivot);
+        assertTrue(journal.isEmpty());
+
+        while (versionedPivot.canRedo()) {
+            versionedPivot.redo(pivot);
+        }
+        assertEquals(getTypicalPivot(), pivot);
+    }
+
+    @Test
+    public void purgeStates_redoStatesRemoved_estimatedBytesReleased() {
+        versionedPivot.commit(typicalChanges, "Add all", new UndoableMainPageStub());
+        long bytesBeforeCommit = versionedPivot.getEstimatedBytes();
+        versionedPivot.commit(typicalChanges, "Add all again", new UndoableMainPageStub());
+        assertTrue(versionedPivot.getEstimatedBytes() > bytesBeforeCommit);
+
+        versionedPivot.undo(new Pivot(getTypicalPivot()));
+        versionedPivot.purgeStates();
+        assertEquals(bytesBeforeCommit, versionedPivot.getEstimatedBytes());
+    }
+
+    /**
+     * Adds each typical case to {@code pivot} in a separate committed state.
+     */
+    private void commitEachTypicalCase(Pivot pivot) {
+        List<Case> cases = getTypicalCases();
+        for (int i = 0; i < cases.size(); i++) {
+            pivot.addCase(cases.get(i));
+            versionedPivot.commit(Collections.singletonList(CaseChange.ofAdd(i, cases.get(i))), "Add " + i,
+                    new UndoableMainPageStub());
+        }
+    }
+
+    private static List<CaseChange> getTypicalChanges() {
+        List<CaseChange> changes = new ArrayList<>();
+        List<Case> cases = getTypicalCases();
+        for (int i = 0; i < cases.size(); i++) {
+            changes.add(CaseChange.ofAdd(i, cases.get(i)));
+        }
+        return changes;
+    }
+
     private class UndoableMainPageStub implements Undoable {
         @Override
         public Page getPage() {
@@ -235,6 +347,33 @@ public class VersionedPivotTest {
         }
     }
 
+    /**
+     * A journal that keeps its checkpoints in memory.
+     */
+    private class PivotHistoryJournalStub implements PivotHistoryJournal {
+        private final Deque<List<PivotState>> checkpoints = new ArrayDeque<>();
+
+        @Override
+        public void pushStates(List<PivotState> states) {
+            checkpoints.push(new ArrayList<>(states));
+        }
+
+        @Override
+        public List<PivotState> popStates() {
+            return checkpoints.pop();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return checkpoints.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            checkpoints.clear();
+        }
+    }
+
     private class UndoableCasePageStub implements Undoable {
         @Override
         public Page getPage() {
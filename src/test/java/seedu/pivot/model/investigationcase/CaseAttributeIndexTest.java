@@ -0,0 +1,126 @@
+package seedu.pivot.model.investigationcase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.pivot.testutil.Assert.assertThrows;
+import static seedu.pivot.testutil.TypicalCases.ALICE_PAULINE_ASSAULT;
+import static seedu.pivot.testutil.TypicalCases.BENSON_MEIER_ROBBERY;
+import static seedu.pivot.testutil.TypicalCases.JUNK_YARD_MURDER;
+import static seedu.pivot.testutil.TypicalCases.KLOOK_SCAM;
+import static seedu.pivot.testutil.TypicalCases.LOUIS_HOMICIDE;
+import static seedu.pivot.testutil.TypicalCases.getTypicalCases;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.pivot.model.tag.Tag;
+import seedu.pivot.testutil.CaseBuilder;
+
+public class CaseAttributeIndexTest {
+
+    private static final CaseFilter FILTER_ACTIVE = CaseFilter.ofStatus(Status.ACTIVE);
+    private static final CaseFilter FILTER_ARCHIVED = CaseFilter.ofArchiveStatus(ArchiveStatus.ARCHIVED);
+    private static final CaseFilter FILTER_FRIENDS = CaseFilter.ofTag(new Tag("friends"));
+
+    private final List<Case> indexedCases = new ArrayList<>(getTypicalCases());
+
+    private final CaseAttributeIndex index = new CaseAttributeIndex();
+
+    @BeforeEach
+    public void setUp() {
+        indexedCases.forEach(index::add);
+    }
+
+    /**
+     * Returns the indexed cases accepted by {@code predicate}.
+     */
+    private List<Case> filter(Predicate<Case> predicate) {
+        return indexedCases.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Test
+    public void add_nullCase_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getMatchingPredicate_nullFilter_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getMatchingPredicate(null));
+    }
+
+    @Test
+    public void getMatchingPredicate_sameResultsAsFilter_success() {
+        List<CaseFilter> filters = Arrays.asList(
+                FILTER_ACTIVE,
+                CaseFilter.ofStatus(Status.COLD),
+                CaseFilter.ofArchiveStatus(ArchiveStatus.DEFAULT),
+                FILTER_ARCHIVED,
+                FILTER_FRIENDS,
+                CaseFilter.ofTag(new Tag("unused")),
+                FILTER_ACTIVE.and(FILTER_FRIENDS),
+                FILTER_ACTIVE.and(FILTER_ARCHIVED),
+                FILTER_ARCHIVED.or(FILTER_FRIENDS),
+                FILTER_FRIENDS.negate(),
+                FILTER_ACTIVE.negate().and(FILTER_ARCHIVED.negate()));
+
+        for (CaseFilter filter : filters) {
+            assertEquals(filter(filter), filter(index.getMatchingPredicate(filter)));
+        }
+    }
+
+    @Test
+    public void getMatchingPredicate_combinedFilters_success() {
+        assertEquals(Arrays.asList(JUNK_YARD_MURDER, KLOOK_SCAM, LOUIS_HOMICIDE),
+                filter(index.getMatchingPredicate(FILTER_ACTIVE.and(FILTER_ARCHIVED))));
+        assertEquals(Arrays.asList(ALICE_PAULINE_ASSAULT, BENSON_MEIER_ROBBERY),
+                filter(index.getMatchingPredicate(FILTER_FRIENDS.and(FILTER_ACTIVE.negate()))));
+    }
+
+    @Test
+    public void getMatchingPredicate_indexChanged_matchesUpdated() {
+        Predicate<Case> predicate = index.getMatchingPredicate(FILTER_ARCHIVED);
+        assertTrue(predicate.test(KLOOK_SCAM));
+
+        Case unarchivedCase = KLOOK_SCAM.withArchiveStatus(ArchiveStatus.DEFAULT);
+        index.remove(KLOOK_SCAM);
+        index.add(unarchivedCase);
+        assertFalse(predicate.test(unarchivedCase));
+
+        Case archivedCase = new CaseBuilder(ALICE_PAULINE_ASSAULT).withTitle("Archived")
+                .withArchiveStatus(ArchiveStatus.ARCHIVED).build();
+        index.add(archivedCase);
+        assertTrue(predicate.test(archivedCase));
+    }
+
+    @Test
+    public void getMatchingPredicate_removedSlotsReused_success() {
+        index.remove(ALICE_PAULINE_ASSAULT);
+        index.remove(BENSON_MEIER_ROBBERY);
+        Case taggedCase = new CaseBuilder(JUNK_YARD_MURDER).withTitle("Tagged").withTags("friends").build();
+        index.add(taggedCase);
+        indexedCases.remove(ALICE_PAULINE_ASSAULT);
+        indexedCases.remove(BENSON_MEIER_ROBBERY);
+        indexedCases.add(taggedCase);
+
+        assertEquals(filter(FILTER_FRIENDS), filter(index.getMatchingPredicate(FILTER_FRIENDS)));
+        assertEquals(filter(FILTER_FRIENDS.negate()), filter(index.getMatchingPredicate(FILTER_FRIENDS.negate())));
+    }
+
+    @Test
+    public void getMatchingPredicate_caseNotInIndex_testedByFilter() {
+        Predicate<Case> predicate = index.getMatchingPredicate(FILTER_ARCHIVED);
+        Case otherCase = new CaseBuilder(ALICE_PAULINE_ASSAULT).withArchiveStatus(ArchiveStatus.ARCHIVED).build();
+        assertTrue(predicate.test(otherCase));
+
+        index.clear();
+        assertTrue(predicate.test(KLOOK_SCAM));
+        assertFalse(predicate.test(ALICE_PAULINE_ASSAULT));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.pivot.model.investigationcase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.pivot.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class CaseIdTest {
+
+    @Test
+    public void constructor_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CaseId(-1));
+        assertThrows(IllegalArgumentException.class, () -> new CaseId(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void isValidId() {
+        // invalid IDs
+        assertFalse(CaseId.isValidId(-1));
+        assertFalse(CaseId.isValidId(Long.MIN_VALUE));
+
+        // valid IDs
+        assertTrue(CaseId.isValidId(0));
+        assertTrue(CaseId.isValidId(42));
+        assertTrue(CaseId.isValidId(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void generate_manyIds_allValidAndDistinct() {
+        Set<CaseId> ids = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            CaseId id = CaseId.generate();
+            assertTrue(CaseId.isValidId(id.getValue()));
+            ids.add(id);
+        }
+        assertEquals(1000, ids.size());
+    }
+
+    @Test
+    public void equals() {
+        CaseId id = new CaseId(7);
+
+        // same values -> returns true
+        assertEquals(id, new CaseId(7));
+        assertEquals(id.hashCode(), new CaseId(7).hashCode());
+
+        // same object -> returns true
+        assertEquals(id, id);
+
+        // null -> returns false
+        assertNotEquals(null, id);
+
+        // different value -> returns false
+        assertNotEquals(id, new CaseId(8));
+    }
+}
@@ -2,6 +2,8 @@ package seedu.pivot.model.investigationcase;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.pivot.logic.commands.testutil.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.pivot.logic.commands.testutil.CommandTestUtil.VALID_TITLE_BOB;
@@ -12,6 +14,8 @@ import static seedu.pivot.testutil.TypicalCases.BOB_CHOO_SALON_THEFT;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -162,4 +166,101 @@ public class CaseTest {
         testCase = new CaseBuilder().withTags("Test").build();
         assertEquals(tags, testCase.getTags());
     }
+
+    @Test
+    public void getLists_returnedWithoutCopying() {
+        Case investigationCase = new CaseBuilder(ALICE_PAULINE_ASSAULT)
+                .withDocument("name", "test1.txt").build();
+        assertSame(investigationCase.getDocuments(), investigationCase.getDocuments());
+        assertSame(investigationCase.getSuspects(), investigationCase.getSuspects());
+        assertSame(investigationCase.getTags(), investigationCase.getTags());
+        assertThrows(UnsupportedOperationException.class, () -> investigationCase.getDocuments().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> investigationCase.getSuspects()
+                .add(new CasePersonBuilder().buildSuspect()));
+    }
+
+    @Test
+    public void withPersonMethods_unchangedFieldsShared() {
+        Suspect suspect = new CasePersonBuilder().withName("Added").buildSuspect();
+        Case withSuspect = ALICE_PAULINE_ASSAULT.withSuspectAdded(suspect);
+
+        assertEquals(ALICE_PAULINE_ASSAULT.getId(), withSuspect.getId());
+        assertEquals(ALICE_PAULINE_ASSAULT.getSuspects().size() + 1, withSuspect.getSuspects().size());
+        assertEquals(suspect, withSuspect.getSuspects().get(withSuspect.getSuspects().size() - 1));
+        assertSame(ALICE_PAULINE_ASSAULT.getDocuments(), withSuspect.getDocuments());
+        assertSame(ALICE_PAULINE_ASSAULT.getVictims(), withSuspect.getVictims());
+        assertSame(ALICE_PAULINE_ASSAULT.getWitnesses(), withSuspect.getWitnesses());
+        assertSame(ALICE_PAULINE_ASSAULT.getTags(), withSuspect.getTags());
+
+        Case replaced = withSuspect.withSuspectReplaced(withSuspect.getSuspects().size() - 1,
+                new CasePersonBuilder().withName("Replaced").buildSuspect());
+        assertEquals("Replaced", replaced.getSuspects().get(replaced.getSuspects().size() - 1).getName().toString());
+
+        Case removed = withSuspect.withSuspectRemoved(withSuspect.getSuspects().size() - 1);
+        assertEquals(ALICE_PAULINE_ASSAULT, removed);
+        assertEquals(ALICE_PAULINE_ASSAULT.getId(), removed.getId());
+    }
+
+    @Test
+    public void withStatus_lazyCase_detailsNotLoaded() {
+        AtomicInteger loadCount = new AtomicInteger();
+        CaseDetails details = new CaseDetails(ALICE_PAULINE_ASSAULT.getDescription(),
+                ALICE_PAULINE_ASSAULT.getDocuments(), ALICE_PAULINE_ASSAULT.getSuspects(),
+                ALICE_PAULINE_ASSAULT.getVictims(), ALICE_PAULINE_ASSAULT.getWitnesses());
+        Supplier<CaseDetails> detailsLoader = () -> {
+            loadCount.incrementAndGet();
+            return details;
+        };
+        Case lazyCase = new Case(ALICE_PAULINE_ASSAULT.getId(), ALICE_PAULINE_ASSAULT.getTitle(),
+                ALICE_PAULINE_ASSAULT.getStatus(), ALICE_PAULINE_ASSAULT.getTags(), ArchiveStatus.DEFAULT,
+                detailsLoader);
+
+        Case editedCase = lazyCase.withStatus(Status.CLOSED).withTitle(new Title("Edited"))
+                .withArchiveStatus(ArchiveStatus.ARCHIVED);
+        assertEquals(0, loadCount.get());
+        assertEquals(Status.CLOSED, editedCase.getStatus());
+        assertEquals(ArchiveStatus.ARCHIVED, editedCase.getArchiveStatus());
+        assertSame(details.getSuspects(), editedCase.getSuspects());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void getEstimatedSize_editedDetails_sizeUpdatedWithoutLoading() {
+        Case longerDescription = ALICE_PAULINE_ASSAULT.withDescription(new Description(
+                ALICE_PAULINE_ASSAULT.getDescription().getDescription() + " with a much longer description"));
+        assertTrue(longerDescription.getEstimatedSize() > ALICE_PAULINE_ASSAULT.getEstimatedSize());
+        assertEquals(longerDescription.getEstimatedSize(),
+                longerDescription.withStatus(Status.CLOSED).getEstimatedSize());
+
+        Supplier<CaseDetails> detailsLoader = () -> {
+            throw new AssertionError("Details should not be loaded");
+        };
+        Case lazyCase = new Case(ALICE_PAULINE_ASSAULT.getId(), ALICE_PAULINE_ASSAULT.getTitle(),
+                ALICE_PAULINE_ASSAULT.getStatus(), ALICE_PAULINE_ASSAULT.getTags(), ArchiveStatus.DEFAULT,
+                detailsLoader);
+        assertTrue(lazyCase.getEstimatedSize() < ALICE_PAULINE_ASSAULT.getEstimatedSize());
+    }
+
+    @Test
+    public void hashCode_equalCases_sameHashCode() {
+        Case copy = new CaseBuilder(ALICE_PAULINE_ASSAULT).build();
+        assertEquals(ALICE_PAULINE_ASSAULT, copy);
+        assertEquals(ALICE_PAULINE_ASSAULT.hashCode(), copy.hashCode());
+        assertEquals(ALICE_PAULINE_ASSAULT.hashCode(), new Case(copy).hashCode());
+
+        // equal persons whose names differ only in case
+        Suspect suspect = new CasePersonBuilder().withName("Peter").buildSuspect();
+        Suspect lowerCaseSuspect = new CasePersonBuilder().withName("peter").buildSuspect();
+        Case withSuspect = ALICE_PAULINE_ASSAULT.withSuspectAdded(suspect);
+        Case withLowerCaseSuspect = ALICE_PAULINE_ASSAULT.withSuspectAdded(lowerCaseSuspect);
+        assertEquals(withSuspect, withLowerCaseSuspect);
+        assertEquals(withSuspect.hashCode(), withLowerCaseSuspect.hashCode());
+    }
+
+    @Test
+    public void equals_knownDifferentHashCodes_returnsFalse() {
+        Case editedAlice = ALICE_PAULINE_ASSAULT.withDescription(new Description("Edited"));
+        assertNotEquals(ALICE_PAULINE_ASSAULT.hashCode(), editedAlice.hashCode());
+        assertFalse(ALICE_PAULINE_ASSAULT.equals(editedAlice));
+    }
 }
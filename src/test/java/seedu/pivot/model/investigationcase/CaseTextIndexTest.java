@@ -0,0 +1,238 @@
+package seedu.pivot.model.investigationcase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.pivot.testutil.Assert.assertThrows;
+import static seedu.pivot.testutil.TypicalCases.ALICE_PAULINE_ASSAULT;
+import static seedu.pivot.testutil.TypicalCases.BENSON_MEIER_ROBBERY;
+import static seedu.pivot.testutil.TypicalCases.CARL_KURZ_FIRE;
+import static seedu.pivot.testutil.TypicalCases.getTypicalCases;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.pivot.model.investigationcase.exceptions.CaseDetailsUnavailableException;
+import seedu.pivot.testutil.CaseBuilder;
+
+public class CaseTextIndexTest {
+
+    private final List<Case> typicalCases = getTypicalCases();
+
+    private final CaseTextIndex index = new CaseTextIndex();
+
+    @BeforeEach
+    public void setUp() {
+        typicalCases.forEach(index::add);
+    }
+
+    private Collection<Case> getIndexedCases() {
+        return typicalCases;
+    }
+
+    private Predicate<Case> findKeyword(String keyword) {
+        return index.getMatchingPredicate(CaseQuery.ofKeywords(Collections.singletonList(keyword)),
+                this::getIndexedCases);
+    }
+
+    @Test
+    public void add_nullCase_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getMatchingPredicate_keywordsOnly_sameResultsAsPredicate() {
+        List<List<String>> keywordLists = Arrays.asList(
+                Collections.singletonList("meier"),
+                Collections.singletonList("BaNaNa!"),
+                Arrays.asList("kurz", "txt"),
+                Collections.singletonList("ei"),
+                Collections.singletonList("a"),
+                Collections.singletonList(""),
+                Collections.singletonList("eyer"),
+                Collections.singletonList("912345"),
+                Collections.singletonList("cold"),
+                Collections.singletonList("nothing"));
+
+        for (List<String> keywords : keywordLists) {
+            DetailsContainsKeywordsPredicate predicate = new DetailsContainsKeywordsPredicate(keywords);
+            Predicate<Case> matches = index.getMatchingPredicate(CaseQuery.ofKeywords(keywords),
+                    this::getIndexedCases);
+            for (Case investigationCase : typicalCases) {
+                assertEquals(predicate.test(investigationCase), matches.test(investigationCase),
+                        keywords + " on " + investigationCase.getTitle());
+            }
+        }
+    }
+
+    @Test
+    public void getMatchingPredicate_sameResultsAsQuery_success() {
+        List<CaseQuery> queries = Arrays.asList(
+                new CaseQuery(Collections.singletonList("meier"),
+                        Collections.singletonList(new QueryTerm(CaseField.STATUS, "closed", false))),
+                new CaseQuery(Collections.emptyList(),
+                        Collections.singletonList(new QueryTerm(CaseField.TITLE, "meier", true))),
+                new CaseQuery(Collections.emptyList(), Arrays.asList(
+                        new QueryTerm(CaseField.TAG, "friends", false),
+                        new QueryTerm(CaseField.VICTIM, "tom", true))),
+                new CaseQuery(Collections.emptyList(),
+                        Collections.singletonList(new QueryTerm(CaseField.TITLE, "pauline assault", false))),
+                new CaseQuery(Collections.emptyList(),
+                        Collections.singletonList(new QueryTerm(CaseField.TITLE, "assault pauline", false))),
+                new CaseQuery(Collections.emptyList(),
+                        Collections.singletonList(new QueryTerm(null, "big banana", false))),
+                new CaseQuery(Collections.singletonList("robbery"),
+                        Collections.singletonList(new QueryTerm(CaseField.SUSPECT, "nobody", false))));
+
+        for (CaseQuery query : queries) {
+            Predicate<Case> predicate = index.getMatchingPredicate(query, this::getIndexedCases);
+            for (Case investigationCase : typicalCases) {
+                assertEquals(query.test(investigationCase), predicate.test(investigationCase),
+                        query + " on " + investigationCase.getTitle());
+            }
+        }
+    }
+
+    @Test
+    public void remove_indexedCase_caseNotFound() {
+        index.remove(CARL_KURZ_FIRE);
+        assertFalse(findKeyword("kurz").test(CARL_KURZ_FIRE));
+        assertFalse(findKeyword("fire").test(CARL_KURZ_FIRE));
+    }
+
+    @Test
+    public void setCasesLazily_casesChangedBeforeSearch_indexedWhenSearched() {
+        List<Case> cases = new ArrayList<>(typicalCases);
+        int[] supplyCount = {0};
+        index.setCasesLazily(() -> {
+            supplyCount[0]++;
+            return cases;
+        });
+        cases.remove(CARL_KURZ_FIRE);
+        index.remove(CARL_KURZ_FIRE);
+        assertEquals(0, supplyCount[0]);
+
+        assertFalse(findKeyword("fire").test(CARL_KURZ_FIRE));
+        assertTrue(findKeyword("robbery").test(BENSON_MEIER_ROBBERY));
+        assertEquals(1, supplyCount[0]);
+    }
+
+    @Test
+    public void getMatchingPredicate_indexChanged_matchesUpdated() {
+        Predicate<Case> predicate = index.getMatchingPredicate(
+                CaseQuery.ofKeywords(Collections.singletonList("robbery")), this::getIndexedCases);
+        assertTrue(predicate.test(BENSON_MEIER_ROBBERY));
+        assertFalse(predicate.test(ALICE_PAULINE_ASSAULT));
+
+        Case editedCase = new CaseBuilder(ALICE_PAULINE_ASSAULT).withTitle("Alice Pauline Robbery").build();
+        index.remove(ALICE_PAULINE_ASSAULT);
+        index.add(editedCase);
+        assertTrue(predicate.test(editedCase));
+
+        index.clear();
+        assertFalse(predicate.test(BENSON_MEIER_ROBBERY));
+    }
+
+    @Test
+    public void getRankedMatches_keywordsInMoreFields_rankedFirst() {
+        Case titleAndDescription = new CaseBuilder().withTitle("Bank Robbery")
+                .withDescription("robbery at the bank").build();
+        Case descriptionOnly = new CaseBuilder().withTitle("Shop Theft")
+                .withDescription("robbery near the shop").build();
+        Case noMatch = new CaseBuilder().withTitle("Bank Fraud").build();
+        List<Case> cases = Arrays.asList(descriptionOnly, noMatch, titleAndDescription);
+        CaseTextIndex rankingIndex = new CaseTextIndex();
+        cases.forEach(rankingIndex::add);
+
+        CaseQuery query = CaseQuery.ofKeywords(Collections.singletonList("robbery"));
+        CaseTextIndex.RankedMatches rankedMatches = rankingIndex.getRankedMatches(query, c -> true, 5, () -> cases);
+        assertTrue(rankedMatches.test(titleAndDescription));
+        assertTrue(rankedMatches.test(descriptionOnly));
+        assertFalse(rankedMatches.test(noMatch));
+        assertTrue(rankedMatches.getComparator().compare(titleAndDescription, descriptionOnly) < 0);
+
+        CaseTextIndex.RankedMatches topMatch = rankingIndex.getRankedMatches(query, c -> true, 1, () -> cases);
+        assertTrue(topMatch.test(titleAndDescription));
+        assertFalse(topMatch.test(descriptionOnly));
+
+        CaseTextIndex.RankedMatches filteredMatch = rankingIndex.getRankedMatches(query, c ->
+                c != titleAndDescription, 1, () -> cases);
+        assertFalse(filteredMatch.test(titleAndDescription));
+        assertTrue(filteredMatch.test(descriptionOnly));
+    }
+
+    @Test
+    public void getRankedMatches_invalidLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.getRankedMatches(
+                CaseQuery.ofKeywords(Collections.singletonList("meier")), c -> true, 0, this::getIndexedCases));
+    }
+
+    @Test
+    public void getRankedMatches_indexChanged_ranksKeptUntilRankedAgain() {
+        CaseQuery query = CaseQuery.ofKeywords(Collections.singletonList("robbery"));
+        CaseTextIndex.RankedMatches rankedMatches = index.getRankedMatches(query, c -> true, 1,
+                this::getIndexedCases);
+        assertTrue(rankedMatches.test(BENSON_MEIER_ROBBERY));
+
+        index.remove(BENSON_MEIER_ROBBERY);
+        assertTrue(rankedMatches.test(BENSON_MEIER_ROBBERY));
+        assertFalse(index.getRankedMatches(query, c -> true, 1, this::getIndexedCases).test(BENSON_MEIER_ROBBERY));
+    }
+
+    @Test
+    public void replace_lastRankedMatches_replacementRankedIfMatching() {
+        CaseQuery query = CaseQuery.ofKeywords(Collections.singletonList("robbery"));
+        CaseTextIndex.RankedMatches rankedMatches = index.getRankedMatches(query, c -> true, 1,
+                this::getIndexedCases);
+        assertTrue(rankedMatches.test(BENSON_MEIER_ROBBERY));
+
+        // an unranked case that becomes the most relevant displaces the ranked case
+        Case editedCase = new CaseBuilder(ALICE_PAULINE_ASSAULT).withTitle("Alice Robbery")
+                .withDescription("robbery robbery").build();
+        index.replace(ALICE_PAULINE_ASSAULT, editedCase);
+        assertTrue(rankedMatches.test(editedCase));
+        assertFalse(rankedMatches.test(BENSON_MEIER_ROBBERY));
+        assertEquals(1, rankedMatches.getDisplacedCount());
+
+        // a ranked case that stops matching is not replaced
+        Case reeditedCase = new CaseBuilder(editedCase).withTitle("Alice Assault").withDescription("assault").build();
+        index.replace(editedCase, reeditedCase);
+        assertFalse(rankedMatches.test(editedCase));
+        assertFalse(rankedMatches.test(reeditedCase));
+        assertFalse(rankedMatches.test(BENSON_MEIER_ROBBERY));
+    }
+
+    @Test
+    public void add_detailsUnavailable_casesIndexedAgainOnNextSearch() {
+        AtomicBoolean isAvailable = new AtomicBoolean(false);
+        Case source = new CaseBuilder().withTitle("Lost Files").withDescription("Misplaced ledger").build();
+        CaseDetails details = new CaseDetails(source.getDescription(), source.getDocuments(), source.getSuspects(),
+                source.getVictims(), source.getWitnesses());
+        Supplier<CaseDetails> detailsLoader = () -> {
+            if (!isAvailable.get()) {
+                throw new CaseDetailsUnavailableException("Details unavailable", new IOException());
+            }
+            return details;
+        };
+        Case lazyCase = new Case(source.getId(), source.getTitle(), source.getStatus(), source.getTags(),
+                ArchiveStatus.DEFAULT, detailsLoader);
+
+        typicalCases.add(lazyCase);
+        index.add(lazyCase);
+        assertThrows(CaseDetailsUnavailableException.class, () -> findKeyword("ledger").test(lazyCase));
+
+        isAvailable.set(true);
+        assertTrue(findKeyword("ledger").test(lazyCase));
+        assertTrue(findKeyword("meier").test(BENSON_MEIER_ROBBERY));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.pivot.model.investigationcase;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.pivot.testutil.Assert.assertThrows;
@@ -54,8 +55,9 @@ public class DescriptionTest {
     public void equals() {
 
         Description description = new Description(SYMBOLS);
-        // same values -> returns true
+        // same values -> returns true, with the same hash code
         assertTrue(description.equals(new Description(SYMBOLS)));
+        assertEquals(description.hashCode(), new Description(SYMBOLS).hashCode());
 
         // same object -> returns true
         assertTrue(description.equals(description));
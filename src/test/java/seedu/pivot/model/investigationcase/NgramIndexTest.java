@@ -0,0 +1,58 @@
+package seedu.pivot.model.investigationcase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.pivot.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NgramIndexTest {
+
+    private final NgramIndex index = new NgramIndex();
+
+    @BeforeEach
+    public void setUp() {
+        Arrays.asList("robbery", "bob@example.com", "91234567", "ab").forEach(index::add);
+    }
+
+    @Test
+    public void find_nullSubstring_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null));
+    }
+
+    @Test
+    public void find_shortSubstring_wordsFound() {
+        assertEquals(new HashSet<>(Arrays.asList("robbery", "bob@example.com", "ab")), index.find("b"));
+        assertEquals(Collections.singleton("robbery"), index.find("bb"));
+        assertEquals(Collections.singleton("robbery"), index.find("bbe"));
+    }
+
+    @Test
+    public void find_longSubstring_candidatesVerified() {
+        assertEquals(Collections.singleton("bob@example.com"), index.find("example.com"));
+        assertEquals(Collections.singleton("91234567"), index.find("2345"));
+        // every trigram is present, but not in the same word
+        index.add("abcx");
+        index.add("xbcd");
+        assertTrue(index.find("abcd").isEmpty());
+    }
+
+    @Test
+    public void find_modifyResult_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> index.find("b").clear());
+        assertThrows(UnsupportedOperationException.class, () -> index.find("example").add("robbery"));
+        assertEquals(Collections.singleton("robbery"), index.find("bb"));
+    }
+
+    @Test
+    public void remove_indexedWord_wordNotFound() {
+        index.remove("robbery");
+        assertTrue(index.find("rob").isEmpty());
+        assertEquals(Collections.singleton("bob@example.com"), index.find("bo"));
+    }
+}
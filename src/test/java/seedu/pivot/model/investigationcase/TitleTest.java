@@ -1,5 +1,6 @@
 package seedu.pivot.model.investigationcase;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -71,4 +72,11 @@ public class TitleTest {
         // different alphanum -> returns false
         assertFalse(title.equals(new Title(ALPHA)));
     }
+
+    @Test
+    public void createTrustedTitle_validTitle_equalsConstructedTitle() {
+        assertEquals(new Title(ALPHANUMERIC), Title.createTrustedTitle(ALPHANUMERIC));
+        assertEquals(new Title(ALPHANUMERIC), Title.createTrustedTitle(" " + ALPHANUMERIC + " "));
+        assertEquals(ALPHANUMERIC, Title.createTrustedTitle(" " + ALPHANUMERIC + " ").getAlphaNum());
+    }
 }
@@ -8,9 +8,12 @@ import static seedu.pivot.testutil.Assert.assertThrows;
 import static seedu.pivot.testutil.TypicalCases.ALICE_PAULINE_ASSAULT;
 import static seedu.pivot.testutil.TypicalCases.BOB_CHOO_SALON_THEFT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,6 +60,54 @@ public class UniqueCaseListTest {
         assertThrows(DuplicateCaseException.class, () -> uniqueCaseList.add(ALICE_PAULINE_ASSAULT));
     }
 
+    @Test
+    public void add_caseWithSameId_throwsDuplicateCaseException() {
+        uniqueCaseList.add(ALICE_PAULINE_ASSAULT);
+        Case sameIdCase = new Case(ALICE_PAULINE_ASSAULT.getId(), BOB_CHOO_SALON_THEFT.getTitle(),
+                BOB_CHOO_SALON_THEFT.getDescription(), BOB_CHOO_SALON_THEFT.getStatus(),
+                BOB_CHOO_SALON_THEFT.getDocuments(), BOB_CHOO_SALON_THEFT.getSuspects(),
+                BOB_CHOO_SALON_THEFT.getVictims(), BOB_CHOO_SALON_THEFT.getWitnesses(),
+                BOB_CHOO_SALON_THEFT.getTags(), BOB_CHOO_SALON_THEFT.getArchiveStatus());
+        assertThrows(DuplicateCaseException.class, () -> uniqueCaseList.add(sameIdCase));
+        assertEquals(1, uniqueCaseList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void get_caseInList_returnsCase() {
+        uniqueCaseList.add(ALICE_PAULINE_ASSAULT);
+        uniqueCaseList.add(BOB_CHOO_SALON_THEFT);
+        assertEquals(Optional.of(BOB_CHOO_SALON_THEFT), uniqueCaseList.get(BOB_CHOO_SALON_THEFT.getId()));
+        uniqueCaseList.remove(BOB_CHOO_SALON_THEFT);
+        assertFalse(uniqueCaseList.get(BOB_CHOO_SALON_THEFT.getId()).isPresent());
+    }
+
+    @Test
+    public void indexOf_casesInsertedAndRemovedBefore_correctIndex() {
+        List<Case> cases = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Case addedCase = new CaseBuilder().withTitle("Case " + i).build();
+            cases.add(addedCase);
+            uniqueCaseList.add(addedCase);
+        }
+        assertEquals(3, uniqueCaseList.indexOf(cases.get(3)));
+
+        uniqueCaseList.remove(cases.get(1));
+        assertEquals(2, uniqueCaseList.indexOf(cases.get(3)));
+
+        Case insertedCase = new CaseBuilder().withTitle("Inserted").build();
+        uniqueCaseList.add(0, insertedCase);
+        assertEquals(0, uniqueCaseList.indexOf(insertedCase));
+        assertEquals(3, uniqueCaseList.indexOf(cases.get(3)));
+        assertEquals(-1, uniqueCaseList.indexOf(cases.get(1)));
+    }
+
+    @Test
+    public void indexOf_equalCaseWithDifferentId_correctIndex() {
+        uniqueCaseList.add(BOB_CHOO_SALON_THEFT);
+        uniqueCaseList.add(ALICE_PAULINE_ASSAULT);
+        assertEquals(1, uniqueCaseList.indexOf(new CaseBuilder(ALICE_PAULINE_ASSAULT).build()));
+    }
+
     @Test
     public void setCase_nullTargetCase_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCaseList.setCase(null, ALICE_PAULINE_ASSAULT));
@@ -102,6 +153,15 @@ public class UniqueCaseListTest {
         assertEquals(expectedUniqueCaseList, uniqueCaseList);
     }
 
+    @Test
+    public void setCase_editedCaseHasDifferentIdentity_oldIdentityReleased() {
+        uniqueCaseList.add(ALICE_PAULINE_ASSAULT);
+        uniqueCaseList.setCase(ALICE_PAULINE_ASSAULT, BOB_CHOO_SALON_THEFT);
+        assertFalse(uniqueCaseList.contains(ALICE_PAULINE_ASSAULT));
+        assertTrue(uniqueCaseList.contains(BOB_CHOO_SALON_THEFT));
+        uniqueCaseList.add(ALICE_PAULINE_ASSAULT);
+    }
+
     @Test
     public void setCase_editedCaseHasNonUniqueIdentity_throwsDuplicateCaseException() {
         uniqueCaseList.add(ALICE_PAULINE_ASSAULT);
@@ -110,6 +170,20 @@ public class UniqueCaseListTest {
                 uniqueCaseList.setCase(ALICE_PAULINE_ASSAULT, BOB_CHOO_SALON_THEFT));
     }
 
+    @Test
+    public void setCase_editedCaseWithSameId_foundById() {
+        uniqueCaseList.add(ALICE_PAULINE_ASSAULT);
+        uniqueCaseList.add(BOB_CHOO_SALON_THEFT);
+        Case editedBob = new Case(BOB_CHOO_SALON_THEFT.getId(), BOB_CHOO_SALON_THEFT.getTitle(),
+                BOB_CHOO_SALON_THEFT.getDescription(), BOB_CHOO_SALON_THEFT.getStatus(),
+                BOB_CHOO_SALON_THEFT.getDocuments(), BOB_CHOO_SALON_THEFT.getSuspects(),
+                BOB_CHOO_SALON_THEFT.getVictims(), BOB_CHOO_SALON_THEFT.getWitnesses(),
+                Collections.emptySet(), BOB_CHOO_SALON_THEFT.getArchiveStatus());
+        uniqueCaseList.setCase(BOB_CHOO_SALON_THEFT, editedBob);
+        assertEquals(Optional.of(editedBob), uniqueCaseList.get(BOB_CHOO_SALON_THEFT.getId()));
+        assertEquals(1, uniqueCaseList.indexOf(editedBob));
+    }
+
     @Test
     public void remove_nullCase_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCaseList.remove(null));
@@ -126,6 +200,7 @@ public class UniqueCaseListTest {
         uniqueCaseList.remove(ALICE_PAULINE_ASSAULT);
         UniqueCaseList expectedUniqueCaseList = new UniqueCaseList();
         assertEquals(expectedUniqueCaseList, uniqueCaseList);
+        assertFalse(uniqueCaseList.contains(ALICE_PAULINE_ASSAULT));
     }
 
     @Test
@@ -155,6 +230,8 @@ public class UniqueCaseListTest {
         UniqueCaseList expectedUniqueCaseList = new UniqueCaseList();
         expectedUniqueCaseList.add(BOB_CHOO_SALON_THEFT);
         assertEquals(expectedUniqueCaseList, uniqueCaseList);
+        assertFalse(uniqueCaseList.contains(ALICE_PAULINE_ASSAULT));
+        assertTrue(uniqueCaseList.contains(BOB_CHOO_SALON_THEFT));
     }
 
     @Test
@@ -163,6 +240,35 @@ public class UniqueCaseListTest {
         assertThrows(DuplicateCaseException.class, () -> uniqueCaseList.setCases(listWithDuplicateCases));
     }
 
+    @Test
+    public void setCases_listWithDuplicateCases_listUnchanged() {
+        uniqueCaseList.add(BOB_CHOO_SALON_THEFT);
+        List<Case> listWithDuplicateCases = Arrays.asList(ALICE_PAULINE_ASSAULT, ALICE_PAULINE_ASSAULT);
+        assertThrows(DuplicateCaseException.class, () -> uniqueCaseList.setCases(listWithDuplicateCases));
+        assertTrue(uniqueCaseList.contains(BOB_CHOO_SALON_THEFT));
+        assertFalse(uniqueCaseList.contains(ALICE_PAULINE_ASSAULT));
+    }
+
+    @Test
+    public void getFilterPredicate_casesChanged_matchesCurrentCases() {
+        CaseFilter filter = CaseFilter.ofStatus(Status.COLD);
+        uniqueCaseList.add(ALICE_PAULINE_ASSAULT);
+        uniqueCaseList.add(BOB_CHOO_SALON_THEFT);
+        Predicate<Case> predicate = uniqueCaseList.getFilterPredicate(filter);
+        assertEquals(filter.test(BOB_CHOO_SALON_THEFT), predicate.test(BOB_CHOO_SALON_THEFT));
+        assertTrue(predicate.test(ALICE_PAULINE_ASSAULT));
+
+        Case editedAlice = ALICE_PAULINE_ASSAULT.withStatus(Status.ACTIVE);
+        uniqueCaseList.setCase(ALICE_PAULINE_ASSAULT, editedAlice);
+        assertFalse(predicate.test(editedAlice));
+
+        uniqueCaseList.setCases(Collections.singletonList(ALICE_PAULINE_ASSAULT));
+        assertTrue(predicate.test(ALICE_PAULINE_ASSAULT));
+        uniqueCaseList.remove(ALICE_PAULINE_ASSAULT);
+        uniqueCaseList.add(editedAlice);
+        assertFalse(predicate.test(editedAlice));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -1,5 +1,6 @@
 package seedu.pivot.model.investigationcase.caseperson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.pivot.testutil.Assert.assertThrows;
@@ -52,4 +53,12 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("peter_jack@very-very-very-long-example.com")); // long domain name
         assertTrue(Email.isValidEmail("if.you.dream.it_you.can.do.it@example.com")); // long local part
     }
+
+    @Test
+    public void equals_differentCase_sameHashCode() {
+        Email email = new Email("PeterJack@example.com");
+        Email lowerCaseEmail = new Email("peterjack@example.com");
+        assertTrue(email.equals(lowerCaseEmail));
+        assertEquals(email.hashCode(), lowerCaseEmail.hashCode());
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.pivot.model.investigationcase.caseperson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -73,5 +74,10 @@ public class NameTest {
 
         // different alphanum -> returns false
         assertFalse(name.equals(new Name(ALPHA)));
+
+        // different case -> returns true, with the same hash code
+        Name lowerCaseName = new Name(ALPHANUMERIC.toLowerCase());
+        assertTrue(name.equals(lowerCaseName));
+        assertEquals(name.hashCode(), lowerCaseName.hashCode());
     }
 }
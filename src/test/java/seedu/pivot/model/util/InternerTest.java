@@ -0,0 +1,86 @@
+package seedu.pivot.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.pivot.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.pivot.model.investigationcase.Name;
+
+public class InternerTest {
+
+    private final Interner<Name> interner = new Interner<>(Name::getAlphaNum);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<Name>(null));
+    }
+
+    @Test
+    public void intern_equalValues_firstValueReturned() {
+        Name name = new Name("Peter");
+        Name equalName = new Name("Peter");
+        assertNotSame(name, equalName);
+
+        assertSame(name, interner.intern(name));
+        assertSame(name, interner.intern(equalName));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_valuesEqualButDifferentKeys_keptApart() {
+        Name name = new Name("Peter");
+        Name lowerCaseName = new Name("peter");
+        assertEquals(name, lowerCaseName);
+
+        assertSame(name, interner.intern(name));
+        assertSame(lowerCaseName, interner.intern(lowerCaseName));
+    }
+
+    @Test
+    public void intern_keyPooled_factoryNotCalled() {
+        Name name = interner.intern("Peter", Name::new);
+        assertSame(name, interner.intern("Peter", key -> {
+            throw new AssertionError("Value created for a pooled key");
+        }));
+    }
+
+    @Test
+    public void intern_keyNormalisedByFactory_pooledValueReturned() {
+        Name name = interner.intern("Peter", Name::new);
+        assertSame(name, interner.intern("  Peter ", Name::new));
+    }
+
+    @Test
+    public void intern_invalidKey_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> interner.intern("P@ter", Name::new));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void intern_concurrentThreads_sameValueReturned() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Name>> names = executor.invokeAll(IntStream.range(0, 100)
+                    .<Callable<Name>>mapToObj(i -> () -> interner.intern("Peter", Name::new))
+                    .collect(Collectors.toList()));
+            Name name = names.get(0).get();
+            for (Future<Name> otherName : names) {
+                assertSame(name, otherName.get());
+            }
+            assertEquals(1, interner.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
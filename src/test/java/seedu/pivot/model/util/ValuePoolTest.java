@@ -0,0 +1,38 @@
+package seedu.pivot.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.pivot.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.pivot.model.investigationcase.Name;
+import seedu.pivot.model.investigationcase.caseperson.Email;
+import seedu.pivot.model.tag.Tag;
+
+public class ValuePoolTest {
+
+    @Test
+    public void getValues_sameStrings_sameInstances() {
+        assertSame(ValuePool.getName("Peter Tan"), ValuePool.getName("Peter Tan"));
+        assertSame(ValuePool.getTag("friends"), ValuePool.getTag("friends"));
+        assertSame(ValuePool.getPhone("91234567"), ValuePool.getPhone("91234567"));
+        assertSame(ValuePool.getEmail("peter@example.com"), ValuePool.getEmail("PETER@example.com"));
+        assertSame(ValuePool.getAddress("Blk 123"), ValuePool.getAddress("Blk 123"));
+    }
+
+    @Test
+    public void getValues_equalToConstructedValues() {
+        assertEquals(new Name("Peter Tan"), ValuePool.getName("Peter Tan"));
+        assertEquals(new Tag("friends"), ValuePool.getTag("friends"));
+        assertEquals(new Email("peter@example.com"), ValuePool.getEmail("peter@example.com"));
+    }
+
+    @Test
+    public void getValues_invalidStrings_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ValuePool.getName("P@ter"));
+        assertThrows(IllegalArgumentException.class, () -> ValuePool.getTag("#friends"));
+        assertThrows(IllegalArgumentException.class, () -> ValuePool.getPhone("phone"));
+        assertThrows(IllegalArgumentException.class, () -> ValuePool.getEmail("peter"));
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.pivot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.pivot.testutil.Assert.assertThrows;
+import static seedu.pivot.testutil.TypicalCases.ALICE_PAULINE_ASSAULT;
+import static seedu.pivot.testutil.TypicalCases.BENSON_MEIER_ROBBERY;
+import static seedu.pivot.testutil.TypicalCases.CARL_KURZ_FIRE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.pivot.model.CaseChange;
+import seedu.pivot.model.Pivot;
+import seedu.pivot.model.ReadOnlyPivot;
+import seedu.pivot.model.investigationcase.Case;
+
+public class BackgroundPivotStorageTest {
+
+    private final Queue<Runnable> scheduledWrites = new LinkedList<>();
+    private final PivotStorageStub storageStub = new PivotStorageStub();
+    private final BackgroundPivotStorage storage = new BackgroundPivotStorage(storageStub, scheduledWrites::add);
+    private final Pivot pivot = new Pivot();
+
+    private void addCase(Case investigationCase) {
+        CaseChange change = CaseChange.ofAdd(pivot.getCaseList().size(), investigationCase);
+        pivot.addCase(investigationCase);
+        storage.savePivotChanges(pivot, Collections.singletonList(change));
+    }
+
+    private void runScheduledWrites() {
+        while (!scheduledWrites.isEmpty()) {
+            scheduledWrites.poll().run();
+        }
+    }
+
+    @Test
+    public void savePivotChanges_returnsBeforeWriting() {
+        addCase(ALICE_PAULINE_ASSAULT);
+        assertTrue(storageStub.savedChanges.isEmpty());
+        assertEquals(1, scheduledWrites.size());
+
+        runScheduledWrites();
+        assertEquals(1, storageStub.savedChanges.size());
+    }
+
+    @Test
+    public void savePivotChanges_burstOfSaves_coalescedIntoOneWrite() {
+        addCase(ALICE_PAULINE_ASSAULT);
+        addCase(BENSON_MEIER_ROBBERY);
+        addCase(CARL_KURZ_FIRE);
+        assertEquals(1, scheduledWrites.size());
+
+        runScheduledWrites();
+        assertEquals(1, storage.getWriteCount());
+        assertEquals(Collections.singletonList(Arrays.asList(CaseChange.ofAdd(0, ALICE_PAULINE_ASSAULT),
+                CaseChange.ofAdd(1, BENSON_MEIER_ROBBERY), CaseChange.ofAdd(2, CARL_KURZ_FIRE))),
+                storageStub.savedChanges);
+        assertEquals(pivot.getCaseList(), storageStub.savedPivots.get(0).getCaseList());
+    }
+
+    @Test
+    public void savePivotChanges_pivotChangedAfterSave_snapshotUnchanged() {
+        addCase(ALICE_PAULINE_ASSAULT);
+        pivot.addCase(BENSON_MEIER_ROBBERY);
+
+        runScheduledWrites();
+        assertEquals(Collections.singletonList(ALICE_PAULINE_ASSAULT), storageStub.savedPivots.get(0).getCaseList());
+    }
+
+    @Test
+    public void savePivotChanges_writeFails_failureHandledAndRetriedWithNextSave() throws Exception {
+        List<IOException> failures = new ArrayList<>();
+        storage.setSaveFailureHandler(failures::add);
+        storageStub.isFailing = true;
+        addCase(ALICE_PAULINE_ASSAULT);
+        runScheduledWrites();
+        assertEquals(Collections.singletonList(PivotStorageStub.FAILURE), failures);
+
+        storageStub.isFailing = false;
+        addCase(BENSON_MEIER_ROBBERY);
+        runScheduledWrites();
+        assertEquals(Collections.singletonList(Arrays.asList(CaseChange.ofAdd(0, ALICE_PAULINE_ASSAULT),
+                CaseChange.ofAdd(1, BENSON_MEIER_ROBBERY))), storageStub.savedChanges);
+    }
+
+    @Test
+    public void awaitPendingSaves_writeFails_throwsIoException() {
+        BackgroundPivotStorage directStorage = new BackgroundPivotStorage(storageStub, Runnable::run);
+        storageStub.isFailing = true;
+        directStorage.savePivotChanges(pivot, Collections.singletonList(CaseChange.ofAdd(0, CARL_KURZ_FIRE)));
+        assertThrows(IOException.class, directStorage::awaitPendingSaves);
+
+        storageStub.isFailing = false;
+        assertDoesNotThrow(directStorage::awaitPendingSaves);
+        assertEquals(1, storageStub.savedChanges.size());
+    }
+
+    @Test
+    public void awaitPendingSaves_writesOnAnotherThread_waitsForWrites() throws Exception {
+        BackgroundPivotStorage threadedStorage = new BackgroundPivotStorage(storageStub);
+        threadedStorage.savePivotChanges(pivot, Collections.singletonList(CaseChange.ofAdd(0, CARL_KURZ_FIRE)));
+        threadedStorage.awaitPendingSaves();
+        assertEquals(1, storageStub.savedChanges.size());
+    }
+
+    /**
+     * A {@code PivotStorage} which records the changes saved to it.
+     */
+    private static class PivotStorageStub implements PivotStorage {
+        private static final IOException FAILURE = new IOException("dummy exception");
+
+        private final List<ReadOnlyPivot> savedPivots = Collections.synchronizedList(new ArrayList<>());
+        private final List<List<CaseChange>> savedChanges = Collections.synchronizedList(new ArrayList<>());
+        private boolean isFailing = false;
+
+        @Override
+        public Path getPivotFilePath() {
+            return Paths.get("pivot.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyPivot> readPivot() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyPivot> readPivot(Path filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void savePivot(ReadOnlyPivot pivot) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void savePivot(ReadOnlyPivot pivot, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void savePivotChanges(ReadOnlyPivot pivot, List<CaseChange> changes) throws IOException {
+            if (isFailing) {
+                throw FAILURE;
+            }
+            savedPivots.add(pivot);
+            savedChanges.add(new ArrayList<>(changes));
+        }
+    }
+}
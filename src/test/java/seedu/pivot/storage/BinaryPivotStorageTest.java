@@ -0,0 +1,239 @@
+package seedu.pivot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.pivot.storage.BinaryPivotFormat.writeVarLong;
+import static seedu.pivot.testutil.Assert.assertThrows;
+import static seedu.pivot.testutil.TypicalCases.ALICE_PAULINE_ASSAULT;
+import static seedu.pivot.testutil.TypicalCases.BENSON_MEIER_ROBBERY;
+import static seedu.pivot.testutil.TypicalCases.HOON_MEIER_ARSON;
+import static seedu.pivot.testutil.TypicalCases.getTypicalPivot;
+
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.model.Pivot;
+import seedu.pivot.model.ReadOnlyPivot;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.exceptions.CaseDetailsUnavailableException;
+
+public class BinaryPivotStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryPivotStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("pivot.bin");
+        storage = new BinaryPivotStorage(filePath);
+    }
+
+    private static int countOccurrences(byte[] bytes, String value) {
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        int count = 0;
+        for (int i = 0; i + valueBytes.length <= bytes.length; i++) {
+            if (Arrays.equals(Arrays.copyOfRange(bytes, i, i + valueBytes.length), valueBytes)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void readPivot_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.readPivot(null));
+    }
+
+    @Test
+    public void readPivot_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readPivot().isPresent());
+    }
+
+    @Test
+    public void readAndSavePivot_allInOrder_success() throws Exception {
+        Pivot original = getTypicalPivot();
+        storage.savePivot(original);
+        assertEquals(original, new Pivot(storage.readPivot().get()));
+
+        original.addCase(HOON_MEIER_ARSON);
+        original.removeCase(ALICE_PAULINE_ASSAULT);
+        storage.savePivot(original);
+        assertEquals(original, new Pivot(storage.readPivot().get()));
+    }
+
+    @Test
+    public void readPivot_savedPivot_caseIdsKept() throws Exception {
+        Pivot original = getTypicalPivot();
+        storage.savePivot(original);
+        List<Case> cases = storage.readPivot().get().getCaseList();
+        for (int i = 0; i < cases.size(); i++) {
+            assertEquals(original.getCaseList().get(i).getId(), cases.get(i).getId());
+        }
+    }
+
+    @Test
+    public void savePivot_typicalPivot_smallerThanJsonWithRepeatedValuesWrittenOnce() throws Exception {
+        storage.savePivot(getTypicalPivot());
+        Path jsonFilePath = testFolder.resolve("pivot.json");
+        new JsonPivotStorage(jsonFilePath, false).savePivot(getTypicalPivot());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        assertTrue(bytes.length < Files.size(jsonFilePath));
+        assertEquals(1, countOccurrences(bytes, ALICE_PAULINE_ASSAULT.getStatus().name()));
+    }
+
+    @Test
+    public void readPivot_jsonFile_throwsDataConversionException() throws Exception {
+        new JsonPivotStorage(filePath).savePivot(getTypicalPivot());
+        assertThrows(DataConversionException.class, () -> storage.readPivot());
+    }
+
+    @Test
+    public void readPivot_corruptedRecord_throwsDataConversionException() throws Exception {
+        storage.savePivot(getTypicalPivot());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 10] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> storage.readPivot());
+    }
+
+    @Test
+    public void readPivot_truncatedFile_throwsDataConversionException() throws Exception {
+        storage.savePivot(getTypicalPivot());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, () -> storage.readPivot());
+    }
+
+    @Test
+    public void readPivot_unsupportedVersion_throwsDataConversionException() throws Exception {
+        storage.savePivot(getTypicalPivot());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryPivotFormat.MAGIC.length] = BinaryPivotFormat.FORMAT_VERSION + 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> storage.readPivot());
+    }
+
+    @Test
+    public void readPivot_duplicateCases_throwsDataConversionException() throws Exception {
+        new BinaryPivotWriter().write(Arrays.asList(ALICE_PAULINE_ASSAULT, ALICE_PAULINE_ASSAULT), 0, filePath);
+        assertThrows(DataConversionException.class, () -> storage.readPivot());
+    }
+
+    @Test
+    public void readPivot_journalSequence_readBack() throws Exception {
+        new BinaryPivotWriter().write(Collections.singletonList(ALICE_PAULINE_ASSAULT), 300, filePath);
+
+        BinaryPivotReader reader = new BinaryPivotReader(filePath);
+        ReadOnlyPivot pivot = reader.read().get();
+        assertEquals(Collections.singletonList(ALICE_PAULINE_ASSAULT), pivot.getCaseList());
+        assertEquals(300, reader.getJournalSequence());
+    }
+
+    @Test
+    public void readPivot_corruptedDetailsRecord_throwsDataConversionException() throws Exception {
+        new BinaryPivotWriter().write(Arrays.asList(ALICE_PAULINE_ASSAULT, BENSON_MEIER_ROBBERY), 0, filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        // The details record of the first case follows the magic, version, journal sequence and case count.
+        bytes[BinaryPivotFormat.MAGIC.length + 4] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> storage.readPivot());
+    }
+
+    @Test
+    public void readPivot_detailsRecordsOverlap_throwsDataConversionException() throws Exception {
+        BinaryRecordWriter recordWriter = new BinaryRecordWriter();
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(filePath))) {
+            output.write(BinaryPivotFormat.MAGIC);
+            writeVarLong(output, BinaryPivotFormat.FORMAT_VERSION);
+            writeVarLong(output, 0);
+            writeVarLong(output, 2);
+            long detailsOffset = output.size();
+            recordWriter.startBody();
+            recordWriter.writeDetails(ALICE_PAULINE_ASSAULT);
+            recordWriter.writeRecordTo(output);
+            int detailsLength = recordWriter.getBodyLength();
+
+            // Both index records point to the details of the first case, each within the bounds of the file.
+            long indexOffset = output.size();
+            recordWriter.clearStrings();
+            for (Case investigationCase : Arrays.asList(ALICE_PAULINE_ASSAULT, BENSON_MEIER_ROBBERY)) {
+                recordWriter.startBody();
+                recordWriter.writeSummary(investigationCase);
+                recordWriter.writeNumber(detailsOffset);
+                recordWriter.writeNumber(detailsLength);
+                recordWriter.writeNumber(investigationCase.getId().getValue());
+                writeVarLong(output, recordWriter.getBodyLength());
+                recordWriter.writeRecordTo(output);
+            }
+            output.writeLong(indexOffset);
+        }
+
+        assertThrows(DataConversionException.class, () -> storage.readPivot());
+    }
+
+    @Test
+    public void readPivot_readAgain_casesReadBeforeStillLoadDetails() throws Exception {
+        storage.savePivot(getTypicalPivot());
+        List<Case> cases = storage.readPivot().get().getCaseList();
+        List<Case> casesReadAgain = storage.readPivot().get().getCaseList();
+        storage.savePivot(new Pivot());
+
+        assertEquals(getTypicalPivot().getCaseList().get(0).getDescription(), cases.get(0).getDescription());
+        assertEquals(getTypicalPivot().getCaseList().get(0).getDescription(), casesReadAgain.get(0).getDescription());
+    }
+
+    @Test
+    public void close_detailsNotLoaded_fileClosed() throws Exception {
+        storage.savePivot(getTypicalPivot());
+        List<Case> cases = storage.readPivot().get().getCaseList();
+        assertEquals(getTypicalPivot().getCaseList().get(0).getSuspects(), cases.get(0).getSuspects());
+        storage.close();
+
+        // Details loaded before the file was closed are still kept in memory.
+        assertEquals(getTypicalPivot().getCaseList().get(0).getSuspects(), cases.get(0).getSuspects());
+        assertThrows(CaseDetailsUnavailableException.class, () -> cases.get(1).getDescription());
+    }
+
+    @Test
+    public void readPivot_moreCasesThanCacheSize_leastRecentlyUsedDetailsReadAgain() throws Exception {
+        new BinaryPivotWriter().write(Arrays.asList(ALICE_PAULINE_ASSAULT, BENSON_MEIER_ROBBERY), 0, filePath);
+        List<Case> cases = new BinaryPivotReader(filePath, 1).read().get().getCaseList();
+        assertEquals(ALICE_PAULINE_ASSAULT.getSuspects(), cases.get(0).getSuspects());
+        assertEquals(BENSON_MEIER_ROBBERY.getSuspects(), cases.get(1).getSuspects());
+
+        // Overwrites the file in place, so that only the details kept in memory can still be loaded.
+        Files.write(filePath, new byte[(int) Files.size(filePath)]);
+        assertEquals(BENSON_MEIER_ROBBERY.getSuspects(), cases.get(1).getSuspects());
+        assertThrows(CaseDetailsUnavailableException.class, () -> cases.get(0).getSuspects());
+    }
+
+    @Test
+    public void savePivot_casesReadFromSameFile_detailsKept() throws Exception {
+        storage.savePivot(getTypicalPivot());
+        ReadOnlyPivot pivot = storage.readPivot().get();
+        storage.savePivot(pivot);
+        storage.savePivot(pivot);
+
+        assertEquals(getTypicalPivot(), new Pivot(pivot));
+        assertEquals(getTypicalPivot(), new Pivot(storage.readPivot().get()));
+    }
+}
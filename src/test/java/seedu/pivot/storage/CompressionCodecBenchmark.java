@@ -0,0 +1,110 @@
+package seedu.pivot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.pivot.commons.core.DataFileCompression;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.testutil.CaseBuilder;
+import seedu.pivot.testutil.CasePersonBuilder;
+
+/**
+ * Measures the size of json data files saved with each compression setting, and the time taken to write and read
+ * them. The cases are generated from a fixed seed, so every run uses the same data.
+ * It is excluded from {@code gradlew test}, and is run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class CompressionCodecBenchmark {
+
+    private static final int CASE_COUNT = 20000;
+    private static final int RUNS = 3;
+    private static final long SEED = 2103;
+    private static final String[] WORDS = {"robbery", "theft", "assault", "fraud", "arson", "burglary", "vandalism",
+        "witness", "suspect", "victim", "evidence", "report", "seen", "near", "the", "shop", "park", "station", "car",
+        "night", "morning", "phone", "camera", "footage", "statement", "alibi", "motive", "weapon", "injury", "loss"};
+    private static final String[] NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George", "Hannah",
+        "Ivan", "Jane", "Kumar", "Lim", "Meier", "Ng", "Ong", "Pauline", "Kurz", "Tan", "Wong", "Yeo"};
+    private static final String[] TAGS = {"urgent", "cold", "solved", "review", "court", "pending"};
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Prints the size and the best write and read times of the data file saved with each compression setting.
+     */
+    @Test
+    public void benchmark() throws Exception {
+        List<Case> cases = generateCases();
+        System.out.printf("%d cases, best of %d runs%n", CASE_COUNT, RUNS);
+        System.out.printf("%-8s %-6s %10s %9s %9s%n", "codec", "level", "size", "write", "read");
+        measure(cases, DataFileCompression.NONE, 0);
+        for (DataFileCompression compression : new DataFileCompression[] {
+            DataFileCompression.GZIP, DataFileCompression.DEFLATE}) {
+            for (int level : new int[] {1, 6, 9}) {
+                measure(cases, compression, level);
+            }
+        }
+    }
+
+    private void measure(List<Case> cases, DataFileCompression compression, int level) throws Exception {
+        Path filePath = testFolder.resolve(compression + "-" + level + ".json");
+        StreamingJsonPivotWriter writer = compression == DataFileCompression.NONE
+                ? new StreamingJsonPivotWriter(false)
+                : new StreamingJsonPivotWriter(false, compression, level);
+
+        long bestWriteNanos = Long.MAX_VALUE;
+        long bestReadNanos = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            writer.write(cases, 0, filePath);
+            bestWriteNanos = Math.min(bestWriteNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            int readCount = new StreamingJsonPivotReader(filePath).read().get().getCaseList().size();
+            bestReadNanos = Math.min(bestReadNanos, System.nanoTime() - start);
+            assertEquals(cases.size(), readCount);
+        }
+
+        System.out.printf("%-8s %-6s %6d KiB %6d ms %6d ms%n", compression,
+                compression == DataFileCompression.NONE ? "-" : String.valueOf(level),
+                Files.size(filePath) / 1024, bestWriteNanos / 1_000_000, bestReadNanos / 1_000_000);
+    }
+
+    /**
+     * Returns cases with a few persons and a description of random words each.
+     */
+    private static List<Case> generateCases() {
+        Random random = new Random(SEED);
+        List<Case> cases = new ArrayList<>();
+        for (int i = 0; i < CASE_COUNT; i++) {
+            StringBuilder description = new StringBuilder();
+            int wordCount = 20 + random.nextInt(60);
+            for (int word = 0; word < wordCount; word++) {
+                description.append(pick(random, WORDS)).append(' ');
+            }
+            cases.add(new CaseBuilder()
+                    .withTitle(pick(random, NAMES) + " " + pick(random, WORDS) + " " + i)
+                    .withDescription(description.toString().trim())
+                    .withTags(pick(random, TAGS))
+                    .withSuspects(new CasePersonBuilder().withName(pick(random, NAMES) + " " + pick(random, NAMES))
+                            .withPhone(String.valueOf(80000000 + random.nextInt(20000000))).buildSuspect())
+                    .withWitnesses(new CasePersonBuilder().withName(pick(random, NAMES))
+                            .withPhone(String.valueOf(90000000 + random.nextInt(10000000))).buildWitness())
+                    .build());
+        }
+        return cases;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
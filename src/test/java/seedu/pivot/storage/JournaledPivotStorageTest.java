@@ -0,0 +1,284 @@
+package seedu.pivot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.pivot.testutil.Assert.assertThrows;
+import static seedu.pivot.testutil.PivotStorageUtil.assertReadBack;
+import static seedu.pivot.testutil.PivotStorageUtil.saveChanges;
+import static seedu.pivot.testutil.TypicalCases.ALICE_PAULINE_ASSAULT;
+import static seedu.pivot.testutil.TypicalCases.BENSON_MEIER_ROBBERY;
+import static seedu.pivot.testutil.TypicalCases.HOON_MEIER_ARSON;
+import static seedu.pivot.testutil.TypicalCases.IDA_MUELLER_STABBING;
+import static seedu.pivot.testutil.TypicalCases.getTypicalPivot;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.pivot.commons.core.DataFileCompression;
+import seedu.pivot.commons.core.DataFileFormat;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.commons.util.FileUtil;
+import seedu.pivot.model.ModelManager;
+import seedu.pivot.model.Pivot;
+import seedu.pivot.model.UserPrefs;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.testutil.CaseBuilder;
+
+public class JournaledPivotStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private ModelManager model;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("pivot.json");
+        model = new ModelManager(getTypicalPivot(), new UserPrefs());
+    }
+
+    private JournaledPivotStorage createStorage(int compactionThreshold) {
+        return new JournaledPivotStorage(filePath, DataFileFormat.JSON, true, compactionThreshold, Runnable::run);
+    }
+
+    private Path getSegmentPath(int segment) {
+        return testFolder.resolve("pivot.json.journal-" + segment);
+    }
+
+    private Path getGenerationPath(int generation) {
+        return testFolder.resolve("pivot.json.gen-" + generation);
+    }
+
+    private Path getSnapshotManifestPath() {
+        return testFolder.resolve("pivot.json.generations");
+    }
+
+    /**
+     * Damages the current snapshot as a write cut short would, by dropping its second half.
+     */
+    private void truncateSnapshot() throws Exception {
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+    }
+
+    /**
+     * Makes an add, an edit and a delete in {@code model}.
+     */
+    private void makeChanges() {
+        model.addCase(HOON_MEIER_ARSON);
+        Case editedCase = new CaseBuilder(ALICE_PAULINE_ASSAULT).withDescription("Edited").build();
+        model.setCase(ALICE_PAULINE_ASSAULT, editedCase);
+        model.deleteCase(BENSON_MEIER_ROBBERY);
+    }
+
+    @Test
+    public void savePivotChanges_noChanges_nothingWritten() throws Exception {
+        createStorage(10).savePivotChanges(model.getPivot(), Collections.emptyList());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void savePivotChanges_notReadOrSaved_wholePivotSaved() throws Exception {
+        JournaledPivotStorage storage = createStorage(10);
+        makeChanges();
+        saveChanges(model, storage);
+
+        assertFalse(Files.exists(getSegmentPath(0)));
+        assertFalse(Files.exists(getSegmentPath(1)));
+        assertEquals(model.getPivot(), new JsonPivotStorage(filePath).readPivot().get());
+    }
+
+    @Test
+    public void savePivotChanges_afterSave_changesJournaled() throws Exception {
+        JournaledPivotStorage storage = createStorage(10);
+        storage.savePivot(model.getPivot());
+        makeChanges();
+        saveChanges(model, storage);
+
+        assertTrue(Files.exists(getSegmentPath(1)));
+        assertEquals(getTypicalPivot(), new JsonPivotStorage(filePath).readPivot().get());
+        assertReadBack(model.getPivot(), createStorage(10));
+    }
+
+    @Test
+    public void savePivotChanges_afterRead_changesJournaledInNewSegment() throws Exception {
+        JournaledPivotStorage storage = createStorage(10);
+        storage.savePivot(model.getPivot());
+        model.addCase(HOON_MEIER_ARSON);
+        saveChanges(model, storage);
+
+        JournaledPivotStorage reopenedStorage = createStorage(10);
+        assertEquals(model.getPivot(), reopenedStorage.readPivot().get());
+        model.addCase(IDA_MUELLER_STABBING);
+        saveChanges(model, reopenedStorage);
+
+        assertTrue(Files.exists(getSegmentPath(2)));
+        assertReadBack(model.getPivot(), createStorage(10));
+    }
+
+    @Test
+    public void savePivotChanges_thresholdReached_journalCompacted() throws Exception {
+        JournaledPivotStorage storage = createStorage(2);
+        storage.savePivot(model.getPivot());
+        makeChanges();
+        saveChanges(model, storage);
+
+        // The segment is kept for the previous generation of the snapshot, which does not include it.
+        assertTrue(Files.exists(getSegmentPath(1)));
+        assertTrue(Files.exists(getGenerationPath(1)));
+        assertEquals(model.getPivot(), new JsonPivotStorage(filePath).readPivot().get());
+        assertReadBack(model.getPivot(), createStorage(2));
+    }
+
+    @Test
+    public void readPivot_segmentIncludedInSnapshot_notReplayedAgain() throws Exception {
+        JournaledPivotStorage storage = createStorage(4);
+        storage.savePivot(model.getPivot());
+        makeChanges();
+        saveChanges(model, storage);
+        byte[] segment = Files.readAllBytes(getSegmentPath(1));
+
+        model.addCase(IDA_MUELLER_STABBING);
+        saveChanges(model, storage);
+
+        // a compaction interrupted before the segment was deleted
+        Files.deleteIfExists(getSnapshotManifestPath());
+        Files.write(getSegmentPath(1), segment);
+        assertReadBack(model.getPivot(), createStorage(4));
+    }
+
+    @Test
+    public void readPivot_incompleteLastChange_ignored() throws Exception {
+        JournaledPivotStorage storage = createStorage(10);
+        storage.savePivot(model.getPivot());
+        makeChanges();
+        saveChanges(model, storage);
+
+        Files.write(getSegmentPath(1), "{\"sequence\":4,\"cha".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertReadBack(model.getPivot(), createStorage(10));
+    }
+
+    @Test
+    public void readPivot_invalidChange_throwsDataConversionException() throws Exception {
+        JournaledPivotStorage storage = createStorage(10);
+        storage.savePivot(new Pivot());
+        model.deleteCase(BENSON_MEIER_ROBBERY);
+        saveChanges(model, storage);
+
+        assertThrows(DataConversionException.class, () -> createStorage(10).readPivot());
+    }
+
+    @Test
+    public void savePivotChanges_formatChanged_jsonSnapshotReadAndReplacedByBinarySnapshot() throws Exception {
+        createStorage(10).savePivot(model.getPivot());
+        JournaledPivotStorage binaryStorage = new JournaledPivotStorage(filePath, DataFileFormat.BINARY, true, 2,
+                Runnable::run);
+        assertEquals(model.getPivot(), binaryStorage.readPivot().get());
+
+        makeChanges();
+        saveChanges(model, binaryStorage);
+        assertTrue(BinaryPivotFormat.isBinaryFile(filePath));
+        assertReadBack(model.getPivot(), createStorage(10));
+    }
+
+    @Test
+    public void constructor_invalidThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createStorage(0));
+    }
+
+    @Test
+    public void savePivot_repeatedSaves_previousGenerationsKeptUpToLimit() throws Exception {
+        JournaledPivotStorage storage = createStorage(10);
+        for (int i = 0; i < 4; i++) {
+            storage.savePivot(model.getPivot());
+        }
+
+        assertFalse(Files.exists(getGenerationPath(1)));
+        assertTrue(Files.exists(getGenerationPath(2)));
+        assertTrue(Files.exists(getGenerationPath(3)));
+        assertTrue(Files.exists(getSnapshotManifestPath()));
+        assertFalse(Files.exists(FileUtil.getTemporaryFile(filePath)));
+    }
+
+    @Test
+    public void readPivot_truncatedSnapshot_recoveredFromPreviousGenerationAndJournal() throws Exception {
+        JournaledPivotStorage storage = createStorage(2);
+        storage.savePivot(model.getPivot());
+        makeChanges();
+        saveChanges(model, storage);
+        truncateSnapshot();
+
+        JournaledPivotStorage recoveredStorage = createStorage(2);
+        assertEquals(model.getPivot(), recoveredStorage.readPivot().get());
+
+        // the recovered data is saved whole, instead of journaled on top of the damaged snapshot
+        model.addCase(IDA_MUELLER_STABBING);
+        saveChanges(model, recoveredStorage);
+        assertEquals(model.getPivot(), new JsonPivotStorage(filePath).readPivot().get());
+        assertReadBack(model.getPivot(), createStorage(2));
+    }
+
+    @Test
+    public void readPivot_damagedSnapshotWithoutManifest_recoveredByReadingPreviousGeneration() throws Exception {
+        JournaledPivotStorage storage = createStorage(10);
+        storage.savePivot(model.getPivot());
+        storage.savePivot(model.getPivot());
+        Files.delete(getSnapshotManifestPath());
+        truncateSnapshot();
+
+        assertReadBack(model.getPivot(), createStorage(10));
+    }
+
+    @Test
+    public void readPivot_damagedDetailsInBinarySnapshot_recoveredFromPreviousGeneration() throws Exception {
+        JournaledPivotStorage storage = new JournaledPivotStorage(filePath, DataFileFormat.BINARY, false, 10,
+                Runnable::run);
+        storage.savePivot(model.getPivot());
+        storage.savePivot(model.getPivot());
+        Files.delete(getSnapshotManifestPath());
+        byte[] bytes = Files.readAllBytes(filePath);
+        // The details record of the first case follows the magic, version, journal sequence and case count.
+        bytes[BinaryPivotFormat.MAGIC.length + 4] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertReadBack(model.getPivot(), createStorage(10));
+    }
+
+    @Test
+    public void readPivot_allSnapshotsDamaged_throwsDataConversionException() throws Exception {
+        JournaledPivotStorage storage = createStorage(10);
+        storage.savePivot(model.getPivot());
+        storage.savePivot(model.getPivot());
+        Files.write(getGenerationPath(1), new byte[0]);
+        truncateSnapshot();
+
+        assertThrows(DataConversionException.class, () -> createStorage(10).readPivot());
+    }
+
+    @Test
+    public void savePivotChanges_compressedSnapshots_readBackWithJournal() throws Exception {
+        JournaledPivotStorage storage = new JournaledPivotStorage(filePath, DataFileFormat.JSON, false,
+                DataFileCompression.DEFLATE, Deflater.BEST_SPEED, 2, Runnable::run);
+        storage.savePivot(model.getPivot());
+        model.addCase(HOON_MEIER_ARSON);
+        saveChanges(model, storage);
+        assertReadBack(model.getPivot(), createStorage(10));
+
+        model.setCase(ALICE_PAULINE_ASSAULT, new CaseBuilder(ALICE_PAULINE_ASSAULT).withDescription("Edited").build());
+        model.deleteCase(BENSON_MEIER_ROBBERY);
+        saveChanges(model, storage);
+        assertEquals(model.getPivot(), new JsonPivotStorage(filePath).readPivot().get());
+    }
+}
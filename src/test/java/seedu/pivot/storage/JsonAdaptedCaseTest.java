@@ -1,6 +1,7 @@
 package seedu.pivot.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.pivot.storage.JsonAdaptedCase.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.pivot.testutil.Assert.assertThrows;
 import static seedu.pivot.testutil.TypicalCases.BENSON_MEIER_ROBBERY;
@@ -12,6 +13,8 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.CaseId;
 import seedu.pivot.model.investigationcase.Description;
 import seedu.pivot.model.investigationcase.Status;
 import seedu.pivot.model.investigationcase.Title;
@@ -58,6 +61,30 @@ public class JsonAdaptedCaseTest {
         assertEquals(BENSON_MEIER_ROBBERY, person.toModelType());
     }
 
+    @Test
+    public void toModelType_validId_idKept() throws Exception {
+        JsonAdaptedCase person = new JsonAdaptedCase(BENSON_MEIER_ROBBERY);
+        assertEquals(BENSON_MEIER_ROBBERY.getId(), person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedCase person =
+                new JsonAdaptedCase(-1L, VALID_NAME, VALID_DESCRIPTION, VALID_STATUS, VALID_DOCUMENTS,
+                        VALID_SUSPECTS, VALID_VICTIMS, VALID_WITNESSES, VALID_TAGS, VALID_ARCHIVE_STATUS);
+        assertThrows(IllegalValueException.class, CaseId.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_nullId_idGenerated() throws Exception {
+        JsonAdaptedCase person =
+                new JsonAdaptedCase(null, VALID_NAME, VALID_DESCRIPTION, VALID_STATUS, VALID_DOCUMENTS,
+                        VALID_SUSPECTS, VALID_VICTIMS, VALID_WITNESSES, VALID_TAGS, VALID_ARCHIVE_STATUS);
+        Case modelCase = person.toModelType();
+        assertEquals(BENSON_MEIER_ROBBERY, modelCase);
+        assertNotNull(modelCase.getId());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedCase person =
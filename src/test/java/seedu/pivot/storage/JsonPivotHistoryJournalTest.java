@@ -0,0 +1,92 @@
+package seedu.pivot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.pivot.testutil.Assert.assertThrows;
+import static seedu.pivot.testutil.TypicalCases.ALICE_PAULINE_ASSAULT;
+import static seedu.pivot.testutil.TypicalCases.BENSON_MEIER_ROBBERY;
+import static seedu.pivot.testutil.TypicalCases.CARL_KURZ_FIRE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.logic.commands.Page;
+import seedu.pivot.model.CaseChange;
+import seedu.pivot.model.VersionedPivot.PivotState;
+
+public class JsonPivotHistoryJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonPivotHistoryJournal(null));
+    }
+
+    @Test
+    public void constructor_leftoverCheckpoints_checkpointsRemoved() throws Exception {
+        Files.writeString(testFolder.resolve("checkpoint-0.json"), "{}");
+        Files.writeString(testFolder.resolve("other.json"), "{}");
+
+        JsonPivotHistoryJournal journal = new JsonPivotHistoryJournal(testFolder);
+        assertTrue(journal.isEmpty());
+        assertFalse(Files.exists(testFolder.resolve("checkpoint-0.json")));
+        assertTrue(Files.exists(testFolder.resolve("other.json")));
+    }
+
+    @Test
+    public void popStates_emptyJournal_throwsIoException() throws Exception {
+        JsonPivotHistoryJournal journal = new JsonPivotHistoryJournal(testFolder.resolve("history"));
+        assertThrows(IOException.class, journal::popStates);
+    }
+
+    @Test
+    public void pushAndPopStates_allInOrder_success() throws Exception {
+        JsonPivotHistoryJournal journal = new JsonPivotHistoryJournal(testFolder.resolve("history"));
+        List<PivotState> olderCheckpoint = Arrays.asList(
+                new PivotState(Collections.singletonList(CaseChange.ofAdd(0, ALICE_PAULINE_ASSAULT)), () -> Page.MAIN,
+                        "Add Alice"),
+                new PivotState(Collections.singletonList(CaseChange.ofSet(0, ALICE_PAULINE_ASSAULT,
+                        BENSON_MEIER_ROBBERY)), () -> Page.CASE, "Edit Alice"));
+        List<PivotState> newerCheckpoint = Collections.singletonList(
+                new PivotState(Collections.singletonList(CaseChange.ofRemove(2, CARL_KURZ_FIRE)), () -> Page.MAIN,
+                        "Delete Carl"));
+
+        journal.pushStates(olderCheckpoint);
+        journal.pushStates(newerCheckpoint);
+        assertFalse(journal.isEmpty());
+
+        assertStatesEqual(newerCheckpoint, journal.popStates());
+        assertStatesEqual(olderCheckpoint, journal.popStates());
+        assertTrue(journal.isEmpty());
+    }
+
+    @Test
+    public void popStates_invalidCheckpoint_throwsDataConversionException() throws Exception {
+        Path historyFolder = testFolder.resolve("history");
+        JsonPivotHistoryJournal journal = new JsonPivotHistoryJournal(historyFolder);
+        journal.pushStates(Collections.emptyList());
+        Files.writeString(historyFolder.resolve("checkpoint-0.json"), "{\"states\": [{\"page\": \"MAIN\"}]}");
+
+        assertThrows(DataConversionException.class, journal::popStates);
+    }
+
+    private void assertStatesEqual(List<PivotState> expected, List<PivotState> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getChanges(), actual.get(i).getChanges());
+            assertEquals(expected.get(i).getCommandMessage(), actual.get(i).getCommandMessage());
+            assertEquals(expected.get(i).getCommand().getPage(), actual.get(i).getCommand().getPage());
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package seedu.pivot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.pivot.testutil.Assert.assertThrows;
+import static seedu.pivot.testutil.PivotStorageUtil.assertReadBack;
+import static seedu.pivot.testutil.PivotStorageUtil.saveChanges;
+import static seedu.pivot.testutil.TypicalCases.ALICE_PAULINE_ASSAULT;
+import static seedu.pivot.testutil.TypicalCases.BENSON_MEIER_ROBBERY;
+import static seedu.pivot.testutil.TypicalCases.HOON_MEIER_ARSON;
+import static seedu.pivot.testutil.TypicalCases.IDA_MUELLER_STABBING;
+import static seedu.pivot.testutil.TypicalCases.getTypicalPivot;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.pivot.commons.core.DataFileFormat;
+import seedu.pivot.commons.core.DataFileSyncPolicy;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.model.CaseChange;
+import seedu.pivot.model.ModelManager;
+import seedu.pivot.model.Pivot;
+import seedu.pivot.model.UserPrefs;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.testutil.CaseBuilder;
+
+public class PagedPivotStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private ModelManager model;
+    private PagedPivotStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("pivot.dat");
+        model = new ModelManager(getTypicalPivot(), new UserPrefs());
+        storage = new PagedPivotStorage(filePath);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        storage.close();
+    }
+
+    @Test
+    public void readPivot_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.readPivot(null));
+    }
+
+    @Test
+    public void readPivot_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readPivot().isPresent());
+    }
+
+    @Test
+    public void readAndSavePivot_allInOrder_success() throws Exception {
+        storage.savePivot(model.getPivot());
+        assertTrue(PagedPivotFormat.isPagedFile(filePath));
+        assertEquals(model.getPivot(), storage.readPivot().get());
+        assertReadBack(model.getPivot(), new PagedPivotStorage(filePath));
+    }
+
+    @Test
+    public void savePivotChanges_addEditAndDelete_writtenInPlace() throws Exception {
+        storage.savePivot(model.getPivot());
+        model.addCase(HOON_MEIER_ARSON);
+        model.setCase(ALICE_PAULINE_ASSAULT, new CaseBuilder(ALICE_PAULINE_ASSAULT).withDescription("Edited").build());
+        model.deleteCase(BENSON_MEIER_ROBBERY);
+        saveChanges(model, storage);
+
+        assertReadBack(model.getPivot(), new PagedPivotStorage(filePath));
+    }
+
+    @Test
+    public void savePivotChanges_repeatedEdits_fileSizeUnchanged() throws Exception {
+        storage.savePivot(model.getPivot());
+        model.setCase(ALICE_PAULINE_ASSAULT, new CaseBuilder(ALICE_PAULINE_ASSAULT).withDescription("0").build());
+        saveChanges(model, storage);
+        long fileSize = Files.size(filePath);
+
+        Case lastCase = model.getPivot().getCaseList().get(0);
+        for (int i = 1; i <= 200; i++) {
+            Case editedCase = new CaseBuilder(lastCase).withDescription(String.valueOf(i)).build();
+            model.setCase(lastCase, editedCase);
+            saveChanges(model, storage);
+            lastCase = editedCase;
+        }
+
+        assertEquals(fileSize, Files.size(filePath));
+        assertReadBack(model.getPivot(), new PagedPivotStorage(filePath));
+    }
+
+    @Test
+    public void savePivotChanges_casesInsertedBetween_orderKeptAfterReopening() throws Exception {
+        Pivot pivot = getTypicalPivot();
+        storage.savePivot(pivot);
+        for (int i = 0; i < 30; i++) {
+            Case insertedCase = new CaseBuilder(IDA_MUELLER_STABBING).withTitle("Inserted " + i).build();
+            pivot.addCase(1, insertedCase);
+            storage.savePivotChanges(pivot, Collections.singletonList(CaseChange.ofAdd(1, insertedCase)));
+        }
+
+        assertReadBack(pivot, new PagedPivotStorage(filePath));
+    }
+
+    @Test
+    public void savePivotChanges_largeCase_writtenAcrossPages() throws Exception {
+        storage.savePivot(model.getPivot());
+        String longDescription = String.join("", Collections.nCopies(2000, "A long description. "));
+        Case largeCase = new CaseBuilder(HOON_MEIER_ARSON).withDescription(longDescription).build();
+        model.addCase(largeCase);
+        saveChanges(model, storage);
+        assertReadBack(model.getPivot(), new PagedPivotStorage(filePath));
+
+        model.setCase(largeCase, new CaseBuilder(largeCase).withDescription("Short again").build());
+        saveChanges(model, storage);
+        assertReadBack(model.getPivot(), new PagedPivotStorage(filePath));
+    }
+
+    @Test
+    public void savePivotChanges_largeCasesDeletedAndAddedAgain_pagesReused() throws Exception {
+        storage.savePivot(model.getPivot());
+        String longDescription = String.join("", Collections.nCopies(2000, "A long description. "));
+        model.addCase(new CaseBuilder(HOON_MEIER_ARSON).withDescription(longDescription).build());
+        saveChanges(model, storage);
+        long fileSize = Files.size(filePath);
+
+        for (int i = 0; i < 100; i++) {
+            Case largeCase = model.getPivot().getCaseList().get(model.getPivot().getCaseList().size() - 1);
+            model.deleteCase(largeCase);
+            model.addCase(new CaseBuilder(largeCase).withTitle("Large " + i).build());
+            saveChanges(model, storage);
+        }
+
+        assertEquals(fileSize, Files.size(filePath));
+        assertReadBack(model.getPivot(), new PagedPivotStorage(filePath));
+    }
+
+    @Test
+    public void savePivotChanges_notSynced_replacedRecordsKept() throws Exception {
+        storage.savePivot(model.getPivot());
+        storage.close();
+        Pivot expectedPivot = new Pivot(model.getPivot());
+
+        PagedPivotStorage onExitStorage = new PagedPivotStorage(filePath, DataFileSyncPolicy.ON_EXIT, 1);
+        onExitStorage.readPivot();
+        String longDescription = String.join("", Collections.nCopies(2000, "A long description. "));
+        Case largeCase = new CaseBuilder(HOON_MEIER_ARSON).withDescription(longDescription).build();
+        model.addCase(largeCase);
+        expectedPivot.addCase(largeCase);
+        Case lastCase = model.getPivot().getCaseList().get(0);
+        for (int i = 0; i < 100; i++) {
+            Case editedCase = new CaseBuilder(lastCase).withDescription(String.valueOf(i)).build();
+            model.setCase(lastCase, editedCase);
+            saveChanges(model, onExitStorage);
+            lastCase = editedCase;
+        }
+
+        // A copy of the file as the changes left it stands for the file left by a crash before they were synced,
+        // which holds the case added, but the edited case as it was before the edits.
+        Path crashedFilePath = testFolder.resolve("crashed.dat");
+        Files.copy(filePath, crashedFilePath);
+        assertEquals(expectedPivot, new PagedPivotReader(crashedFilePath).read().get());
+
+        onExitStorage.close();
+        assertReadBack(model.getPivot(), new PagedPivotStorage(filePath));
+    }
+
+    @Test
+    public void readPivot_journaledJsonFile_convertedToPagedFile() throws Exception {
+        JournaledPivotStorage jsonStorage = new JournaledPivotStorage(filePath, DataFileFormat.JSON, true, 10,
+                Runnable::run);
+        jsonStorage.savePivot(model.getPivot());
+        model.addCase(HOON_MEIER_ARSON);
+        jsonStorage.savePivotChanges(model.getPivot(), model.getUnsavedChanges());
+        model.clearUnsavedChanges();
+
+        assertEquals(model.getPivot(), storage.readPivot().get());
+        assertTrue(PagedPivotFormat.isPagedFile(filePath));
+        assertTrue(Files.exists(testFolder.resolve("pivot.dat.gen-1")));
+        assertFalse(Files.exists(testFolder.resolve("pivot.dat.generations")));
+
+        model.deleteCase(BENSON_MEIER_ROBBERY);
+        saveChanges(model, storage);
+        assertReadBack(model.getPivot(), new PagedPivotStorage(filePath));
+    }
+
+    @Test
+    public void savePivotChanges_syncPolicy_changesForcedOntoDiskAsSet() throws Exception {
+        storage.savePivot(model.getPivot());
+        model.addCase(HOON_MEIER_ARSON);
+        saveChanges(model, storage);
+        assertFalse(storage.hasUnsyncedChanges());
+
+        PagedPivotStorage onExitStorage = new PagedPivotStorage(filePath, DataFileSyncPolicy.ON_EXIT, 1);
+        onExitStorage.readPivot();
+        model.deleteCase(HOON_MEIER_ARSON);
+        onExitStorage.savePivotChanges(model.getPivot(), model.getUnsavedChanges());
+        model.clearUnsavedChanges();
+        assertTrue(onExitStorage.hasUnsyncedChanges());
+        onExitStorage.close();
+        assertFalse(onExitStorage.hasUnsyncedChanges());
+
+        PagedPivotStorage intervalStorage = new PagedPivotStorage(filePath, DataFileSyncPolicy.INTERVAL, 60000);
+        intervalStorage.readPivot();
+        model.addCase(HOON_MEIER_ARSON);
+        intervalStorage.savePivotChanges(model.getPivot(), model.getUnsavedChanges());
+        model.clearUnsavedChanges();
+        assertTrue(intervalStorage.hasUnsyncedChanges());
+        intervalStorage.close();
+
+        assertReadBack(model.getPivot(), new PagedPivotStorage(filePath));
+    }
+
+    /**
+     * Flips the last byte of the first page of records in the file, which belongs to the record written first, and
+     * returns the damaged file.
+     */
+    private byte[] damageFile() throws Exception {
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "rw")) {
+            long lastByte = 2L * PagedPivotFormat.PAGE_SIZE - 1;
+            file.seek(lastByte);
+            int value = file.read();
+            file.seek(lastByte);
+            file.write(value ^ 0xff);
+        }
+        return Files.readAllBytes(filePath);
+    }
+
+    /**
+     * Returns true if some previous generation of the file holds {@code fileBytes}.
+     */
+    private boolean isKeptAsGeneration(byte[] fileBytes) throws Exception {
+        try (Stream<Path> paths = Files.list(testFolder)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (path.getFileName().toString().startsWith("pivot.dat.gen-")
+                        && Arrays.equals(fileBytes, Files.readAllBytes(path))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void readPivot_corruptedRecord_throwsDataConversionException() throws Exception {
+        storage.savePivot(model.getPivot());
+        storage.close();
+        damageFile();
+
+        assertThrows(DataConversionException.class, () -> storage.readPivot());
+    }
+
+    @Test
+    public void readPivot_corruptedRecordAfterCopyKept_recoveredFromCopy() throws Exception {
+        storage.savePivot(model.getPivot());
+        Pivot pivotWhenRead = new Pivot(storage.readPivot().get());
+        model.addCase(HOON_MEIER_ARSON);
+        saveChanges(model, storage);
+        storage.close();
+        byte[] damagedFile = damageFile();
+
+        assertEquals(pivotWhenRead, storage.readPivot().get());
+        assertTrue(isKeptAsGeneration(damagedFile));
+
+        model = new ModelManager(pivotWhenRead, new UserPrefs());
+        model.deleteCase(BENSON_MEIER_ROBBERY);
+        saveChanges(model, storage);
+        assertReadBack(model.getPivot(), new PagedPivotStorage(filePath));
+    }
+
+    @Test
+    public void savePivot_afterCorruptedFileNotRead_corruptedFileKept() throws Exception {
+        storage.savePivot(model.getPivot());
+        storage.close();
+        byte[] damagedFile = damageFile();
+        assertThrows(DataConversionException.class, () -> storage.readPivot());
+
+        storage.savePivot(new Pivot());
+        assertTrue(isKeptAsGeneration(damagedFile));
+        assertReadBack(new Pivot(), new PagedPivotStorage(filePath));
+    }
+
+    @Test
+    public void constructor_invalidSyncInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new PagedPivotStorage(filePath, DataFileSyncPolicy.INTERVAL, 0));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.pivot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.pivot.testutil.Assert.assertThrows;
+import static seedu.pivot.testutil.TypicalCases.BENSON_MEIER_ROBBERY;
+import static seedu.pivot.testutil.TypicalCases.getTypicalCases;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.pivot.commons.exceptions.IllegalValueException;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.Status;
+import seedu.pivot.model.investigationcase.Title;
+
+public class ParallelCaseConverterTest {
+
+    private static final int CHUNK_SIZE = 3;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ParallelCaseConverter converter = new ParallelCaseConverter(pool, CHUNK_SIZE);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private static JsonAdaptedCase createAdaptedCase(String title, String status) {
+        return new JsonAdaptedCase(title, BENSON_MEIER_ROBBERY.getDescription().toString(), status,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), BENSON_MEIER_ROBBERY.getArchiveStatus().toString());
+    }
+
+    /**
+     * Adds the typical cases to the converter as many times as needed to fill {@code chunks} chunks.
+     */
+    private List<Case> addTypicalCases(int chunks) {
+        List<Case> cases = new ArrayList<>();
+        while (cases.size() < chunks * CHUNK_SIZE) {
+            cases.addAll(getTypicalCases());
+        }
+        cases = cases.subList(0, chunks * CHUNK_SIZE);
+        cases.stream().map(JsonAdaptedCase::new).forEach(converter::add);
+        return cases;
+    }
+
+    @Test
+    public void getCases_noCases_emptyList() throws Exception {
+        assertEquals(Collections.emptyList(), converter.getCases());
+    }
+
+    @Test
+    public void getCases_manyChunks_orderKept() throws Exception {
+        List<Case> cases = addTypicalCases(10);
+        Case lastCase = BENSON_MEIER_ROBBERY;
+        converter.add(new JsonAdaptedCase(lastCase));
+
+        List<Case> expectedCases = new ArrayList<>(cases);
+        expectedCases.add(lastCase);
+        assertEquals(expectedCases, converter.getCases());
+    }
+
+    @Test
+    public void getCases_invalidCasesInSeveralChunks_firstInvalidCaseReported() {
+        addTypicalCases(2);
+        converter.add(new JsonAdaptedCase(BENSON_MEIER_ROBBERY));
+        converter.add(createAdaptedCase("Valid Title", "invalid status"));
+        addTypicalCases(5);
+        converter.add(createAdaptedCase("Inv@lid Title", BENSON_MEIER_ROBBERY.getStatus().name()));
+
+        assertThrows(IllegalValueException.class, Status.MESSAGE_CONSTRAINTS, converter::getCases);
+    }
+
+    @Test
+    public void getCases_invalidCaseInLastChunk_reported() {
+        addTypicalCases(4);
+        converter.add(createAdaptedCase("Inv@lid Title", BENSON_MEIER_ROBBERY.getStatus().name()));
+
+        assertThrows(IllegalValueException.class, Title.MESSAGE_CONSTRAINTS, converter::getCases);
+    }
+
+    @Test
+    public void getCases_defaultConverter_sameAsSequentialConversion() throws Exception {
+        ParallelCaseConverter defaultConverter = new ParallelCaseConverter();
+        List<Case> cases = new ArrayList<>();
+        for (int i = 0; i < ParallelCaseConverter.DEFAULT_CHUNK_SIZE / 2; i++) {
+            cases.addAll(getTypicalCases());
+        }
+        cases.stream().map(JsonAdaptedCase::new).forEach(defaultConverter::add);
+
+        assertEquals(cases, defaultConverter.getCases());
+    }
+
+    @Test
+    public void constructor_invalidChunkSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelCaseConverter(pool, 0));
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.pivot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.pivot.testutil.Assert.assertThrows;
+import static seedu.pivot.testutil.TypicalCases.getTypicalPivot;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.pivot.commons.core.DataFileFormat;
+
+public class PivotFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        Path jsonFilePath = testFolder.resolve("pivot.json");
+        Path binaryFilePath = testFolder.resolve("pivot.bin");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        new StreamingJsonPivotWriter(true).write(getTypicalPivot().getCaseList(), 42, jsonFilePath);
+
+        assertTrue(PivotFileConverter.convert(jsonFilePath, binaryFilePath, DataFileFormat.BINARY, true));
+        assertTrue(BinaryPivotFormat.isBinaryFile(binaryFilePath));
+        assertTrue(PivotFileConverter.convert(binaryFilePath, convertedFilePath, DataFileFormat.JSON, true));
+
+        assertArrayEquals(Files.readAllBytes(jsonFilePath), Files.readAllBytes(convertedFilePath));
+    }
+
+    @Test
+    public void convert_missingSource_nothingWritten() throws Exception {
+        Path targetPath = testFolder.resolve("pivot.bin");
+        assertFalse(PivotFileConverter.convert(testFolder.resolve("missing.json"), targetPath,
+                DataFileFormat.BINARY, true));
+        assertFalse(Files.exists(targetPath));
+    }
+
+    @Test
+    public void convert_sameFile_throwsIllegalArgumentException() {
+        Path filePath = testFolder.resolve("pivot.json");
+        assertThrows(IllegalArgumentException.class, () -> PivotFileConverter.convert(filePath,
+                testFolder.resolve(".").resolve("pivot.json"), DataFileFormat.BINARY, true));
+    }
+
+    @Test
+    public void createReader_eitherFormat_readsFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("pivot.json");
+        Path binaryFilePath = testFolder.resolve("pivot.bin");
+        PivotFileConverter.createWriter(DataFileFormat.JSON, false).write(getTypicalPivot().getCaseList(), 0,
+                jsonFilePath);
+        PivotFileConverter.createWriter(DataFileFormat.BINARY, false).write(getTypicalPivot().getCaseList(), 0,
+                binaryFilePath);
+
+        assertEquals(getTypicalPivot(), PivotFileConverter.createReader(jsonFilePath).read().get());
+        assertEquals(getTypicalPivot(), PivotFileConverter.createReader(binaryFilePath).read().get());
+    }
+
+    @Test
+    public void convert_jsonToPagedAndBack_lossless() throws Exception {
+        Path jsonFilePath = testFolder.resolve("pivot.json");
+        Path pagedFilePath = testFolder.resolve("pivot.dat");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        new StreamingJsonPivotWriter(true).write(getTypicalPivot().getCaseList(), 42, jsonFilePath);
+
+        assertTrue(PivotFileConverter.convert(jsonFilePath, pagedFilePath, DataFileFormat.PAGED, true));
+        assertTrue(PagedPivotFormat.isPagedFile(pagedFilePath));
+        assertTrue(PivotFileConverter.convert(pagedFilePath, convertedFilePath, DataFileFormat.JSON, true));
+
+        assertArrayEquals(Files.readAllBytes(jsonFilePath), Files.readAllBytes(convertedFilePath));
+    }
+}
@@ -0,0 +1,245 @@
+package seedu.pivot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.pivot.testutil.Assert.assertThrows;
+import static seedu.pivot.testutil.PivotStorageUtil.assertReadBack;
+import static seedu.pivot.testutil.PivotStorageUtil.saveChanges;
+import static seedu.pivot.testutil.TypicalCases.ALICE_PAULINE_ASSAULT;
+import static seedu.pivot.testutil.TypicalCases.BENSON_MEIER_ROBBERY;
+import static seedu.pivot.testutil.TypicalCases.HOON_MEIER_ARSON;
+import static seedu.pivot.testutil.TypicalCases.IDA_MUELLER_STABBING;
+import static seedu.pivot.testutil.TypicalCases.getTypicalPivot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.pivot.commons.core.DataFileFormat;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.model.CaseChange;
+import seedu.pivot.model.ModelManager;
+import seedu.pivot.model.Pivot;
+import seedu.pivot.model.UserPrefs;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.Description;
+import seedu.pivot.testutil.CaseBuilder;
+
+public class ShardedPivotStorageTest {
+
+    private static final Description EDITED_DESCRIPTION = new Description("Edited");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path shardDirectory;
+    private ModelManager model;
+    private ShardedPivotStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("pivot.json");
+        shardDirectory = testFolder.resolve("pivot.json.cases");
+        model = new ModelManager(getTypicalPivot(), new UserPrefs());
+        storage = new ShardedPivotStorage(filePath);
+    }
+
+    /**
+     * Returns the contents of the manifest and of each file of a case, by file name.
+     */
+    private Map<String, byte[]> readFiles() throws Exception {
+        Map<String, byte[]> files = new HashMap<>();
+        files.put(filePath.getFileName().toString(), Files.readAllBytes(filePath));
+        for (String shardName : ShardedPivotFormat.listShardNames(shardDirectory)) {
+            Path shardPath = ShardedPivotFormat.getShardPath(shardDirectory, shardName);
+            files.put(shardPath.getFileName().toString(), Files.readAllBytes(shardPath));
+        }
+        return files;
+    }
+
+    @Test
+    public void readPivot_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.readPivot(null));
+    }
+
+    @Test
+    public void readPivot_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readPivot().isPresent());
+    }
+
+    @Test
+    public void readAndSavePivot_allInOrder_success() throws Exception {
+        storage.savePivot(model.getPivot());
+        assertTrue(ShardedPivotFormat.isShardedFile(filePath));
+        assertEquals(model.getPivot().getCaseList().size(), ShardedPivotFormat.listShardNames(shardDirectory).size());
+        assertEquals(model.getPivot(), storage.readPivot().get());
+        assertReadBack(model.getPivot(), new ShardedPivotStorage(filePath));
+
+        // Saving whole again replaces every file of a case
+        storage.savePivot(model.getPivot());
+        assertEquals(model.getPivot().getCaseList().size(), ShardedPivotFormat.listShardNames(shardDirectory).size());
+        assertReadBack(model.getPivot(), new ShardedPivotStorage(filePath));
+    }
+
+    @Test
+    public void savePivotChanges_editCase_onlyFileOfCaseRewritten() throws Exception {
+        storage.savePivot(model.getPivot());
+        Map<String, byte[]> filesBefore = readFiles();
+
+        model.setCase(BENSON_MEIER_ROBBERY, BENSON_MEIER_ROBBERY.withDescription(EDITED_DESCRIPTION));
+        saveChanges(model, storage);
+        Map<String, byte[]> filesAfter = readFiles();
+
+        assertEquals(filesBefore.keySet(), filesAfter.keySet());
+        long changedFileCount = filesBefore.keySet().stream()
+                .filter(fileName -> !Arrays.equals(filesBefore.get(fileName), filesAfter.get(fileName)))
+                .count();
+        assertEquals(1, changedFileCount);
+        assertArrayEquals(filesBefore.get(filePath.getFileName().toString()),
+                filesAfter.get(filePath.getFileName().toString()));
+        assertReadBack(model.getPivot(), new ShardedPivotStorage(filePath));
+    }
+
+    @Test
+    public void savePivot_savedAgain_filesNamedByCaseIds() throws Exception {
+        storage.savePivot(model.getPivot());
+        List<String> shardNames = ShardedPivotFormat.readManifest(filePath).getShardNames();
+        storage.savePivot(model.getPivot());
+        List<String> shardNamesSavedAgain = ShardedPivotFormat.readManifest(filePath).getShardNames();
+
+        List<Case> cases = model.getPivot().getCaseList();
+        for (int i = 0; i < cases.size(); i++) {
+            long caseId = cases.get(i).getId().getValue();
+            assertTrue(ShardedPivotFormat.isShardOf(shardNames.get(i), caseId));
+            assertTrue(ShardedPivotFormat.isShardOf(shardNamesSavedAgain.get(i), caseId));
+        }
+    }
+
+    @Test
+    public void savePivotChanges_editTwoCases_committedByManifest() throws Exception {
+        storage.savePivot(model.getPivot());
+        List<String> shardNamesBefore = ShardedPivotFormat.readManifest(filePath).getShardNames();
+
+        model.setCase(ALICE_PAULINE_ASSAULT, ALICE_PAULINE_ASSAULT.withDescription(EDITED_DESCRIPTION));
+        model.setCase(BENSON_MEIER_ROBBERY, BENSON_MEIER_ROBBERY.withDescription(EDITED_DESCRIPTION));
+        saveChanges(model, storage);
+
+        List<String> shardNamesAfter = ShardedPivotFormat.readManifest(filePath).getShardNames();
+        assertFalse(shardNamesAfter.contains(shardNamesBefore.get(0)));
+        assertFalse(shardNamesAfter.contains(shardNamesBefore.get(1)));
+        assertEquals(shardNamesBefore.subList(2, shardNamesBefore.size()),
+                shardNamesAfter.subList(2, shardNamesAfter.size()));
+        assertEquals(shardNamesAfter.size(), ShardedPivotFormat.listShardNames(shardDirectory).size());
+        assertReadBack(model.getPivot(), new ShardedPivotStorage(filePath));
+    }
+
+    @Test
+    public void savePivotChanges_failureBeforeManifestReplaced_noChangesSaved() throws Exception {
+        storage.savePivot(model.getPivot());
+        ShardedPivotFormat.Manifest manifest = ShardedPivotFormat.readManifest(filePath);
+        // A directory in the way of the new file of the second case edited fails the save after the first is written.
+        Path blockedPath = ShardedPivotFormat.getShardPath(shardDirectory, ShardedPivotFormat.getShardName(
+                BENSON_MEIER_ROBBERY.getId().getValue(), manifest.getNextRevision()));
+        Files.createDirectories(blockedPath.resolve("blocked"));
+
+        model.setCase(ALICE_PAULINE_ASSAULT, ALICE_PAULINE_ASSAULT.withDescription(EDITED_DESCRIPTION));
+        model.setCase(BENSON_MEIER_ROBBERY, BENSON_MEIER_ROBBERY.withDescription(EDITED_DESCRIPTION));
+        assertThrows(IOException.class, () -> saveChanges(model, storage));
+
+        Files.delete(blockedPath.resolve("blocked"));
+        Files.delete(blockedPath);
+        assertReadBack(getTypicalPivot(), new ShardedPivotStorage(filePath));
+    }
+
+    @Test
+    public void readPivot_damagedManifestWithPreviousGeneration_throwsDataConversionException() throws Exception {
+        new JsonPivotStorage(testFolder.resolve("pivot.json.gen-1")).savePivot(getTypicalPivot());
+        storage.savePivot(model.getPivot());
+        List<String> lines = Files.readAllLines(filePath);
+        lines.set(3, "damaged");
+        Files.write(filePath, lines);
+
+        assertThrows(DataConversionException.class, () -> new ShardedPivotStorage(filePath).readPivot());
+    }
+
+    @Test
+    public void savePivotChanges_addEditAndDelete_success() throws Exception {
+        storage.savePivot(model.getPivot());
+        byte[] manifestBefore = Files.readAllBytes(filePath);
+        model.addCase(HOON_MEIER_ARSON);
+        model.setCase(ALICE_PAULINE_ASSAULT, ALICE_PAULINE_ASSAULT.withDescription(EDITED_DESCRIPTION));
+        model.deleteCase(BENSON_MEIER_ROBBERY);
+        saveChanges(model, storage);
+
+        assertFalse(Arrays.equals(manifestBefore, Files.readAllBytes(filePath)));
+        assertEquals(model.getPivot().getCaseList().size(), ShardedPivotFormat.listShardNames(shardDirectory).size());
+        assertReadBack(model.getPivot(), new ShardedPivotStorage(filePath));
+    }
+
+    @Test
+    public void savePivotChanges_casesInsertedBetween_orderKeptAfterReopening() throws Exception {
+        Pivot pivot = getTypicalPivot();
+        storage.savePivot(pivot);
+        for (int i = 0; i < 10; i++) {
+            Case insertedCase = new CaseBuilder(IDA_MUELLER_STABBING).withTitle("Inserted " + i).build();
+            pivot.addCase(1, insertedCase);
+            storage.savePivotChanges(pivot, Collections.singletonList(CaseChange.ofAdd(1, insertedCase)));
+        }
+
+        assertReadBack(pivot, new ShardedPivotStorage(filePath));
+    }
+
+    @Test
+    public void readPivot_unlistedCaseFile_deleted() throws Exception {
+        storage.savePivot(model.getPivot());
+        List<String> shardNames = ShardedPivotFormat.readManifest(filePath).getShardNames();
+        Path unlistedPath = ShardedPivotFormat.getShardPath(shardDirectory, "1000-0");
+        Files.copy(ShardedPivotFormat.getShardPath(shardDirectory, shardNames.get(0)), unlistedPath);
+
+        assertEquals(model.getPivot(), new ShardedPivotStorage(filePath).readPivot().get());
+        assertFalse(Files.exists(unlistedPath));
+    }
+
+    @Test
+    public void readPivot_missingCaseFile_throwsDataConversionException() throws Exception {
+        storage.savePivot(model.getPivot());
+        List<String> shardNames = ShardedPivotFormat.readManifest(filePath).getShardNames();
+        Files.delete(ShardedPivotFormat.getShardPath(shardDirectory, shardNames.get(shardNames.size() - 1)));
+
+        assertThrows(DataConversionException.class, () -> new ShardedPivotStorage(filePath).readPivot());
+    }
+
+    @Test
+    public void readPivot_journaledJsonFile_convertedToShardedData() throws Exception {
+        JournaledPivotStorage jsonStorage = new JournaledPivotStorage(filePath, DataFileFormat.JSON, true, 10,
+                Runnable::run);
+        jsonStorage.savePivot(model.getPivot());
+        model.addCase(HOON_MEIER_ARSON);
+        jsonStorage.savePivotChanges(model.getPivot(), model.getUnsavedChanges());
+        model.clearUnsavedChanges();
+
+        assertEquals(model.getPivot(), storage.readPivot().get());
+        assertTrue(ShardedPivotFormat.isShardedFile(filePath));
+        assertFalse(Files.exists(testFolder.resolve("pivot.json.generations")));
+
+        model.deleteCase(BENSON_MEIER_ROBBERY);
+        saveChanges(model, storage);
+        assertReadBack(model.getPivot(), new ShardedPivotStorage(filePath));
+
+        // The journal already included in the sharded data is not replayed by other storages
+        assertEquals(model.getPivot(), new JournaledPivotStorage(filePath, DataFileFormat.JSON, true, 10,
+                Runnable::run).readPivot().get());
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.pivot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.pivot.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.commons.util.JsonUtil;
+import seedu.pivot.model.Pivot;
+import seedu.pivot.model.investigationcase.Case;
+import seedu.pivot.model.investigationcase.Title;
+import seedu.pivot.testutil.TypicalCases;
+
+public class StreamingJsonPivotReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializablePivotTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsPivot.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonPivot.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonPivot.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path writeFile(String content) throws Exception {
+        Path filePath = testFolder.resolve("pivot.json");
+        Files.write(filePath, content.getBytes(StandardCharsets.UTF_8));
+        return filePath;
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        Pivot pivotFromFile = new StreamingJsonPivotReader(TYPICAL_PERSONS_FILE).read().get();
+        assertEquals(TypicalCases.getTypicalPivot(), pivotFromFile);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new StreamingJsonPivotReader(testFolder.resolve("missing.json")).read().isPresent());
+    }
+
+    @Test
+    public void read_unknownFields_skipped() throws Exception {
+        Path filePath = writeFile("{\"journalSequence\":7,\"unknown\":{\"persons\":[1]},\"persons\":[]}");
+        StreamingJsonPivotReader reader = new StreamingJsonPivotReader(filePath);
+        assertEquals(new Pivot(), reader.read().get());
+        assertEquals(7, reader.getJournalSequence());
+    }
+
+    @Test
+    public void read_duplicateIdsWithDifferentTitles_newIdGenerated() throws Exception {
+        Case copiedCase = TypicalCases.BENSON_MEIER_ROBBERY.withTitle(new Title("Benson Meier Robbery Copy"));
+        Path filePath = writeFile("{\"persons\":[" + JsonUtil.toJsonString(new JsonAdaptedCase(
+                TypicalCases.BENSON_MEIER_ROBBERY)) + "," + JsonUtil.toJsonString(new JsonAdaptedCase(copiedCase))
+                + "]}");
+
+        List<Case> cases = new StreamingJsonPivotReader(filePath).read().get().getCaseList();
+        assertEquals(Arrays.asList(TypicalCases.BENSON_MEIER_ROBBERY, copiedCase), cases);
+        assertEquals(TypicalCases.BENSON_MEIER_ROBBERY.getId(), cases.get(0).getId());
+        assertNotEquals(TypicalCases.BENSON_MEIER_ROBBERY.getId(), cases.get(1).getId());
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> new StreamingJsonPivotReader(INVALID_PERSON_FILE).read());
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> new StreamingJsonPivotReader(DUPLICATE_PERSON_FILE).read());
+    }
+
+    @Test
+    public void read_notJsonObject_throwsDataConversionException() throws Exception {
+        Path filePath = writeFile("[]");
+        assertThrows(DataConversionException.class, () -> new StreamingJsonPivotReader(filePath).read());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = writeFile("{\"persons\":[");
+        assertThrows(DataConversionException.class, () -> new StreamingJsonPivotReader(filePath).read());
+    }
+
+    @Test
+    public void read_truncatedAfterLastCase_throwsDataConversionException() throws Exception {
+        String content = new String(Files.readAllBytes(TYPICAL_PERSONS_FILE), StandardCharsets.UTF_8).trim();
+        String withoutEndOfObject = content.substring(0, content.lastIndexOf('}'));
+        String withoutEndOfArray = withoutEndOfObject.substring(0, withoutEndOfObject.lastIndexOf(']'));
+
+        Path missingEndOfObject = writeFile(withoutEndOfObject);
+        assertThrows(DataConversionException.class, () -> new StreamingJsonPivotReader(missingEndOfObject).read());
+        Path missingEndOfArray = writeFile(withoutEndOfArray);
+        assertThrows(DataConversionException.class, () -> new StreamingJsonPivotReader(missingEndOfArray).read());
+    }
+}
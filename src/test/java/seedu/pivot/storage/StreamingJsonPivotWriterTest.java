@@ -0,0 +1,92 @@
+package seedu.pivot.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.pivot.testutil.Assert.assertThrows;
+import static seedu.pivot.testutil.TypicalCases.ALICE_PAULINE_ASSAULT;
+import static seedu.pivot.testutil.TypicalCases.getTypicalPivot;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.pivot.commons.core.DataFileCompression;
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.commons.util.FileUtil;
+import seedu.pivot.commons.util.JsonUtil;
+import seedu.pivot.model.Pivot;
+
+public class StreamingJsonPivotWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_prettyPrinted_sameAsSerializablePivot() throws Exception {
+        Path filePath = testFolder.resolve("pivot.json");
+        Pivot pivot = getTypicalPivot();
+        new StreamingJsonPivotWriter(true).write(pivot.getCaseList(), 0, filePath);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializablePivot(pivot)), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void write_notPrettyPrinted_singleLineReadBack() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("pivot.json");
+        Pivot pivot = getTypicalPivot();
+        new StreamingJsonPivotWriter(false).write(pivot.getCaseList(), 0, filePath);
+
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(pivot, new StreamingJsonPivotReader(filePath).read().get());
+    }
+
+    @Test
+    public void write_overwritesLongerFile_journalSequenceReadBack() throws Exception {
+        Path filePath = testFolder.resolve("pivot.json");
+        new StreamingJsonPivotWriter(true).write(getTypicalPivot().getCaseList(), 0, filePath);
+        new StreamingJsonPivotWriter(false).write(Collections.singletonList(ALICE_PAULINE_ASSAULT), 12, filePath);
+
+        StreamingJsonPivotReader reader = new StreamingJsonPivotReader(filePath);
+        Pivot expectedPivot = new Pivot();
+        expectedPivot.addCase(ALICE_PAULINE_ASSAULT);
+        assertEquals(expectedPivot, reader.read().get());
+        assertEquals(12, reader.getJournalSequence());
+    }
+
+    @Test
+    public void write_compressed_smallerAndReadBackByMagicBytes() throws Exception {
+        Pivot pivot = getTypicalPivot();
+        Path plainFilePath = testFolder.resolve("plain.json");
+        new StreamingJsonPivotWriter(true).write(pivot.getCaseList(), 7, plainFilePath);
+
+        DataFileCompression[] compressions = {DataFileCompression.GZIP, DataFileCompression.DEFLATE};
+        for (DataFileCompression compression : compressions) {
+            for (int level : new int[] {Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION}) {
+                Path filePath = testFolder.resolve(compression + "-" + level + ".json");
+                new StreamingJsonPivotWriter(true, compression, level).write(pivot.getCaseList(), 7, filePath);
+
+                assertTrue(Files.size(filePath) < Files.size(plainFilePath) / 2);
+                StreamingJsonPivotReader reader = new StreamingJsonPivotReader(filePath);
+                assertEquals(pivot, reader.read().get());
+                assertEquals(7, reader.getJournalSequence());
+            }
+        }
+    }
+
+    @Test
+    public void read_truncatedCompressedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("pivot.json");
+        new StreamingJsonPivotWriter(false, DataFileCompression.GZIP, Deflater.BEST_SPEED)
+                .write(getTypicalPivot().getCaseList(), 0, filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, () -> new StreamingJsonPivotReader(filePath).read());
+    }
+}
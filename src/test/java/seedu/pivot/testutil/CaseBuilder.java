@@ -61,10 +61,10 @@ public class CaseBuilder {
         title = caseToCopy.getTitle();
         description = caseToCopy.getDescription();
         status = caseToCopy.getStatus();
-        documents = caseToCopy.getDocuments();
-        suspects = caseToCopy.getSuspects();
-        victims = caseToCopy.getVictims();
-        witnesses = caseToCopy.getWitnesses();
+        documents = new ArrayList<>(caseToCopy.getDocuments());
+        suspects = new ArrayList<>(caseToCopy.getSuspects());
+        victims = new ArrayList<>(caseToCopy.getVictims());
+        witnesses = new ArrayList<>(caseToCopy.getWitnesses());
         tags = new HashSet<>(caseToCopy.getTags());
         archiveStatus = caseToCopy.getArchiveStatus();
     }
@@ -0,0 +1,39 @@
+package seedu.pivot.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+
+import seedu.pivot.commons.exceptions.DataConversionException;
+import seedu.pivot.model.Model;
+import seedu.pivot.model.ReadOnlyPivot;
+import seedu.pivot.storage.PivotStorage;
+
+/**
+ * A utility class for saving the changes of a model to a {@code PivotStorage} and checking what is read back.
+ */
+public class PivotStorageUtil {
+
+    /**
+     * Saves the changes in {@code model} which have not been saved yet to {@code storage}, and clears them from
+     * {@code model}.
+     */
+    public static void saveChanges(Model model, PivotStorage storage) throws IOException {
+        storage.savePivotChanges(model.getPivot(), model.getUnsavedChanges());
+        model.clearUnsavedChanges();
+    }
+
+    /**
+     * Asserts that {@code newStorage}, a storage which has not read or saved anything yet, reads {@code expected},
+     * and closes it. The data read is compared before the storage is closed, as the details of its cases may only be
+     * loaded from the files of the storage when needed.
+     */
+    public static void assertReadBack(ReadOnlyPivot expected, PivotStorage newStorage)
+            throws DataConversionException, IOException {
+        try {
+            assertEquals(expected, newStorage.readPivot().get());
+        } finally {
+            newStorage.close();
+        }
+    }
+}